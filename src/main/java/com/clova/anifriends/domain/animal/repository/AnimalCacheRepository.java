@@ -19,4 +19,6 @@ public interface AnimalCacheRepository {
     void increaseTotalNumberOfAnimals();
 
     void decreaseTotalNumberOfAnimals();
+
+    void updateShelterProfile(long shelterId, String shelterName, String shelterAddress);
 }
@@ -8,18 +8,27 @@ import com.clova.anifriends.domain.animal.dto.response.FindAnimalsResponse;
 import com.clova.anifriends.domain.animal.dto.response.FindAnimalsResponse.FindAnimalResponse;
 import com.clova.anifriends.domain.animal.repository.response.FindAnimalsResult;
 import com.clova.anifriends.domain.common.PageInfo;
+import java.time.Duration;
 import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -27,23 +36,46 @@ public class AnimalRedisRepository implements AnimalCacheRepository {
 
     private static final String ANIMAL_ZSET_KEY = "animal:animals";
     private static final String TOTAL_NUMBER_OF_ANIMALS_KEY = "animal:total_number";
+    private static final String SHELTER_CARDS_KEY_FORMAT = "animal:shelter:%d:cards";
     private static final int ANIMAL_CACHE_SIZE = 30;
     private static final long LAST_INDEX = -1;
+    private static final int MAX_SWAP_ATTEMPTS = 5;
     public static final double NANO = 1_000_000_000.0;
 
+    /**
+     * 캐시된 보호 동물 카드와 보호소별 역색인의 TTL입니다. 생성된 지 TTL이 지난 카드는 보호소 프로필 갱신 시 정리되므로
+     * 역색인이 만료된 뒤에도 갱신되지 않은 카드가 남지 않습니다.
+     */
+    private static final Duration SHELTER_CARDS_TTL = Duration.ofDays(7);
+
+    /**
+     * 보호소별 역색인에 보호 동물 id를 추가하고 TTL을 함께 갱신합니다.
+     */
+    private static final RedisScript<Long> ADD_SHELTER_CARD_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('SADD', KEYS[1], ARGV[1]) "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+        Long.class);
+
     private final AnimalRepository animalRepository;
 
+    private final RedisTemplate<String, Object> redisTemplate;
     private final ZSetOperations<String, Object> zSetOperations;
     private final ValueOperations<String, Object> valueOperations;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SetOperations<String, String> shelterCardIndex;
 
 
     public AnimalRedisRepository(
         RedisTemplate<String, Object> redisTemplate,
+        StringRedisTemplate stringRedisTemplate,
         AnimalRepository animalRepository
     ) {
         this.animalRepository = animalRepository;
+        this.redisTemplate = redisTemplate;
         this.zSetOperations = redisTemplate.opsForZSet();
         this.valueOperations = redisTemplate.opsForValue();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shelterCardIndex = stringRedisTemplate.opsForSet();
     }
 
     public void synchronizeCache() {
@@ -95,6 +127,7 @@ public class AnimalRedisRepository implements AnimalCacheRepository {
     public void saveAnimal(FindAnimalsResult animal) {
         FindAnimalResponse findAnimalResponse = FindAnimalResponse.from(animal);
         zSetOperations.add(ANIMAL_ZSET_KEY, findAnimalResponse, -getScore(animal.getCreatedAt()));
+        addShelterCard(animal.getShelterId(), animal.getAnimalId());
         trimCache();
     }
 
@@ -102,13 +135,25 @@ public class AnimalRedisRepository implements AnimalCacheRepository {
     public void saveAnimal(Animal animal) {
         FindAnimalResponse findAnimalResponse = FindAnimalResponse.from(animal);
         zSetOperations.add(ANIMAL_ZSET_KEY, findAnimalResponse, -getScore(animal.getCreatedAt()));
+        addShelterCard(animal.getShelter().getShelterId(), animal.getAnimalId());
         trimCache();
     }
 
+    private void addShelterCard(Long shelterId, Long animalId) {
+        stringRedisTemplate.execute(ADD_SHELTER_CARD_SCRIPT, List.of(getShelterCardsKey(shelterId)),
+            String.valueOf(animalId), String.valueOf(SHELTER_CARDS_TTL.toMillis()));
+    }
+
+    private String getShelterCardsKey(Long shelterId) {
+        return SHELTER_CARDS_KEY_FORMAT.formatted(shelterId);
+    }
+
     @Override
     public long deleteAnimal(Animal animal) {
         FindAnimalResponse findAnimalResponse = FindAnimalResponse.from(animal);
         Long number = zSetOperations.remove(ANIMAL_ZSET_KEY, findAnimalResponse);
+        shelterCardIndex.remove(getShelterCardsKey(animal.getShelter().getShelterId()),
+            String.valueOf(animal.getAnimalId()));
         return isNull(number) ? 0 : number;
     }
 
@@ -136,4 +181,97 @@ public class AnimalRedisRepository implements AnimalCacheRepository {
     public void decreaseTotalNumberOfAnimals() {
         valueOperations.decrement(TOTAL_NUMBER_OF_ANIMALS_KEY);
     }
+
+    /**
+     * 보호소의 이름, 주소가 변경된 경우 해당 보호소의 캐시된 보호 동물만 찾아 갱신합니다. 캐시를 WATCH 한 상태에서 카드를 읽고
+     * MULTI로 교체하므로, 그 사이 다른 요청이 캐시를 바꾸면 교체를 버리고 다시 시도합니다. 생성된 지 TTL이 지난 카드는 함께
+     * 제거하고, 보호소별 역색인에 남아 있지만 캐시에서 이미 밀려난 보호 동물 id는 정리합니다.
+     *
+     * @param shelterId 보호소 id
+     * @param shelterName 변경된 보호소 이름
+     * @param shelterAddress 변경된 보호소 주소
+     */
+    @Override
+    public void updateShelterProfile(long shelterId, String shelterName, String shelterAddress) {
+        String shelterCardsKey = getShelterCardsKey(shelterId);
+        for (int attempt = 0; attempt < MAX_SWAP_ATTEMPTS; attempt++) {
+            if (swapShelterProfile(shelterCardsKey, shelterName, shelterAddress)) {
+                return;
+            }
+        }
+    }
+
+    private boolean swapShelterProfile(String shelterCardsKey, String shelterName,
+        String shelterAddress) {
+        Boolean swapped = redisTemplate.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, Object> animalOperations
+                    = (RedisOperations<String, Object>) operations;
+                animalOperations.watch(ANIMAL_ZSET_KEY);
+                Set<String> cardIds = Objects.requireNonNullElse(
+                    shelterCardIndex.members(shelterCardsKey), Set.of());
+                double expiredScore = getExpiredCardScore();
+                Set<TypedTuple<Object>> cachedAnimals = requireNonNull(
+                    animalOperations.opsForZSet().rangeWithScores(ANIMAL_ZSET_KEY, 0, LAST_INDEX));
+                List<TypedTuple<Object>> targets = cachedAnimals.stream()
+                    .filter(cached -> cached.getValue() instanceof FindAnimalResponse)
+                    .filter(cached -> requireNonNull(cached.getScore()) < expiredScore)
+                    .filter(cached -> cardIds.contains(getCardId(cached.getValue())))
+                    .toList();
+                boolean hasExpiredCards = cachedAnimals.stream()
+                    .anyMatch(cached -> requireNonNull(cached.getScore()) >= expiredScore);
+                if (targets.isEmpty() && !hasExpiredCards) {
+                    animalOperations.unwatch();
+                    removeEvictedCardIds(shelterCardsKey, cardIds, targets);
+                    return true;
+                }
+
+                animalOperations.multi();
+                ZSetOperations<String, Object> queuedAnimals = animalOperations.opsForZSet();
+                queuedAnimals.removeRangeByScore(ANIMAL_ZSET_KEY, expiredScore, 0);
+                targets.forEach(target -> {
+                    FindAnimalResponse animal = (FindAnimalResponse) target.getValue();
+                    FindAnimalResponse updatedAnimal = new FindAnimalResponse(
+                        animal.animalId(),
+                        animal.animalName(),
+                        shelterName,
+                        shelterAddress,
+                        animal.animalImageUrl()
+                    );
+                    queuedAnimals.remove(ANIMAL_ZSET_KEY, animal);
+                    queuedAnimals.add(ANIMAL_ZSET_KEY, updatedAnimal,
+                        requireNonNull(target.getScore()));
+                });
+                List<Object> results = animalOperations.exec();
+                if (isNull(results) || results.isEmpty()) {
+                    return false;
+                }
+                removeEvictedCardIds(shelterCardsKey, cardIds, targets);
+                return true;
+            }
+        });
+        return Boolean.TRUE.equals(swapped);
+    }
+
+    /**
+     * 보호 동물 카드의 점수는 생성 시각을 음수로 저장하므로, 이 값 이상인 카드가 TTL이 지난 카드입니다.
+     */
+    private double getExpiredCardScore() {
+        return -getScore(LocalDateTime.now().minus(SHELTER_CARDS_TTL));
+    }
+
+    private String getCardId(Object cachedAnimal) {
+        return String.valueOf(((FindAnimalResponse) cachedAnimal).animalId());
+    }
+
+    private void removeEvictedCardIds(String shelterCardsKey, Set<String> cardIds,
+        List<TypedTuple<Object>> cachedCards) {
+        Set<String> evictedCardIds = new HashSet<>(cardIds);
+        cachedCards.forEach(cached -> evictedCardIds.remove(getCardId(cached.getValue())));
+        if (!evictedCardIds.isEmpty()) {
+            shelterCardIndex.remove(shelterCardsKey, evictedCardIds.toArray());
+        }
+    }
 }
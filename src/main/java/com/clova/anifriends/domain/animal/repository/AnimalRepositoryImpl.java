@@ -95,6 +95,7 @@ public class AnimalRepositoryImpl implements AnimalRepositoryCustom {
                 animal.animalId,
                 animal.name.name,
                 animal.createdAt,
+                animal.shelter.shelterId,
                 animal.shelter.name.name,
                 animal.shelter.addressInfo.address,
                 ExpressionUtils.as(
@@ -151,6 +152,7 @@ public class AnimalRepositoryImpl implements AnimalRepositoryCustom {
                 animal.animalId,
                 animal.name.name,
                 animal.createdAt,
+                animal.shelter.shelterId,
                 animal.shelter.name.name,
                 animal.shelter.addressInfo.address,
                 ExpressionUtils.as(
@@ -10,6 +10,7 @@ public class FindAnimalsResult {
     private final Long animalId;
     private final String animalName;
     private final LocalDateTime createdAt;
+    private final Long shelterId;
     private final String shelterName;
     private final String shelterAddress;
     private final String animalImageUrl;
@@ -19,6 +20,7 @@ public class FindAnimalsResult {
         Long animalId,
         String animalName,
         LocalDateTime createdAt,
+        Long shelterId,
         String shelterName,
         String shelterAddress,
         String animalImageUrl
@@ -26,6 +28,7 @@ public class FindAnimalsResult {
         this.animalId = animalId;
         this.animalName = animalName;
         this.createdAt = createdAt;
+        this.shelterId = shelterId;
         this.shelterName = shelterName;
         this.shelterAddress = shelterAddress;
         this.animalImageUrl = animalImageUrl;
@@ -9,10 +9,12 @@ import com.clova.anifriends.domain.review.Review;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.global.exception.ErrorCode;
 import jakarta.persistence.Column;
+import jakarta.persistence.ConstraintMode;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
+import jakarta.persistence.ForeignKey;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
@@ -41,8 +43,12 @@ public class Applicant extends BaseTimeEntity {
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     private Long applicantId;
 
+    /**
+     * 외래 키 검사는 봉사 모집글 행에 공유 잠금을 걸어, 신청 저장 뒤 신청자 수를 갱신하는 동시 신청끼리 교착 상태에 빠지게 하므로 제약을 두지
+     * 않습니다. 모집글의 존재는 신청자 수의 조건부 갱신이 확인합니다.
+     */
     @ManyToOne(fetch = FetchType.LAZY)
-    @JoinColumn(name = "recruitment_id")
+    @JoinColumn(name = "recruitment_id", foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private Recruitment recruitment;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -60,23 +66,45 @@ public class Applicant extends BaseTimeEntity {
     public Applicant(
         Recruitment recruitment,
         Volunteer volunteer
+    ) {
+        this(recruitment, volunteer, true);
+    }
+
+    private Applicant(
+        Recruitment recruitment,
+        Volunteer volunteer,
+        boolean needToIncreaseApplicantCount
     ) {
         validateRecruitment(recruitment);
         validateVolunteer(volunteer);
-        validateApplicantCount(recruitment);
-        recruitment.increaseApplicantCount();
+        if (needToIncreaseApplicantCount) {
+            validateApplicantCount(recruitment);
+            recruitment.increaseApplicantCount();
+        }
         this.recruitment = recruitment;
         this.volunteer = volunteer;
         recruitment.addApplicant(this);
         volunteer.addApplicant(this);
     }
 
+    /**
+     * 모집 인원을 검증하지 않고 봉사 신청을 생성합니다. 모집 인원 검증과 신청자 수 증가는 같은 트랜잭션의 db 조건부 갱신으로 처리해야 합니다.
+     *
+     * @param recruitment 신청할 봉사 모집글
+     * @param volunteer 신청한 봉사자
+     * @return 봉사 신청
+     */
+    public static Applicant admitted(Recruitment recruitment, Volunteer volunteer) {
+        return new Applicant(recruitment, volunteer, false);
+    }
+
     private void validateRecruitment(Recruitment recruitment) {
         if (recruitment == null) {
             throw new ApplicantBadRequestException("봉사는 필수 입력 항목입니다.");
         }
         if (recruitment.isClosed() || recruitment.getDeadline().isBefore(LocalDateTime.now())) {
-            throw new ApplicantCanNotApplyException(ErrorCode.CONCURRENCY, "모집이 마감된 봉사입니다.");
+            throw new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_CLOSED,
+                "모집이 마감된 봉사입니다.");
         }
     }
 
@@ -88,7 +116,8 @@ public class Applicant extends BaseTimeEntity {
 
     private void validateApplicantCount(Recruitment recruitment) {
         if (recruitment.isFullApplicants()) {
-            throw new ApplicantCanNotApplyException(ErrorCode.CONCURRENCY, "모집 인원이 초과되었습니다.");
+            throw new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_FULL,
+                "모집 인원이 초과되었습니다.");
         }
     }
 
@@ -98,11 +127,6 @@ public class Applicant extends BaseTimeEntity {
 
     public void registerReview(Review review) {
         this.review = review;
-        this.volunteer.increaseReviewCount();
-    }
-
-    public void increaseTemperature(int temperature) {
-        this.volunteer.increaseTemperature(temperature);
     }
 
     public void updateApplicantStatus(Boolean isApproved) {
@@ -1,26 +1,35 @@
 package com.clova.anifriends.domain.applicant.controller;
 
 import com.clova.anifriends.domain.applicant.dto.FindApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.request.FindApplyingVolunteersRequestV2;
 import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantStatusRequest;
 import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsAttendanceRequest;
+import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsStatusRequest;
+import com.clova.anifriends.domain.applicant.dto.response.FindAppliedRecruitmentsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse;
+import com.clova.anifriends.domain.applicant.service.ApplicantAdmissionService;
 import com.clova.anifriends.domain.applicant.service.ApplicantService;
 import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantAttendanceCommand;
+import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantStatusCommand;
 import com.clova.anifriends.domain.auth.LoginUser;
 import com.clova.anifriends.domain.auth.authorization.ShelterOnly;
 import com.clova.anifriends.domain.auth.authorization.VolunteerOnly;
 import com.clova.anifriends.domain.recruitment.dto.response.IsAppliedRecruitmentResponse;
 import jakarta.validation.Valid;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Pageable;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 @RestController
@@ -29,6 +38,7 @@ import org.springframework.web.bind.annotation.RestController;
 public class ApplicantController {
 
     private final ApplicantService applicantService;
+    private final ApplicantAdmissionService applicantAdmissionService;
 
     @VolunteerOnly
     @PostMapping("/volunteers/recruitments/{recruitmentId}/apply")
@@ -36,7 +46,7 @@ public class ApplicantController {
         @PathVariable Long recruitmentId,
         @LoginUser Long volunteerId
     ) {
-        applicantService.registerApplicant(recruitmentId, volunteerId);
+        applicantAdmissionService.registerApplicant(recruitmentId, volunteerId);
         return ResponseEntity.noContent().build();
     }
 
@@ -50,6 +60,15 @@ public class ApplicantController {
         return ResponseEntity.ok(isAppliedRecruitmentResponse);
     }
 
+    @VolunteerOnly
+    @GetMapping("/volunteers/recruitments/apply")
+    public ResponseEntity<FindAppliedRecruitmentsResponse> findAppliedRecruitments(
+        @RequestParam("recruitmentIds") List<Long> recruitmentIds,
+        @LoginUser Long volunteerId) {
+        return ResponseEntity.ok(
+            applicantService.findAppliedRecruitments(volunteerId, recruitmentIds));
+    }
+
     @VolunteerOnly
     @GetMapping("/volunteers/applicants")
     public ResponseEntity<FindApplyingVolunteersResponse> findApplyingVolunteers(
@@ -59,6 +78,21 @@ public class ApplicantController {
         return ResponseEntity.ok(applicantService.findApplyingVolunteers(volunteerId, pageable));
     }
 
+    @VolunteerOnly
+    @GetMapping("/v2/volunteers/applicants")
+    public ResponseEntity<FindApplyingVolunteersResponse> findApplyingVolunteersV2(
+        @LoginUser Long volunteerId,
+        @ModelAttribute FindApplyingVolunteersRequestV2 findApplyingVolunteersRequestV2,
+        Pageable pageable
+    ) {
+        return ResponseEntity.ok(applicantService.findApplyingVolunteersV2(
+            volunteerId,
+            findApplyingVolunteersRequestV2.recruitmentStartTime(),
+            findApplyingVolunteersRequestV2.applicantId(),
+            Boolean.TRUE.equals(findApplyingVolunteersRequestV2.withCount()),
+            pageable));
+    }
+
     @ShelterOnly
     @GetMapping("/shelters/recruitments/{recruitmentId}/approval")
     public ResponseEntity<FindApprovedApplicantsResponse> findApprovedApplicants(
@@ -97,6 +131,23 @@ public class ApplicantController {
         return ResponseEntity.noContent().build();
     }
 
+    @ShelterOnly
+    @PatchMapping("/shelters/recruitments/{recruitmentId}/applicants")
+    public ResponseEntity<UpdateApplicantsStatusResponse> updateApplicantsStatus(
+        @LoginUser Long shelterId,
+        @PathVariable Long recruitmentId,
+        @RequestBody @Valid UpdateApplicantsStatusRequest updateApplicantsStatusRequest
+    ) {
+        return ResponseEntity.ok(applicantService.updateApplicantsStatus(
+            shelterId,
+            recruitmentId,
+            updateApplicantsStatusRequest.applicants()
+                .stream()
+                .map(applicant -> new UpdateApplicantStatusCommand(applicant.applicantId(),
+                    applicant.isApproved()))
+                .toList()));
+    }
+
     @ShelterOnly
     @PatchMapping("/shelters/recruitments/{recruitmentId}/applicants/{applicantId}")
     public ResponseEntity<Void> updateApplicantStatus(
@@ -0,0 +1,11 @@
+package com.clova.anifriends.domain.applicant.dto.request;
+
+import java.time.LocalDateTime;
+
+public record FindApplyingVolunteersRequestV2(
+    LocalDateTime recruitmentStartTime,
+    Long applicantId,
+    Boolean withCount
+) {
+
+}
@@ -0,0 +1,20 @@
+package com.clova.anifriends.domain.applicant.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import java.util.List;
+
+public record UpdateApplicantsStatusRequest(
+    @NotNull(message = "applicants는 필수 입력 항목입니다.")
+    @Size(min = 1, max = 100, message = "봉사 신청은 1개 이상 100개 이하로 변경할 수 있습니다.")
+    List<@Valid UpdateApplicantStatusItemRequest> applicants
+) {
+
+    public record UpdateApplicantStatusItemRequest(
+        @NotNull(message = "applicantId는 필수 입력 항목입니다.") Long applicantId,
+        @NotNull(message = "isApproved는 필수 입력 항목입니다.") Boolean isApproved
+    ) {
+
+    }
+}
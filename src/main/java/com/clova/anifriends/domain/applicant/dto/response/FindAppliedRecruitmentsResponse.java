@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.applicant.dto.response;
+
+import java.util.List;
+
+public record FindAppliedRecruitmentsResponse(List<Long> appliedRecruitmentIds) {
+
+    public static FindAppliedRecruitmentsResponse from(List<Long> appliedRecruitmentIds) {
+        return new FindAppliedRecruitmentsResponse(appliedRecruitmentIds);
+    }
+}
@@ -0,0 +1,24 @@
+package com.clova.anifriends.domain.applicant.dto.response;
+
+import java.util.List;
+
+public record UpdateApplicantsStatusResponse(
+    List<UpdateApplicantStatusResponse> applicants
+) {
+
+    public record UpdateApplicantStatusResponse(
+        Long applicantId,
+        UpdateApplicantStatusResult result
+    ) {
+
+    }
+
+    public enum UpdateApplicantStatusResult {
+        UPDATED, UNCHANGED, NOT_FOUND
+    }
+
+    public static UpdateApplicantsStatusResponse from(
+        List<UpdateApplicantStatusResponse> applicants) {
+        return new UpdateApplicantsStatusResponse(applicants);
+    }
+}
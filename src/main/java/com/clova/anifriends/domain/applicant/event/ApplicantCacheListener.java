@@ -0,0 +1,20 @@
+package com.clova.anifriends.domain.applicant.event;
+
+import com.clova.anifriends.domain.applicant.repository.ApplicantAppliedCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ApplicantCacheListener {
+
+    private final ApplicantAppliedCacheRepository applicantAppliedCacheRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleApplicantRegisteredEvent(ApplicantRegisteredEvent event) {
+        applicantAppliedCacheRepository.addAppliedRecruitmentId(event.volunteerId(),
+            event.recruitmentId());
+    }
+}
@@ -0,0 +1,28 @@
+package com.clova.anifriends.domain.applicant.event;
+
+import com.clova.anifriends.domain.applicant.Applicant;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+
+public record ApplicantRegisteredEvent(
+    Long recruitmentId,
+    Long volunteerId,
+    Long shelterId,
+    String recruitmentTitle,
+    String volunteerName,
+    boolean isFullApplicants
+) {
+
+    public static ApplicantRegisteredEvent of(Applicant applicant, boolean isFullApplicants) {
+        Recruitment recruitment = applicant.getRecruitment();
+        Volunteer volunteer = applicant.getVolunteer();
+        return new ApplicantRegisteredEvent(
+            recruitment.getRecruitmentId(),
+            volunteer.getVolunteerId(),
+            recruitment.getShelter().getShelterId(),
+            recruitment.getTitle(),
+            volunteer.getName(),
+            isFullApplicants
+        );
+    }
+}
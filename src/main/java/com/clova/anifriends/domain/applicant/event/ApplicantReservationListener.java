@@ -0,0 +1,20 @@
+package com.clova.anifriends.domain.applicant.event;
+
+import com.clova.anifriends.domain.applicant.repository.ApplicantReservationRepository;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentDetailEvictionEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ApplicantReservationListener {
+
+    private final ApplicantReservationRepository applicantReservationRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecruitmentDetailEvictionEvent(RecruitmentDetailEvictionEvent event) {
+        applicantReservationRepository.evictSlots(event.recruitmentIds());
+    }
+}
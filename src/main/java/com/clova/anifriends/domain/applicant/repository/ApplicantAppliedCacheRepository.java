@@ -0,0 +1,17 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ApplicantAppliedCacheRepository {
+
+    Optional<List<Long>> findAppliedRecruitmentIds(Long volunteerId, List<Long> recruitmentIds);
+
+    long getVersion(Long volunteerId);
+
+    void saveAppliedRecruitmentIds(Long volunteerId, long version,
+        Collection<Long> recruitmentIds);
+
+    void addAppliedRecruitmentId(Long volunteerId, Long recruitmentId);
+}
@@ -0,0 +1,143 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Stream;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ApplicantAppliedRedisRepository implements ApplicantAppliedCacheRepository {
+
+    private static final String APPLIED_KEY = "volunteer:%d:applied";
+    private static final String VERSION_KEY = "volunteer:%d:applied-version";
+    private static final String EMPTY_MARKER = "-";
+    private static final String DEFAULT_VERSION = "0";
+    private static final Duration APPLIED_TTL = Duration.ofHours(1);
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    /**
+     * 봉사자의 신청 목록 버전을 올리고, 신청 목록이 캐싱되어 있는 경우에만 신청한 봉사 모집글 id를 추가합니다. 캐싱되지 않은 경우 다음 조회 시 db에서
+     * 다시 만들어지며, 그 사이 db 조회가 끝난 신청 목록은 버전이 달라져 저장되지 않습니다.
+     */
+    private static final RedisScript<Long> ADD_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+            + "return redis.call('SADD', KEYS[1], ARGV[1])",
+        Long.class);
+
+    /**
+     * db 조회 전에 읽은 버전이 그대로인 경우에만 신청 목록과 만료 시간을 함께 저장합니다. 신청 목록이 많아도 Lua 스택을 넘지 않도록 나누어 추가합니다.
+     */
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or ARGV[2]) ~= ARGV[1] then return 0 end "
+            + "for i = 4, #ARGV, 1000 do "
+            + "redis.call('SADD', KEYS[1], unpack(ARGV, i, math.min(i + 999, #ARGV))) end "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 봉사자의 신청 목록이 캐싱되어 있지 않으면 빈 배열을, 캐싱되어 있으면 요청한 id 중 신청한 id를 반환합니다.
+     */
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> FIND_APPLIED_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 0 then return {} end "
+            + "local applied = {'1'} "
+            + "for i = 1, #ARGV do "
+            + "if redis.call('SISMEMBER', KEYS[1], ARGV[i]) == 1 then "
+            + "applied[#applied + 1] = ARGV[i] end end "
+            + "return applied",
+        List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ApplicantAppliedRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 요청한 봉사 모집글 중 봉사자가 신청한 봉사 모집글 id를 조회합니다.
+     *
+     * @param volunteerId 봉사자 id
+     * @param recruitmentIds 확인할 봉사 모집글 id 목록
+     * @return 신청한 봉사 모집글 id 목록. 봉사자의 신청 목록이 캐싱되지 않은 경우 빈 값
+     */
+    @Override
+    public Optional<List<Long>> findAppliedRecruitmentIds(Long volunteerId,
+        List<Long> recruitmentIds) {
+        String[] args = recruitmentIds.stream()
+            .map(String::valueOf)
+            .toArray(String[]::new);
+        List<?> result = redisTemplate.execute(FIND_APPLIED_SCRIPT,
+            List.of(getAppliedKey(volunteerId)), (Object[]) args);
+        if (Objects.isNull(result) || result.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(result.stream()
+            .skip(1)
+            .map(id -> Long.parseLong(String.valueOf(id)))
+            .toList());
+    }
+
+    /**
+     * 봉사자의 신청 목록 캐시의 현재 버전을 조회합니다. db에서 신청 목록을 조회하기 전에 읽어 저장 시 함께 전달합니다.
+     *
+     * @param volunteerId 봉사자 id
+     * @return 현재 버전
+     */
+    @Override
+    public long getVersion(Long volunteerId) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(volunteerId));
+        return Long.parseLong(Objects.requireNonNullElse(version, DEFAULT_VERSION));
+    }
+
+    /**
+     * 봉사자가 신청한 봉사 모집글 id 전체를 캐싱합니다. 신청 내역이 없는 봉사자도 캐싱되도록 빈 값 표시를 함께 저장합니다. db 조회 이후 버전이
+     * 바뀌었으면 저장하지 않습니다.
+     *
+     * @param volunteerId 봉사자 id
+     * @param version db 조회 전에 읽은 버전
+     * @param recruitmentIds db에서 조회한 신청한 봉사 모집글 id 전체
+     */
+    @Override
+    public void saveAppliedRecruitmentIds(Long volunteerId, long version,
+        Collection<Long> recruitmentIds) {
+        Object[] args = Stream.of(
+                Stream.of(String.valueOf(version), DEFAULT_VERSION,
+                    String.valueOf(APPLIED_TTL.toMillis()), EMPTY_MARKER),
+                recruitmentIds.stream().map(String::valueOf))
+            .flatMap(Function.identity())
+            .toArray();
+        redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+            List.of(getAppliedKey(volunteerId), getVersionKey(volunteerId)), args);
+    }
+
+    /**
+     * 봉사자의 신청 목록에 새로 신청한 봉사 모집글 id를 추가합니다.
+     *
+     * @param volunteerId 봉사자 id
+     * @param recruitmentId 신청한 봉사 모집글 id
+     */
+    @Override
+    public void addAppliedRecruitmentId(Long volunteerId, Long recruitmentId) {
+        redisTemplate.execute(ADD_IF_EXISTS_SCRIPT,
+            List.of(getAppliedKey(volunteerId), getVersionKey(volunteerId)),
+            String.valueOf(recruitmentId), String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    private String getAppliedKey(Long volunteerId) {
+        return APPLIED_KEY.formatted(volunteerId);
+    }
+
+    private String getVersionKey(Long volunteerId) {
+        return VERSION_KEY.formatted(volunteerId);
+    }
+}
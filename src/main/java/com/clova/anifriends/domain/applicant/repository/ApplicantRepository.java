@@ -2,16 +2,20 @@ package com.clova.anifriends.domain.applicant.repository;
 
 import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplicantResult;
+import com.clova.anifriends.domain.applicant.repository.response.FindApplicantStatusResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplyingVolunteerResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApprovedApplicantsResult;
+import com.clova.anifriends.domain.applicant.repository.response.FindReminderTargetResult;
 import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.volunteer.Volunteer;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -37,6 +41,32 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
         @Param("volunteer") Volunteer volunteer,
         Pageable pageable);
 
+    @Query(
+        "select s.shelterId as shelterId,"
+            + " r.recruitmentId as recruitmentId,"
+            + " a.applicantId as applicantId,"
+            + " r.title.title as recruitmentTitle,"
+            + " s.name.name as shelterName,"
+            + " a.status as applicantStatus,"
+            + " case when rv.reviewId is null then false else true end as applicantIsWritedReview,"
+            + " r.info.startTime as recruitmentStartTime "
+            + "from Applicant a "
+            + "join a.recruitment r "
+            + "join r.shelter s "
+            + "left join Review rv on rv.applicant = a "
+            + "where a.volunteer.volunteerId = :volunteerId "
+            + "and (r.info.startTime < :startTime "
+            + "or (r.info.startTime = :startTime and a.applicantId < :applicantId)) "
+            + "order by r.info.startTime desc, a.applicantId desc"
+    )
+    Slice<FindApplyingVolunteerResult> findApplyingVolunteersV2(
+        @Param("volunteerId") Long volunteerId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("applicantId") Long applicantId,
+        Pageable pageable);
+
+    long countByVolunteer_VolunteerId(Long volunteerId);
+
     @Query("select a from Applicant a "
         + "where a.applicantId = :applicantId "
         + "and a.volunteer.volunteerId = :volunteerId")
@@ -74,12 +104,7 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
         + "v.birthDate as volunteerBirthDate,"
         + "v.name.name as volunteerName,"
         + "v.gender as volunteerGender,"
-        + "COALESCE((select count(a2) from Applicant a2 "
-        + "join a2.recruitment r2 "
-        + "where a2.volunteer = v "
-        + "and a2.status = com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE "
-        + "and r2.info.startTime < now()"
-        + "group by a2.volunteer),0) as completedVolunteerCount, "
+        + "v.volunteerCompletedCount.completedCount as completedVolunteerCount, "
         + "v.temperature.temperature as volunteerTemperature,"
         + "a.status as applicantStatus "
         + "from Applicant a "
@@ -106,8 +131,68 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
         @Param("status") ApplicantStatus status
     );
 
+    @Modifying
+    @Query("update Applicant a set a.status = :status "
+        + "where a.recruitment.recruitmentId = :recruitmentId "
+        + "and a.recruitment.shelter.shelterId = :shelterId "
+        + "and a.applicantId in :ids "
+        + "and a.status <> :status")
+    int updateBulkStatus(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("ids") List<Long> ids,
+        @Param("status") ApplicantStatus status
+    );
+
+    @Query("select a.applicantId as applicantId, "
+        + "a.volunteer.volunteerId as volunteerId, "
+        + "a.status as applicantStatus "
+        + "from Applicant a "
+        + "where a.recruitment.recruitmentId = :recruitmentId "
+        + "and a.recruitment.shelter.shelterId = :shelterId "
+        + "and a.applicantId in :ids")
+    List<FindApplicantStatusResult> findApplicantStatuses(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("ids") List<Long> ids
+    );
+
+    @Query("select a.volunteer.volunteerId from Applicant a "
+        + "where a.recruitment.recruitmentId = :recruitmentId "
+        + "and a.recruitment.shelter.shelterId = :shelterId "
+        + "and a.applicantId in :ids "
+        + "and a.status = :status")
+    List<Long> findVolunteerIdsByStatus(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("ids") List<Long> ids,
+        @Param("status") ApplicantStatus status
+    );
+
+    @Query("select a.applicantId as applicantId,"
+        + " a.volunteer.volunteerId as volunteerId,"
+        + " r.title.title as recruitmentTitle,"
+        + " s.name.name as shelterName"
+        + " from Applicant a"
+        + " join a.recruitment r"
+        + " join r.shelter s"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and a.applicantId > :applicantId"
+        + " order by a.applicantId")
+    List<FindReminderTargetResult> findReminderTargetsByRecruitmentId(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("applicantId") Long applicantId,
+        Pageable pageable);
+
     Optional<Applicant> findByApplicantIdAndRecruitment_RecruitmentIdAndRecruitment_Shelter_ShelterId(
         Long applicantId, Long recruitmentId, Long shelterId);
 
     boolean existsByVolunteerAndRecruitment(Volunteer volunteer, Recruitment recruitment);
+
+    @Query("select a.recruitment.recruitmentId from Applicant a"
+        + " where a.volunteer.volunteerId = :volunteerId")
+    List<Long> findRecruitmentIdsByVolunteerId(@Param("volunteerId") Long volunteerId);
+
+    boolean existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(Long recruitmentId,
+        Long volunteerId);
 }
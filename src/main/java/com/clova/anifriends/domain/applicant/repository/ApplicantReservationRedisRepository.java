@@ -0,0 +1,196 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservation;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservationStatus;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ApplicantReservationRedisRepository implements ApplicantReservationRepository {
+
+    /**
+     * 남은 자리와 예약 목록을 한 스크립트에서 함께 다루므로, redis cluster에서도 같은 슬롯에 놓이도록 모든 키에 같은 해시 태그를 붙입니다.
+     */
+    private static final String SLOT_KEY = "{recruitment:slot}:%d";
+    private static final String RESERVED_COUNT_KEY = "{recruitment:slot}:%d:reserved";
+    private static final String RESERVATION_KEY = "{recruitment:slot}:reservations";
+    private static final String RESERVATION_DELIMITER = ":";
+    private static final Duration SLOT_TTL = Duration.ofDays(1);
+    private static final long NOT_INITIALIZED = -2;
+    private static final long DUPLICATED = -3;
+
+    /**
+     * 남은 자리가 없을 때만 db에서 계산한 남은 자리에서 아직 확정되거나 반환되지 않은 예약 수를 빼서 초기화합니다. 남은 자리를 지운 뒤 다시 초기화해도
+     * 열려 있는 예약만큼 더 받지 않도록 하기 위함입니다.
+     */
+    private static final RedisScript<Long> INITIALIZE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return 0 end "
+            + "local reserved = tonumber(redis.call('GET', KEYS[2]) or '0') "
+            + "local slots = math.max(tonumber(ARGV[1]) - reserved, 0) "
+            + "redis.call('SET', KEYS[1], slots, 'PX', ARGV[2]) "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 남은 자리가 있으면 1 감소시키고 예약을 기록합니다. 남은 자리는 0 아래로 내려가지 않으며, 자리가 없으면 -1, 남은 자리가 초기화되지 않았으면
+     * -2, 이미 예약한 봉사자면 -3을 반환합니다.
+     */
+    private static final RedisScript<Long> RESERVE_SCRIPT = new DefaultRedisScript<>(
+        "local slots = redis.call('GET', KEYS[1]) "
+            + "if not slots then return -2 end "
+            + "if redis.call('ZSCORE', KEYS[2], ARGV[1]) then return -3 end "
+            + "if tonumber(slots) <= 0 then return -1 end "
+            + "redis.call('ZADD', KEYS[2], ARGV[2], ARGV[1]) "
+            + "redis.call('INCR', KEYS[3]) "
+            + "return redis.call('DECR', KEYS[1])",
+        Long.class);
+
+    /**
+     * 예약이 남아 있는 경우에만 예약을 지우고 봉사 모집글의 열린 예약 수를 줄입니다.
+     */
+    private static final RedisScript<Long> CONFIRM_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then return 0 end "
+            + "if redis.call('DECR', KEYS[3]) <= 0 then redis.call('DEL', KEYS[3]) end "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 예약이 남아 있는 경우에만 예약을 지우고 자리를 돌려놓습니다. 이미 확정되거나 반환된 예약은 자리를 다시 늘리지 않습니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('ZREM', KEYS[2], ARGV[1]) == 0 then return 0 end "
+            + "if redis.call('DECR', KEYS[3]) <= 0 then redis.call('DEL', KEYS[3]) end "
+            + "if redis.call('EXISTS', KEYS[1]) == 1 then redis.call('INCR', KEYS[1]) end "
+            + "return 1",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ApplicantReservationRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 봉사 모집글의 남은 자리를 초기화합니다. 이미 초기화된 경우 기존 값을 유지합니다. 확정되지 않은 예약은 db의 봉사 신청 수에 아직 반영되지
+     * 않았을 수 있으므로 남은 모집 인원에서 뺍니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param slots db 기준 남은 모집 인원
+     */
+    @Override
+    public void initializeSlots(Long recruitmentId, int slots) {
+        redisTemplate.execute(INITIALIZE_SCRIPT,
+            List.of(getSlotKey(recruitmentId), getReservedCountKey(recruitmentId)),
+            String.valueOf(slots), String.valueOf(SLOT_TTL.toMillis()));
+    }
+
+    /**
+     * 봉사 모집글의 자리를 하나 예약합니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param volunteerId 봉사자 id
+     * @return 예약 결과
+     */
+    @Override
+    public ApplicantReservationStatus reserve(Long recruitmentId, Long volunteerId) {
+        long reservedAt = LocalDateTime.now().atZone(ZoneId.systemDefault()).toInstant()
+            .toEpochMilli();
+        Long result = redisTemplate.execute(RESERVE_SCRIPT, getKeys(recruitmentId),
+            getReservationMember(recruitmentId, volunteerId), String.valueOf(reservedAt));
+        if (Objects.isNull(result) || result == NOT_INITIALIZED) {
+            return ApplicantReservationStatus.NOT_INITIALIZED;
+        }
+        if (result == DUPLICATED) {
+            return ApplicantReservationStatus.DUPLICATED;
+        }
+        return result < 0 ? ApplicantReservationStatus.FULL : ApplicantReservationStatus.RESERVED;
+    }
+
+    /**
+     * db에 봉사 신청이 저장된 예약을 확정합니다. 확정된 예약의 자리는 반환되지 않습니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param volunteerId 봉사자 id
+     */
+    @Override
+    public void confirm(Long recruitmentId, Long volunteerId) {
+        redisTemplate.execute(CONFIRM_SCRIPT, getKeys(recruitmentId),
+            getReservationMember(recruitmentId, volunteerId));
+    }
+
+    /**
+     * 확정하지 못한 예약을 취소하고 자리를 반환합니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param volunteerId 봉사자 id
+     */
+    @Override
+    public void release(Long recruitmentId, Long volunteerId) {
+        redisTemplate.execute(RELEASE_SCRIPT, getKeys(recruitmentId),
+            getReservationMember(recruitmentId, volunteerId));
+    }
+
+    /**
+     * 기준 시각 이전에 생성되어 아직 확정되거나 반환되지 않은 예약을 오래된 순으로 조회합니다.
+     *
+     * @param reservedBefore 예약 생성 기준 시각
+     * @param size 조회할 예약 수
+     * @return 남아 있는 예약 목록
+     */
+    @Override
+    public List<ApplicantReservation> findReservationsBefore(LocalDateTime reservedBefore,
+        int size) {
+        long maxScore = reservedBefore.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        Set<String> members = redisTemplate.opsForZSet()
+            .rangeByScore(RESERVATION_KEY, 0, maxScore, 0, size);
+        if (Objects.isNull(members)) {
+            return List.of();
+        }
+        return members.stream()
+            .map(this::toReservation)
+            .toList();
+    }
+
+    /**
+     * 봉사 모집글의 남은 자리를 제거합니다. 다음 신청 시 db의 모집 인원에서 열린 예약 수를 빼서 다시 초기화됩니다.
+     *
+     * @param recruitmentIds 봉사 모집글 id 목록
+     */
+    @Override
+    public void evictSlots(List<Long> recruitmentIds) {
+        List<String> keys = recruitmentIds.stream()
+            .map(this::getSlotKey)
+            .toList();
+        redisTemplate.delete(keys);
+    }
+
+    private List<String> getKeys(Long recruitmentId) {
+        return List.of(getSlotKey(recruitmentId), RESERVATION_KEY,
+            getReservedCountKey(recruitmentId));
+    }
+
+    private String getSlotKey(Long recruitmentId) {
+        return SLOT_KEY.formatted(recruitmentId);
+    }
+
+    private String getReservedCountKey(Long recruitmentId) {
+        return RESERVED_COUNT_KEY.formatted(recruitmentId);
+    }
+
+    private String getReservationMember(Long recruitmentId, Long volunteerId) {
+        return recruitmentId + RESERVATION_DELIMITER + volunteerId;
+    }
+
+    private ApplicantReservation toReservation(String member) {
+        String[] ids = member.split(RESERVATION_DELIMITER);
+        return new ApplicantReservation(Long.parseLong(ids[0]), Long.parseLong(ids[1]));
+    }
+}
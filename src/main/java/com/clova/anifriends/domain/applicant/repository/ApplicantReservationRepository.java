@@ -0,0 +1,21 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservation;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ApplicantReservationRepository {
+
+    void initializeSlots(Long recruitmentId, int slots);
+
+    ApplicantReservationStatus reserve(Long recruitmentId, Long volunteerId);
+
+    void confirm(Long recruitmentId, Long volunteerId);
+
+    void release(Long recruitmentId, Long volunteerId);
+
+    List<ApplicantReservation> findReservationsBefore(LocalDateTime reservedBefore, int size);
+
+    void evictSlots(List<Long> recruitmentIds);
+}
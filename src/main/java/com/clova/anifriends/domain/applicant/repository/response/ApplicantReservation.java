@@ -0,0 +1,5 @@
+package com.clova.anifriends.domain.applicant.repository.response;
+
+public record ApplicantReservation(Long recruitmentId, Long volunteerId) {
+
+}
@@ -0,0 +1,8 @@
+package com.clova.anifriends.domain.applicant.repository.response;
+
+public enum ApplicantReservationStatus {
+    RESERVED,
+    FULL,
+    DUPLICATED,
+    NOT_INITIALIZED
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.applicant.repository.response;
+
+import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
+
+public interface FindApplicantStatusResult {
+
+    Long getApplicantId();
+    Long getVolunteerId();
+    ApplicantStatus getApplicantStatus();
+}
@@ -0,0 +1,9 @@
+package com.clova.anifriends.domain.applicant.repository.response;
+
+public interface FindReminderTargetResult {
+
+    Long getApplicantId();
+    Long getVolunteerId();
+    String getRecruitmentTitle();
+    String getShelterName();
+}
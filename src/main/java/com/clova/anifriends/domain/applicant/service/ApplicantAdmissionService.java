@@ -0,0 +1,114 @@
+package com.clova.anifriends.domain.applicant.service;
+
+import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
+import com.clova.anifriends.domain.applicant.repository.ApplicantReservationRepository;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservation;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservationStatus;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.exception.RecruitmentNotFoundException;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import com.clova.anifriends.global.exception.ErrorCode;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+/**
+ * 봉사 신청의 입장을 관리합니다. 대기실 모드가 켜져 있으면 redis에서 자리를 먼저 예약하고, 예약에 성공한 신청만 db에 저장합니다.
+ */
+@Slf4j
+@Service
+public class ApplicantAdmissionService {
+
+    private static final Duration RESERVATION_TIMEOUT
+        = ApplicantReservationConfirmer.CONFIRM_TIMEOUT.multipliedBy(10);
+    private static final int RECONCILE_BATCH_SIZE = 100;
+
+    private final boolean waitingRoomEnabled;
+    private final ApplicantService applicantService;
+    private final ApplicantReservationConfirmer applicantReservationConfirmer;
+    private final ApplicantReservationRepository applicantReservationRepository;
+    private final ApplicantRepository applicantRepository;
+    private final RecruitmentRepository recruitmentRepository;
+
+    public ApplicantAdmissionService(
+        @Value("${applicant.waiting-room.enabled:false}") boolean waitingRoomEnabled,
+        ApplicantService applicantService,
+        ApplicantReservationConfirmer applicantReservationConfirmer,
+        ApplicantReservationRepository applicantReservationRepository,
+        ApplicantRepository applicantRepository,
+        RecruitmentRepository recruitmentRepository
+    ) {
+        this.waitingRoomEnabled = waitingRoomEnabled;
+        this.applicantService = applicantService;
+        this.applicantReservationConfirmer = applicantReservationConfirmer;
+        this.applicantReservationRepository = applicantReservationRepository;
+        this.applicantRepository = applicantRepository;
+        this.recruitmentRepository = recruitmentRepository;
+    }
+
+    public void registerApplicant(Long recruitmentId, Long volunteerId) {
+        if (!waitingRoomEnabled) {
+            applicantService.registerApplicant(recruitmentId, volunteerId);
+            return;
+        }
+        if (applicantRepository.existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(
+            recruitmentId, volunteerId)) {
+            throw new ApplicantCanNotApplyException(ErrorCode.CONCURRENCY, "이미 신청한 봉사입니다.");
+        }
+        ApplicantReservationStatus status = reserve(recruitmentId, volunteerId);
+        switch (status) {
+            case RESERVED -> applicantReservationConfirmer.confirm(recruitmentId, volunteerId);
+            case DUPLICATED -> throw new ApplicantCanNotApplyException(ErrorCode.CONCURRENCY,
+                "이미 신청한 봉사입니다.");
+            default -> throw new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_FULL,
+                "모집 인원이 초과되었습니다.");
+        }
+    }
+
+    /**
+     * 확정도 반환도 되지 않은 채 오래 남아 있는 예약을 정리합니다. db에 봉사 신청이 저장되어 있으면 확정하고, 없으면 자리를 반환합니다.
+     * 확정 트랜잭션 제한 시간보다 충분히 오래된 예약만 조회하므로 아직 확정 중인 예약은 건드리지 않습니다.
+     */
+    public void reconcileReservations() {
+        List<ApplicantReservation> reservations = applicantReservationRepository
+            .findReservationsBefore(LocalDateTime.now().minus(RESERVATION_TIMEOUT),
+                RECONCILE_BATCH_SIZE);
+        for (ApplicantReservation reservation : reservations) {
+            boolean isApplied = applicantRepository
+                .existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(
+                    reservation.recruitmentId(), reservation.volunteerId());
+            if (isApplied) {
+                applicantReservationRepository.confirm(reservation.recruitmentId(),
+                    reservation.volunteerId());
+                continue;
+            }
+            log.warn("[Reservation] 확정되지 않은 봉사 신청 예약을 반환합니다. recruitmentId={}, volunteerId={}",
+                reservation.recruitmentId(), reservation.volunteerId());
+            applicantReservationRepository.release(reservation.recruitmentId(),
+                reservation.volunteerId());
+        }
+    }
+
+    private ApplicantReservationStatus reserve(Long recruitmentId, Long volunteerId) {
+        ApplicantReservationStatus status = applicantReservationRepository
+            .reserve(recruitmentId, volunteerId);
+        if (status != ApplicantReservationStatus.NOT_INITIALIZED) {
+            return status;
+        }
+        initializeSlots(recruitmentId);
+        return applicantReservationRepository.reserve(recruitmentId, volunteerId);
+    }
+
+    private void initializeSlots(Long recruitmentId) {
+        Recruitment recruitment = recruitmentRepository.findById(recruitmentId)
+            .orElseThrow(() -> new RecruitmentNotFoundException("존재하지 않는 봉사입니다."));
+        boolean isClosed = recruitment.isClosed()
+            || recruitment.getDeadline().isBefore(LocalDateTime.now());
+        int slots = isClosed ? 0 : recruitment.getCapacity() - recruitment.getApplicantCount();
+        applicantReservationRepository.initializeSlots(recruitmentId, slots);
+    }
+}
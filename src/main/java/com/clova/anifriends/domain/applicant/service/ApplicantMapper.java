@@ -16,6 +16,7 @@ import java.util.List;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public final class ApplicantMapper {
@@ -23,21 +24,35 @@ public final class ApplicantMapper {
     public static FindApplyingVolunteersResponse resultToResponse(
         Page<FindApplyingVolunteerResult> findApplyingVolunteers) {
         List<FindApplyingVolunteerResponse> responses = findApplyingVolunteers.stream()
-            .map(result -> new FindApplyingVolunteerResponse(
-                result.getShelterId(),
-                result.getRecruitmentId(),
-                result.getApplicantId(),
-                result.getRecruitmentTitle(),
-                result.getShelterName(),
-                result.getApplicantStatus().convertToApproved(result.getRecruitmentStartTime()),
-                result.getApplicantIsWritedReview(),
-                result.getRecruitmentStartTime()))
+            .map(ApplicantMapper::resultToResponse)
             .toList();
         PageInfo pageInfo = PageInfo.of(findApplyingVolunteers.getTotalElements(),
             findApplyingVolunteers.hasNext());
         return new FindApplyingVolunteersResponse(pageInfo, responses);
     }
 
+    public static FindApplyingVolunteersResponse resultToResponse(
+        Slice<FindApplyingVolunteerResult> findApplyingVolunteers, long totalElements) {
+        List<FindApplyingVolunteerResponse> responses = findApplyingVolunteers.stream()
+            .map(ApplicantMapper::resultToResponse)
+            .toList();
+        PageInfo pageInfo = PageInfo.of(totalElements, findApplyingVolunteers.hasNext());
+        return new FindApplyingVolunteersResponse(pageInfo, responses);
+    }
+
+    private static FindApplyingVolunteerResponse resultToResponse(
+        FindApplyingVolunteerResult result) {
+        return new FindApplyingVolunteerResponse(
+            result.getShelterId(),
+            result.getRecruitmentId(),
+            result.getApplicantId(),
+            result.getRecruitmentTitle(),
+            result.getShelterName(),
+            result.getApplicantStatus().convertToApproved(result.getRecruitmentStartTime()),
+            result.getApplicantIsWritedReview(),
+            result.getRecruitmentStartTime());
+    }
+
     public static FindApplicantsResponse resultToResponse(
         List<FindApplicantResult> findApplicants, Recruitment recruitment) {
         List<FindApplicantResponse> responses = findApplicants.stream()
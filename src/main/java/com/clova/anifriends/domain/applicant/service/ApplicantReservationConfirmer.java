@@ -0,0 +1,53 @@
+package com.clova.anifriends.domain.applicant.service;
+
+import com.clova.anifriends.domain.applicant.repository.ApplicantReservationRepository;
+import java.time.Duration;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+public class ApplicantReservationConfirmer {
+
+    /**
+     * 예약 확정 트랜잭션의 최대 시간입니다. 예약 정리는 이보다 충분히 오래된 예약만 다루므로 진행 중인 확정과 겹치지 않습니다.
+     */
+    public static final Duration CONFIRM_TIMEOUT = Duration.ofSeconds(30);
+
+    private final ApplicantService applicantService;
+    private final ApplicantReservationRepository applicantReservationRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public ApplicantReservationConfirmer(
+        ApplicantService applicantService,
+        ApplicantReservationRepository applicantReservationRepository,
+        PlatformTransactionManager transactionManager
+    ) {
+        this.applicantService = applicantService;
+        this.applicantReservationRepository = applicantReservationRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setTimeout((int) CONFIRM_TIMEOUT.toSeconds());
+    }
+
+    /**
+     * 예약된 봉사 신청을 요청 스레드에서 db에 저장합니다. 저장에 실패하면 예약한 자리를 반환하고 예외를 그대로 던지므로, 응답이 나간
+     * 신청은 항상 db에 저장되어 있습니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param volunteerId 봉사자 id
+     */
+    public void confirm(Long recruitmentId, Long volunteerId) {
+        try {
+            transactionTemplate.executeWithoutResult(
+                status -> applicantService.registerApplicant(recruitmentId, volunteerId));
+        } catch (RuntimeException exception) {
+            log.warn("[Reservation] 봉사 신청 예약을 확정하지 못했습니다. recruitmentId={}, volunteerId={}, cause={}",
+                recruitmentId, volunteerId, exception.getMessage());
+            applicantReservationRepository.release(recruitmentId, volunteerId);
+            throw exception;
+        }
+        applicantReservationRepository.confirm(recruitmentId, volunteerId);
+    }
+}
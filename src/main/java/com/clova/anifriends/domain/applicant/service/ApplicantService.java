@@ -2,22 +2,39 @@ package com.clova.anifriends.domain.applicant.service;
 
 import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.dto.FindApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.response.FindAppliedRecruitmentsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResult;
+import com.clova.anifriends.domain.applicant.event.ApplicantRegisteredEvent;
+import com.clova.anifriends.domain.applicant.exception.ApplicantBadRequestException;
 import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.repository.ApplicantAppliedCacheRepository;
 import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplicantResult;
+import com.clova.anifriends.domain.applicant.repository.response.FindApplicantStatusResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplyingVolunteerResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApprovedApplicantsResult;
 import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantAttendanceCommand;
+import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantStatusCommand;
 import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
-import com.clova.anifriends.domain.notification.ShelterNotification;
-import com.clova.anifriends.domain.notification.VolunteerNotification;
-import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationInboxEvictionEvent;
+import com.clova.anifriends.domain.notification.event.NotificationOutboxSavedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
 import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
 import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.dto.response.IsAppliedRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentApplicantIncreasedEvent;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCapacityChangedEvent;
 import com.clova.anifriends.domain.recruitment.exception.RecruitmentNotFoundException;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
 import com.clova.anifriends.domain.review.exception.ApplicantNotFoundException;
@@ -25,15 +42,30 @@ import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.VolunteerCompletedRecruitment;
 import com.clova.anifriends.domain.volunteer.exception.VolunteerNotFoundException;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerTemperature;
 import com.clova.anifriends.global.aspect.DataIntegrityHandler;
+import com.clova.anifriends.global.exception.ErrorCode;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -43,26 +75,79 @@ import org.springframework.transaction.annotation.Transactional;
 public class ApplicantService {
 
     public static final int NO_SHOW_TEMP_REDUCTION = 10;
+    private static final int MAX_APPLIED_LOOKUP_SIZE = 100;
+    private static final LocalDateTime MAX_CURSOR_START_TIME
+        = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final long UNCOUNTED = -1;
 
     private final ApplicantRepository applicantRepository;
     private final RecruitmentRepository recruitmentRepository;
     private final VolunteerRepository volunteerRepository;
-    private final ShelterNotificationRepository shelterNotificationRepository;
     private final VolunteerNotificationRepository volunteerNotificationRepository;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final ShelterRepository shelterRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+    private final ApplicantAppliedCacheRepository applicantAppliedCacheRepository;
 
     @Transactional
     @DataIntegrityHandler(message = "이미 신청한 봉사입니다.", exceptionClass = ApplicantCanNotApplyException.class)
     public void registerApplicant(Long recruitmentId, Long volunteerId) {
-        Recruitment recruitmentPessimistic = getRecruitmentPessimistic(recruitmentId);
         Volunteer volunteer = getVolunteer(volunteerId);
-        Applicant applicant = new Applicant(recruitmentPessimistic, volunteer);
+        Recruitment recruitment = getRecruitment(recruitmentId);
+        Applicant applicant = Applicant.admitted(recruitment, volunteer);
         applicantRepository.save(applicant);
-        shelterNotificationRepository.save(makeNewApplicantNotification(applicant));
-        if (recruitmentPessimistic.isFullApplicants()) {
-            shelterNotificationRepository.save(
-                makeClosedRecruitmentNotification(recruitmentPessimistic));
+        saveNotificationOutboxes(
+            List.of(makeNewApplicantNotificationOutbox(recruitment, volunteer)));
+        RecruitmentCapacityResponse capacity = admitApplicant(recruitment);
+        boolean isFullApplicants = capacity.recruitmentApplicantCount()
+            >= capacity.recruitmentCapacity();
+        if (isFullApplicants) {
+            saveNotificationOutboxes(List.of(makeApplicantFullNotificationOutbox(recruitment)));
         }
+        applicationEventPublisher.publishEvent(
+            ApplicantRegisteredEvent.of(applicant, isFullApplicants));
+        applicationEventPublisher.publishEvent(
+            new RecruitmentApplicantIncreasedEvent(recruitmentId));
+        applicationEventPublisher.publishEvent(
+            new RecruitmentCapacityChangedEvent(List.of(capacity)));
+    }
+
+    /**
+     * 알림은 아웃박스에만 저장하고, 보호소, 봉사자 알림은 커밋 뒤 비동기로 저장합니다. 아웃박스가 신청과 같은 트랜잭션에서 저장되므로 비동기 처리 중
+     * 서버가 내려가도 알림이 유실되지 않습니다.
+     */
+    private void saveNotificationOutboxes(List<NotificationOutbox> notificationOutboxes) {
+        notificationOutboxRepository.saveAll(notificationOutboxes);
+        applicationEventPublisher.publishEvent(
+            NotificationOutboxSavedEvent.from(notificationOutboxes));
+    }
+
+    /**
+     * 신청과 아웃박스를 저장한 뒤 마지막으로 신청자 수를 조건부로 늘립니다. 조건부 갱신이 모집글 행을 잠그므로, 잠금은 커밋 직전에만 잡혀 같은
+     * 모집글의 동시 신청이 트랜잭션 전체 동안 줄 서지 않습니다. 갱신된 행이 없으면 예외를 던져 저장한 신청과 아웃박스를 롤백합니다.
+     *
+     * @return 갱신된 모집글의 정원 상태
+     */
+    private RecruitmentCapacityResponse admitApplicant(Recruitment recruitment) {
+        Long recruitmentId = recruitment.getRecruitmentId();
+        int admitted = recruitmentRepository.increaseApplicantCountIfAvailable(recruitmentId,
+            LocalDateTime.now());
+        if (admitted == 0) {
+            if (recruitment.isClosed()
+                || recruitment.getDeadline().isBefore(LocalDateTime.now())) {
+                throw new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_CLOSED,
+                    "모집이 마감된 봉사입니다.");
+            }
+            throw new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_FULL,
+                "모집 인원이 초과되었습니다.");
+        }
+        return recruitmentRepository.findCapacitiesByRecruitmentIds(List.of(recruitmentId))
+            .stream()
+            .map(RecruitmentCapacityResponse::from)
+            .findFirst()
+            .orElseThrow(() -> new RecruitmentNotFoundException("존재하지 않는 봉사입니다."));
     }
 
     @Transactional(readOnly = true)
@@ -76,6 +161,28 @@ public class ApplicantService {
         return ApplicantMapper.resultToResponse(applyingVolunteers);
     }
 
+    /**
+     * 봉사자가 신청한 봉사 목록을 (봉사 날짜, 봉사 신청 id) 커서 기준 최신순으로 조회합니다. 전체 개수는 요청한 경우에만 조회하며, 조회하지 않은
+     * 경우 -1을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public FindApplyingVolunteersResponse findApplyingVolunteersV2(
+        Long volunteerId,
+        LocalDateTime recruitmentStartTime,
+        Long applicantId,
+        boolean withCount,
+        Pageable pageable
+    ) {
+        LocalDateTime cursorStartTime = Objects.isNull(recruitmentStartTime)
+            ? MAX_CURSOR_START_TIME : recruitmentStartTime;
+        Long cursorApplicantId = Objects.isNull(applicantId) ? Long.MAX_VALUE : applicantId;
+        Slice<FindApplyingVolunteerResult> applyingVolunteers = applicantRepository
+            .findApplyingVolunteersV2(volunteerId, cursorStartTime, cursorApplicantId, pageable);
+        long totalElements = withCount
+            ? applicantRepository.countByVolunteer_VolunteerId(volunteerId) : UNCOUNTED;
+        return ApplicantMapper.resultToResponse(applyingVolunteers, totalElements);
+    }
+
     @Transactional(readOnly = true)
     public FindApprovedApplicantsResponse findApprovedApplicants(Long shelterId,
         Long recruitmentId) {
@@ -98,6 +205,10 @@ public class ApplicantService {
             .orElseThrow(() -> new ShelterNotFoundException("존재하지 않는 보호소입니다."));
     }
 
+    /**
+     * 봉사자들의 출석 여부를 일괄 반영합니다. 체온 변경, 알림 저장, 상태 변경은 변경 전 신청 상태를 기준으로 각각 하나의 벌크 쿼리로
+     * 처리합니다.
+     */
     @Transactional
     public void updateApplicantAttendance(Long shelterId, Long recruitmentId,
         List<UpdateApplicantAttendanceCommand> applicantsCommand) {
@@ -106,32 +217,80 @@ public class ApplicantService {
 
         // 시작 시간 이후인데도 pending이면 REFUESED로 변경
 
+        saveNewAttendanceNotifications(shelterId, recruitmentId, attendedIds);
         updateVolunteersTemperature(shelterId, recruitmentId, noShowIds, attendedIds);
         updateAttendanceStatus(shelterId, recruitmentId, noShowIds, attendedIds);
-        volunteerNotificationRepository.saveAll(
-            makeNewAttendanceNotifications(shelterId, recruitmentId, attendedIds));
+        updateCompletedRecruitments(shelterId, recruitmentId, noShowIds, attendedIds);
+    }
+
+    private void saveNewAttendanceNotifications(Long shelterId, Long recruitmentId,
+        List<Long> attendedIds) {
+        if (attendedIds.isEmpty()) {
+            return;
+        }
+        String content =
+            NO_SHOW_TEMP_REDUCTION + NotificationType.INCREASE_VOLUNTEER_TEMPERATURE.getMessage();
+        LocalDateTime createdAt = LocalDateTime.now();
+        volunteerNotificationRepository.saveAllByApplicantStatus(shelterId, recruitmentId,
+            attendedIds, ApplicantStatus.NOSHOW, content,
+            NotificationType.INCREASE_VOLUNTEER_TEMPERATURE, createdAt);
+        pushOutboxRepository.saveAllByApplicantStatus(shelterId, recruitmentId, attendedIds,
+            ApplicantStatus.NOSHOW, content, createdAt);
+        List<Long> notifiedVolunteerIds = applicantRepository.findVolunteerIdsByStatus(shelterId,
+            recruitmentId, attendedIds, ApplicantStatus.NOSHOW);
+        publishNotificationCreatedEvent(notifiedVolunteerIds);
+        publishNotificationStreamEvent(notifiedVolunteerIds, null, content);
     }
 
     private void updateVolunteersTemperature(Long shelterId, Long recruitmentId,
         List<Long> noShowIds, List<Long> attendedIds) {
-        List<Volunteer> noShowVolunteers = volunteerRepository.findAttendedByNoShowIds(shelterId,
-            recruitmentId,
-            noShowIds);
-        noShowVolunteers.forEach(
-            volunteer -> volunteer.decreaseTemperature(NO_SHOW_TEMP_REDUCTION));
-
-        List<Volunteer> attendedVolunteers = volunteerRepository.findNoShowByAttendedIds(
-            shelterId, recruitmentId, attendedIds);
-        attendedVolunteers
-            .forEach(volunteer -> volunteer.increaseTemperature(NO_SHOW_TEMP_REDUCTION));
+        if (!noShowIds.isEmpty()) {
+            volunteerRepository.decreaseTemperatureByApplicantStatus(shelterId, recruitmentId,
+                noShowIds, ApplicantStatus.ATTENDANCE, NO_SHOW_TEMP_REDUCTION,
+                VolunteerTemperature.MIN_VOLUNTEER_TEMPERATURE);
+        }
+        if (!attendedIds.isEmpty()) {
+            volunteerRepository.increaseTemperatureByApplicantStatus(shelterId, recruitmentId,
+                attendedIds, ApplicantStatus.NOSHOW, NO_SHOW_TEMP_REDUCTION,
+                VolunteerTemperature.MAX_VOLUNTEER_TEMPERATURE);
+        }
     }
 
     private void updateAttendanceStatus(Long shelterId, Long recruitmentId, List<Long> noShowIds,
         List<Long> attendedIds) {
-        applicantRepository.updateBulkAttendance(shelterId, recruitmentId, noShowIds,
-            ApplicantStatus.NOSHOW);
-        applicantRepository.updateBulkAttendance(shelterId, recruitmentId, attendedIds,
-            ApplicantStatus.ATTENDANCE);
+        if (!noShowIds.isEmpty()) {
+            applicantRepository.updateBulkAttendance(shelterId, recruitmentId, noShowIds,
+                ApplicantStatus.NOSHOW);
+        }
+        if (!attendedIds.isEmpty()) {
+            applicantRepository.updateBulkAttendance(shelterId, recruitmentId, attendedIds,
+                ApplicantStatus.ATTENDANCE);
+        }
+    }
+
+    private void updateCompletedRecruitments(Long shelterId, Long recruitmentId,
+        List<Long> noShowIds, List<Long> attendedIds) {
+        List<Long> noShowVolunteerIds = applicantRepository.findVolunteerIdsByStatus(
+            shelterId, recruitmentId, noShowIds, ApplicantStatus.NOSHOW);
+        List<Long> revertedVolunteerIds = noShowVolunteerIds.isEmpty() ? List.of()
+            : volunteerCompletedRecruitmentRepository.findVolunteerIds(recruitmentId,
+                noShowVolunteerIds);
+        if (!revertedVolunteerIds.isEmpty()) {
+            volunteerRepository.decreaseCompletedCount(recruitmentId, revertedVolunteerIds);
+            volunteerCompletedRecruitmentRepository.deleteByRecruitmentIdAndVolunteerIds(
+                recruitmentId, revertedVolunteerIds);
+        }
+
+        List<Long> attendedVolunteerIds = applicantRepository.findVolunteerIdsByStatus(
+            shelterId, recruitmentId, attendedIds, ApplicantStatus.ATTENDANCE);
+        if (attendedVolunteerIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        volunteerRepository.increaseCompletedCountWithoutCompletedRecruitment(recruitmentId,
+            attendedVolunteerIds, now);
+        volunteerCompletedRecruitmentRepository.insertCompletedRecruitments(recruitmentId,
+            attendedVolunteerIds, now);
     }
 
     @Transactional
@@ -139,8 +298,197 @@ public class ApplicantService {
         Boolean isApproved) {
         Applicant applicant = getApplicant(applicantId, recruitmentId, shelterId);
         applicant.updateApplicantStatus(isApproved);
-        volunteerNotificationRepository.save(
-            makeNewUpdateApplicantStatusNotification(applicant, isApproved));
+        updateCompletedRecruitment(applicant);
+        saveNotificationOutboxes(List.of(
+            makeUpdateApplicantStatusNotificationOutbox(applicant, isApproved)));
+    }
+
+    private void publishNotificationCreatedEvent(List<Long> volunteerIds) {
+        if (volunteerIds.isEmpty()) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(
+            new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, volunteerIds));
+        applicationEventPublisher.publishEvent(
+            new NotificationInboxEvictionEvent(PushReceiverType.VOLUNTEER, volunteerIds));
+    }
+
+    private void publishNotificationStreamEvent(List<Long> volunteerIds, String title,
+        String content) {
+        if (volunteerIds.isEmpty()) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(NotificationStreamEvent.of(
+            PushReceiverType.VOLUNTEER, volunteerIds, title, content));
+    }
+
+    /**
+     * 봉사 신청들의 승인 여부를 일괄 변경합니다. 상태가 실제로 바뀌는 신청에 대해서만 알림을 하나의 insert 쿼리로 저장하고, 승인과 거절을 각각
+     * 하나의 벌크 쿼리로 변경합니다.
+     *
+     * @return 봉사 신청별 변경 결과
+     */
+    @Transactional
+    public UpdateApplicantsStatusResponse updateApplicantsStatus(Long shelterId,
+        Long recruitmentId, List<UpdateApplicantStatusCommand> applicantsCommand) {
+        Map<Long, Boolean> approvals = applicantsCommand.stream()
+            .collect(Collectors.toMap(UpdateApplicantStatusCommand::applicantId,
+                UpdateApplicantStatusCommand::isApproved, (prev, next) -> next,
+                LinkedHashMap::new));
+        Map<Long, FindApplicantStatusResult> applicants = applicantRepository
+            .findApplicantStatuses(shelterId, recruitmentId, List.copyOf(approvals.keySet()))
+            .stream()
+            .collect(Collectors.toMap(FindApplicantStatusResult::getApplicantId,
+                Function.identity()));
+        List<Long> approvedIds = getStatusChangedIds(approvals, applicants, true);
+        List<Long> refusedIds = getStatusChangedIds(approvals, applicants, false);
+        List<Long> revertedVolunteerIds = getCompletedVolunteerIds(recruitmentId, applicants,
+            refusedIds);
+
+        saveStatusChangedNotifications(shelterId, recruitmentId, approvedIds,
+            ApplicantStatus.ATTENDANCE, NotificationType.VOLUNTEER_APPROVED);
+        saveStatusChangedNotifications(shelterId, recruitmentId, refusedIds,
+            ApplicantStatus.REFUSED, NotificationType.VOLUNTEER_REFUSED);
+        List<Long> approvedVolunteerIds = getVolunteerIds(approvedIds, applicants);
+        List<Long> refusedVolunteerIds = getVolunteerIds(refusedIds, applicants);
+        publishNotificationCreatedEvent(Stream.concat(approvedVolunteerIds.stream(),
+            refusedVolunteerIds.stream()).toList());
+        publishStatusChangedStreamEvents(shelterId, approvedVolunteerIds, refusedVolunteerIds);
+        updateBulkStatus(shelterId, recruitmentId, approvedIds, ApplicantStatus.ATTENDANCE);
+        updateBulkStatus(shelterId, recruitmentId, refusedIds, ApplicantStatus.REFUSED);
+        updateCompletedRecruitments(recruitmentId, applicants, approvedIds, revertedVolunteerIds);
+
+        return UpdateApplicantsStatusResponse.from(approvals.keySet().stream()
+            .map(applicantId -> new UpdateApplicantStatusResponse(applicantId,
+                getUpdateResult(applicantId, applicants, approvedIds, refusedIds)))
+            .toList());
+    }
+
+    private List<Long> getVolunteerIds(List<Long> applicantIds,
+        Map<Long, FindApplicantStatusResult> applicants) {
+        return applicantIds.stream()
+            .map(applicantId -> applicants.get(applicantId).getVolunteerId())
+            .toList();
+    }
+
+    /**
+     * 승인, 거절 알림을 알림 스트림으로 보냅니다. 알림 제목은 insert 쿼리와 같이 보호소 이름이므로, 보낼 알림이 있을 때만 보호소를 조회합니다.
+     */
+    private void publishStatusChangedStreamEvents(Long shelterId,
+        List<Long> approvedVolunteerIds, List<Long> refusedVolunteerIds) {
+        if (approvedVolunteerIds.isEmpty() && refusedVolunteerIds.isEmpty()) {
+            return;
+        }
+        String shelterName = getShelter(shelterId).getName();
+        publishNotificationStreamEvent(approvedVolunteerIds, shelterName,
+            NotificationType.VOLUNTEER_APPROVED.getMessage());
+        publishNotificationStreamEvent(refusedVolunteerIds, shelterName,
+            NotificationType.VOLUNTEER_REFUSED.getMessage());
+    }
+
+    private List<Long> getStatusChangedIds(Map<Long, Boolean> approvals,
+        Map<Long, FindApplicantStatusResult> applicants, boolean isApproved) {
+        ApplicantStatus status = isApproved ? ApplicantStatus.ATTENDANCE : ApplicantStatus.REFUSED;
+        return approvals.entrySet().stream()
+            .filter(approval -> approval.getValue() == isApproved)
+            .map(Map.Entry::getKey)
+            .filter(applicants::containsKey)
+            .filter(applicantId -> applicants.get(applicantId).getApplicantStatus() != status)
+            .toList();
+    }
+
+    private List<Long> getCompletedVolunteerIds(Long recruitmentId,
+        Map<Long, FindApplicantStatusResult> applicants, List<Long> refusedIds) {
+        List<Long> attendedVolunteerIds = refusedIds.stream()
+            .map(applicants::get)
+            .filter(applicant -> applicant.getApplicantStatus() == ApplicantStatus.ATTENDANCE)
+            .map(FindApplicantStatusResult::getVolunteerId)
+            .toList();
+        if (attendedVolunteerIds.isEmpty()) {
+            return List.of();
+        }
+        return volunteerCompletedRecruitmentRepository.findVolunteerIds(recruitmentId,
+            attendedVolunteerIds);
+    }
+
+    private void saveStatusChangedNotifications(Long shelterId, Long recruitmentId,
+        List<Long> applicantIds, ApplicantStatus status, NotificationType type) {
+        if (applicantIds.isEmpty()) {
+            return;
+        }
+        LocalDateTime createdAt = LocalDateTime.now();
+        volunteerNotificationRepository.saveAllByApplicantStatusChange(shelterId, recruitmentId,
+            applicantIds, status, type.getMessage(), type, createdAt);
+        pushOutboxRepository.saveAllByApplicantStatusChange(shelterId, recruitmentId,
+            applicantIds, status, type.getMessage(), createdAt);
+    }
+
+    private void updateBulkStatus(Long shelterId, Long recruitmentId, List<Long> applicantIds,
+        ApplicantStatus status) {
+        if (applicantIds.isEmpty()) {
+            return;
+        }
+        applicantRepository.updateBulkStatus(shelterId, recruitmentId, applicantIds, status);
+    }
+
+    private void updateCompletedRecruitments(Long recruitmentId,
+        Map<Long, FindApplicantStatusResult> applicants, List<Long> approvedIds,
+        List<Long> revertedVolunteerIds) {
+        if (!revertedVolunteerIds.isEmpty()) {
+            volunteerRepository.decreaseCompletedCount(recruitmentId, revertedVolunteerIds);
+            volunteerCompletedRecruitmentRepository.deleteByRecruitmentIdAndVolunteerIds(
+                recruitmentId, revertedVolunteerIds);
+        }
+        if (approvedIds.isEmpty()) {
+            return;
+        }
+        List<Long> approvedVolunteerIds = approvedIds.stream()
+            .map(applicantId -> applicants.get(applicantId).getVolunteerId())
+            .toList();
+        LocalDateTime now = LocalDateTime.now();
+        volunteerRepository.increaseCompletedCountWithoutCompletedRecruitment(recruitmentId,
+            approvedVolunteerIds, now);
+        volunteerCompletedRecruitmentRepository.insertCompletedRecruitments(recruitmentId,
+            approvedVolunteerIds, now);
+    }
+
+    private UpdateApplicantStatusResult getUpdateResult(Long applicantId,
+        Map<Long, FindApplicantStatusResult> applicants, List<Long> approvedIds,
+        List<Long> refusedIds) {
+        if (!applicants.containsKey(applicantId)) {
+            return UpdateApplicantStatusResult.NOT_FOUND;
+        }
+        if (approvedIds.contains(applicantId) || refusedIds.contains(applicantId)) {
+            return UpdateApplicantStatusResult.UPDATED;
+        }
+        return UpdateApplicantStatusResult.UNCHANGED;
+    }
+
+    private void updateCompletedRecruitment(Applicant applicant) {
+        Long volunteerId = applicant.getVolunteer().getVolunteerId();
+        Recruitment recruitment = applicant.getRecruitment();
+        List<Long> volunteerIds = List.of(volunteerId);
+        boolean isCompleted = !volunteerCompletedRecruitmentRepository
+            .findVolunteerIds(recruitment.getRecruitmentId(), volunteerIds).isEmpty();
+        boolean isAttended = applicant.getStatus() == ApplicantStatus.ATTENDANCE;
+        if (isAttended && !isCompleted) {
+            boolean isStarted = recruitment.getStartTime().isBefore(LocalDateTime.now());
+            volunteerCompletedRecruitmentRepository.save(new VolunteerCompletedRecruitment(
+                volunteerId,
+                recruitment.getRecruitmentId(),
+                recruitment.getShelter().getShelterId(),
+                recruitment.getStartTime(),
+                isStarted));
+            if (isStarted) {
+                volunteerRepository.increaseCompletedCount(volunteerIds);
+            }
+        }
+        if (!isAttended && isCompleted) {
+            volunteerRepository.decreaseCompletedCount(recruitment.getRecruitmentId(),
+                volunteerIds);
+            volunteerCompletedRecruitmentRepository.deleteByRecruitmentIdAndVolunteerIds(
+                recruitment.getRecruitmentId(), volunteerIds);
+        }
     }
 
     @Transactional(readOnly = true)
@@ -155,6 +503,44 @@ public class ApplicantService {
 
     }
 
+    /**
+     * 요청한 봉사 모집글 중 봉사자가 신청한 봉사 모집글 id를 조회합니다. 봉사자의 신청 목록이 캐싱되어 있지 않으면 db에서 한 번 조회해 캐싱합니다.
+     * 캐시에 있으면 db 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 캐시에 없을 때만 리포지토리 조회의 읽기 전용 트랜잭션을 사용합니다.
+     *
+     * @param volunteerId 봉사자 id
+     * @param recruitmentIds 확인할 봉사 모집글 id 목록
+     * @return 신청한 봉사 모집글 id 목록
+     */
+    public FindAppliedRecruitmentsResponse findAppliedRecruitments(Long volunteerId,
+        List<Long> recruitmentIds) {
+        List<Long> distinctRecruitmentIds = recruitmentIds.stream()
+            .distinct()
+            .toList();
+        validateAppliedRecruitmentIds(distinctRecruitmentIds);
+        List<Long> appliedRecruitmentIds = applicantAppliedCacheRepository
+            .findAppliedRecruitmentIds(volunteerId, distinctRecruitmentIds)
+            .orElseGet(() -> findAppliedRecruitmentIds(volunteerId, distinctRecruitmentIds));
+        return FindAppliedRecruitmentsResponse.from(appliedRecruitmentIds);
+    }
+
+    private void validateAppliedRecruitmentIds(List<Long> recruitmentIds) {
+        if (recruitmentIds.isEmpty() || recruitmentIds.size() > MAX_APPLIED_LOOKUP_SIZE) {
+            throw new ApplicantBadRequestException(MessageFormat.format(
+                "봉사 모집글은 1개 이상 {0}개 이하로 조회할 수 있습니다.", MAX_APPLIED_LOOKUP_SIZE));
+        }
+    }
+
+    private List<Long> findAppliedRecruitmentIds(Long volunteerId, List<Long> recruitmentIds) {
+        long version = applicantAppliedCacheRepository.getVersion(volunteerId);
+        Set<Long> appliedRecruitmentIds = new HashSet<>(
+            applicantRepository.findRecruitmentIdsByVolunteerId(volunteerId));
+        applicantAppliedCacheRepository.saveAppliedRecruitmentIds(volunteerId, version,
+            appliedRecruitmentIds);
+        return recruitmentIds.stream()
+            .filter(appliedRecruitmentIds::contains)
+            .toList();
+    }
+
     private List<Long> getNoShowIds(List<UpdateApplicantAttendanceCommand> applicantsCommand) {
         return applicantsCommand.stream()
             .filter(applicant -> !applicant.isAttended())
@@ -175,11 +561,6 @@ public class ApplicantService {
             .orElseThrow(() -> new ApplicantNotFoundException("존재하지 않는 봉사 신청입니다."));
     }
 
-    private Recruitment getRecruitmentPessimistic(Long recruitmentId) {
-        return recruitmentRepository.findByIdPessimistic(recruitmentId)
-            .orElseThrow(() -> new RecruitmentNotFoundException("존재하지 않는 봉사 모집글입니다."));
-    }
-
     private Recruitment getRecruitment(Long recruitmentId) {
         return recruitmentRepository.findById(recruitmentId)
             .orElseThrow(() -> new RecruitmentNotFoundException("존재하지 않는 봉사입니다."));
@@ -190,50 +571,36 @@ public class ApplicantService {
             .orElseThrow(() -> new VolunteerNotFoundException("존재하지 않는 봉사자입니다."));
     }
 
-    private ShelterNotification makeNewApplicantNotification(Applicant applicant) {
-        return new ShelterNotification(
-            applicant.getRecruitment().getShelter(),
-            applicant.getRecruitment().getTitle(),
-            applicant.getVolunteer().getName() + NotificationType.NEW_APPLICANT.getMessage(),
-            NotificationType.NEW_APPLICANT.getName()
-        );
-    }
-
-    private VolunteerNotification makeNewUpdateApplicantStatusNotification(Applicant applicant,
-        boolean isApproved) {
-        return new VolunteerNotification(
-            applicant.getVolunteer(),
-            applicant.getRecruitment().getShelter().getName(),
-            isApproved ? NotificationType.VOLUNTEER_APPROVED.getMessage()
-                : NotificationType.VOLUNTEER_REFUSED.getMessage(),
-            isApproved ? NotificationType.VOLUNTEER_APPROVED.getName()
-                : NotificationType.VOLUNTEER_REFUSED.getName()
+    private NotificationOutbox makeNewApplicantNotificationOutbox(Recruitment recruitment,
+        Volunteer volunteer) {
+        return NotificationOutbox.toShelter(
+            recruitment.getShelter().getShelterId(),
+            recruitment.getRecruitmentId(),
+            recruitment.getTitle(),
+            volunteer.getName() + NotificationType.NEW_APPLICANT.getMessage(),
+            NotificationType.NEW_APPLICANT
         );
     }
 
-    private List<VolunteerNotification> makeNewAttendanceNotifications(Long shelterId,
-        Long recruitmentId, List<Long> attendedIds) {
-        return volunteerRepository.findNoShowByAttendedIds(shelterId, recruitmentId, attendedIds)
-            .stream()
-            .map(this::makeNewAttendanceNotification)
-            .collect(Collectors.toList());
-    }
-
-    private VolunteerNotification makeNewAttendanceNotification(Volunteer volunteer) {
-        return new VolunteerNotification(
-            volunteer,
-            null,
-            NO_SHOW_TEMP_REDUCTION + NotificationType.INCREASE_VOLUNTEER_TEMPERATURE.getMessage(),
-            NotificationType.INCREASE_VOLUNTEER_TEMPERATURE.getName()
+    private NotificationOutbox makeApplicantFullNotificationOutbox(Recruitment recruitment) {
+        return NotificationOutbox.toShelter(
+            recruitment.getShelter().getShelterId(),
+            recruitment.getRecruitmentId(),
+            recruitment.getTitle(),
+            NotificationType.APPLICANT_FULL.getMessage(),
+            NotificationType.APPLICANT_FULL
         );
     }
 
-    private ShelterNotification makeClosedRecruitmentNotification(Recruitment recruitment) {
-        return new ShelterNotification(
-            recruitment.getShelter(),
-            recruitment.getTitle(),
-            NotificationType.APPLICANT_FULL.getMessage(),
-            NotificationType.APPLICANT_FULL.getName()
+    private NotificationOutbox makeUpdateApplicantStatusNotificationOutbox(Applicant applicant,
+        boolean isApproved) {
+        NotificationType type = isApproved ? NotificationType.VOLUNTEER_APPROVED
+            : NotificationType.VOLUNTEER_REFUSED;
+        return NotificationOutbox.toVolunteer(
+            applicant.getVolunteer().getVolunteerId(),
+            applicant.getRecruitment().getShelter().getName(),
+            type.getMessage(),
+            type
         );
     }
 }
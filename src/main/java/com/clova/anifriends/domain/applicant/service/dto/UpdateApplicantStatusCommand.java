@@ -0,0 +1,8 @@
+package com.clova.anifriends.domain.applicant.service.dto;
+
+public record UpdateApplicantStatusCommand(
+    Long applicantId,
+    Boolean isApproved
+) {
+
+}
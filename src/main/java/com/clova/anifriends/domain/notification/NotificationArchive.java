@@ -0,0 +1,106 @@
+package com.clova.anifriends.domain.notification;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 보관 기간이 지나 보호소, 봉사자 알림 테이블에서 옮겨진 알림입니다. 원본 알림의 생성 시각을 그대로 가지며, insert-select로만 저장됩니다.
+ */
+@Entity
+@Table(
+    name = "notification_archive",
+    indexes = {
+        @Index(name = "idx_notification_archive_receiver",
+            columnList = "receiver_type, receiver_id, createdAt")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationArchive extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_archive_id")
+    private Long notificationArchiveId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receiver_type", nullable = false)
+    private PushReceiverType receiverType;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "notification_id", nullable = false)
+    private Long notificationId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Column(name = "is_read", nullable = false)
+    private Boolean isRead;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type")
+    private NotificationType type;
+
+    @Column(name = "notification_count", nullable = false)
+    private int count;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+
+    public Long getNotificationArchiveId() {
+        return notificationArchiveId;
+    }
+
+    public PushReceiverType getReceiverType() {
+        return receiverType;
+    }
+
+    public Long getReceiverId() {
+        return receiverId;
+    }
+
+    public Long getNotificationId() {
+        return notificationId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public Boolean getIsRead() {
+        return isRead;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public int getCount() {
+        return count;
+    }
+
+    public LocalDateTime getArchivedAt() {
+        return archivedAt;
+    }
+}
@@ -0,0 +1,111 @@
+package com.clova.anifriends.domain.notification;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 아직 보호소, 봉사자 알림으로 저장되지 않은 알림입니다. 알림을 발생시킨 트랜잭션에서 저장되며, 커밋 뒤 비동기로 알림이 저장되면 삭제됩니다.
+ */
+@Entity
+@Table(
+    name = "notification_outbox",
+    indexes = {
+        @Index(name = "idx_notification_outbox_created_at", columnList = "createdAt")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "notification_outbox_id")
+    private Long notificationOutboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receiver_type", nullable = false)
+    private PushReceiverType receiverType;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "recruitment_id")
+    private Long recruitmentId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    public NotificationOutbox(
+        PushReceiverType receiverType,
+        Long receiverId,
+        Long recruitmentId,
+        String title,
+        String content,
+        NotificationType type
+    ) {
+        this.receiverType = receiverType;
+        this.receiverId = receiverId;
+        this.recruitmentId = recruitmentId;
+        this.title = title;
+        this.content = content;
+        this.type = type;
+    }
+
+    public static NotificationOutbox toShelter(Long shelterId, Long recruitmentId, String title,
+        String content, NotificationType type) {
+        return new NotificationOutbox(PushReceiverType.SHELTER, shelterId, recruitmentId, title,
+            content, type);
+    }
+
+    public static NotificationOutbox toVolunteer(Long volunteerId, String title, String content,
+        NotificationType type) {
+        return new NotificationOutbox(PushReceiverType.VOLUNTEER, volunteerId, null, title,
+            content, type);
+    }
+
+    public Long getNotificationOutboxId() {
+        return notificationOutboxId;
+    }
+
+    public PushReceiverType getReceiverType() {
+        return receiverType;
+    }
+
+    public Long getReceiverId() {
+        return receiverId;
+    }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+}
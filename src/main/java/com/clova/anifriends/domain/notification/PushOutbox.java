@@ -0,0 +1,126 @@
+package com.clova.anifriends.domain.notification;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 푸시 발송을 기다리는 알림입니다. 알림 저장과 같은 트랜잭션에서 저장되며, 발송에 성공하거나 기기 토큰이 없어 건너뛰면 삭제됩니다. 재시도 끝에
+ * 실패한 알림은 보관 기간 동안 남았다가 지워집니다.
+ */
+@Entity
+@Table(
+    name = "push_outbox",
+    indexes = {
+        @Index(name = "idx_push_outbox_dispatch", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_push_outbox_claim", columnList = "claim_token"),
+        @Index(name = "idx_push_outbox_status_created_at", columnList = "status, createdAt")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PushOutbox extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "push_outbox_id")
+    private Long pushOutboxId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "receiver_type", nullable = false)
+    private PushReceiverType receiverType;
+
+    @Column(name = "receiver_id", nullable = false)
+    private Long receiverId;
+
+    @Column(name = "title")
+    private String title;
+
+    @Column(name = "content", nullable = false)
+    private String content;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false)
+    private PushOutboxStatus status = PushOutboxStatus.PENDING;
+
+    @Column(name = "attempt_count", nullable = false)
+    private int attemptCount = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column(name = "claim_token")
+    private String claimToken;
+
+    public PushOutbox(
+        PushReceiverType receiverType,
+        Long receiverId,
+        String title,
+        String content
+    ) {
+        this.receiverType = receiverType;
+        this.receiverId = receiverId;
+        this.title = title;
+        this.content = content;
+        this.nextAttemptAt = LocalDateTime.now();
+    }
+
+    public static PushOutbox from(ShelterNotification notification) {
+        return new PushOutbox(PushReceiverType.SHELTER,
+            notification.getShelter().getShelterId(), notification.getTitle(),
+            notification.getContent());
+    }
+
+    public static PushOutbox from(VolunteerNotification notification) {
+        return new PushOutbox(PushReceiverType.VOLUNTEER,
+            notification.getVolunteer().getVolunteerId(), notification.getTitle(),
+            notification.getContent());
+    }
+
+    public Long getPushOutboxId() {
+        return pushOutboxId;
+    }
+
+    public PushReceiverType getReceiverType() {
+        return receiverType;
+    }
+
+    public Long getReceiverId() {
+        return receiverId;
+    }
+
+    public String getTitle() {
+        return title;
+    }
+
+    public String getContent() {
+        return content;
+    }
+
+    public PushOutboxStatus getStatus() {
+        return status;
+    }
+
+    public int getAttemptCount() {
+        return attemptCount;
+    }
+
+    public LocalDateTime getNextAttemptAt() {
+        return nextAttemptAt;
+    }
+
+    public String getClaimToken() {
+        return claimToken;
+    }
+}
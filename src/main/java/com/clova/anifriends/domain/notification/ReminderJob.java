@@ -0,0 +1,102 @@
+package com.clova.anifriends.domain.notification;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 봉사 모집글의 리마인더 알림을 보낼 시각입니다. 봉사 모집글을 등록하거나 봉사 일정을 바꾼 트랜잭션에서 저장되며, 실행 시각이 지나면 워커가 가져가
+ * 알림을 저장한 뒤 삭제합니다.
+ */
+@Entity
+@Table(
+    name = "reminder_job",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_reminder_job_recruitment_id_type",
+            columnNames = {"recruitment_id", "type"})
+    },
+    indexes = {
+        @Index(name = "idx_reminder_job_due_at", columnList = "due_at")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ReminderJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "reminder_job_id")
+    private Long reminderJobId;
+
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    @Column(name = "due_at", nullable = false)
+    private LocalDateTime dueAt;
+
+    @Column(name = "attempts", nullable = false)
+    private int attempts;
+
+    public ReminderJob(Long recruitmentId, NotificationType type, LocalDateTime dueAt) {
+        this.recruitmentId = recruitmentId;
+        this.type = type;
+        this.dueAt = dueAt;
+    }
+
+    /**
+     * 봉사 3일 전, 하루 전, 시작, 종료 시각의 리마인더 작업을 만듭니다. 실행 시각이 이미 지난 작업은 만들지 않습니다.
+     */
+    public static List<ReminderJob> from(Recruitment recruitment, LocalDateTime now) {
+        Long recruitmentId = recruitment.getRecruitmentId();
+        LocalDateTime startTime = recruitment.getStartTime();
+        return Stream.of(
+                new ReminderJob(recruitmentId, NotificationType.THREE_DAY_BEFORE_VOLUNTEER,
+                    startTime.minusDays(3)),
+                new ReminderJob(recruitmentId, NotificationType.A_DAY_BEFORE_VOLUNTEER,
+                    startTime.minusDays(1)),
+                new ReminderJob(recruitmentId, NotificationType.ENCOURAGE_CHECK_ATTENDANCE,
+                    startTime),
+                new ReminderJob(recruitmentId, NotificationType.ENCOURAGE_WRITE_REVIEW,
+                    recruitment.getEndTime()))
+            .filter(job -> job.dueAt.isAfter(now))
+            .toList();
+    }
+
+    public Long getReminderJobId() {
+        return reminderJobId;
+    }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+
+    public LocalDateTime getDueAt() {
+        return dueAt;
+    }
+
+    public int getAttempts() {
+        return attempts;
+    }
+}
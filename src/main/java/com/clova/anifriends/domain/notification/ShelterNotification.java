@@ -15,6 +15,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -22,7 +23,14 @@ import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "shelter_notification")
+@Table(
+    name = "shelter_notification",
+    indexes = {
+        @Index(name = "idx_shelter_notification_inbox",
+            columnList = "shelter_id, createdAt, shelter_notification_id"),
+        @Index(name = "idx_shelter_notification_created_at", columnList = "createdAt")
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ShelterNotification extends BaseTimeEntity {
 
@@ -48,6 +56,12 @@ public class ShelterNotification extends BaseTimeEntity {
     @Column(name = "type")
     private NotificationType type;
 
+    @Column(name = "recruitment_id")
+    private Long recruitmentId;
+
+    @Column(name = "notification_count", nullable = false)
+    private int count = 1;
+
     public ShelterNotification(
         Shelter shelter,
         String title,
@@ -60,6 +74,22 @@ public class ShelterNotification extends BaseTimeEntity {
         this.type = NotificationType.valueOf(type);
     }
 
+    /**
+     * 같은 봉사 모집글에 대해 발생한 같은 유형의 알림 count개를 하나로 묶은 알림을 생성합니다.
+     */
+    public ShelterNotification(
+        Shelter shelter,
+        Long recruitmentId,
+        String title,
+        String content,
+        NotificationType type,
+        int count
+    ) {
+        this(shelter, title, content, type.getName());
+        this.recruitmentId = recruitmentId;
+        this.count = count;
+    }
+
     public Long getShelterNotificationId() {
         return shelterNotificationId;
     }
@@ -83,4 +113,12 @@ public class ShelterNotification extends BaseTimeEntity {
     public NotificationType getType() {
         return type;
     }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
+
+    public int getCount() {
+        return count;
+    }
 }
@@ -0,0 +1,69 @@
+package com.clova.anifriends.domain.notification;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 같은 보호소, 같은 봉사 모집글, 같은 유형의 알림 합치기를 한 번에 하나씩 처리하기 위해 잠그는 행입니다. 봉사 신청이 갱신하는 봉사 모집글 행과
+ * 다른 행을 잠그므로 신청이 몰리는 동안에도 신청과 알림 합치기가 서로 기다리지 않습니다.
+ */
+@Entity
+@Table(
+    name = "shelter_notification_coalescing_lock",
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_shelter_notification_coalescing_lock_key",
+            columnNames = {"shelter_id", "recruitment_id", "type"})
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ShelterNotificationCoalescingLock extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "shelter_notification_coalescing_lock_id")
+    private Long shelterNotificationCoalescingLockId;
+
+    @Column(name = "shelter_id", nullable = false)
+    private Long shelterId;
+
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "type", nullable = false)
+    private NotificationType type;
+
+    public ShelterNotificationCoalescingLock(Long shelterId, Long recruitmentId,
+        NotificationType type) {
+        this.shelterId = shelterId;
+        this.recruitmentId = recruitmentId;
+        this.type = type;
+    }
+
+    public Long getShelterNotificationCoalescingLockId() {
+        return shelterNotificationCoalescingLockId;
+    }
+
+    public Long getShelterId() {
+        return shelterId;
+    }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
+
+    public NotificationType getType() {
+        return type;
+    }
+}
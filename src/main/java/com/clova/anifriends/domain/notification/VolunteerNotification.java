@@ -15,14 +15,27 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
 import lombok.AccessLevel;
 import lombok.NoArgsConstructor;
 
 @Entity
-@Table(name = "volunteer_notification")
+@Table(
+    name = "volunteer_notification",
+    indexes = {
+        @Index(name = "idx_volunteer_notification_inbox",
+            columnList = "volunteer_id, createdAt, volunteer_notification_id"),
+        @Index(name = "idx_volunteer_notification_created_at", columnList = "createdAt")
+    },
+    uniqueConstraints = {
+        @UniqueConstraint(name = "uk_volunteer_notification_reminder",
+            columnNames = {"volunteer_id", "recruitment_id", "type"})
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class VolunteerNotification extends BaseTimeEntity {
 
@@ -48,6 +61,13 @@ public class VolunteerNotification extends BaseTimeEntity {
     @Column(name = "type")
     private NotificationType type;
 
+    /**
+     * 봉사 모집글 리마인더 알림의 모집글 id입니다. 같은 모집글의 같은 리마인더가 봉사자에게 두 번 저장되지 않도록 고유 키에 포함되며, 리마인더가
+     * 아닌 알림은 비어 있습니다.
+     */
+    @Column(name = "recruitment_id")
+    private Long recruitmentId;
+
     public VolunteerNotification(
         Volunteer volunteer,
         String title,
@@ -83,4 +103,8 @@ public class VolunteerNotification extends BaseTimeEntity {
     public NotificationType getType() {
         return type;
     }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
 }
@@ -1,16 +1,22 @@
 package com.clova.anifriends.domain.notification.controller;
 
 import com.clova.anifriends.domain.auth.LoginUser;
+import com.clova.anifriends.domain.notification.dto.request.FindShelterNotificationsRequestV2;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2;
 import com.clova.anifriends.domain.notification.service.ShelterNotificationService;
 import com.clova.anifriends.domain.auth.authorization.ShelterOnly;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -27,6 +33,29 @@ public class ShelterNotificationController {
         return ResponseEntity.ok(shelterNotificationService.findShelterNotifications(shelterId));
     }
 
+    @ShelterOnly
+    @GetMapping("/v2/shelters/notifications")
+    public ResponseEntity<FindShelterNotificationsResponseV2> findShelterNotificationsV2(
+        @LoginUser Long shelterId,
+        @ModelAttribute FindShelterNotificationsRequestV2 findShelterNotificationsRequestV2,
+        Pageable pageable
+    ) {
+        return ResponseEntity.ok(shelterNotificationService.findShelterNotificationsV2(
+            shelterId,
+            findShelterNotificationsRequestV2.notificationCreatedAt(),
+            findShelterNotificationsRequestV2.notificationId(),
+            pageable));
+    }
+
+    @ShelterOnly
+    @GetMapping(value = "/shelters/notifications/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeNotifications(
+        @LoginUser Long shelterId
+    ) {
+        return ResponseEntity.ok(shelterNotificationService.subscribeNotifications(shelterId));
+    }
+
     @ShelterOnly
     @GetMapping("/shelters/notifications/read")
     public ResponseEntity<FindShelterHasNewNotificationResponse> findShelterHasNewNotification(
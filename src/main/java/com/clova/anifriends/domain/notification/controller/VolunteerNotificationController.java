@@ -2,16 +2,22 @@ package com.clova.anifriends.domain.notification.controller;
 
 
 import com.clova.anifriends.domain.auth.LoginUser;
+import com.clova.anifriends.domain.notification.dto.request.FindVolunteerNotificationsRequestV2;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2;
 import com.clova.anifriends.domain.notification.service.VolunteerNotificationService;
 import com.clova.anifriends.domain.auth.authorization.VolunteerOnly;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.ModelAttribute;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @RestController
 @RequiredArgsConstructor
@@ -29,6 +35,29 @@ public class VolunteerNotificationController {
             volunteerNotificationService.findVolunteerNotifications(volunteerId));
     }
 
+    @VolunteerOnly
+    @GetMapping("/v2/volunteers/notifications")
+    public ResponseEntity<FindVolunteerNotificationsResponseV2> findVolunteerNotificationsV2(
+        @LoginUser Long volunteerId,
+        @ModelAttribute FindVolunteerNotificationsRequestV2 findVolunteerNotificationsRequestV2,
+        Pageable pageable
+    ) {
+        return ResponseEntity.ok(volunteerNotificationService.findVolunteerNotificationsV2(
+            volunteerId,
+            findVolunteerNotificationsRequestV2.notificationCreatedAt(),
+            findVolunteerNotificationsRequestV2.notificationId(),
+            pageable));
+    }
+
+    @VolunteerOnly
+    @GetMapping(value = "/volunteers/notifications/stream",
+        produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> subscribeNotifications(
+        @LoginUser Long volunteerId
+    ) {
+        return ResponseEntity.ok(volunteerNotificationService.subscribeNotifications(volunteerId));
+    }
+
     @VolunteerOnly
     @GetMapping("/volunteers/notifications/read")
     public ResponseEntity<FindVolunteerHasNewNotificationResponse> findVolunteerHasNewNotification(
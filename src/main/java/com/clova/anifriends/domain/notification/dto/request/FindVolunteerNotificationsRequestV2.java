@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.notification.dto.request;
+
+import java.time.LocalDateTime;
+
+public record FindVolunteerNotificationsRequestV2(
+    LocalDateTime notificationCreatedAt,
+    Long notificationId
+) {
+
+}
@@ -1,10 +1,11 @@
 package com.clova.anifriends.domain.notification.dto.response;
 
 public record FindShelterHasNewNotificationResponse (
-    boolean hasNewNotification
+    boolean hasNewNotification,
+    long unreadCount
 ) {
 
-    public static FindShelterHasNewNotificationResponse from (boolean hasNewNotification) {
-        return new FindShelterHasNewNotificationResponse(hasNewNotification);
+    public static FindShelterHasNewNotificationResponse from (long unreadCount) {
+        return new FindShelterHasNewNotificationResponse(unreadCount > 0, unreadCount);
     }
 }
@@ -13,7 +13,8 @@ public record FindShelterNotificationsResponse(
         String notificationTitle,
         String notificationContent,
         Boolean notificationIsRead,
-        NotificationType notificationType
+        NotificationType notificationType,
+        int notificationCount
     ) {
 
         private static FindShelterNotification from(ShelterNotification shelterNotification) {
@@ -22,7 +23,8 @@ public record FindShelterNotificationsResponse(
                 shelterNotification.getTitle(),
                 shelterNotification.getContent(),
                 shelterNotification.getIsRead(),
-                shelterNotification.getType()
+                shelterNotification.getType(),
+                shelterNotification.getCount()
             );
         }
     }
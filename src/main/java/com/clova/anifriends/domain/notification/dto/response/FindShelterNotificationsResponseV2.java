@@ -0,0 +1,65 @@
+package com.clova.anifriends.domain.notification.dto.response;
+
+import com.clova.anifriends.domain.common.PageInfo;
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record FindShelterNotificationsResponseV2(
+    PageInfo pageInfo,
+    List<FindShelterNotificationResponse> notifications
+) {
+
+    private static final long UNCOUNTED = -1;
+
+    public record FindShelterNotificationResponse(
+        Long notificationId,
+        String notificationTitle,
+        String notificationContent,
+        Boolean notificationIsRead,
+        NotificationType notificationType,
+        int notificationCount,
+        LocalDateTime notificationCreatedAt
+    ) {
+
+        public static FindShelterNotificationResponse from(
+            ShelterNotification shelterNotification) {
+            return new FindShelterNotificationResponse(
+                shelterNotification.getShelterNotificationId(),
+                shelterNotification.getTitle(),
+                shelterNotification.getContent(),
+                shelterNotification.getIsRead(),
+                shelterNotification.getType(),
+                shelterNotification.getCount(),
+                shelterNotification.getCreatedAt()
+            );
+        }
+    }
+
+    /**
+     * 알림 목록은 커서로만 이어서 조회하므로 전체 개수를 세지 않으며, 전체 개수는 -1로 응답합니다.
+     */
+    public static FindShelterNotificationsResponseV2 from(
+        Slice<ShelterNotification> shelterNotifications) {
+        PageInfo pageInfo = PageInfo.of(UNCOUNTED, shelterNotifications.hasNext());
+        List<FindShelterNotificationResponse> notifications = shelterNotifications.getContent()
+            .stream()
+            .map(FindShelterNotificationResponse::from)
+            .toList();
+        return new FindShelterNotificationsResponseV2(pageInfo, notifications);
+    }
+
+    /**
+     * 캐싱된 최근 알림으로 첫 페이지를 만듭니다. 페이지 크기보다 많은 알림이 있으면 다음 페이지가 있습니다.
+     */
+    public static FindShelterNotificationsResponseV2 of(
+        List<FindShelterNotificationResponse> latestNotifications, int pageSize) {
+        boolean hasNext = latestNotifications.size() > pageSize;
+        List<FindShelterNotificationResponse> notifications = hasNext
+            ? latestNotifications.subList(0, pageSize) : latestNotifications;
+        return new FindShelterNotificationsResponseV2(PageInfo.of(UNCOUNTED, hasNext),
+            List.copyOf(notifications));
+    }
+}
@@ -1,10 +1,11 @@
 package com.clova.anifriends.domain.notification.dto.response;
 
 public record FindVolunteerHasNewNotificationResponse (
-    boolean hasNewNotification
+    boolean hasNewNotification,
+    long unreadCount
 ) {
 
-    public static FindVolunteerHasNewNotificationResponse from (boolean hasNewNotification) {
-        return new FindVolunteerHasNewNotificationResponse(hasNewNotification);
+    public static FindVolunteerHasNewNotificationResponse from (long unreadCount) {
+        return new FindVolunteerHasNewNotificationResponse(unreadCount > 0, unreadCount);
     }
 }
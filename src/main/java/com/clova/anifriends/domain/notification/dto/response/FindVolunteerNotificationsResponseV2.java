@@ -0,0 +1,63 @@
+package com.clova.anifriends.domain.notification.dto.response;
+
+import com.clova.anifriends.domain.common.PageInfo;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Slice;
+
+public record FindVolunteerNotificationsResponseV2(
+    PageInfo pageInfo,
+    List<FindVolunteerNotificationResponse> notifications
+) {
+
+    private static final long UNCOUNTED = -1;
+
+    public record FindVolunteerNotificationResponse(
+        Long notificationId,
+        String notificationTitle,
+        String notificationContent,
+        Boolean notificationIsRead,
+        NotificationType notificationType,
+        LocalDateTime notificationCreatedAt
+    ) {
+
+        public static FindVolunteerNotificationResponse from(
+            VolunteerNotification volunteerNotification) {
+            return new FindVolunteerNotificationResponse(
+                volunteerNotification.getVolunteerNotificationId(),
+                volunteerNotification.getTitle(),
+                volunteerNotification.getContent(),
+                volunteerNotification.getIsRead(),
+                volunteerNotification.getType(),
+                volunteerNotification.getCreatedAt()
+            );
+        }
+    }
+
+    /**
+     * 알림 목록은 커서로만 이어서 조회하므로 전체 개수를 세지 않으며, 전체 개수는 -1로 응답합니다.
+     */
+    public static FindVolunteerNotificationsResponseV2 from(
+        Slice<VolunteerNotification> volunteerNotifications) {
+        PageInfo pageInfo = PageInfo.of(UNCOUNTED, volunteerNotifications.hasNext());
+        List<FindVolunteerNotificationResponse> notifications = volunteerNotifications.getContent()
+            .stream()
+            .map(FindVolunteerNotificationResponse::from)
+            .toList();
+        return new FindVolunteerNotificationsResponseV2(pageInfo, notifications);
+    }
+
+    /**
+     * 캐싱된 최근 알림으로 첫 페이지를 만듭니다. 페이지 크기보다 많은 알림이 있으면 다음 페이지가 있습니다.
+     */
+    public static FindVolunteerNotificationsResponseV2 of(
+        List<FindVolunteerNotificationResponse> latestNotifications, int pageSize) {
+        boolean hasNext = latestNotifications.size() > pageSize;
+        List<FindVolunteerNotificationResponse> notifications = hasNext
+            ? latestNotifications.subList(0, pageSize) : latestNotifications;
+        return new FindVolunteerNotificationsResponseV2(PageInfo.of(UNCOUNTED, hasNext),
+            List.copyOf(notifications));
+    }
+}
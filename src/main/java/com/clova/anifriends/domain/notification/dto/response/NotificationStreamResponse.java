@@ -0,0 +1,21 @@
+package com.clova.anifriends.domain.notification.dto.response;
+
+import com.clova.anifriends.domain.notification.vo.NotificationStreamEventType;
+
+public record NotificationStreamResponse(
+    NotificationStreamEventType type,
+    String title,
+    String content,
+    boolean hasNewNotification
+) {
+
+    public static NotificationStreamResponse newNotification(String title, String content) {
+        return new NotificationStreamResponse(NotificationStreamEventType.NOTIFICATION, title,
+            content, true);
+    }
+
+    public static NotificationStreamResponse unreadState(boolean hasNewNotification) {
+        return new NotificationStreamResponse(NotificationStreamEventType.UNREAD_STATE, null,
+            null, hasNewNotification);
+    }
+}
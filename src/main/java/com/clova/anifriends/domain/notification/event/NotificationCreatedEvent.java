@@ -0,0 +1,11 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+
+public record NotificationCreatedEvent(
+    PushReceiverType receiverType,
+    List<Long> receiverIds
+) {
+
+}
@@ -0,0 +1,15 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+
+public record NotificationInboxEvictionEvent(
+    PushReceiverType receiverType,
+    List<Long> receiverIds
+) {
+
+    public static NotificationInboxEvictionEvent of(PushReceiverType receiverType,
+        Long receiverId) {
+        return new NotificationInboxEvictionEvent(receiverType, List.of(receiverId));
+    }
+}
@@ -0,0 +1,46 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2.FindShelterNotificationResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2.FindVolunteerNotificationResponse;
+import com.clova.anifriends.domain.notification.repository.NotificationInboxRepository;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 저장과 읽음 처리가 커밋된 뒤 캐싱된 최근 알림 목록을 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationInboxListener {
+
+    private final NotificationInboxRepository notificationInboxRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleShelterNotificationsSavedEvent(ShelterNotificationsSavedEvent event) {
+        event.notifications().forEach(notification -> notificationInboxRepository
+            .pushNotification(PushReceiverType.SHELTER, notification.getShelter().getShelterId(),
+                FindShelterNotificationResponse.from(notification)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleVolunteerNotificationsSavedEvent(VolunteerNotificationsSavedEvent event) {
+        event.notifications().forEach(notification -> notificationInboxRepository
+            .pushNotification(PushReceiverType.VOLUNTEER,
+                notification.getVolunteer().getVolunteerId(),
+                FindVolunteerNotificationResponse.from(notification)));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationInboxEvictionEvent(NotificationInboxEvictionEvent event) {
+        notificationInboxRepository.deleteLatestNotifications(event.receiverType(),
+            event.receiverIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationReadEvent(NotificationReadEvent event) {
+        notificationInboxRepository.markAllRead(event.receiverType(), event.receiverId());
+    }
+}
@@ -0,0 +1,25 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.service.NotificationOutboxService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림을 발생시킨 트랜잭션이 커밋된 뒤 별도 스레드에서 알림을 저장합니다. 실행기가 가득 차 버려지거나 처리 중 실패한 알림은 아웃박스에 남아 있다가
+ * 스케줄러가 다시 처리합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationOutboxListener {
+
+    private final NotificationOutboxService notificationOutboxService;
+
+    @Async("notificationOutboxExecutor")
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationOutboxSavedEvent(NotificationOutboxSavedEvent event) {
+        notificationOutboxService.publishNotifications(event.notificationOutboxIds());
+    }
+}
@@ -0,0 +1,15 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import java.util.List;
+
+public record NotificationOutboxSavedEvent(
+    List<Long> notificationOutboxIds
+) {
+
+    public static NotificationOutboxSavedEvent from(List<NotificationOutbox> notificationOutboxes) {
+        return new NotificationOutboxSavedEvent(notificationOutboxes.stream()
+            .map(NotificationOutbox::getNotificationOutboxId)
+            .toList());
+    }
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+
+public record NotificationReadEvent(
+    PushReceiverType receiverType,
+    Long receiverId
+) {
+
+}
@@ -0,0 +1,41 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.service.dto.NotificationStreamMessage;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+
+public record NotificationStreamEvent(
+    List<NotificationStreamMessage> messages
+) {
+
+    public static NotificationStreamEvent of(PushReceiverType receiverType,
+        List<Long> receiverIds, String title, String content) {
+        return new NotificationStreamEvent(receiverIds.stream()
+            .map(receiverId -> new NotificationStreamMessage(receiverType, receiverId,
+                NotificationStreamResponse.newNotification(title, content)))
+            .toList());
+    }
+
+    public static NotificationStreamEvent fromShelterNotifications(
+        List<ShelterNotification> notifications) {
+        return new NotificationStreamEvent(notifications.stream()
+            .map(notification -> new NotificationStreamMessage(PushReceiverType.SHELTER,
+                notification.getShelter().getShelterId(),
+                NotificationStreamResponse.newNotification(notification.getTitle(),
+                    notification.getContent())))
+            .toList());
+    }
+
+    public static NotificationStreamEvent fromVolunteerNotifications(
+        List<VolunteerNotification> notifications) {
+        return new NotificationStreamEvent(notifications.stream()
+            .map(notification -> new NotificationStreamMessage(PushReceiverType.VOLUNTEER,
+                notification.getVolunteer().getVolunteerId(),
+                NotificationStreamResponse.newNotification(notification.getTitle(),
+                    notification.getContent())))
+            .toList());
+    }
+}
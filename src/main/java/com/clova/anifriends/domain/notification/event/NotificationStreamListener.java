@@ -0,0 +1,31 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.service.NotificationStreamPublisher;
+import com.clova.anifriends.domain.notification.service.dto.NotificationStreamMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 저장과 합치기가 커밋된 뒤 수신자의 알림 스트림으로 새 알림을 보내고, 읽음 처리가 커밋된 뒤 미확인 알림이 없다는 상태를 보냅니다. 커밋된
+ * 알림만 보내므로 롤백된 알림이 스트림에 나타나지 않습니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationStreamListener {
+
+    private final NotificationStreamPublisher notificationStreamPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationStreamEvent(NotificationStreamEvent event) {
+        notificationStreamPublisher.publishAll(event.messages());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationReadEvent(NotificationReadEvent event) {
+        notificationStreamPublisher.publish(new NotificationStreamMessage(event.receiverType(),
+            event.receiverId(), NotificationStreamResponse.unreadState(false)));
+    }
+}
@@ -0,0 +1,29 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.repository.NotificationUnreadCountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 알림 저장과 읽음 처리가 커밋된 뒤 캐싱된 미확인 알림 수를 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationUnreadCountListener {
+
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationCreatedEvent(NotificationCreatedEvent event) {
+        notificationUnreadCountRepository.increaseUnreadCounts(event.receiverType(),
+            event.receiverIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleNotificationReadEvent(NotificationReadEvent event) {
+        notificationUnreadCountRepository.deleteUnreadCount(event.receiverType(),
+            event.receiverId());
+    }
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import java.util.List;
+
+public record ShelterNotificationsSavedEvent(
+    List<ShelterNotification> notifications
+) {
+
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.notification.event;
+
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import java.util.List;
+
+public record VolunteerNotificationsSavedEvent(
+    List<VolunteerNotification> notifications
+) {
+
+}
@@ -0,0 +1,11 @@
+package com.clova.anifriends.domain.notification.exception;
+
+import com.clova.anifriends.global.exception.ErrorCode;
+import com.clova.anifriends.global.exception.ServiceUnavailableException;
+
+public class NotificationStreamUnavailableException extends ServiceUnavailableException {
+
+    public NotificationStreamUnavailableException(String message) {
+        super(ErrorCode.SERVICE_UNAVAILABLE, message);
+    }
+}
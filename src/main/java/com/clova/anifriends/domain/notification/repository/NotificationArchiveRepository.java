@@ -0,0 +1,38 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.NotificationArchive;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationArchiveRepository extends JpaRepository<NotificationArchive, Long> {
+
+    @Modifying
+    @Query("insert into NotificationArchive"
+        + " (receiverType, receiverId, notificationId, title, content, isRead, type, count,"
+        + " createdAt, archivedAt)"
+        + " select com.clova.anifriends.domain.notification.vo.PushReceiverType.SHELTER,"
+        + " s.shelter.shelterId, s.shelterNotificationId, s.title.title, s.content.content,"
+        + " s.isRead.isRead, s.type, s.count, s.createdAt, :archivedAt"
+        + " from ShelterNotification s"
+        + " where s.shelterNotificationId in :notificationIds")
+    int archiveShelterNotifications(
+        @Param("notificationIds") List<Long> notificationIds,
+        @Param("archivedAt") LocalDateTime archivedAt);
+
+    @Modifying
+    @Query("insert into NotificationArchive"
+        + " (receiverType, receiverId, notificationId, title, content, isRead, type, count,"
+        + " createdAt, archivedAt)"
+        + " select com.clova.anifriends.domain.notification.vo.PushReceiverType.VOLUNTEER,"
+        + " v.volunteer.volunteerId, v.volunteerNotificationId, v.title.title, v.content.content,"
+        + " v.isRead.isRead, v.type, 1, v.createdAt, :archivedAt"
+        + " from VolunteerNotification v"
+        + " where v.volunteerNotificationId in :notificationIds")
+    int archiveVolunteerNotifications(
+        @Param("notificationIds") List<Long> notificationIds,
+        @Param("archivedAt") LocalDateTime archivedAt);
+}
@@ -0,0 +1,237 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class NotificationInboxRedisRepository implements NotificationInboxRepository {
+
+    private static final String INBOX_KEY = "%s:%d:notification:inbox";
+    private static final String VERSION_KEY = "%s:%d:notification:inbox-version";
+    private static final String IS_READ_FIELD = "notificationIsRead";
+    private static final String DEFAULT_VERSION = "0";
+    private static final int INBOX_CAPACITY = MAX_PAGE_SIZE + 1;
+    private static final Duration INBOX_TTL = Duration.ofHours(1);
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    /**
+     * db 조회 전에 읽은 버전이 그대로인 경우에만 db에서 조회한 최근 알림 목록으로 캐시를 교체합니다. 조회 중에 커밋된 새 알림이나 읽음 처리가 있으면
+     * 버전이 올라가 있으므로 그 변경이 빠진 목록을 저장하지 않습니다.
+     */
+    private static final RedisScript<Long> REPLACE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or ARGV[2]) ~= ARGV[1] then return 0 end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('RPUSH', KEYS[1], unpack(ARGV, 4)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return redis.call('LLEN', KEYS[1])",
+        Long.class);
+
+    /**
+     * 버전을 올리고 캐싱되어 있는 목록에만 새 알림을 앞에 추가하고 최대 개수로 자릅니다. 캐싱되지 않은 수신자에게 새 알림 하나만 담긴 목록이 생기면 첫
+     * 페이지를 잘못 응답하므로 추가하지 않습니다.
+     */
+    private static final RedisScript<Long> PUSH_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return 0 end "
+            + "redis.call('LPUSH', KEYS[1], ARGV[1]) "
+            + "redis.call('LTRIM', KEYS[1], 0, tonumber(ARGV[2]) - 1) "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 버전을 올리고 캐싱된 알림 중 읽지 않은 알림의 읽음 여부만 true로 바꿉니다. 목록을 db에서 다시 만들지 않습니다.
+     */
+    private static final RedisScript<Long> MARK_ALL_READ_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+            + "local notifications = redis.call('LRANGE', KEYS[1], 0, -1) "
+            + "local marked = 0 "
+            + "for i, notification in ipairs(notifications) do "
+            + "local decoded = cjson.decode(notification) "
+            + "if decoded[ARGV[1]] == false then "
+            + "decoded[ARGV[1]] = true "
+            + "redis.call('LSET', KEYS[1], i - 1, cjson.encode(decoded)) "
+            + "marked = marked + 1 end end "
+            + "return marked",
+        Long.class);
+
+    /**
+     * 알림 목록을 지우고 버전을 올려 지우기 전에 db에서 조회한 목록이 뒤늦게 저장되지 않도록 합니다.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 2 do "
+            + "redis.call('DEL', KEYS[i]) "
+            + "redis.call('INCR', KEYS[i + 1]) "
+            + "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) end "
+            + "return #KEYS / 2",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    public NotificationInboxRedisRepository(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 수신자의 최근 알림을 최신순으로 조회합니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @param count 조회할 알림 수. 캐싱된 최대 개수보다 많으면 빈 값을 반환합니다
+     * @param notificationType 알림 응답 타입
+     * @return 최근 알림 목록. 캐싱되지 않았거나 역직렬화에 실패한 경우 빈 값
+     */
+    @Override
+    public <T> Optional<List<T>> findLatestNotifications(PushReceiverType receiverType,
+        Long receiverId, int count, Class<T> notificationType) {
+        if (count > INBOX_CAPACITY) {
+            return Optional.empty();
+        }
+        String key = getInboxKey(receiverType, receiverId);
+        List<String> cachedNotifications = redisTemplate.opsForList().range(key, 0, count - 1);
+        if (Objects.isNull(cachedNotifications) || cachedNotifications.isEmpty()) {
+            return Optional.empty();
+        }
+        try {
+            List<T> notifications = new ArrayList<>();
+            for (String cachedNotification : cachedNotifications) {
+                notifications.add(objectMapper.readValue(cachedNotification, notificationType));
+            }
+            return Optional.of(notifications);
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 알림 목록 캐시를 읽지 못했습니다. receiverType={}, receiverId={}",
+                receiverType, receiverId);
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 수신자의 알림 목록 캐시 버전을 조회합니다. db에서 최근 알림을 조회하기 전에 읽어 저장할 때 전달합니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @return 현재 버전
+     */
+    @Override
+    public long getVersion(PushReceiverType receiverType, Long receiverId) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(receiverType, receiverId));
+        return Long.parseLong(Objects.requireNonNullElse(version, DEFAULT_VERSION));
+    }
+
+    /**
+     * db에서 조회한 최근 알림을 최신순으로 캐싱합니다. 알림이 없는 수신자는 캐싱하지 않고, 조회 이후 버전이 바뀌었으면 저장하지 않습니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @param version db 조회 전에 읽은 버전
+     * @param notifications 최신순으로 정렬된 최근 알림. 최대 개수를 넘는 알림은 캐싱하지 않습니다
+     */
+    @Override
+    public void saveLatestNotifications(PushReceiverType receiverType, Long receiverId,
+        long version, List<?> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>();
+        args.add(String.valueOf(version));
+        args.add(DEFAULT_VERSION);
+        args.add(String.valueOf(INBOX_TTL.toMillis()));
+        try {
+            for (Object notification : notifications.subList(0,
+                Math.min(notifications.size(), INBOX_CAPACITY))) {
+                args.add(objectMapper.writeValueAsString(notification));
+            }
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 알림 목록 캐시를 저장하지 못했습니다. receiverType={}, receiverId={}",
+                receiverType, receiverId);
+            return;
+        }
+        redisTemplate.execute(REPLACE_IF_VERSION_SCRIPT,
+            List.of(getInboxKey(receiverType, receiverId), getVersionKey(receiverType, receiverId)),
+            args.toArray());
+    }
+
+    /**
+     * 커밋된 새 알림을 캐싱된 목록 앞에 추가합니다. 직렬화에 실패하면 목록을 지워 다음 조회 시 db에서 다시 만듭니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @param notification 새 알림 응답
+     */
+    @Override
+    public void pushNotification(PushReceiverType receiverType, Long receiverId,
+        Object notification) {
+        try {
+            redisTemplate.execute(PUSH_IF_EXISTS_SCRIPT,
+                List.of(getInboxKey(receiverType, receiverId),
+                    getVersionKey(receiverType, receiverId)),
+                objectMapper.writeValueAsString(notification), String.valueOf(INBOX_CAPACITY),
+                String.valueOf(VERSION_TTL.toMillis()));
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 새 알림을 캐시에 추가하지 못했습니다. receiverType={}, receiverId={}",
+                receiverType, receiverId);
+            deleteLatestNotifications(receiverType, List.of(receiverId));
+        }
+    }
+
+    /**
+     * 캐싱된 알림을 모두 읽음으로 표시합니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     */
+    @Override
+    public void markAllRead(PushReceiverType receiverType, Long receiverId) {
+        redisTemplate.execute(MARK_ALL_READ_SCRIPT,
+            List.of(getInboxKey(receiverType, receiverId), getVersionKey(receiverType, receiverId)),
+            IS_READ_FIELD, String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    /**
+     * 캐싱된 알림 목록을 지우고 버전을 올립니다. 새 알림을 캐시에 반영할 수 없는 경우 다음 조회 시 db에서 다시 만듭니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverIds 수신자 id 목록
+     */
+    @Override
+    public void deleteLatestNotifications(PushReceiverType receiverType,
+        Collection<Long> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = receiverIds.stream()
+            .distinct()
+            .flatMap(receiverId -> Stream.of(getInboxKey(receiverType, receiverId),
+                getVersionKey(receiverType, receiverId)))
+            .toList();
+        redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    private String getInboxKey(PushReceiverType receiverType, Long receiverId) {
+        return INBOX_KEY.formatted(receiverType.name().toLowerCase(), receiverId);
+    }
+
+    private String getVersionKey(PushReceiverType receiverType, Long receiverId) {
+        return VERSION_KEY.formatted(receiverType.name().toLowerCase(), receiverId);
+    }
+}
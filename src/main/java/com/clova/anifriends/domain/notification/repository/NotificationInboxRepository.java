@@ -0,0 +1,28 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationInboxRepository {
+
+    /**
+     * 캐싱된 알림 목록으로 응답할 수 있는 최대 페이지 크기입니다. 다음 페이지 여부를 알 수 있도록 최근 알림을 이보다 하나 더 캐싱합니다.
+     */
+    int MAX_PAGE_SIZE = 20;
+
+    <T> Optional<List<T>> findLatestNotifications(PushReceiverType receiverType, Long receiverId,
+        int count, Class<T> notificationType);
+
+    long getVersion(PushReceiverType receiverType, Long receiverId);
+
+    void saveLatestNotifications(PushReceiverType receiverType, Long receiverId, long version,
+        List<?> notifications);
+
+    void pushNotification(PushReceiverType receiverType, Long receiverId, Object notification);
+
+    void markAllRead(PushReceiverType receiverType, Long receiverId);
+
+    void deleteLatestNotifications(PushReceiverType receiverType, Collection<Long> receiverIds);
+}
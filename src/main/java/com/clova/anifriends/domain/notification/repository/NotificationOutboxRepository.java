@@ -0,0 +1,34 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface NotificationOutboxRepository extends JpaRepository<NotificationOutbox, Long> {
+
+    /**
+     * 처리할 알림을 쓰기 락을 걸고 조회합니다. 같은 알림을 동시에 처리하려는 트랜잭션은 먼저 처리한 트랜잭션이 커밋될 때까지 기다린 뒤, 이미 삭제된
+     * 알림을 조회하지 않습니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select o from NotificationOutbox o"
+        + " where o.notificationOutboxId in :notificationOutboxIds")
+    List<NotificationOutbox> findAllByIdsForUpdate(
+        @Param("notificationOutboxIds") Collection<Long> notificationOutboxIds);
+
+    @Query("select o.notificationOutboxId from NotificationOutbox o"
+        + " where o.createdAt < :createdAt"
+        + " and o.notificationOutboxId > :notificationOutboxId"
+        + " order by o.notificationOutboxId")
+    List<Long> findIdsCreatedBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("notificationOutboxId") Long notificationOutboxId,
+        Pageable pageable);
+}
@@ -0,0 +1,152 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class NotificationUnreadCountRedisRepository implements NotificationUnreadCountRepository {
+
+    private static final String UNREAD_COUNT_KEY = "%s:%d:notification:unread";
+    private static final String VERSION_KEY = "%s:%d:notification:unread-version";
+    private static final String DEFAULT_VERSION = "0";
+    private static final Duration UNREAD_COUNT_TTL = Duration.ofHours(1);
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    /**
+     * 수신자의 버전을 올리고, 캐싱되어 있는 수신자의 미확인 알림 수만 증가시킵니다. 캐싱되지 않은 수신자는 다음 조회 시 db에서 다시 만들어집니다.
+     * 같은 수신자가 여러 번 포함되면 포함된 횟수만큼 증가합니다.
+     */
+    private static final RedisScript<Long> INCREASE_IF_EXISTS_SCRIPT = new DefaultRedisScript<>(
+        "local increased = 0 "
+            + "for i = 1, #KEYS, 2 do "
+            + "redis.call('INCR', KEYS[i + 1]) "
+            + "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) "
+            + "if redis.call('EXISTS', KEYS[i]) == 1 then "
+            + "redis.call('INCR', KEYS[i]) increased = increased + 1 end end "
+            + "return increased",
+        Long.class);
+
+    /**
+     * db에서 세기 전에 읽은 버전이 그대로인 경우에만 미확인 알림 수를 저장합니다. 세는 중에 커밋된 새 알림이나 읽음 처리가 캐시에 반영되지 못했다면
+     * 버전이 올라가 있으므로, 그 변경이 빠진 값을 저장하지 않습니다.
+     */
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or ARGV[2]) ~= ARGV[1] then return 0 end "
+            + "redis.call('SET', KEYS[1], ARGV[3], 'PX', ARGV[4]) "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 미확인 알림 수를 지우고 버전을 올립니다. 지우기 전에 db에서 센 값이 뒤늦게 저장되지 않도록 합니다.
+     */
+    private static final RedisScript<Long> DELETE_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('DEL', KEYS[1]) "
+            + "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[1]) "
+            + "return 1",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public NotificationUnreadCountRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 수신자의 미확인 알림 수를 조회합니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @return 미확인 알림 수. 캐싱되지 않은 경우 빈 값
+     */
+    @Override
+    public Optional<Long> findUnreadCount(PushReceiverType receiverType, Long receiverId) {
+        String unreadCount = redisTemplate.opsForValue()
+            .get(getUnreadCountKey(receiverType, receiverId));
+        if (Objects.isNull(unreadCount)) {
+            return Optional.empty();
+        }
+        return Optional.of(Long.parseLong(unreadCount));
+    }
+
+    /**
+     * 수신자의 미확인 알림 수 캐시의 현재 버전을 조회합니다. db에서 미확인 알림 수를 세기 전에 읽어 저장 시 함께 전달합니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @return 현재 버전
+     */
+    @Override
+    public long getVersion(PushReceiverType receiverType, Long receiverId) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(receiverType, receiverId));
+        return Long.parseLong(Objects.requireNonNullElse(version, DEFAULT_VERSION));
+    }
+
+    /**
+     * db에서 센 미확인 알림 수를 캐싱합니다. db에서 센 이후 버전이 바뀌었으면 저장하지 않습니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     * @param version db에서 세기 전에 읽은 버전
+     * @param unreadCount db에서 센 미확인 알림 수
+     */
+    @Override
+    public void saveUnreadCount(PushReceiverType receiverType, Long receiverId, long version,
+        long unreadCount) {
+        redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+            List.of(getUnreadCountKey(receiverType, receiverId),
+                getVersionKey(receiverType, receiverId)),
+            String.valueOf(version), DEFAULT_VERSION, String.valueOf(unreadCount),
+            String.valueOf(UNREAD_COUNT_TTL.toMillis()));
+    }
+
+    /**
+     * 새 알림을 받은 수신자들의 미확인 알림 수를 증가시킵니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverIds 새 알림 한 건마다 하나씩 담긴 수신자 id 목록
+     */
+    @Override
+    public void increaseUnreadCounts(PushReceiverType receiverType, List<Long> receiverIds) {
+        if (receiverIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = receiverIds.stream()
+            .flatMap(receiverId -> Stream.of(getUnreadCountKey(receiverType, receiverId),
+                getVersionKey(receiverType, receiverId)))
+            .toList();
+        redisTemplate.execute(INCREASE_IF_EXISTS_SCRIPT, keys,
+            String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    /**
+     * 수신자의 미확인 알림 수를 지우고 버전을 올립니다. 0으로 덮어쓰면 읽음 처리와 동시에 커밋된 새 알림의 증가분이 사라질 수 있으므로, 지운 뒤
+     * 다음 조회 시 db에서 다시 셉니다.
+     *
+     * @param receiverType 수신자 유형
+     * @param receiverId 수신자 id
+     */
+    @Override
+    public void deleteUnreadCount(PushReceiverType receiverType, Long receiverId) {
+        redisTemplate.execute(DELETE_SCRIPT,
+            List.of(getUnreadCountKey(receiverType, receiverId),
+                getVersionKey(receiverType, receiverId)),
+            String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    private String getUnreadCountKey(PushReceiverType receiverType, Long receiverId) {
+        return UNREAD_COUNT_KEY.formatted(receiverType.name().toLowerCase(), receiverId);
+    }
+
+    private String getVersionKey(PushReceiverType receiverType, Long receiverId) {
+        return VERSION_KEY.formatted(receiverType.name().toLowerCase(), receiverId);
+    }
+}
@@ -0,0 +1,19 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+import java.util.Optional;
+
+public interface NotificationUnreadCountRepository {
+
+    Optional<Long> findUnreadCount(PushReceiverType receiverType, Long receiverId);
+
+    long getVersion(PushReceiverType receiverType, Long receiverId);
+
+    void saveUnreadCount(PushReceiverType receiverType, Long receiverId, long version,
+        long unreadCount);
+
+    void increaseUnreadCounts(PushReceiverType receiverType, List<Long> receiverIds);
+
+    void deleteUnreadCount(PushReceiverType receiverType, Long receiverId);
+}
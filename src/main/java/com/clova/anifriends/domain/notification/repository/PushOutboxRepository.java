@@ -0,0 +1,131 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
+import com.clova.anifriends.domain.notification.PushOutbox;
+import com.clova.anifriends.domain.notification.repository.response.FindPushTargetResult;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface PushOutboxRepository extends JpaRepository<PushOutbox, Long> {
+
+    @Query("select o.pushOutboxId from PushOutbox o"
+        + " where o.status = com.clova.anifriends.domain.notification.vo.PushOutboxStatus.PENDING"
+        + " and o.nextAttemptAt <= :now"
+        + " order by o.nextAttemptAt")
+    List<Long> findDispatchableIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * 발송할 푸시를 선점합니다. 선점한 푸시는 leaseUntil까지 다른 워커가 가져가지 않으며, 그 전에 결과가 기록되지 않으면 다시 발송 대상이
+     * 됩니다.
+     *
+     * @return 선점한 푸시 수
+     */
+    @Modifying
+    @Query("update PushOutbox o set o.claimToken = :claimToken, o.nextAttemptAt = :leaseUntil"
+        + " where o.pushOutboxId in :pushOutboxIds"
+        + " and o.status = com.clova.anifriends.domain.notification.vo.PushOutboxStatus.PENDING"
+        + " and o.nextAttemptAt <= :now")
+    int claim(
+        @Param("pushOutboxIds") Collection<Long> pushOutboxIds,
+        @Param("claimToken") String claimToken,
+        @Param("now") LocalDateTime now,
+        @Param("leaseUntil") LocalDateTime leaseUntil);
+
+    @Query("select o.pushOutboxId as pushOutboxId,"
+        + " o.receiverType as receiverType,"
+        + " o.receiverId as receiverId,"
+        + " o.title as title,"
+        + " o.content as content,"
+        + " o.attemptCount as attemptCount,"
+        + " coalesce(v.deviceToken.deviceToken, s.deviceToken.deviceToken) as deviceToken"
+        + " from PushOutbox o"
+        + " left join Volunteer v"
+        + " on o.receiverType = com.clova.anifriends.domain.notification.vo.PushReceiverType.VOLUNTEER"
+        + " and v.volunteerId = o.receiverId"
+        + " left join Shelter s"
+        + " on o.receiverType = com.clova.anifriends.domain.notification.vo.PushReceiverType.SHELTER"
+        + " and s.shelterId = o.receiverId"
+        + " where o.claimToken = :claimToken")
+    List<FindPushTargetResult> findPushTargets(@Param("claimToken") String claimToken);
+
+    @Modifying
+    @Query("update PushOutbox o set o.attemptCount = o.attemptCount + 1,"
+        + " o.nextAttemptAt = :nextAttemptAt, o.claimToken = null"
+        + " where o.pushOutboxId in :pushOutboxIds")
+    void reschedule(
+        @Param("pushOutboxIds") Collection<Long> pushOutboxIds,
+        @Param("nextAttemptAt") LocalDateTime nextAttemptAt);
+
+    @Modifying
+    @Query("update PushOutbox o set o.status = :status, o.claimToken = null"
+        + " where o.pushOutboxId in :pushOutboxIds")
+    void updateBulkStatus(
+        @Param("pushOutboxIds") Collection<Long> pushOutboxIds,
+        @Param("status") PushOutboxStatus status);
+
+    long countByStatus(PushOutboxStatus status);
+
+    @Query("select o.pushOutboxId from PushOutbox o"
+        + " where o.status in :statuses"
+        + " and o.createdAt < :createdAt"
+        + " order by o.createdAt, o.pushOutboxId")
+    List<Long> findIdsByStatusCreatedBefore(
+        @Param("statuses") Collection<PushOutboxStatus> statuses,
+        @Param("createdAt") LocalDateTime createdAt,
+        Pageable pageable);
+
+    @Query("select min(o.createdAt) from PushOutbox o"
+        + " where o.status = com.clova.anifriends.domain.notification.vo.PushOutboxStatus.PENDING")
+    Optional<LocalDateTime> findOldestPendingCreatedAt();
+
+    @Modifying
+    @Query("insert into PushOutbox"
+        + " (receiverType, receiverId, content, status, attemptCount, nextAttemptAt, createdAt)"
+        + " select com.clova.anifriends.domain.notification.vo.PushReceiverType.VOLUNTEER,"
+        + " a.volunteer.volunteerId, :content,"
+        + " com.clova.anifriends.domain.notification.vo.PushOutboxStatus.PENDING,"
+        + " 0, :createdAt, :createdAt"
+        + " from Applicant a"
+        + " where a.recruitment.recruitmentId = :recruitmentId"
+        + " and a.recruitment.shelter.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status = :status")
+    int saveAllByApplicantStatus(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("content") String content,
+        @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("insert into PushOutbox"
+        + " (receiverType, receiverId, title, content, status, attemptCount, nextAttemptAt,"
+        + " createdAt)"
+        + " select com.clova.anifriends.domain.notification.vo.PushReceiverType.VOLUNTEER,"
+        + " a.volunteer.volunteerId, s.name.name, :content,"
+        + " com.clova.anifriends.domain.notification.vo.PushOutboxStatus.PENDING,"
+        + " 0, :createdAt, :createdAt"
+        + " from Applicant a"
+        + " join a.recruitment r"
+        + " join r.shelter s"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and s.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status <> :status")
+    int saveAllByApplicantStatusChange(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("content") String content,
+        @Param("createdAt") LocalDateTime createdAt);
+}
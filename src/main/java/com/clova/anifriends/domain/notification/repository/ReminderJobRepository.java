@@ -0,0 +1,77 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.ReminderJob;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+public interface ReminderJobRepository extends JpaRepository<ReminderJob, Long> {
+
+    /**
+     * 실행 시각이 지난 작업을 쓰기 락을 걸고 조회합니다. 락 타임아웃 -2는 Hibernate의 SKIP LOCKED로, 다른 노드가 락을 건 작업은 기다리지
+     * 않고 건너뜁니다(MySQL: for update skip locked).
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @QueryHints(@QueryHint(name = "jakarta.persistence.lock.timeout", value = "-2"))
+    @Query("select j from ReminderJob j"
+        + " where j.dueAt <= :now"
+        + " order by j.dueAt, j.reminderJobId")
+    List<ReminderJob> findDueJobsForUpdate(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update ReminderJob j"
+        + " set j.dueAt = :dueAt, j.attempts = j.attempts + 1"
+        + " where j.reminderJobId = :reminderJobId")
+    void postpone(@Param("reminderJobId") Long reminderJobId,
+        @Param("dueAt") LocalDateTime dueAt);
+
+    @Modifying
+    @Query("delete from ReminderJob j"
+        + " where j.recruitmentId = :recruitmentId")
+    void deleteByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
+
+    /**
+     * 봉사 시작 시각에 일 수를 더한 실행 시각이 아직 지나지 않았고, 같은 유형의 작업이 없는 봉사 모집글에 작업을 추가합니다. 이미 작업이 있는 봉사
+     * 모집글은 건너뛰므로 다시 실행해도 작업이 중복되지 않습니다.
+     *
+     * @param dayOffset 봉사 시작 시각에 더할 일 수
+     * @return 추가한 작업 수
+     */
+    @Modifying
+    @Query("insert into ReminderJob (recruitmentId, type, dueAt, attempts, createdAt)"
+        + " select r.recruitmentId, :type, timestampadd(day, :dayOffset, r.info.startTime), 0,"
+        + " :now"
+        + " from Recruitment r"
+        + " where timestampadd(day, :dayOffset, r.info.startTime) > :now"
+        + " and not exists (select j from ReminderJob j"
+        + " where j.recruitmentId = r.recruitmentId and j.type = :type)")
+    int insertMissingStartTimeJobs(
+        @Param("type") NotificationType type,
+        @Param("dayOffset") int dayOffset,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * 봉사 종료 시각이 아직 지나지 않았고, 같은 유형의 작업이 없는 봉사 모집글에 종료 시각에 실행할 작업을 추가합니다.
+     *
+     * @return 추가한 작업 수
+     */
+    @Modifying
+    @Query("insert into ReminderJob (recruitmentId, type, dueAt, attempts, createdAt)"
+        + " select r.recruitmentId, :type, r.info.endTime, 0, :now"
+        + " from Recruitment r"
+        + " where r.info.endTime > :now"
+        + " and not exists (select j from ReminderJob j"
+        + " where j.recruitmentId = r.recruitmentId and j.type = :type)")
+    int insertMissingEndTimeJobs(
+        @Param("type") NotificationType type,
+        @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,27 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.ShelterNotificationCoalescingLock;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import jakarta.persistence.LockModeType;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface ShelterNotificationCoalescingLockRepository extends
+    JpaRepository<ShelterNotificationCoalescingLock, Long> {
+
+    boolean existsByShelterIdAndRecruitmentIdAndType(Long shelterId, Long recruitmentId,
+        NotificationType type);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select l from ShelterNotificationCoalescingLock l"
+        + " where l.shelterId = :shelterId"
+        + " and l.recruitmentId = :recruitmentId"
+        + " and l.type = :type")
+    Optional<ShelterNotificationCoalescingLock> findForUpdate(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("type") NotificationType type);
+}
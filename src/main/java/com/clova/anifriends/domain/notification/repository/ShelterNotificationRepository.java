@@ -1,8 +1,14 @@
 package com.clova.anifriends.domain.notification.repository;
 
 import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -11,12 +17,72 @@ public interface ShelterNotificationRepository extends JpaRepository<ShelterNoti
 
     List<ShelterNotification> findByShelter_ShelterIdOrderByCreatedAtDesc(Long shelterId);
 
+    @Query("select s from ShelterNotification s "
+        + "where s.shelter.shelterId = :shelterId "
+        + "and (s.createdAt < :createdAt "
+        + "or (s.createdAt = :createdAt and s.shelterNotificationId < :notificationId)) "
+        + "order by s.createdAt desc, s.shelterNotificationId desc")
+    Slice<ShelterNotification> findShelterNotificationsV2(
+        @Param("shelterId") Long shelterId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("notificationId") Long notificationId,
+        Pageable pageable);
+
     @Query("select exists (select s from ShelterNotification s where s.shelter.shelterId = :shelterId and s.isRead.isRead = false)")
     boolean hasNewNotification(@Param("shelterId") Long shelterId);
 
+    @Query("select count(s) from ShelterNotification s "
+        + "where s.shelter.shelterId = :shelterId and s.isRead.isRead = false")
+    long countUnreadNotifications(@Param("shelterId") Long shelterId);
+
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("update ShelterNotification s set s.isRead.isRead = true "
         + "where s.shelter.shelterId = :shelterId and s.isRead.isRead = false")
     void updateBulkRead(@Param("shelterId") Long shelterId);
 
+    /**
+     * 묶음 기간 안에 생성되어 아직 읽지 않은 같은 봉사 모집글, 같은 유형의 알림을 최신순으로 잠가 조회합니다. 잠금 조회는 트랜잭션의 스냅샷이 아닌
+     * 최신 커밋을 읽으므로, 봉사 모집글 잠금을 기다리는 동안 다른 트랜잭션이 커밋한 알림도 조회됩니다.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("select s from ShelterNotification s"
+        + " where s.shelter.shelterId = :shelterId"
+        + " and s.recruitmentId = :recruitmentId"
+        + " and s.type = :type"
+        + " and s.isRead.isRead = false"
+        + " and s.createdAt >= :windowStartedAt"
+        + " order by s.shelterNotificationId desc")
+    List<ShelterNotification> findCoalescableForUpdate(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("type") NotificationType type,
+        @Param("windowStartedAt") LocalDateTime windowStartedAt,
+        Pageable pageable);
+
+    /**
+     * 읽지 않은 알림에 새 알림 count개를 합치고, 내용을 가장 최근 알림의 내용으로 바꿉니다.
+     *
+     * @return 합쳐진 알림 수. 그 사이 알림을 읽었으면 0
+     */
+    @Modifying
+    @Query("update ShelterNotification s"
+        + " set s.count = s.count + :count, s.content.content = :content"
+        + " where s.shelterNotificationId = :notificationId"
+        + " and s.isRead.isRead = false")
+    int coalesce(
+        @Param("notificationId") Long notificationId,
+        @Param("count") int count,
+        @Param("content") String content);
+
+    @Query("select s.shelterNotificationId from ShelterNotification s "
+        + "where s.createdAt < :createdAt "
+        + "order by s.createdAt, s.shelterNotificationId")
+    List<Long> findIdsCreatedBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        Pageable pageable);
+
+    @Modifying
+    @Query("delete from ShelterNotification s "
+        + "where s.shelterNotificationId in :notificationIds")
+    int deleteAllByIds(@Param("notificationIds") List<Long> notificationIds);
 }
@@ -0,0 +1,64 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class VolunteerNotificationJdbcRepository {
+
+    private static final String INSERT_SQL = "insert ignore into volunteer_notification"
+        + " (volunteer_id, recruitment_id, title, content, is_read, type, created_at)"
+        + " values (?, ?, ?, ?, false, ?, ?)";
+    private static final String INSERT_PUSH_OUTBOX_SQL = "insert into push_outbox"
+        + " (receiver_type, receiver_id, title, content, status, attempt_count, next_attempt_at,"
+        + " created_at)"
+        + " values (?, ?, ?, ?, ?, 0, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 같은 종류의 봉사자 알림을 엔티티를 만들지 않고 JDBC 배치로 저장합니다. IDENTITY 전략이어도 한 번의 배치로 전송됩니다. 알림마다
+     * 푸시 아웃박스도 같은 방식으로 함께 저장합니다. 이미 저장된 (모집글, 봉사자, 종류)의 알림은 고유 키에 걸려 저장되지 않으므로, 호출하는 쪽에서
+     * 이미 알림을 받은 봉사자를 먼저 걸러야 푸시가 중복되지 않습니다.
+     *
+     * @param recruitmentId 알림을 보내는 봉사 모집글 id
+     * @param notifications 저장할 알림 목록
+     * @param type 알림 종류
+     * @param createdAt 알림 생성 시각
+     */
+    public void saveAll(Long recruitmentId, List<NewVolunteerNotification> notifications,
+        NotificationType type, LocalDateTime createdAt) {
+        Timestamp createdTimestamp = Timestamp.valueOf(createdAt);
+        jdbcTemplate.batchUpdate(INSERT_SQL, notifications, notifications.size(),
+            (ps, notification) -> {
+                ps.setLong(1, notification.volunteerId());
+                ps.setLong(2, recruitmentId);
+                ps.setString(3, notification.title());
+                ps.setString(4, type.getMessage());
+                ps.setString(5, type.name());
+                ps.setTimestamp(6, createdTimestamp);
+            });
+        jdbcTemplate.batchUpdate(INSERT_PUSH_OUTBOX_SQL, notifications, notifications.size(),
+            (ps, notification) -> {
+                ps.setString(1, PushReceiverType.VOLUNTEER.name());
+                ps.setLong(2, notification.volunteerId());
+                ps.setString(3, notification.title());
+                ps.setString(4, type.getMessage());
+                ps.setString(5, PushOutboxStatus.PENDING.name());
+                ps.setTimestamp(6, createdTimestamp);
+                ps.setTimestamp(7, createdTimestamp);
+            });
+    }
+
+    public record NewVolunteerNotification(Long volunteerId, String title) {
+
+    }
+}
@@ -1,7 +1,12 @@
 package com.clova.anifriends.domain.notification.repository;
 
+import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
 import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import java.time.LocalDateTime;
 import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -13,11 +18,85 @@ public interface VolunteerNotificationRepository extends JpaRepository<Volunteer
 
     List<VolunteerNotification> findByVolunteer_VolunteerIdOrderByCreatedAtDesc(Long volunteerId);
 
+    @Query("select v from VolunteerNotification v "
+        + "where v.volunteer.volunteerId = :volunteerId "
+        + "and (v.createdAt < :createdAt "
+        + "or (v.createdAt = :createdAt and v.volunteerNotificationId < :notificationId)) "
+        + "order by v.createdAt desc, v.volunteerNotificationId desc")
+    Slice<VolunteerNotification> findVolunteerNotificationsV2(
+        @Param("volunteerId") Long volunteerId,
+        @Param("createdAt") LocalDateTime createdAt,
+        @Param("notificationId") Long notificationId,
+        Pageable pageable);
+
     @Query("select exists (select v from VolunteerNotification v where v.volunteer.volunteerId = :volunteerId and v.isRead.isRead = false)")
     boolean hasNewNotification(@Param("volunteerId") Long volunteerId);
 
+    @Query("select count(v) from VolunteerNotification v "
+        + "where v.volunteer.volunteerId = :volunteerId and v.isRead.isRead = false")
+    long countUnreadNotifications(@Param("volunteerId") Long volunteerId);
+
     @Modifying(flushAutomatically = true, clearAutomatically = true)
     @Query("update VolunteerNotification v set v.isRead.isRead = true "
         + "where v.volunteer.volunteerId = :volunteerId and v.isRead.isRead = false")
     void updateBulkRead(@Param("volunteerId") Long volunteerId);
+
+    @Modifying
+    @Query("insert into VolunteerNotification"
+        + " (volunteer, content.content, isRead.isRead, type, createdAt)"
+        + " select a.volunteer, :content, false, :type, :createdAt"
+        + " from Applicant a"
+        + " where a.recruitment.recruitmentId = :recruitmentId"
+        + " and a.recruitment.shelter.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status = :status")
+    int saveAllByApplicantStatus(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("content") String content,
+        @Param("type") NotificationType type,
+        @Param("createdAt") LocalDateTime createdAt);
+
+    @Modifying
+    @Query("insert into VolunteerNotification"
+        + " (volunteer, title.title, content.content, isRead.isRead, type, createdAt)"
+        + " select a.volunteer, s.name.name, :content, false, :type, :createdAt"
+        + " from Applicant a"
+        + " join a.recruitment r"
+        + " join r.shelter s"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and s.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status <> :status")
+    int saveAllByApplicantStatusChange(
+        @Param("shelterId") Long shelterId,
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("content") String content,
+        @Param("type") NotificationType type,
+        @Param("createdAt") LocalDateTime createdAt);
+
+    @Query("select v.volunteer.volunteerId from VolunteerNotification v "
+        + "where v.recruitmentId = :recruitmentId "
+        + "and v.type = :type "
+        + "and v.volunteer.volunteerId in :volunteerIds")
+    List<Long> findNotifiedVolunteerIds(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("type") NotificationType type,
+        @Param("volunteerIds") List<Long> volunteerIds);
+
+    @Query("select v.volunteerNotificationId from VolunteerNotification v "
+        + "where v.createdAt < :createdAt "
+        + "order by v.createdAt, v.volunteerNotificationId")
+    List<Long> findIdsCreatedBefore(
+        @Param("createdAt") LocalDateTime createdAt,
+        Pageable pageable);
+
+    @Modifying
+    @Query("delete from VolunteerNotification v "
+        + "where v.volunteerNotificationId in :notificationIds")
+    int deleteAllByIds(@Param("notificationIds") List<Long> notificationIds);
 }
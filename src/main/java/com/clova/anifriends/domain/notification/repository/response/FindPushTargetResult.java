@@ -0,0 +1,14 @@
+package com.clova.anifriends.domain.notification.repository.response;
+
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+
+public interface FindPushTargetResult {
+
+    Long getPushOutboxId();
+    PushReceiverType getReceiverType();
+    Long getReceiverId();
+    String getTitle();
+    String getContent();
+    int getAttemptCount();
+    String getDeviceToken();
+}
@@ -0,0 +1,88 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.repository.NotificationArchiveRepository;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 보관 기간이 지난 보호소, 봉사자 알림을 보관 테이블로 옮깁니다. 오래된 알림부터 청크 단위로 옮기고 지우며, 청크마다 별도의 트랜잭션에서 처리하므로
+ * 트랜잭션 크기와 락 범위가 청크 크기로 제한됩니다.
+ */
+@Slf4j
+@Service
+public class NotificationArchiveService {
+
+    private static final int ARCHIVE_CHUNK_SIZE = 1000;
+
+    private final Duration retention;
+    private final ShelterNotificationRepository shelterNotificationRepository;
+    private final VolunteerNotificationRepository volunteerNotificationRepository;
+    private final NotificationArchiveRepository notificationArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    public NotificationArchiveService(
+        @Value("${notification.retention.days:90}") long retentionDays,
+        ShelterNotificationRepository shelterNotificationRepository,
+        VolunteerNotificationRepository volunteerNotificationRepository,
+        NotificationArchiveRepository notificationArchiveRepository,
+        TransactionTemplate transactionTemplate
+    ) {
+        this.retention = Duration.ofDays(retentionDays);
+        this.shelterNotificationRepository = shelterNotificationRepository;
+        this.volunteerNotificationRepository = volunteerNotificationRepository;
+        this.notificationArchiveRepository = notificationArchiveRepository;
+        this.transactionTemplate = transactionTemplate;
+    }
+
+    /**
+     * 보관 기간이 지난 알림을 보관 테이블로 옮깁니다. 읽지 않은 채 옮겨진 알림은 캐싱된 미확인 알림 수에서 캐시 만료 시까지 남아 있을 수 있습니다.
+     */
+    public void archiveExpiredNotifications() {
+        LocalDateTime archivedAt = LocalDateTime.now();
+        LocalDateTime expiredAt = archivedAt.minus(retention);
+        int archivedShelterNotifications = archiveInChunks(
+            pageable -> shelterNotificationRepository.findIdsCreatedBefore(expiredAt, pageable),
+            notificationArchiveRepository::archiveShelterNotifications,
+            shelterNotificationRepository::deleteAllByIds, archivedAt);
+        int archivedVolunteerNotifications = archiveInChunks(
+            pageable -> volunteerNotificationRepository.findIdsCreatedBefore(expiredAt, pageable),
+            notificationArchiveRepository::archiveVolunteerNotifications,
+            volunteerNotificationRepository::deleteAllByIds, archivedAt);
+        log.info("[Notification] 보관 기간이 지난 알림 보관. 보호소 알림: {}건, 봉사자 알림: {}건",
+            archivedShelterNotifications, archivedVolunteerNotifications);
+    }
+
+    private int archiveInChunks(
+        Function<Pageable, List<Long>> expiredIdFinder,
+        BiFunction<List<Long>, LocalDateTime, Integer> archiver,
+        Function<List<Long>, Integer> remover,
+        LocalDateTime archivedAt) {
+        Pageable chunk = PageRequest.of(0, ARCHIVE_CHUNK_SIZE);
+        int archivedCount = 0;
+        Integer archived;
+        do {
+            archived = transactionTemplate.execute(status -> {
+                List<Long> notificationIds = expiredIdFinder.apply(chunk);
+                if (notificationIds.isEmpty()) {
+                    return 0;
+                }
+                archiver.apply(notificationIds, archivedAt);
+                remover.apply(notificationIds);
+                return notificationIds.size();
+            });
+            archivedCount += archived;
+        } while (archived == ARCHIVE_CHUNK_SIZE);
+        return archivedCount;
+    }
+}
@@ -0,0 +1,163 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.PushOutbox;
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.event.ShelterNotificationsSavedEvent;
+import com.clova.anifriends.domain.notification.event.VolunteerNotificationsSavedEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 아웃박스에 저장된 알림을 보호소, 봉사자 알림과 푸시 아웃박스로 옮깁니다. 알림 저장과 아웃박스 삭제를 한 트랜잭션에서 처리하므로, 같은 알림이 두 번
+ * 저장되거나 유실되지 않습니다. 보호소 알림은 묶음 기간 안의 같은 알림에 합쳐질 수 있으며, 합쳐진 알림은 푸시를 다시 보내지 않습니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationOutboxService {
+
+    private static final int RELAY_CHUNK_SIZE = 100;
+    private static final Duration RELAY_DELAY = Duration.ofMinutes(1);
+    private static final Duration MAX_RELAY_DURATION = Duration.ofMinutes(5);
+
+    private final NotificationOutboxRepository notificationOutboxRepository;
+    private final ShelterNotificationRepository shelterNotificationRepository;
+    private final ShelterNotificationCoalescer shelterNotificationCoalescer;
+    private final VolunteerNotificationRepository volunteerNotificationRepository;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final ShelterRepository shelterRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+
+    public void publishNotifications(List<Long> notificationOutboxIds) {
+        transactionTemplate.executeWithoutResult(status -> {
+            List<NotificationOutbox> outboxes = notificationOutboxRepository
+                .findAllByIdsForUpdate(notificationOutboxIds);
+            if (outboxes.isEmpty()) {
+                return;
+            }
+            saveShelterNotifications(getReceiverOutboxes(outboxes, PushReceiverType.SHELTER));
+            saveVolunteerNotifications(getReceiverOutboxes(outboxes, PushReceiverType.VOLUNTEER));
+            notificationOutboxRepository.deleteAllInBatch(outboxes);
+        });
+    }
+
+    /**
+     * 저장된 지 RELAY_DELAY가 지나도록 처리되지 않은 알림을 청크 단위로 다시 처리합니다. 처리에 실패한 청크는 알림 하나씩 다시 처리하여, 저장할 수 없는
+     * 알림이 같은 청크의 다른 알림을 막지 않도록 합니다. 중계 작업의 임대 기간 안에 끝나도록, 최대 중계 시간이 지나면 남은 알림은 다음 실행에서
+     * 처리합니다.
+     */
+    public void relayPendingNotifications() {
+        long startedAt = System.nanoTime();
+        LocalDateTime createdAt = LocalDateTime.now().minus(RELAY_DELAY);
+        Pageable chunk = PageRequest.of(0, RELAY_CHUNK_SIZE);
+        Long lastNotificationOutboxId = 0L;
+        List<Long> notificationOutboxIds;
+        do {
+            notificationOutboxIds = notificationOutboxRepository.findIdsCreatedBefore(createdAt,
+                lastNotificationOutboxId, chunk);
+            if (notificationOutboxIds.isEmpty()) {
+                return;
+            }
+            relay(notificationOutboxIds);
+            lastNotificationOutboxId = notificationOutboxIds.get(notificationOutboxIds.size() - 1);
+        } while (notificationOutboxIds.size() == RELAY_CHUNK_SIZE
+            && System.nanoTime() - startedAt < MAX_RELAY_DURATION.toNanos());
+    }
+
+    private void relay(List<Long> notificationOutboxIds) {
+        try {
+            publishNotifications(notificationOutboxIds);
+        } catch (RuntimeException chunkException) {
+            for (Long notificationOutboxId : notificationOutboxIds) {
+                try {
+                    publishNotifications(List.of(notificationOutboxId));
+                } catch (RuntimeException exception) {
+                    log.warn("[Notification] 아웃박스 알림 저장 실패. notificationOutboxId: {}",
+                        notificationOutboxId, exception);
+                }
+            }
+        }
+    }
+
+    private List<NotificationOutbox> getReceiverOutboxes(List<NotificationOutbox> outboxes,
+        PushReceiverType receiverType) {
+        return outboxes.stream()
+            .filter(outbox -> outbox.getReceiverType() == receiverType)
+            .toList();
+    }
+
+    private void saveShelterNotifications(List<NotificationOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        List<ShelterNotification> notifications = shelterNotificationCoalescer.coalesce(
+            outboxes.stream()
+                .map(outbox -> new ShelterNotification(
+                    shelterRepository.getReferenceById(outbox.getReceiverId()),
+                    outbox.getRecruitmentId(),
+                    outbox.getTitle(),
+                    outbox.getContent(),
+                    outbox.getType(),
+                    1))
+                .toList());
+        if (notifications.isEmpty()) {
+            return;
+        }
+        shelterNotificationRepository.saveAll(notifications);
+        pushOutboxRepository.saveAll(notifications.stream()
+            .map(PushOutbox::from)
+            .toList());
+        applicationEventPublisher.publishEvent(new NotificationCreatedEvent(
+            PushReceiverType.SHELTER, notifications.stream()
+                .map(notification -> notification.getShelter().getShelterId())
+                .toList()));
+        applicationEventPublisher.publishEvent(new ShelterNotificationsSavedEvent(notifications));
+        applicationEventPublisher.publishEvent(
+            NotificationStreamEvent.fromShelterNotifications(notifications));
+    }
+
+    private void saveVolunteerNotifications(List<NotificationOutbox> outboxes) {
+        if (outboxes.isEmpty()) {
+            return;
+        }
+        List<VolunteerNotification> notifications = outboxes.stream()
+            .map(outbox -> new VolunteerNotification(
+                volunteerRepository.getReferenceById(outbox.getReceiverId()),
+                outbox.getTitle(),
+                outbox.getContent(),
+                outbox.getType().getName()))
+            .toList();
+        volunteerNotificationRepository.saveAll(notifications);
+        pushOutboxRepository.saveAll(notifications.stream()
+            .map(PushOutbox::from)
+            .toList());
+        applicationEventPublisher.publishEvent(new NotificationCreatedEvent(
+            PushReceiverType.VOLUNTEER, outboxes.stream()
+                .map(NotificationOutbox::getReceiverId)
+                .toList()));
+        applicationEventPublisher.publishEvent(new VolunteerNotificationsSavedEvent(notifications));
+        applicationEventPublisher.publishEvent(
+            NotificationStreamEvent.fromVolunteerNotifications(notifications));
+    }
+}
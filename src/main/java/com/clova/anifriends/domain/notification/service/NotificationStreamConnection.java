@@ -0,0 +1,87 @@
+package com.clova.anifriends.domain.notification.service;
+
+import java.io.IOException;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter.SseEventBuilder;
+
+/**
+ * 하나의 SSE 연결입니다. 보낼 이벤트를 최대 MAX_BUFFERED_EVENTS개까지 버퍼에 쌓고 워커 스레드에서 순서대로 보냅니다. 느린 클라이언트
+ * 때문에 버퍼가 가득 차면 가장 오래된 이벤트를 버립니다.
+ */
+class NotificationStreamConnection {
+
+    static final int MAX_BUFFERED_EVENTS = 64;
+
+    private final SseEmitter emitter;
+    private final Executor executor;
+    private final Deque<Supplier<SseEventBuilder>> buffer = new ArrayDeque<>();
+    private boolean draining;
+    private boolean closed;
+
+    NotificationStreamConnection(SseEmitter emitter, Executor executor) {
+        this.emitter = emitter;
+        this.executor = executor;
+    }
+
+    SseEmitter getEmitter() {
+        return emitter;
+    }
+
+    /**
+     * @param event 보낼 이벤트를 만드는 함수. SseEventBuilder는 연결마다 새로 만들어야 합니다.
+     */
+    void send(Supplier<SseEventBuilder> event) {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            if (buffer.size() == MAX_BUFFERED_EVENTS) {
+                buffer.pollFirst();
+            }
+            buffer.addLast(event);
+            if (draining) {
+                return;
+            }
+            draining = true;
+        }
+        executor.execute(this::drain);
+    }
+
+    void close() {
+        synchronized (this) {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            buffer.clear();
+        }
+        try {
+            emitter.complete();
+        } catch (IllegalStateException ignored) {
+            // 이미 완료된 연결입니다.
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Supplier<SseEventBuilder> event;
+            synchronized (this) {
+                event = buffer.pollFirst();
+                if (event == null || closed) {
+                    draining = false;
+                    return;
+                }
+            }
+            try {
+                emitter.send(event.get());
+            } catch (IOException | IllegalStateException exception) {
+                close();
+                return;
+            }
+        }
+    }
+}
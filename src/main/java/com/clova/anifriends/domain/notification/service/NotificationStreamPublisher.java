@@ -0,0 +1,61 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.service.dto.NotificationStreamMessage;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Service;
+
+/**
+ * 알림 스트림 메시지를 수신자별 redis 채널로 발행합니다. 수신자가 연결된 서버만 해당 채널을 구독하므로, 연결이 없는 수신자에게 보낸 메시지는
+ * redis에서 버려집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationStreamPublisher {
+
+    public static final String CHANNEL_PREFIX = "notification:stream:";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    public static String getChannel(PushReceiverType receiverType, Long receiverId) {
+        return CHANNEL_PREFIX + receiverType.name().toLowerCase() + ":" + receiverId;
+    }
+
+    public void publish(NotificationStreamMessage message) {
+        publishAll(List.of(message));
+    }
+
+    /**
+     * 메시지들을 하나의 파이프라인으로 발행합니다. 발행에 실패해도 예외를 던지지 않으며, 클라이언트는 다시 연결할 때 받는 미확인 알림 여부로
+     * 상태를 맞춥니다.
+     */
+    @SuppressWarnings("unchecked")
+    public void publishAll(List<NotificationStreamMessage> messages) {
+        if (messages.isEmpty()) {
+            return;
+        }
+        RedisSerializer<String> channelSerializer = redisTemplate.getStringSerializer();
+        RedisSerializer<Object> messageSerializer
+            = (RedisSerializer<Object>) redisTemplate.getValueSerializer();
+        try {
+            redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+                for (NotificationStreamMessage message : messages) {
+                    connection.publish(
+                        channelSerializer.serialize(
+                            getChannel(message.receiverType(), message.receiverId())),
+                        messageSerializer.serialize(message));
+                }
+                return null;
+            });
+        } catch (RuntimeException exception) {
+            log.warn("[Notification] 알림 스트림 메시지 발행에 실패했습니다. count={}", messages.size(),
+                exception);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.exception.NotificationStreamUnavailableException;
+import com.clova.anifriends.domain.notification.service.dto.NotificationStreamMessage;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+/**
+ * 이 서버에 연결된 알림 스트림(SSE)을 관리합니다. 수신자의 첫 연결이 생기면 수신자 redis 채널을 구독하고, 마지막 연결이 끊기면 구독을
+ * 해지합니다. 연결이 끊긴 것을 감지할 수 있도록 주기적으로 heartbeat 주석을 보냅니다.
+ */
+@Slf4j
+@Component
+public class NotificationStreamRegistry implements MessageListener {
+
+    static final int MAX_CONNECTIONS_PER_RECEIVER = 5;
+    private static final long EMITTER_TIMEOUT_MILLIS = Duration.ofMinutes(30).toMillis();
+    private static final long HEARTBEAT_INTERVAL_SECONDS = 15;
+
+    private final int maxConnections;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final ObjectMapper objectMapper;
+    private final Executor notificationStreamExecutor;
+    private final Map<String, List<NotificationStreamConnection>> connections
+        = new ConcurrentHashMap<>();
+    private final AtomicInteger connectionCount = new AtomicInteger();
+    private final ScheduledExecutorService heartbeatExecutor
+        = Executors.newSingleThreadScheduledExecutor();
+
+    public NotificationStreamRegistry(
+        @Value("${notification.stream.max-connections:10000}") int maxConnections,
+        RedisMessageListenerContainer redisMessageListenerContainer,
+        RedisTemplate<String, Object> redisTemplate,
+        ObjectMapper objectMapper,
+        @Qualifier("notificationStreamExecutor") Executor notificationStreamExecutor
+    ) {
+        this.maxConnections = maxConnections;
+        this.redisMessageListenerContainer = redisMessageListenerContainer;
+        this.redisTemplate = redisTemplate;
+        this.objectMapper = objectMapper;
+        this.notificationStreamExecutor = notificationStreamExecutor;
+        heartbeatExecutor.scheduleAtFixedRate(this::sendHeartbeats, HEARTBEAT_INTERVAL_SECONDS,
+            HEARTBEAT_INTERVAL_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * 수신자의 알림 스트림 연결을 등록하고 첫 이벤트를 보냅니다. 수신자의 연결이 MAX_CONNECTIONS_PER_RECEIVER개를 넘으면 가장 오래된
+     * 연결을 끊습니다.
+     *
+     * @param initialResponse 연결 직후 보낼 이벤트
+     * @throws NotificationStreamUnavailableException 서버의 연결 수가 최대치에 도달한 경우
+     */
+    public SseEmitter register(PushReceiverType receiverType, Long receiverId,
+        NotificationStreamResponse initialResponse) {
+        if (connectionCount.incrementAndGet() > maxConnections) {
+            connectionCount.decrementAndGet();
+            throw new NotificationStreamUnavailableException("알림 스트림 연결 수가 최대치에 도달했습니다.");
+        }
+        String channel = NotificationStreamPublisher.getChannel(receiverType, receiverId);
+        NotificationStreamConnection connection = new NotificationStreamConnection(
+            new SseEmitter(EMITTER_TIMEOUT_MILLIS), notificationStreamExecutor);
+        SseEmitter emitter = connection.getEmitter();
+        emitter.onCompletion(() -> unregister(channel, connection));
+        emitter.onTimeout(connection::close);
+        emitter.onError(exception -> connection.close());
+        addConnection(channel, connection);
+        connection.send(() -> toEvent(initialResponse));
+        return emitter;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String channel = redisTemplate.getStringSerializer().deserialize(message.getChannel());
+        List<NotificationStreamConnection> channelConnections = connections.get(channel);
+        if (Objects.isNull(channelConnections)) {
+            return;
+        }
+        try {
+            NotificationStreamMessage streamMessage = objectMapper.readValue(
+                redisTemplate.getStringSerializer().deserialize(message.getBody()),
+                NotificationStreamMessage.class);
+            channelConnections.forEach(
+                connection -> connection.send(() -> toEvent(streamMessage.response())));
+        } catch (JacksonException exception) {
+            log.warn("[Notification] 알림 스트림 메시지를 읽지 못했습니다. channel={}", channel);
+        }
+    }
+
+    int getConnectionCount() {
+        return connectionCount.get();
+    }
+
+    private synchronized void addConnection(String channel,
+        NotificationStreamConnection connection) {
+        List<NotificationStreamConnection> channelConnections = connections.computeIfAbsent(
+            channel, key -> {
+                redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(key));
+                return new CopyOnWriteArrayList<>();
+            });
+        channelConnections.add(connection);
+        if (channelConnections.size() > MAX_CONNECTIONS_PER_RECEIVER) {
+            NotificationStreamConnection oldest = channelConnections.get(0);
+            unregister(channel, oldest);
+            oldest.close();
+        }
+    }
+
+    private synchronized void unregister(String channel, NotificationStreamConnection connection) {
+        List<NotificationStreamConnection> channelConnections = connections.get(channel);
+        if (Objects.isNull(channelConnections) || !channelConnections.remove(connection)) {
+            return;
+        }
+        connectionCount.decrementAndGet();
+        if (channelConnections.isEmpty()) {
+            connections.remove(channel);
+            redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(channel));
+        }
+    }
+
+    private void sendHeartbeats() {
+        connections.values().forEach(channelConnections -> channelConnections.forEach(
+            connection -> connection.send(() -> SseEmitter.event().comment("heartbeat"))));
+    }
+
+    private SseEmitter.SseEventBuilder toEvent(NotificationStreamResponse response) {
+        return SseEmitter.event()
+            .name(response.type().name())
+            .data(response);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeatExecutor.shutdown();
+        connections.values().forEach(channelConnections ->
+            channelConnections.forEach(NotificationStreamConnection::close));
+    }
+}
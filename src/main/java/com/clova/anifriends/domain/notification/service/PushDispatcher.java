@@ -0,0 +1,158 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.response.FindPushTargetResult;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import com.clova.anifriends.global.infrastructure.push.PushMessage;
+import com.clova.anifriends.global.infrastructure.push.PushProvider;
+import com.clova.anifriends.global.infrastructure.push.PushRateLimiter;
+import com.clova.anifriends.global.infrastructure.push.PushSendResult;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicLong;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 푸시 아웃박스를 배치 단위로 비워 발송 서비스로 보냅니다. 선점한 배치를 발송 서비스의 최대 요청 크기로 나누어 워커 풀에서 동시에 발송하며,
+ * 발송 서비스의 초당 발송 수 제한을 지킵니다.
+ */
+@Slf4j
+@Component
+public class PushDispatcher {
+
+    private static final Duration QUEUE_METRICS_INTERVAL = Duration.ofSeconds(30);
+    private static final Duration MAX_DISPATCH_DURATION = Duration.ofMinutes(5);
+
+    private final int batchSize;
+    private final PushOutboxService pushOutboxService;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final PushProvider pushProvider;
+    private final PushRateLimiter pushRateLimiter;
+    private final Executor pushDispatchExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Timer sendTimer;
+    private final AtomicLong pendingCount = new AtomicLong();
+    private final AtomicLong lagSeconds = new AtomicLong();
+    private LocalDateTime queueMetricsUpdatedAt = LocalDateTime.MIN;
+
+    public PushDispatcher(
+        @Value("${push.dispatch.batch-size:1000}") int batchSize,
+        PushOutboxService pushOutboxService,
+        PushOutboxRepository pushOutboxRepository,
+        PushProvider pushProvider,
+        @Qualifier("pushDispatchExecutor") Executor pushDispatchExecutor,
+        MeterRegistry meterRegistry
+    ) {
+        this.batchSize = batchSize;
+        this.pushOutboxService = pushOutboxService;
+        this.pushOutboxRepository = pushOutboxRepository;
+        this.pushProvider = pushProvider;
+        this.pushRateLimiter = new PushRateLimiter(pushProvider.getPermitsPerSecond());
+        this.pushDispatchExecutor = pushDispatchExecutor;
+        this.meterRegistry = meterRegistry;
+        this.sendTimer = Timer.builder("push.provider.send")
+            .tag("provider", pushProvider.getName())
+            .register(meterRegistry);
+        Gauge.builder("push.outbox.pending", pendingCount, AtomicLong::get)
+            .register(meterRegistry);
+        Gauge.builder("push.outbox.lag.seconds", lagSeconds, AtomicLong::get)
+            .register(meterRegistry);
+    }
+
+    /**
+     * 발송 시각이 된 푸시가 남지 않을 때까지 배치 단위로 발송합니다. 발송 작업의 임대 기간 안에 끝나도록, 최대 발송 시간이 지나면 남은 푸시는 다음
+     * 실행에서 발송합니다.
+     */
+    public void dispatch() {
+        long startedAt = System.nanoTime();
+        List<FindPushTargetResult> targets;
+        do {
+            targets = pushOutboxService.claimPushTargets(batchSize);
+            sendAll(targets);
+        } while (targets.size() == batchSize
+            && System.nanoTime() - startedAt < MAX_DISPATCH_DURATION.toNanos());
+        updateQueueMetrics();
+    }
+
+    private void sendAll(List<FindPushTargetResult> targets) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+        for (int from = 0; from < targets.size(); from += pushProvider.getMaxBatchSize()) {
+            int to = Math.min(from + pushProvider.getMaxBatchSize(), targets.size());
+            List<FindPushTargetResult> batch = targets.subList(from, to);
+            futures.add(CompletableFuture.runAsync(() -> send(batch), pushDispatchExecutor));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).join();
+    }
+
+    private void send(List<FindPushTargetResult> batch) {
+        List<FindPushTargetResult> sendable = batch.stream()
+            .filter(target -> Objects.nonNull(target.getDeviceToken()))
+            .toList();
+        List<PushSendResult> sendResults = sendToProvider(sendable);
+
+        List<PushSendResult> results = new ArrayList<>(batch.size());
+        int sendableIndex = 0;
+        for (FindPushTargetResult target : batch) {
+            results.add(Objects.isNull(target.getDeviceToken()) ? PushSendResult.INVALID_TOKEN
+                : sendResults.get(sendableIndex++));
+        }
+        pushOutboxService.completePushes(batch, results);
+        results.forEach(this::countResult);
+    }
+
+    private List<PushSendResult> sendToProvider(List<FindPushTargetResult> targets) {
+        if (targets.isEmpty()) {
+            return List.of();
+        }
+        List<PushMessage> messages = targets.stream()
+            .map(target -> new PushMessage(target.getDeviceToken(), target.getTitle(),
+                target.getContent()))
+            .toList();
+        try {
+            pushRateLimiter.acquire(messages.size());
+            return sendTimer.recordCallable(() -> pushProvider.send(messages));
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        } catch (Exception exception) {
+            log.warn("[Push] {} 발송 실패: {}", pushProvider.getName(), exception.getMessage());
+        }
+        return Collections.nCopies(messages.size(), PushSendResult.RETRYABLE_FAILURE);
+    }
+
+    private void countResult(PushSendResult result) {
+        Counter.builder("push.dispatch")
+            .tag("provider", pushProvider.getName())
+            .tag("result", result.name())
+            .register(meterRegistry)
+            .increment();
+    }
+
+    /**
+     * 대기 중인 푸시 수와 지연 시간을 갱신합니다. 발송은 매초 실행되므로, 아웃박스 전체를 세는 조회는 QUEUE_METRICS_INTERVAL마다 한 번만
+     * 실행합니다. 발송은 리스 락으로 한 스레드에서만 실행됩니다.
+     */
+    private void updateQueueMetrics() {
+        LocalDateTime now = LocalDateTime.now();
+        if (now.isBefore(queueMetricsUpdatedAt.plus(QUEUE_METRICS_INTERVAL))) {
+            return;
+        }
+        queueMetricsUpdatedAt = now;
+        pendingCount.set(pushOutboxRepository.countByStatus(PushOutboxStatus.PENDING));
+        lagSeconds.set(pushOutboxRepository.findOldestPendingCreatedAt()
+            .map(createdAt -> Duration.between(createdAt, now).toSeconds())
+            .orElse(0L));
+    }
+}
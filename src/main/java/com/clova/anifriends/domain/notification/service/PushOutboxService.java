@@ -0,0 +1,164 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.response.FindPushTargetResult;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.global.infrastructure.push.PushSendResult;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Service
+@RequiredArgsConstructor
+public class PushOutboxService {
+
+    static final int MAX_ATTEMPTS = 5;
+    static final int PURGE_CHUNK_SIZE = 1000;
+    private static final Duration CLAIM_LEASE = Duration.ofMinutes(5);
+    private static final Duration FINISHED_RETENTION = Duration.ofDays(7);
+    private static final List<PushOutboxStatus> FINISHED_STATUSES = List.of(
+        PushOutboxStatus.SKIPPED, PushOutboxStatus.FAILED);
+    private static final Duration BASE_BACKOFF = Duration.ofSeconds(10);
+    private static final Duration MAX_BACKOFF = Duration.ofMinutes(30);
+
+    private final PushOutboxRepository pushOutboxRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final ShelterRepository shelterRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    /**
+     * 발송 시각이 된 푸시를 최대 batchSize개 선점하고, 수신자의 현재 기기 토큰과 함께 반환합니다.
+     */
+    @Transactional
+    public List<FindPushTargetResult> claimPushTargets(int batchSize) {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> pushOutboxIds = pushOutboxRepository.findDispatchableIds(now,
+            PageRequest.of(0, batchSize));
+        if (pushOutboxIds.isEmpty()) {
+            return List.of();
+        }
+        String claimToken = UUID.randomUUID().toString();
+        pushOutboxRepository.claim(pushOutboxIds, claimToken, now, now.plus(CLAIM_LEASE));
+        return pushOutboxRepository.findPushTargets(claimToken);
+    }
+
+    /**
+     * 발송 결과를 기록합니다. 성공한 푸시는 삭제하고, 무효한 토큰은 수신자에게서 지운 뒤 푸시도 삭제합니다. 일시적으로 실패한 푸시는 지수적으로
+     * 늘어나는 간격 뒤에 재시도하며, MAX_ATTEMPTS번 실패하면 실패 처리합니다.
+     *
+     * @param targets 발송한 푸시
+     * @param results targets와 같은 순서의 발송 결과
+     */
+    @Transactional
+    public void completePushes(List<FindPushTargetResult> targets, List<PushSendResult> results) {
+        Map<PushSendResult, List<FindPushTargetResult>> targetsByResult = IntStream
+            .range(0, targets.size())
+            .boxed()
+            .collect(Collectors.groupingBy(results::get,
+                Collectors.mapping(targets::get, Collectors.toList())));
+
+        List<FindPushTargetResult> sent = targetsByResult.getOrDefault(PushSendResult.SUCCESS,
+            List.of());
+        if (!sent.isEmpty()) {
+            pushOutboxRepository.deleteAllByIdInBatch(getPushOutboxIds(sent));
+        }
+        skipInvalidTokens(targetsByResult.getOrDefault(PushSendResult.INVALID_TOKEN, List.of()));
+        retryOrFail(targetsByResult.getOrDefault(PushSendResult.RETRYABLE_FAILURE, List.of()));
+    }
+
+    private void skipInvalidTokens(List<FindPushTargetResult> targets) {
+        if (targets.isEmpty()) {
+            return;
+        }
+        List<String> volunteerTokens = getDeviceTokens(targets, PushReceiverType.VOLUNTEER);
+        if (!volunteerTokens.isEmpty()) {
+            volunteerRepository.clearDeviceTokens(volunteerTokens);
+        }
+        List<String> shelterTokens = getDeviceTokens(targets, PushReceiverType.SHELTER);
+        if (!shelterTokens.isEmpty()) {
+            shelterRepository.clearDeviceTokens(shelterTokens);
+        }
+        pushOutboxRepository.deleteAllByIdInBatch(getPushOutboxIds(targets));
+    }
+
+    /**
+     * 보관 기간이 지난 실패, 건너뜀 처리된 푸시를 청크 단위로 지웁니다. 청크마다 별도의 트랜잭션에서 지우므로 트랜잭션 크기와 락 범위가 청크 크기로
+     * 제한됩니다.
+     *
+     * @return 지운 푸시 수
+     */
+    public int purgeFinishedPushes() {
+        LocalDateTime expiredAt = LocalDateTime.now().minus(FINISHED_RETENTION);
+        Pageable chunk = PageRequest.of(0, PURGE_CHUNK_SIZE);
+        int purgedCount = 0;
+        Integer purged;
+        do {
+            purged = transactionTemplate.execute(status -> {
+                List<Long> pushOutboxIds = pushOutboxRepository.findIdsByStatusCreatedBefore(
+                    FINISHED_STATUSES, expiredAt, chunk);
+                if (pushOutboxIds.isEmpty()) {
+                    return 0;
+                }
+                pushOutboxRepository.deleteAllByIdInBatch(pushOutboxIds);
+                return pushOutboxIds.size();
+            });
+            purgedCount += purged;
+        } while (purged == PURGE_CHUNK_SIZE);
+        return purgedCount;
+    }
+
+    private void retryOrFail(List<FindPushTargetResult> targets) {
+        List<Long> failedIds = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        targets.stream()
+            .collect(Collectors.groupingBy(FindPushTargetResult::getAttemptCount))
+            .forEach((attemptCount, attemptTargets) -> {
+                int nextAttemptCount = attemptCount + 1;
+                if (nextAttemptCount >= MAX_ATTEMPTS) {
+                    failedIds.addAll(getPushOutboxIds(attemptTargets));
+                    return;
+                }
+                pushOutboxRepository.reschedule(getPushOutboxIds(attemptTargets),
+                    now.plus(getBackoff(nextAttemptCount)));
+            });
+        if (!failedIds.isEmpty()) {
+            pushOutboxRepository.updateBulkStatus(failedIds, PushOutboxStatus.FAILED);
+        }
+    }
+
+    private Duration getBackoff(int attemptCount) {
+        Duration backoff = BASE_BACKOFF.multipliedBy(1L << (attemptCount - 1));
+        return backoff.compareTo(MAX_BACKOFF) > 0 ? MAX_BACKOFF : backoff;
+    }
+
+    private List<String> getDeviceTokens(List<FindPushTargetResult> targets,
+        PushReceiverType receiverType) {
+        return targets.stream()
+            .filter(target -> target.getReceiverType() == receiverType)
+            .map(FindPushTargetResult::getDeviceToken)
+            .filter(Objects::nonNull)
+            .distinct()
+            .toList();
+    }
+
+    private List<Long> getPushOutboxIds(List<FindPushTargetResult> targets) {
+        return targets.stream()
+            .map(FindPushTargetResult::getPushOutboxId)
+            .toList();
+    }
+}
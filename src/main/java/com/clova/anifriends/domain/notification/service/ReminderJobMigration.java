@@ -0,0 +1,44 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.global.migration.DataMigration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 리마인더 작업이 도입되기 전에 등록된 봉사 모집글에 아직 실행 시각이 지나지 않은 리마인더 작업을 한 번 추가합니다. 모집이 마감된 봉사 모집글도 봉사는
+ * 진행되므로 함께 추가합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReminderJobMigration implements DataMigration {
+
+    private final ReminderJobRepository reminderJobRepository;
+
+    @Override
+    public String name() {
+        return "reminder-job-backfill";
+    }
+
+    @Override
+    public int order() {
+        return 3;
+    }
+
+    @Override
+    @Transactional
+    public void migrate() {
+        LocalDateTime now = LocalDateTime.now();
+        reminderJobRepository.insertMissingStartTimeJobs(
+            NotificationType.THREE_DAY_BEFORE_VOLUNTEER, -3, now);
+        reminderJobRepository.insertMissingStartTimeJobs(
+            NotificationType.A_DAY_BEFORE_VOLUNTEER, -1, now);
+        reminderJobRepository.insertMissingStartTimeJobs(
+            NotificationType.ENCOURAGE_CHECK_ATTENDANCE, 0, now);
+        reminderJobRepository.insertMissingEndTimeJobs(
+            NotificationType.ENCOURAGE_WRITE_REVIEW, now);
+    }
+}
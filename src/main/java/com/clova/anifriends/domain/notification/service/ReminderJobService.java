@@ -0,0 +1,91 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.ReminderJob;
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 실행 시각이 지난 리마인더 작업을 하나씩 가져와 알림을 저장합니다. 작업을 SKIP LOCKED로 가져오므로 여러 노드가 동시에 실행해도 같은 작업을 두 번
+ * 처리하지 않으며, 배포 중에 지난 작업도 다음 실행에서 처리됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ReminderJobService {
+
+    private static final Pageable CLAIM_ONE = PageRequest.of(0, 1);
+    private static final int MAX_ATTEMPTS = 3;
+    private static final Duration RETRY_DELAY = Duration.ofMinutes(5);
+
+    private final ReminderJobRepository reminderJobRepository;
+    private final VolunteerNotificationService volunteerNotificationService;
+    private final ShelterNotificationService shelterNotificationService;
+    private final TransactionTemplate transactionTemplate;
+
+    public void runDueReminderJobs() {
+        LocalDateTime now = LocalDateTime.now();
+        boolean claimed;
+        do {
+            claimed = runNextDueJob(now);
+        } while (claimed);
+    }
+
+    /**
+     * 작업 하나를 가져와 실행하고 삭제합니다. 알림은 청크마다 별도 트랜잭션으로 커밋되므로 작업 트랜잭션은 작업 행의 잠금과 삭제만 담습니다.
+     * 실패한 작업은 RETRY_DELAY 뒤로 미루며, MAX_ATTEMPTS번 실패하면 버립니다. 다시 실행하면 이미 알림을 받은 봉사자는 건너뜁니다. 미룬
+     * 작업은 실행 시각이 now 이후가 되므로 이번 실행에서 다시 가져오지 않습니다.
+     */
+    private boolean runNextDueJob(LocalDateTime now) {
+        List<ReminderJob> claimedJobs = new ArrayList<>();
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                claimedJobs.addAll(reminderJobRepository.findDueJobsForUpdate(now, CLAIM_ONE));
+                claimedJobs.forEach(this::run);
+                reminderJobRepository.deleteAllInBatch(claimedJobs);
+            });
+        } catch (RuntimeException exception) {
+            if (claimedJobs.isEmpty()) {
+                throw exception;
+            }
+            claimedJobs.forEach(job -> retryLater(job, exception));
+        }
+        return !claimedJobs.isEmpty();
+    }
+
+    private void run(ReminderJob job) {
+        switch (job.getType()) {
+            case THREE_DAY_BEFORE_VOLUNTEER, A_DAY_BEFORE_VOLUNTEER -> volunteerNotificationService
+                .notifyBeforeVolunteer(job.getRecruitmentId(), job.getType());
+            case ENCOURAGE_WRITE_REVIEW -> volunteerNotificationService
+                .notifyEncourageWriteReview(job.getRecruitmentId());
+            case ENCOURAGE_CHECK_ATTENDANCE -> shelterNotificationService
+                .notifyEncourageCheckAttendance(job.getRecruitmentId());
+            default -> log.warn("[Notification] 지원하지 않는 리마인더 작업. reminderJobId: {}, type: {}",
+                job.getReminderJobId(), job.getType());
+        }
+    }
+
+    private void retryLater(ReminderJob job, RuntimeException exception) {
+        transactionTemplate.executeWithoutResult(status -> {
+            if (job.getAttempts() + 1 >= MAX_ATTEMPTS) {
+                reminderJobRepository.deleteById(job.getReminderJobId());
+                log.error("[Notification] 리마인더 작업 실패, 재시도 중단. reminderJobId: {}",
+                    job.getReminderJobId(), exception);
+                return;
+            }
+            reminderJobRepository.postpone(job.getReminderJobId(),
+                LocalDateTime.now().plus(RETRY_DELAY));
+            log.warn("[Notification] 리마인더 작업 실패, 재시도 예약. reminderJobId: {}",
+                job.getReminderJobId(), exception);
+        });
+    }
+}
@@ -0,0 +1,177 @@
+package com.clova.anifriends.domain.notification.service;
+
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.ShelterNotificationCoalescingLock;
+import com.clova.anifriends.domain.notification.event.NotificationInboxEvictionEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationCoalescingLockRepository;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.Collectors;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 같은 보호소, 같은 봉사 모집글에 대해 발생한 같은 유형의 알림을 유형별 묶음 기간 동안 하나의 알림으로 합칩니다. 묶음 기간이 설정되지 않은 유형과
+ * 봉사 모집글이 없는 알림은 합치지 않습니다. 여러 서버가 같은 묶음의 알림을 동시에 합치며 각자 새 알림을 만들지 않도록, 호출한 트랜잭션이 끝날
+ * 때까지 묶음마다 하나씩 있는 합치기 잠금 행을 잠급니다. 봉사 신청이 갱신하는 봉사 모집글 행은 잠그지 않습니다.
+ */
+@Component
+public class ShelterNotificationCoalescer {
+
+    private static final Pageable LATEST = PageRequest.of(0, 1);
+    private static final Comparator<CoalescingKey> LOCK_ORDER = Comparator
+        .comparing(CoalescingKey::shelterId)
+        .thenComparing(CoalescingKey::recruitmentId)
+        .thenComparing(CoalescingKey::type);
+
+    private final Map<NotificationType, Duration> windows = new EnumMap<>(NotificationType.class);
+    private final ShelterNotificationRepository shelterNotificationRepository;
+    private final ShelterNotificationCoalescingLockRepository coalescingLockRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final TransactionTemplate lockCreationTemplate;
+
+    public ShelterNotificationCoalescer(
+        @Value("${notification.coalescing.window.new-applicant:PT10M}")
+        Duration newApplicantWindow,
+        @Value("${notification.coalescing.window.new-shelter-review:PT1H}")
+        Duration newShelterReviewWindow,
+        @Value("${notification.coalescing.window.encourage-check-attendance:PT1H}")
+        Duration encourageCheckAttendanceWindow,
+        ShelterNotificationRepository shelterNotificationRepository,
+        ShelterNotificationCoalescingLockRepository coalescingLockRepository,
+        ApplicationEventPublisher applicationEventPublisher,
+        PlatformTransactionManager transactionManager
+    ) {
+        windows.put(NotificationType.NEW_APPLICANT, newApplicantWindow);
+        windows.put(NotificationType.NEW_SHELTER_REVIEW, newShelterReviewWindow);
+        windows.put(NotificationType.ENCOURAGE_CHECK_ATTENDANCE, encourageCheckAttendanceWindow);
+        this.shelterNotificationRepository = shelterNotificationRepository;
+        this.coalescingLockRepository = coalescingLockRepository;
+        this.applicationEventPublisher = applicationEventPublisher;
+        this.lockCreationTemplate = new TransactionTemplate(transactionManager);
+        this.lockCreationTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 새 알림을 묶음 기간 안의 읽지 않은 알림에 합치고, 합칠 알림이 없어 새로 저장해야 하는 알림을 반환합니다. 함께 들어온 같은 묶음의 알림은
+     * 가장 최근 알림의 내용을 가진 하나의 알림으로 합쳐 반환합니다. 반환한 알림을 같은 트랜잭션에서 저장해야 잠금이 풀리기 전에 다른 서버가 그
+     * 알림에 합칠 수 있습니다.
+     *
+     * @param notifications 저장되지 않은 새 알림
+     * @return 새로 저장해야 하는 알림
+     */
+    public List<ShelterNotification> coalesce(List<ShelterNotification> notifications) {
+        LocalDateTime now = LocalDateTime.now();
+        Map<CoalescingKey, List<ShelterNotification>> notificationsByKey = notifications.stream()
+            .collect(Collectors.groupingBy(CoalescingKey::from, LinkedHashMap::new,
+                Collectors.toList()));
+        lockCoalescingKeys(notificationsByKey.keySet());
+        List<ShelterNotification> newNotifications = new ArrayList<>();
+        notificationsByKey.forEach((key, keyNotifications) -> {
+            if (!isCoalescable(key)) {
+                newNotifications.addAll(keyNotifications);
+                return;
+            }
+            Duration window = windows.get(key.type());
+            ShelterNotification latest = keyNotifications.get(keyNotifications.size() - 1);
+            int count = keyNotifications.stream()
+                .mapToInt(ShelterNotification::getCount)
+                .sum();
+            if (!coalesceIntoLatest(key, now.minus(window), count, latest.getTitle(),
+                latest.getContent())) {
+                newNotifications.add(new ShelterNotification(latest.getShelter(),
+                    key.recruitmentId(), latest.getTitle(), latest.getContent(), key.type(),
+                    count));
+            }
+        });
+        return newNotifications;
+    }
+
+    private boolean isCoalescable(CoalescingKey key) {
+        Duration window = windows.get(key.type());
+        return Objects.nonNull(key.recruitmentId()) && Objects.nonNull(window)
+            && !window.isZero();
+    }
+
+    /**
+     * 합칠 묶음의 잠금 행을 (보호소, 봉사 모집글, 유형) 순서로 잠급니다. 같은 순서로 잠그므로 여러 묶음을 함께 합치는 트랜잭션끼리 교착 상태에
+     * 빠지지 않습니다. 잠금 행이 없으면 먼저 별도 트랜잭션에서 만들어, 없는 행을 잠그며 생기는 갭 잠금에 다른 트랜잭션의 생성이 막히지 않게 합니다.
+     */
+    private void lockCoalescingKeys(Collection<CoalescingKey> keys) {
+        List<CoalescingKey> lockKeys = keys.stream()
+            .filter(this::isCoalescable)
+            .sorted(LOCK_ORDER)
+            .toList();
+        lockKeys.forEach(this::createLockIfAbsent);
+        lockKeys.forEach(key -> coalescingLockRepository.findForUpdate(key.shelterId(),
+            key.recruitmentId(), key.type()));
+    }
+
+    private void createLockIfAbsent(CoalescingKey key) {
+        if (coalescingLockRepository.existsByShelterIdAndRecruitmentIdAndType(key.shelterId(),
+            key.recruitmentId(), key.type())) {
+            return;
+        }
+        try {
+            lockCreationTemplate.executeWithoutResult(status -> coalescingLockRepository.save(
+                new ShelterNotificationCoalescingLock(key.shelterId(), key.recruitmentId(),
+                    key.type())));
+        } catch (DataIntegrityViolationException exception) {
+            // 다른 트랜잭션이 먼저 만든 경우
+        }
+    }
+
+    /**
+     * 묶음 기간 안의 읽지 않은 알림에 새 알림을 합칩니다. 합친 알림은 푸시하지 않지만, 알림 스트림에는 새 알림으로 보냅니다.
+     */
+    private boolean coalesceIntoLatest(CoalescingKey key, LocalDateTime windowStartedAt,
+        int count, String title, String content) {
+        List<ShelterNotification> coalescableNotifications = shelterNotificationRepository
+            .findCoalescableForUpdate(key.shelterId(), key.recruitmentId(), key.type(),
+                windowStartedAt, LATEST);
+        if (coalescableNotifications.isEmpty()) {
+            return false;
+        }
+        Long notificationId = coalescableNotifications.get(0).getShelterNotificationId();
+        if (shelterNotificationRepository.coalesce(notificationId, count, content) == 0) {
+            return false;
+        }
+        applicationEventPublisher.publishEvent(
+            NotificationInboxEvictionEvent.of(PushReceiverType.SHELTER, key.shelterId()));
+        applicationEventPublisher.publishEvent(NotificationStreamEvent.of(
+            PushReceiverType.SHELTER, List.of(key.shelterId()), title, content));
+        return true;
+    }
+
+    private record CoalescingKey(
+        Long shelterId,
+        Long recruitmentId,
+        NotificationType type
+    ) {
+
+        private static CoalescingKey from(ShelterNotification notification) {
+            return new CoalescingKey(notification.getShelter().getShelterId(),
+                notification.getRecruitmentId(), notification.getType());
+        }
+    }
+}
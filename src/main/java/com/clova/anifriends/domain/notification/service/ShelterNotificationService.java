@@ -1,23 +1,51 @@
 package com.clova.anifriends.domain.notification.service;
 
+import com.clova.anifriends.domain.notification.PushOutbox;
 import com.clova.anifriends.domain.notification.ShelterNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2.FindShelterNotificationResponse;
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.event.NotificationReadEvent;
+import com.clova.anifriends.domain.notification.event.ShelterNotificationsSavedEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationInboxRepository;
+import com.clova.anifriends.domain.notification.repository.NotificationUnreadCountRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
 import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
 import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
 @RequiredArgsConstructor
 public class ShelterNotificationService {
 
+    private static final LocalDateTime MAX_CURSOR_CREATED_AT
+        = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final Pageable LATEST_NOTIFICATIONS
+        = PageRequest.of(0, NotificationInboxRepository.MAX_PAGE_SIZE + 1);
     private final ShelterNotificationRepository shelterNotificationRepository;
+    private final ShelterNotificationCoalescer shelterNotificationCoalescer;
+    private final PushOutboxRepository pushOutboxRepository;
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final NotificationInboxRepository notificationInboxRepository;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
     private final RecruitmentRepository recruitmentRepository;
 
     @Transactional(readOnly = true)
@@ -27,42 +55,127 @@ public class ShelterNotificationService {
         return FindShelterNotificationsResponse.from(shelterNotifications);
     }
 
+    /**
+     * 알림 목록을 (생성 시각, 알림 id) 커서 기준 최신순으로 조회합니다. 커서가 없는 첫 페이지는 캐싱된 최근 알림으로 응답합니다.
+     */
     @Transactional(readOnly = true)
+    public FindShelterNotificationsResponseV2 findShelterNotificationsV2(
+        Long shelterId,
+        LocalDateTime notificationCreatedAt,
+        Long notificationId,
+        Pageable pageable
+    ) {
+        int pageSize = pageable.getPageSize();
+        if (Objects.isNull(notificationCreatedAt) && Objects.isNull(notificationId)
+            && pageSize <= NotificationInboxRepository.MAX_PAGE_SIZE) {
+            List<FindShelterNotificationResponse> latestNotifications = getLatestNotifications(
+                shelterId, pageSize + 1);
+            return FindShelterNotificationsResponseV2.of(latestNotifications, pageSize);
+        }
+        LocalDateTime cursorCreatedAt = Objects.isNull(notificationCreatedAt)
+            ? MAX_CURSOR_CREATED_AT : notificationCreatedAt;
+        Long cursorNotificationId = Objects.isNull(notificationId)
+            ? Long.MAX_VALUE : notificationId;
+        Slice<ShelterNotification> shelterNotifications = shelterNotificationRepository
+            .findShelterNotificationsV2(shelterId, cursorCreatedAt, cursorNotificationId,
+                pageable);
+        return FindShelterNotificationsResponseV2.from(shelterNotifications);
+    }
+
+    /**
+     * 캐싱된 최근 알림을 조회합니다. 캐싱되지 않은 경우 db에서 캐싱할 수 있는 만큼 조회하여 캐싱합니다.
+     */
+    private List<FindShelterNotificationResponse> getLatestNotifications(Long shelterId,
+        int count) {
+        return notificationInboxRepository.findLatestNotifications(PushReceiverType.SHELTER,
+            shelterId, count, FindShelterNotificationResponse.class).orElseGet(() -> {
+                long version = notificationInboxRepository.getVersion(PushReceiverType.SHELTER,
+                    shelterId);
+                List<FindShelterNotificationResponse> latestNotifications
+                    = shelterNotificationRepository.findShelterNotificationsV2(shelterId,
+                        MAX_CURSOR_CREATED_AT, Long.MAX_VALUE, LATEST_NOTIFICATIONS)
+                    .map(FindShelterNotificationResponse::from)
+                    .getContent();
+                notificationInboxRepository.saveLatestNotifications(PushReceiverType.SHELTER,
+                    shelterId, version, latestNotifications);
+                return latestNotifications.subList(0,
+                    Math.min(count, latestNotifications.size()));
+            });
+    }
+
     public FindShelterHasNewNotificationResponse findShelterHasNewNotification(Long shelterId) {
-        return FindShelterHasNewNotificationResponse.from(
-            shelterNotificationRepository.hasNewNotification(shelterId));
+        return FindShelterHasNewNotificationResponse.from(getUnreadCount(shelterId));
+    }
+
+    /**
+     * 알림 스트림을 연결합니다. 연결 직후 미확인 알림 여부를 보내고, 이후 새 알림과 미확인 상태 변경을 보냅니다.
+     */
+    public SseEmitter subscribeNotifications(Long shelterId) {
+        return notificationStreamRegistry.register(PushReceiverType.SHELTER, shelterId,
+            NotificationStreamResponse.unreadState(getUnreadCount(shelterId) > 0));
+    }
+
+    /**
+     * 캐싱된 미확인 알림 수를 조회합니다. 캐싱되지 않은 경우 db에서 세어 캐싱합니다. 캐시 버전을 db 조회 전에 읽어, 세는 중에 커밋된 새 알림이나
+     * 읽음 처리가 빠진 값을 저장하지 않습니다. 캐시에서 조회되면 db 커넥션을 사용하지 않습니다.
+     */
+    private long getUnreadCount(Long shelterId) {
+        long version = notificationUnreadCountRepository.getVersion(PushReceiverType.SHELTER,
+            shelterId);
+        return notificationUnreadCountRepository.findUnreadCount(PushReceiverType.SHELTER,
+            shelterId).orElseGet(() -> {
+                long unreadCount = shelterNotificationRepository.countUnreadNotifications(
+                    shelterId);
+                notificationUnreadCountRepository.saveUnreadCount(PushReceiverType.SHELTER,
+                    shelterId, version, unreadCount);
+                return unreadCount;
+            });
     }
 
     @Transactional
     public void updateNotificationRead(Long shelterId) {
         shelterNotificationRepository.updateBulkRead(shelterId);
+        applicationEventPublisher.publishEvent(
+            new NotificationReadEvent(PushReceiverType.SHELTER, shelterId));
     }
 
+    /**
+     * 봉사가 시작되면 출석 확인 알림을 저장합니다. 알림에는 출석을 확인할 신청자 수를 담습니다.
+     */
     @Transactional
-    public void notifyEncourageCheckAttendance() {
-        LocalDateTime time1 = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime time2 = LocalDateTime.now().withMinute(59).withSecond(59)
-            .withNano(999_999_999);
-
-        List<ShelterNotification> shelterNotifications = recruitmentRepository
-            .findRecruitmentsByStartTime(time1, time2)
-            .stream()
-            .flatMap(recruitment ->
-                recruitment.getApplicants().stream()
-                    .map(
-                        applicant -> makeNewEncourageAttendanceNotification(recruitment))
-            )
-            .toList();
+    public void notifyEncourageCheckAttendance(Long recruitmentId) {
+        List<ShelterNotification> shelterNotifications = shelterNotificationCoalescer.coalesce(
+            recruitmentRepository.findByIdWithApplicants(recruitmentId)
+                .stream()
+                .filter(recruitment -> !recruitment.getApplicants().isEmpty())
+                .map(this::makeNewEncourageAttendanceNotification)
+                .toList());
+        if (shelterNotifications.isEmpty()) {
+            return;
+        }
 
         shelterNotificationRepository.saveAll(shelterNotifications);
+        pushOutboxRepository.saveAll(shelterNotifications.stream()
+            .map(PushOutbox::from)
+            .toList());
+        applicationEventPublisher.publishEvent(
+            new NotificationCreatedEvent(PushReceiverType.SHELTER, shelterNotifications.stream()
+                .map(notification -> notification.getShelter().getShelterId())
+                .toList()));
+        applicationEventPublisher.publishEvent(
+            new ShelterNotificationsSavedEvent(shelterNotifications));
+        applicationEventPublisher.publishEvent(
+            NotificationStreamEvent.fromShelterNotifications(shelterNotifications));
     }
 
     private ShelterNotification makeNewEncourageAttendanceNotification(Recruitment recruitment) {
         return new ShelterNotification(
             recruitment.getShelter(),
+            recruitment.getRecruitmentId(),
             recruitment.getTitle(),
             NotificationType.ENCOURAGE_CHECK_ATTENDANCE.getMessage(),
-            NotificationType.ENCOURAGE_CHECK_ATTENDANCE.getName()
+            NotificationType.ENCOURAGE_CHECK_ATTENDANCE,
+            recruitment.getApplicants().size()
         );
     }
 }
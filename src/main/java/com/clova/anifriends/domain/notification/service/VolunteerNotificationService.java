@@ -1,27 +1,82 @@
 package com.clova.anifriends.domain.notification.service;
 
-import com.clova.anifriends.domain.applicant.Applicant;
+import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
+import com.clova.anifriends.domain.applicant.repository.response.FindReminderTargetResult;
 import com.clova.anifriends.domain.notification.VolunteerNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2.FindVolunteerNotificationResponse;
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationInboxEvictionEvent;
+import com.clova.anifriends.domain.notification.event.NotificationReadEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationInboxRepository;
+import com.clova.anifriends.domain.notification.repository.NotificationUnreadCountRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationJdbcRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationJdbcRepository.NewVolunteerNotification;
 import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.service.dto.NotificationStreamMessage;
 import com.clova.anifriends.domain.notification.vo.NotificationType;
-import com.clova.anifriends.domain.recruitment.Recruitment;
-import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
+import java.util.HashSet;
 import java.util.List;
-import java.util.stream.Collectors;
-import lombok.RequiredArgsConstructor;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @Service
-@RequiredArgsConstructor
 public class VolunteerNotificationService {
 
+    private static final LocalDateTime MAX_CURSOR_CREATED_AT
+        = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final Pageable LATEST_NOTIFICATIONS
+        = PageRequest.of(0, NotificationInboxRepository.MAX_PAGE_SIZE + 1);
+    private static final int REMINDER_CHUNK_SIZE = 1000;
+
     private final VolunteerNotificationRepository volunteerNotificationRepository;
-    private final RecruitmentRepository recruitmentRepository;
+    private final VolunteerNotificationJdbcRepository volunteerNotificationJdbcRepository;
+    private final NotificationUnreadCountRepository notificationUnreadCountRepository;
+    private final NotificationInboxRepository notificationInboxRepository;
+    private final ApplicantRepository applicantRepository;
+    private final TransactionTemplate chunkTransactionTemplate;
+    private final NotificationStreamRegistry notificationStreamRegistry;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    public VolunteerNotificationService(
+        VolunteerNotificationRepository volunteerNotificationRepository,
+        VolunteerNotificationJdbcRepository volunteerNotificationJdbcRepository,
+        NotificationUnreadCountRepository notificationUnreadCountRepository,
+        NotificationInboxRepository notificationInboxRepository,
+        ApplicantRepository applicantRepository,
+        PlatformTransactionManager transactionManager,
+        NotificationStreamRegistry notificationStreamRegistry,
+        ApplicationEventPublisher applicationEventPublisher
+    ) {
+        this.volunteerNotificationRepository = volunteerNotificationRepository;
+        this.volunteerNotificationJdbcRepository = volunteerNotificationJdbcRepository;
+        this.notificationUnreadCountRepository = notificationUnreadCountRepository;
+        this.notificationInboxRepository = notificationInboxRepository;
+        this.applicantRepository = applicantRepository;
+        this.chunkTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.chunkTransactionTemplate.setPropagationBehavior(
+            TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.notificationStreamRegistry = notificationStreamRegistry;
+        this.applicationEventPublisher = applicationEventPublisher;
+    }
 
     @Transactional(readOnly = true)
     public FindVolunteerNotificationsResponse findVolunteerNotifications(Long volunteerId) {
@@ -30,97 +85,161 @@ public class VolunteerNotificationService {
         return FindVolunteerNotificationsResponse.from(volunteerNotifications);
     }
 
+    /**
+     * 알림 목록을 (생성 시각, 알림 id) 커서 기준 최신순으로 조회합니다. 커서가 없는 첫 페이지는 캐싱된 최근 알림으로 응답합니다.
+     */
     @Transactional(readOnly = true)
+    public FindVolunteerNotificationsResponseV2 findVolunteerNotificationsV2(
+        Long volunteerId,
+        LocalDateTime notificationCreatedAt,
+        Long notificationId,
+        Pageable pageable
+    ) {
+        int pageSize = pageable.getPageSize();
+        if (Objects.isNull(notificationCreatedAt) && Objects.isNull(notificationId)
+            && pageSize <= NotificationInboxRepository.MAX_PAGE_SIZE) {
+            List<FindVolunteerNotificationResponse> latestNotifications = getLatestNotifications(
+                volunteerId, pageSize + 1);
+            return FindVolunteerNotificationsResponseV2.of(latestNotifications, pageSize);
+        }
+        LocalDateTime cursorCreatedAt = Objects.isNull(notificationCreatedAt)
+            ? MAX_CURSOR_CREATED_AT : notificationCreatedAt;
+        Long cursorNotificationId = Objects.isNull(notificationId)
+            ? Long.MAX_VALUE : notificationId;
+        Slice<VolunteerNotification> volunteerNotifications = volunteerNotificationRepository
+            .findVolunteerNotificationsV2(volunteerId, cursorCreatedAt, cursorNotificationId,
+                pageable);
+        return FindVolunteerNotificationsResponseV2.from(volunteerNotifications);
+    }
+
+    /**
+     * 캐싱된 최근 알림을 조회합니다. 캐싱되지 않은 경우 db에서 캐싱할 수 있는 만큼 조회하여 캐싱합니다.
+     */
+    private List<FindVolunteerNotificationResponse> getLatestNotifications(Long volunteerId,
+        int count) {
+        return notificationInboxRepository.findLatestNotifications(PushReceiverType.VOLUNTEER,
+            volunteerId, count, FindVolunteerNotificationResponse.class).orElseGet(() -> {
+                long version = notificationInboxRepository.getVersion(PushReceiverType.VOLUNTEER,
+                    volunteerId);
+                List<FindVolunteerNotificationResponse> latestNotifications
+                    = volunteerNotificationRepository.findVolunteerNotificationsV2(volunteerId,
+                        MAX_CURSOR_CREATED_AT, Long.MAX_VALUE, LATEST_NOTIFICATIONS)
+                    .map(FindVolunteerNotificationResponse::from)
+                    .getContent();
+                notificationInboxRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                    volunteerId, version, latestNotifications);
+                return latestNotifications.subList(0,
+                    Math.min(count, latestNotifications.size()));
+            });
+    }
+
     public FindVolunteerHasNewNotificationResponse findVolunteerHasNewNotification(
         Long volunteerId) {
-        return FindVolunteerHasNewNotificationResponse.from(
-            volunteerNotificationRepository.hasNewNotification(volunteerId));
+        return FindVolunteerHasNewNotificationResponse.from(getUnreadCount(volunteerId));
     }
 
-    @Transactional
-    public void updateNotificationRead(Long volunteerId) {
-        volunteerNotificationRepository.updateBulkRead(volunteerId);
+    /**
+     * 알림 스트림을 연결합니다. 연결 직후 미확인 알림 여부를 보내고, 이후 새 알림과 미확인 상태 변경을 보냅니다.
+     */
+    public SseEmitter subscribeNotifications(Long volunteerId) {
+        return notificationStreamRegistry.register(PushReceiverType.VOLUNTEER, volunteerId,
+            NotificationStreamResponse.unreadState(getUnreadCount(volunteerId) > 0));
     }
 
-    @Transactional
-    public void notifyADayBeforeVolunteer() {
-        LocalDateTime time1 = LocalDateTime.now().plusDays(1).with(LocalTime.of(0, 1));
-        LocalDateTime time2 = LocalDateTime.now().plusDays(1).with(LocalTime.of(23, 59));
-
-        List<VolunteerNotification> volunteerNotifications = recruitmentRepository
-            .findRecruitmentsByStartTime(time1, time2)
-            .stream()
-            .flatMap(recruitment ->
-                recruitment.getApplicants().stream()
-                    .map(
-                        applicant -> makeNewADayBeforeVolunteerNotification(applicant, recruitment))
-            )
-            .collect(Collectors.toList());
-
-        volunteerNotificationRepository.saveAll(volunteerNotifications);
+    /**
+     * 캐싱된 미확인 알림 수를 조회합니다. 캐싱되지 않은 경우 db에서 세어 캐싱합니다. 캐시 버전을 db 조회 전에 읽어, 세는 중에 커밋된 새 알림이나
+     * 읽음 처리가 빠진 값을 저장하지 않습니다. 캐시에서 조회되면 db 커넥션을 사용하지 않습니다.
+     */
+    private long getUnreadCount(Long volunteerId) {
+        long version = notificationUnreadCountRepository.getVersion(PushReceiverType.VOLUNTEER,
+            volunteerId);
+        return notificationUnreadCountRepository.findUnreadCount(PushReceiverType.VOLUNTEER,
+            volunteerId).orElseGet(() -> {
+                long unreadCount = volunteerNotificationRepository.countUnreadNotifications(
+                    volunteerId);
+                notificationUnreadCountRepository.saveUnreadCount(PushReceiverType.VOLUNTEER,
+                    volunteerId, version, unreadCount);
+                return unreadCount;
+            });
     }
 
     @Transactional
-    public void notifyThreeDayBeforeVolunteer() {
-        LocalDateTime time1 = LocalDateTime.now().plusDays(3).with(LocalTime.of(0, 1));
-        LocalDateTime time2 = LocalDateTime.now().plusDays(3).with(LocalTime.of(23, 59));
-
-        List<VolunteerNotification> volunteerNotifications = recruitmentRepository
-            .findRecruitmentsByStartTime(time1, time2)
-            .stream()
-            .flatMap(recruitment ->
-                recruitment.getApplicants().stream()
-                    .map(applicant -> makeThreeDayBeforeVolunteerNotification(applicant,
-                        recruitment))
-            ).toList();
-
-        volunteerNotificationRepository.saveAll(volunteerNotifications);
+    public void updateNotificationRead(Long volunteerId) {
+        volunteerNotificationRepository.updateBulkRead(volunteerId);
+        applicationEventPublisher.publishEvent(
+            new NotificationReadEvent(PushReceiverType.VOLUNTEER, volunteerId));
     }
 
-    @Transactional
-    public void notifyEncourageWriteReview() {
-        LocalDateTime time1 = LocalDateTime.now().withMinute(0).withSecond(0).withNano(0);
-        LocalDateTime time2 = LocalDateTime.now().withMinute(59).withSecond(59)
-            .withNano(999_999_999);
-
-        List<VolunteerNotification> volunteerNotifications = recruitmentRepository
-            .findRecruitmentsByEndTime(time1, time2)
-            .stream()
-            .flatMap(recruitment ->
-                recruitment.getApplicants().stream()
-                    .map(applicant -> makeNewEncourageReviewNotification(applicant, recruitment))
-            ).toList();
-
-        volunteerNotificationRepository.saveAll(volunteerNotifications);
+    /**
+     * 봉사 모집글의 신청자들에게 봉사 3일 전, 하루 전 알림을 저장합니다.
+     */
+    public void notifyBeforeVolunteer(Long recruitmentId, NotificationType type) {
+        notifyInChunks(recruitmentId, type,
+            FindReminderTargetResult::getRecruitmentTitle,
+            (applicantId, pageable) -> applicantRepository.findReminderTargetsByRecruitmentId(
+                recruitmentId, applicantId, pageable));
     }
 
-    private VolunteerNotification makeNewADayBeforeVolunteerNotification(
-        Applicant applicant, Recruitment recruitment) {
-        return new VolunteerNotification(
-            applicant.getVolunteer(),
-            recruitment.getTitle(),
-            NotificationType.A_DAY_BEFORE_VOLUNTEER.getMessage(),
-            NotificationType.A_DAY_BEFORE_VOLUNTEER.getName()
-        );
+    public void notifyEncourageWriteReview(Long recruitmentId) {
+        notifyInChunks(recruitmentId, NotificationType.ENCOURAGE_WRITE_REVIEW,
+            FindReminderTargetResult::getShelterName,
+            (applicantId, pageable) -> applicantRepository.findReminderTargetsByRecruitmentId(
+                recruitmentId, applicantId, pageable));
     }
 
-    private VolunteerNotification makeThreeDayBeforeVolunteerNotification(
-        Applicant applicant, Recruitment recruitment) {
-        return new VolunteerNotification(
-            applicant.getVolunteer(),
-            recruitment.getTitle(),
-            NotificationType.THREE_DAY_BEFORE_VOLUNTEER.getMessage(),
-            NotificationType.THREE_DAY_BEFORE_VOLUNTEER.getName()
-        );
+    /**
+     * 알림 대상 (봉사 신청, 봉사자)를 봉사 신청 id 순서로 청크 단위로 읽어 알림을 저장합니다. 엔티티를 로딩하지 않으며, 청크마다 새 트랜잭션에서
+     * JDBC 배치로 저장하고 커밋합니다. 리마인더 작업의 트랜잭션 안에서 호출되어도 그 트랜잭션에 참여하지 않으므로, 작업 트랜잭션이 전체 발송 동안
+     * 커지지 않습니다. 일부 청크만 저장된 뒤 작업이 다시 실행되어도 이미 같은 알림을 받은 봉사자는 건너뜁니다.
+     */
+    private void notifyInChunks(Long recruitmentId, NotificationType type,
+        Function<FindReminderTargetResult, String> titleMapper,
+        BiFunction<Long, Pageable, List<FindReminderTargetResult>> targetFinder) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Pageable chunk = PageRequest.of(0, REMINDER_CHUNK_SIZE);
+        long lastApplicantId = 0L;
+        List<FindReminderTargetResult> targets;
+        do {
+            targets = targetFinder.apply(lastApplicantId, chunk);
+            if (targets.isEmpty()) {
+                return;
+            }
+            List<NewVolunteerNotification> notifications = targets.stream()
+                .map(target -> new NewVolunteerNotification(target.getVolunteerId(),
+                    titleMapper.apply(target)))
+                .toList();
+            chunkTransactionTemplate.executeWithoutResult(
+                status -> saveNewNotifications(recruitmentId, notifications, type, createdAt));
+            lastApplicantId = targets.get(targets.size() - 1).getApplicantId();
+        } while (targets.size() == REMINDER_CHUNK_SIZE);
     }
 
-    private VolunteerNotification makeNewEncourageReviewNotification(
-        Applicant applicant, Recruitment recruitment) {
-        return new VolunteerNotification(
-            applicant.getVolunteer(),
-            recruitment.getShelter().getName(),
-            NotificationType.ENCOURAGE_WRITE_REVIEW.getMessage(),
-            NotificationType.ENCOURAGE_WRITE_REVIEW.getName()
-        );
+    private void saveNewNotifications(Long recruitmentId,
+        List<NewVolunteerNotification> notifications, NotificationType type,
+        LocalDateTime createdAt) {
+        Set<Long> notifiedVolunteerIds = new HashSet<>(
+            volunteerNotificationRepository.findNotifiedVolunteerIds(recruitmentId, type,
+                notifications.stream().map(NewVolunteerNotification::volunteerId).toList()));
+        List<NewVolunteerNotification> newNotifications = notifications.stream()
+            .filter(notification -> !notifiedVolunteerIds.contains(notification.volunteerId()))
+            .toList();
+        if (newNotifications.isEmpty()) {
+            return;
+        }
+        List<Long> volunteerIds = newNotifications.stream()
+            .map(NewVolunteerNotification::volunteerId)
+            .toList();
+        volunteerNotificationJdbcRepository.saveAll(recruitmentId, newNotifications, type,
+            createdAt);
+        applicationEventPublisher.publishEvent(
+            new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, volunteerIds));
+        applicationEventPublisher.publishEvent(
+            new NotificationInboxEvictionEvent(PushReceiverType.VOLUNTEER, volunteerIds));
+        applicationEventPublisher.publishEvent(new NotificationStreamEvent(newNotifications.stream()
+            .map(notification -> new NotificationStreamMessage(PushReceiverType.VOLUNTEER,
+                notification.volunteerId(),
+                NotificationStreamResponse.newNotification(notification.title(),
+                    type.getMessage())))
+            .toList()));
     }
 }
@@ -0,0 +1,12 @@
+package com.clova.anifriends.domain.notification.service.dto;
+
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+
+public record NotificationStreamMessage(
+    PushReceiverType receiverType,
+    Long receiverId,
+    NotificationStreamResponse response
+) {
+
+}
@@ -0,0 +1,14 @@
+package com.clova.anifriends.domain.notification.vo;
+
+import com.clova.anifriends.domain.common.EnumType;
+
+public enum NotificationStreamEventType implements EnumType {
+    NOTIFICATION,
+    UNREAD_STATE,
+    ;
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+}
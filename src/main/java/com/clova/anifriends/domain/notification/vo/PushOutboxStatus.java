@@ -0,0 +1,15 @@
+package com.clova.anifriends.domain.notification.vo;
+
+import com.clova.anifriends.domain.common.EnumType;
+
+public enum PushOutboxStatus implements EnumType {
+    PENDING,
+    SKIPPED,
+    FAILED,
+    ;
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+}
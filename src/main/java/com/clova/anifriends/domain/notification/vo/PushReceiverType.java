@@ -0,0 +1,14 @@
+package com.clova.anifriends.domain.notification.vo;
+
+import com.clova.anifriends.domain.common.EnumType;
+
+public enum PushReceiverType implements EnumType {
+    SHELTER,
+    VOLUNTEER,
+    ;
+
+    @Override
+    public String getName() {
+        return this.name();
+    }
+}
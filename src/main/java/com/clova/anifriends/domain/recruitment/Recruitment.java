@@ -16,6 +16,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -31,7 +32,13 @@ import lombok.NoArgsConstructor;
 import org.springframework.data.annotation.LastModifiedDate;
 
 @Entity
-@Table(name = "recruitment")
+@Table(
+    name = "recruitment",
+    indexes = {
+        @Index(name = "idx_recruitment_shelter_created_at",
+            columnList = "shelter_id, createdAt, recruitment_id")
+    }
+)
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Recruitment extends BaseTimeEntity {
 
@@ -70,6 +77,13 @@ public class Recruitment extends BaseTimeEntity {
     @Embedded
     private RecruitmentApplicantCount applicantCount = new RecruitmentApplicantCount(0);
 
+    /**
+     * 신청자 수, 정원, 마감 여부가 바뀔 때마다 벌크 업데이트로 1씩 증가하는 버전입니다. 엔티티 변경 감지로 덮어쓰지 않도록
+     * 수정 불가로 매핑합니다.
+     */
+    @Column(name = "capacity_version", updatable = false)
+    private long capacityVersion;
+
     public Recruitment(
         Shelter shelter,
         String title,
@@ -224,6 +238,10 @@ public class Recruitment extends BaseTimeEntity {
         return applicantCount.getApplicantCount();
     }
 
+    public long getCapacityVersion() {
+        return capacityVersion;
+    }
+
     public List<Applicant> getApplicants() {
         return Collections.unmodifiableList(applicants);
     }
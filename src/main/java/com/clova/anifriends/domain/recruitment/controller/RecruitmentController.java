@@ -2,12 +2,17 @@ package com.clova.anifriends.domain.recruitment.controller;
 
 import com.clova.anifriends.domain.auth.LoginUser;
 import com.clova.anifriends.domain.auth.authorization.ShelterOnly;
+import com.clova.anifriends.domain.recruitment.dto.request.FindCompletedRecruitmentsRequestV2;
+import com.clova.anifriends.domain.recruitment.dto.request.FindRecruitmentCalendarRequest;
 import com.clova.anifriends.domain.recruitment.dto.request.FindRecruitmentsByShelterRequest;
+import com.clova.anifriends.domain.recruitment.dto.request.FindRecruitmentsByShelterRequestV2;
 import com.clova.anifriends.domain.recruitment.dto.request.FindRecruitmentsRequest;
 import com.clova.anifriends.domain.recruitment.dto.request.FindRecruitmentsRequestV2;
+import com.clova.anifriends.domain.recruitment.dto.request.FindShelterRecruitmentsRequestV2;
 import com.clova.anifriends.domain.recruitment.dto.request.RegisterRecruitmentRequest;
 import com.clova.anifriends.domain.recruitment.dto.request.UpdateRecruitmentRequest;
 import com.clova.anifriends.domain.recruitment.dto.response.FindCompletedRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentCalendarResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindShelterRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsByShelterResponse;
@@ -73,6 +78,20 @@ public class RecruitmentController {
         return ResponseEntity.ok(response);
     }
 
+    @ShelterOnly
+    @GetMapping("/v2/shelters/volunteers/{volunteerId}/recruitments/completed")
+    public ResponseEntity<FindCompletedRecruitmentsResponse> findCompletedRecruitmentsV2(
+        @PathVariable("volunteerId") Long volunteerId,
+        @ModelAttribute FindCompletedRecruitmentsRequestV2 findCompletedRecruitmentsRequestV2,
+        Pageable pageable) {
+        FindCompletedRecruitmentsResponse response = recruitmentService.findCompletedRecruitmentsV2(
+            volunteerId,
+            findCompletedRecruitmentsRequestV2.recruitmentStartTime(),
+            findCompletedRecruitmentsRequestV2.recruitmentId(),
+            pageable);
+        return ResponseEntity.ok(response);
+    }
+
     @GetMapping("/recruitments")
     public ResponseEntity<FindRecruitmentsResponse> findRecruitments(
         @ModelAttribute @Valid FindRecruitmentsRequest findRecruitmentsRequest,
@@ -103,6 +122,15 @@ public class RecruitmentController {
         ));
     }
 
+    @GetMapping("/recruitments/calendar")
+    public ResponseEntity<FindRecruitmentCalendarResponse> findRecruitmentCalendar(
+        @ModelAttribute @Valid FindRecruitmentCalendarRequest findRecruitmentCalendarRequest) {
+        return ResponseEntity.ok(recruitmentService.findRecruitmentCalendar(
+            findRecruitmentCalendarRequest.year(),
+            findRecruitmentCalendarRequest.month()
+        ));
+    }
+
     @ShelterOnly
     @GetMapping("/shelters/recruitments")
     public ResponseEntity<FindRecruitmentsByShelterResponse> findRecruitmentsByShelter(
@@ -129,6 +157,40 @@ public class RecruitmentController {
         return ResponseEntity.ok(recruitmentService.findShelterRecruitments(shelterId, pageable));
     }
 
+    @ShelterOnly
+    @GetMapping("/v2/shelters/recruitments")
+    public ResponseEntity<FindRecruitmentsByShelterResponse> findRecruitmentsByShelterV2(
+        @LoginUser Long shelterId,
+        @ModelAttribute @Valid FindRecruitmentsByShelterRequestV2 findRecruitmentsByShelterRequestV2,
+        Pageable pageable
+    ) {
+        return ResponseEntity.ok(recruitmentService.findRecruitmentsByShelterV2(
+            shelterId,
+            findRecruitmentsByShelterRequestV2.keyword(),
+            findRecruitmentsByShelterRequestV2.startDate(),
+            findRecruitmentsByShelterRequestV2.endDate(),
+            findRecruitmentsByShelterRequestV2.closedFilter().getIsClosed(),
+            findRecruitmentsByShelterRequestV2.keywordFilter().getKeywordConditionByShelter(),
+            findRecruitmentsByShelterRequestV2.createdAt(),
+            findRecruitmentsByShelterRequestV2.recruitmentId(),
+            pageable
+        ));
+    }
+
+    @GetMapping("/v2/shelters/{shelterId}/recruitments")
+    public ResponseEntity<FindShelterRecruitmentsResponse> findShelterRecruitmentsV2(
+        @PathVariable Long shelterId,
+        @ModelAttribute FindShelterRecruitmentsRequestV2 findShelterRecruitmentsRequestV2,
+        Pageable pageable
+    ) {
+        return ResponseEntity.ok(recruitmentService.findShelterRecruitmentsV2(
+            shelterId,
+            findShelterRecruitmentsRequestV2.createdAt(),
+            findShelterRecruitmentsRequestV2.recruitmentId(),
+            pageable
+        ));
+    }
+
     @ShelterOnly
     @PatchMapping("/shelters/recruitments/{recruitmentId}/close")
     public ResponseEntity<Void> closeRecruitment(
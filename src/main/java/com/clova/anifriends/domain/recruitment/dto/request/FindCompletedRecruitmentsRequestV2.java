@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.recruitment.dto.request;
+
+import java.time.LocalDateTime;
+
+public record FindCompletedRecruitmentsRequestV2(
+    LocalDateTime recruitmentStartTime,
+    Long recruitmentId
+) {
+
+}
@@ -0,0 +1,16 @@
+package com.clova.anifriends.domain.recruitment.dto.request;
+
+import jakarta.validation.constraints.Max;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+
+public record FindRecruitmentCalendarRequest(
+    @NotNull(message = "조회 연도는 필수값입니다.")
+    Integer year,
+    @NotNull(message = "조회 월은 필수값입니다.")
+    @Min(value = 1, message = "조회 월은 1 이상이어야 합니다.")
+    @Max(value = 12, message = "조회 월은 12 이하여야 합니다.")
+    Integer month
+) {
+
+}
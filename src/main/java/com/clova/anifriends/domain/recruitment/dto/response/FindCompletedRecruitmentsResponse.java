@@ -2,9 +2,11 @@ package com.clova.anifriends.domain.recruitment.dto.response;
 
 import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.volunteer.repository.response.FindCompletedRecruitmentResult;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public record FindCompletedRecruitmentsResponse(
     List<FindCompletedRecruitmentResponse> recruitments,
@@ -23,6 +25,15 @@ public record FindCompletedRecruitmentsResponse(
                 recruitment.getStartTime(),
                 recruitment.getShelter().getName());
         }
+
+        public static FindCompletedRecruitmentResponse from(
+            FindCompletedRecruitmentResult result) {
+            return new FindCompletedRecruitmentResponse(
+                result.getRecruitmentId(),
+                result.getRecruitmentTitle(),
+                result.getRecruitmentStartTime(),
+                result.getShelterName());
+        }
     }
 
     public static FindCompletedRecruitmentsResponse from(Page<Recruitment> recruitmentPage) {
@@ -34,4 +45,13 @@ public record FindCompletedRecruitmentsResponse(
             .stream().toList();
         return new FindCompletedRecruitmentsResponse(recruitments, pageInfo);
     }
+
+    public static FindCompletedRecruitmentsResponse fromV2(
+        Slice<FindCompletedRecruitmentResult> recruitmentSlice, long count) {
+        PageInfo pageInfo = PageInfo.of(count, recruitmentSlice.hasNext());
+        List<FindCompletedRecruitmentResponse> recruitments = recruitmentSlice
+            .map(FindCompletedRecruitmentResponse::from)
+            .stream().toList();
+        return new FindCompletedRecruitmentsResponse(recruitments, pageInfo);
+    }
 }
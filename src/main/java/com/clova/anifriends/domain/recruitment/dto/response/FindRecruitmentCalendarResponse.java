@@ -0,0 +1,28 @@
+package com.clova.anifriends.domain.recruitment.dto.response;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+
+public record FindRecruitmentCalendarResponse(
+    int year,
+    int month,
+    List<FindRecruitmentCalendarDayResponse> days
+) {
+
+    public record FindRecruitmentCalendarDayResponse(
+        int day,
+        long recruitmentCount
+    ) {
+
+    }
+
+    public static FindRecruitmentCalendarResponse of(YearMonth yearMonth,
+        Map<Integer, Long> dailyCounts) {
+        List<FindRecruitmentCalendarDayResponse> days = dailyCounts.entrySet().stream()
+            .map(entry -> new FindRecruitmentCalendarDayResponse(entry.getKey(), entry.getValue()))
+            .toList();
+        return new FindRecruitmentCalendarResponse(
+            yearMonth.getYear(), yearMonth.getMonthValue(), days);
+    }
+}
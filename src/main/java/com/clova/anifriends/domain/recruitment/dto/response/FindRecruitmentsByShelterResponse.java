@@ -2,9 +2,11 @@ package com.clova.anifriends.domain.recruitment.dto.response;
 
 import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public record FindRecruitmentsByShelterResponse(
     PageInfo pageInfo,
@@ -19,7 +21,8 @@ public record FindRecruitmentsByShelterResponse(
         LocalDateTime recruitmentDeadline,
         boolean recruitmentIsClosed,
         int recruitmentApplicantCount,
-        int recruitmentCapacity
+        int recruitmentCapacity,
+        LocalDateTime recruitmentCreatedAt
     ) {
         private static RecruitmentResponse from(Recruitment recruitment){
             return new RecruitmentResponse(
@@ -30,7 +33,22 @@ public record FindRecruitmentsByShelterResponse(
                 recruitment.getDeadline(),
                 recruitment.isClosed(),
                 recruitment.getApplicantCount(),
-                recruitment.getCapacity()
+                recruitment.getCapacity(),
+                recruitment.getCreatedAt()
+            );
+        }
+
+        private static RecruitmentResponse from(FindShelterRecruitmentResult result) {
+            return new RecruitmentResponse(
+                result.getRecruitmentId(),
+                result.getRecruitmentTitle(),
+                result.getRecruitmentStartTime(),
+                result.getRecruitmentEndTime(),
+                result.getRecruitmentDeadline(),
+                result.isRecruitmentIsClosed(),
+                result.getRecruitmentApplicantCount(),
+                result.getRecruitmentCapacity(),
+                result.getRecruitmentCreatedAt()
             );
         }
     }
@@ -43,4 +61,14 @@ public record FindRecruitmentsByShelterResponse(
                 .toList()
         );
     }
+
+    public static FindRecruitmentsByShelterResponse fromV2(
+        Slice<FindShelterRecruitmentResult> recruitments, long count) {
+        return new FindRecruitmentsByShelterResponse(
+            PageInfo.of(count, recruitments.hasNext()),
+            recruitments.stream()
+                .map(RecruitmentResponse::from)
+                .toList()
+        );
+    }
 }
@@ -2,9 +2,11 @@ package com.clova.anifriends.domain.recruitment.dto.response;
 
 import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import java.time.LocalDateTime;
 import java.util.List;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 
 public record FindShelterRecruitmentsResponse(
     PageInfo pageInfo,
@@ -16,7 +18,8 @@ public record FindShelterRecruitmentsResponse(
         LocalDateTime recruitmentStartTime,
         LocalDateTime recruitmentDeadline,
         int recruitmentCapacity,
-        int recruitmentApplicantCount
+        int recruitmentApplicantCount,
+        LocalDateTime recruitmentCreatedAt
     ) {
 
         private static RecruitmentResponse from(Recruitment recruitment){
@@ -26,7 +29,20 @@ public record FindShelterRecruitmentsResponse(
                 recruitment.getStartTime(),
                 recruitment.getDeadline(),
                 recruitment.getCapacity(),
-                recruitment.getApplicantCount()
+                recruitment.getApplicantCount(),
+                recruitment.getCreatedAt()
+            );
+        }
+
+        private static RecruitmentResponse from(FindShelterRecruitmentResult result) {
+            return new RecruitmentResponse(
+                result.getRecruitmentId(),
+                result.getRecruitmentTitle(),
+                result.getRecruitmentStartTime(),
+                result.getRecruitmentDeadline(),
+                result.getRecruitmentCapacity(),
+                result.getRecruitmentApplicantCount(),
+                result.getRecruitmentCreatedAt()
             );
         }
     }
@@ -39,4 +55,14 @@ public record FindShelterRecruitmentsResponse(
                 .toList()
         );
     }
+
+    public static FindShelterRecruitmentsResponse fromV2(
+        Slice<FindShelterRecruitmentResult> recruitments, long count) {
+        return new FindShelterRecruitmentsResponse(
+            PageInfo.of(count, recruitments.hasNext()),
+            recruitments.stream()
+                .map(RecruitmentResponse::from)
+                .toList()
+        );
+    }
 }
@@ -0,0 +1,36 @@
+package com.clova.anifriends.domain.recruitment.dto.response;
+
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentCapacityResult;
+
+/**
+ * 봉사 모집글의 정원 상태입니다. capacityVersion은 변경마다 증가하므로, 구독자는 이미 받은 버전 이하의 메시지를 버릴 수 있습니다.
+ */
+public record RecruitmentCapacityResponse(
+    Long recruitmentId,
+    int recruitmentApplicantCount,
+    int recruitmentCapacity,
+    boolean recruitmentIsClosed,
+    long capacityVersion
+) {
+
+    public static RecruitmentCapacityResponse from(Recruitment recruitment) {
+        return new RecruitmentCapacityResponse(
+            recruitment.getRecruitmentId(),
+            recruitment.getApplicantCount(),
+            recruitment.getCapacity(),
+            recruitment.isClosed(),
+            recruitment.getCapacityVersion()
+        );
+    }
+
+    public static RecruitmentCapacityResponse from(FindRecruitmentCapacityResult recruitment) {
+        return new RecruitmentCapacityResponse(
+            recruitment.getRecruitmentId(),
+            recruitment.getApplicantCount(),
+            recruitment.getCapacity(),
+            recruitment.isClosed(),
+            recruitment.getCapacityVersion()
+        );
+    }
+}
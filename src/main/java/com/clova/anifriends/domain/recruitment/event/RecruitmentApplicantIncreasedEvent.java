@@ -0,0 +1,7 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+public record RecruitmentApplicantIncreasedEvent(
+    Long recruitmentId
+) {
+
+}
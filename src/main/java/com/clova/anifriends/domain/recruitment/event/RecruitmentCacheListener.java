@@ -0,0 +1,43 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCalendarCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentDetailCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentSearchCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.ShelterRecruitmentCountCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RecruitmentCacheListener {
+
+    private final RecruitmentDetailCacheRepository recruitmentDetailCacheRepository;
+    private final ShelterRecruitmentCountCacheRepository shelterRecruitmentCountCacheRepository;
+    private final RecruitmentSearchCacheRepository recruitmentSearchCacheRepository;
+    private final RecruitmentCalendarCacheRepository recruitmentCalendarCacheRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecruitmentDetailEvictionEvent(RecruitmentDetailEvictionEvent event) {
+        recruitmentDetailCacheRepository.deleteRecruitmentDetails(event.recruitmentIds());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecruitmentApplicantIncreasedEvent(
+        RecruitmentApplicantIncreasedEvent event) {
+        recruitmentDetailCacheRepository.increaseApplicantCount(event.recruitmentId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleShelterRecruitmentsChangedEvent(ShelterRecruitmentsChangedEvent event) {
+        event.shelterIds().forEach(shelterRecruitmentCountCacheRepository::evictCounts);
+        recruitmentSearchCacheRepository.evictSearchResults();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecruitmentCalendarChangedEvent(RecruitmentCalendarChangedEvent event) {
+        event.openedStartTimes().forEach(recruitmentCalendarCacheRepository::increaseDailyCount);
+        event.closedStartTimes().forEach(recruitmentCalendarCacheRepository::decreaseDailyCount);
+    }
+}
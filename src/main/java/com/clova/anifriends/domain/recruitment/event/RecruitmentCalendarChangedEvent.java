@@ -0,0 +1,24 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record RecruitmentCalendarChangedEvent(
+    List<LocalDateTime> openedStartTimes,
+    List<LocalDateTime> closedStartTimes
+) {
+
+    public static RecruitmentCalendarChangedEvent opened(LocalDateTime startTime) {
+        return new RecruitmentCalendarChangedEvent(List.of(startTime), List.of());
+    }
+
+    public static RecruitmentCalendarChangedEvent closed(LocalDateTime startTime) {
+        return new RecruitmentCalendarChangedEvent(List.of(), List.of(startTime));
+    }
+
+    public static RecruitmentCalendarChangedEvent moved(LocalDateTime previousStartTime,
+        LocalDateTime startTime) {
+        return new RecruitmentCalendarChangedEvent(List.of(startTime),
+            List.of(previousStartTime));
+    }
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import java.util.List;
+
+public record RecruitmentCapacityChangedEvent(
+    List<RecruitmentCapacityResponse> capacities
+) {
+
+}
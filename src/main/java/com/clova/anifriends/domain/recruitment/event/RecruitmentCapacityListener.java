@@ -0,0 +1,19 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import com.clova.anifriends.domain.recruitment.service.RecruitmentCapacityPublisher;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class RecruitmentCapacityListener {
+
+    private final RecruitmentCapacityPublisher recruitmentCapacityPublisher;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRecruitmentCapacityChangedEvent(RecruitmentCapacityChangedEvent event) {
+        event.capacities().forEach(recruitmentCapacityPublisher::publish);
+    }
+}
@@ -0,0 +1,12 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import java.util.List;
+
+public record RecruitmentDetailEvictionEvent(
+    List<Long> recruitmentIds
+) {
+
+    public static RecruitmentDetailEvictionEvent of(Long recruitmentId) {
+        return new RecruitmentDetailEvictionEvent(List.of(recruitmentId));
+    }
+}
@@ -0,0 +1,12 @@
+package com.clova.anifriends.domain.recruitment.event;
+
+import java.util.List;
+
+public record ShelterRecruitmentsChangedEvent(
+    List<Long> shelterIds
+) {
+
+    public static ShelterRecruitmentsChangedEvent of(Long shelterId) {
+        return new ShelterRecruitmentsChangedEvent(List.of(shelterId));
+    }
+}
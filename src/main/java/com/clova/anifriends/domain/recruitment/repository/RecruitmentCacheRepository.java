@@ -14,4 +14,6 @@ public interface RecruitmentCacheRepository {
     FindRecruitmentsResponse findRecruitments(int size);
 
     void closeRecruitmentsIfNeedToBe();
+
+    void updateShelterProfile(long shelterId, String shelterName, String shelterImageUrl);
 }
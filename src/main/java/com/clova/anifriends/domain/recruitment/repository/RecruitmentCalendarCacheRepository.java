@@ -0,0 +1,16 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.Map;
+
+public interface RecruitmentCalendarCacheRepository {
+
+    Map<Integer, Long> findDailyCounts(YearMonth yearMonth);
+
+    void increaseDailyCount(LocalDateTime startTime);
+
+    void decreaseDailyCount(LocalDateTime startTime);
+
+    void synchronizeMonth(YearMonth yearMonth);
+}
@@ -0,0 +1,161 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class RecruitmentCalendarRedisRepository implements RecruitmentCalendarCacheRepository {
+
+    private static final String CALENDAR_KEY_PREFIX = "recruitment:calendar:";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String DEFAULT_VERSION = "0";
+    private static final long ZERO = 0L;
+    private static final long INCREASE = 1L;
+    private static final long DECREASE = -1L;
+    private static final Duration CALENDAR_TTL = Duration.ofDays(1);
+    private static final Duration VERSION_TTL = Duration.ofDays(2);
+
+    /**
+     * 달의 버전을 올리고, 월 단위 해시가 캐싱되어 있는 경우에만 일자 카운트를 변경합니다. 캐싱되지 않은 달은 조회 시점에 db에서 적재되므로 부분적인
+     * 해시가 생기지 않도록 합니다. 카운트는 0 미만으로 내려가지 않습니다.
+     */
+    private static final RedisScript<Long> INCREMENT_IF_CACHED_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[3]) "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+            + "local count = redis.call('HINCRBY', KEYS[1], ARGV[1], ARGV[2]) "
+            + "if count < 0 then redis.call('HSET', KEYS[1], ARGV[1], 0) return 0 end "
+            + "return count",
+        Long.class);
+
+    /**
+     * db 조회 전에 읽은 버전이 그대로인 경우에만 달의 해시를 한 번에 교체합니다. db 조회 중에 커밋된 변경이 캐싱되지 않은 달이라 반영되지 못했다면
+     * 버전이 올라가 있으므로, 그 변경이 빠진 해시를 저장하지 않습니다.
+     */
+    private static final RedisScript<Long> REPLACE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or ARGV[2]) ~= ARGV[1] then return 0 end "
+            + "redis.call('DEL', KEYS[1]) "
+            + "redis.call('HSET', KEYS[1], unpack(ARGV, 4)) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> cachedCalendars;
+    private final RecruitmentRepository recruitmentRepository;
+
+    public RecruitmentCalendarRedisRepository(
+        StringRedisTemplate redisTemplate,
+        RecruitmentRepository recruitmentRepository) {
+        this.redisTemplate = redisTemplate;
+        this.cachedCalendars = redisTemplate.opsForHash();
+        this.recruitmentRepository = recruitmentRepository;
+    }
+
+    /**
+     * 해당 달의 일자별 모집 중인 봉사 모집글 수를 조회합니다. 캐싱되지 않은 달은 db에서 조회하여 하루 동안 캐싱합니다.
+     *
+     * @param yearMonth 조회할 연월
+     * @return 일자(1~말일)를 키로 하는 모집 중인 봉사 모집글 수
+     */
+    @Override
+    public Map<Integer, Long> findDailyCounts(YearMonth yearMonth) {
+        Map<String, String> cachedCounts = cachedCalendars.entries(getKey(yearMonth));
+        if (!cachedCounts.isEmpty()) {
+            return cachedCounts.entrySet().stream()
+                .collect(Collectors.toMap(
+                    entry -> Integer.parseInt(entry.getKey()),
+                    entry -> Long.parseLong(entry.getValue()),
+                    (first, second) -> first,
+                    TreeMap::new));
+        }
+        return loadMonth(yearMonth);
+    }
+
+    /**
+     * 봉사 시작일의 카운트를 증가시킵니다.
+     *
+     * @param startTime 봉사 시작 시간
+     */
+    @Override
+    public void increaseDailyCount(LocalDateTime startTime) {
+        changeDailyCount(startTime, INCREASE);
+    }
+
+    /**
+     * 봉사 시작일의 카운트를 감소시킵니다.
+     *
+     * @param startTime 봉사 시작 시간
+     */
+    @Override
+    public void decreaseDailyCount(LocalDateTime startTime) {
+        changeDailyCount(startTime, DECREASE);
+    }
+
+    /**
+     * 해당 달의 캐시를 db 기준으로 다시 적재합니다.
+     *
+     * @param yearMonth 동기화할 연월
+     */
+    @Override
+    public void synchronizeMonth(YearMonth yearMonth) {
+        loadMonth(yearMonth);
+    }
+
+    private void changeDailyCount(LocalDateTime startTime, long delta) {
+        YearMonth yearMonth = YearMonth.from(startTime);
+        redisTemplate.execute(INCREMENT_IF_CACHED_SCRIPT,
+            List.of(getKey(yearMonth), getVersionKey(yearMonth)),
+            String.valueOf(startTime.getDayOfMonth()), String.valueOf(delta),
+            String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    private Map<Integer, Long> loadMonth(YearMonth yearMonth) {
+        String version = Objects.requireNonNullElse(
+            redisTemplate.opsForValue().get(getVersionKey(yearMonth)), DEFAULT_VERSION);
+        List<LocalDateTime> startTimes = recruitmentRepository.findOpenedStartTimesBetween(
+            yearMonth.atDay(1).atStartOfDay(),
+            yearMonth.plusMonths(1).atDay(1).atStartOfDay());
+        Map<Integer, Long> countsByDay = startTimes.stream()
+            .collect(Collectors.groupingBy(LocalDateTime::getDayOfMonth, Collectors.counting()));
+        Map<Integer, Long> dailyCounts = IntStream.rangeClosed(1, yearMonth.lengthOfMonth())
+            .boxed()
+            .collect(Collectors.toMap(
+                Function.identity(),
+                day -> countsByDay.getOrDefault(day, ZERO),
+                (first, second) -> first,
+                TreeMap::new));
+
+        List<String> args = new ArrayList<>(
+            List.of(version, DEFAULT_VERSION, String.valueOf(CALENDAR_TTL.toMillis())));
+        dailyCounts.forEach((day, count) -> {
+            args.add(String.valueOf(day));
+            args.add(String.valueOf(count));
+        });
+        redisTemplate.execute(REPLACE_IF_VERSION_SCRIPT,
+            List.of(getKey(yearMonth), getVersionKey(yearMonth)), args.toArray());
+        return dailyCounts;
+    }
+
+    private String getKey(YearMonth yearMonth) {
+        return CALENDAR_KEY_PREFIX + yearMonth;
+    }
+
+    private String getVersionKey(YearMonth yearMonth) {
+        return CALENDAR_KEY_PREFIX + yearMonth + VERSION_KEY_SUFFIX;
+    }
+}
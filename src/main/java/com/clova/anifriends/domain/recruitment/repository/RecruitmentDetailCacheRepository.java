@@ -0,0 +1,19 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
+import java.util.Collection;
+import java.util.Optional;
+
+public interface RecruitmentDetailCacheRepository {
+
+    Optional<FindRecruitmentDetailResponse> findRecruitmentDetail(long recruitmentId);
+
+    long getVersion(long recruitmentId);
+
+    void saveRecruitmentDetail(long recruitmentId, long version,
+        FindRecruitmentDetailResponse response);
+
+    void increaseApplicantCount(long recruitmentId);
+
+    void deleteRecruitmentDetails(Collection<Long> recruitmentIds);
+}
@@ -0,0 +1,197 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class RecruitmentDetailRedisRepository implements RecruitmentDetailCacheRepository {
+
+    private static final String DETAIL_KEY_PREFIX = "recruitment:detail:";
+    private static final String VERSION_KEY_SUFFIX = ":version";
+    private static final String BODY_FIELD = "body";
+    private static final String APPLICANT_COUNT_FIELD = "applicantCount";
+    private static final String DEFAULT_VERSION = "0";
+    private static final Duration DETAIL_TTL = Duration.ofMinutes(10);
+    private static final Duration VERSION_TTL = Duration.ofHours(1);
+
+    /**
+     * 모집글의 버전을 올리고, 상세 정보가 캐싱되어 있는 경우에만 신청자 수를 증가시킵니다. 캐싱되지 않은 모집글은 조회 시점에 db에서 적재되므로 신청자
+     * 수만 있는 해시가 생기지 않도록 합니다.
+     */
+    private static final RedisScript<Long> INCREMENT_IF_CACHED_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('INCR', KEYS[2]) "
+            + "redis.call('PEXPIRE', KEYS[2], ARGV[2]) "
+            + "if redis.call('EXISTS', KEYS[1]) == 0 then return nil end "
+            + "return redis.call('HINCRBY', KEYS[1], ARGV[1], 1)",
+        Long.class);
+
+    /**
+     * db 조회 전에 읽은 버전이 그대로인 경우에만 상세 정보를 저장합니다. db 조회 중에 커밋된 신청이나 수정이 캐시에 반영되지 못했다면 버전이 올라가
+     * 있으므로, 그 변경이 빠진 상세 정보를 저장하지 않습니다.
+     */
+    private static final RedisScript<Long> SAVE_IF_VERSION_SCRIPT = new DefaultRedisScript<>(
+        "if (redis.call('GET', KEYS[2]) or ARGV[2]) ~= ARGV[1] then return 0 end "
+            + "redis.call('HSET', KEYS[1], ARGV[4], ARGV[5], ARGV[6], ARGV[7]) "
+            + "redis.call('PEXPIRE', KEYS[1], ARGV[3]) "
+            + "return 1",
+        Long.class);
+
+    /**
+     * 상세 정보를 지우고 버전을 올립니다. 지우기 전에 db에서 조회된 상세 정보가 뒤늦게 저장되지 않도록 합니다.
+     */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>(
+        "for i = 1, #KEYS, 2 do "
+            + "redis.call('DEL', KEYS[i]) "
+            + "redis.call('INCR', KEYS[i + 1]) "
+            + "redis.call('PEXPIRE', KEYS[i + 1], ARGV[1]) end "
+            + "return #KEYS / 2",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final HashOperations<String, String, String> cachedDetails;
+    private final ObjectMapper objectMapper;
+
+    public RecruitmentDetailRedisRepository(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.cachedDetails = redisTemplate.opsForHash();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 캐싱된 봉사 모집글 상세 정보를 조회합니다. 신청자 수는 별도로 관리되는 카운터 값으로, 마감 여부는 마감일 경과 여부를 반영하여 덮어씁니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @return 캐싱된 상세 정보. 캐싱되지 않았거나 역직렬화에 실패한 경우 빈 값
+     */
+    @Override
+    public Optional<FindRecruitmentDetailResponse> findRecruitmentDetail(long recruitmentId) {
+        String key = getKey(recruitmentId);
+        Map<String, String> cachedDetail = cachedDetails.entries(key);
+        String body = cachedDetail.get(BODY_FIELD);
+        String applicantCount = cachedDetail.get(APPLICANT_COUNT_FIELD);
+        if (Objects.isNull(body) || Objects.isNull(applicantCount)) {
+            return Optional.empty();
+        }
+        try {
+            FindRecruitmentDetailResponse response = objectMapper.readValue(body,
+                FindRecruitmentDetailResponse.class);
+            return Optional.of(overlayState(response, Integer.parseInt(applicantCount)));
+        } catch (JacksonException | NumberFormatException exception) {
+            log.warn("[Cache] 봉사 모집글 상세 캐시를 읽지 못했습니다. recruitmentId={}", recruitmentId);
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 봉사 모집글 상세 캐시의 현재 버전을 조회합니다. db에서 상세 정보를 조회하기 전에 읽어 저장 시 함께 전달합니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @return 현재 버전
+     */
+    @Override
+    public long getVersion(long recruitmentId) {
+        String version = redisTemplate.opsForValue().get(getVersionKey(recruitmentId));
+        return Long.parseLong(Objects.requireNonNullElse(version, DEFAULT_VERSION));
+    }
+
+    /**
+     * 봉사 모집글 상세 정보와 신청자 수 카운터를 함께 캐싱합니다. db 조회 이후 버전이 바뀌었으면 저장하지 않습니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     * @param version db 조회 전에 읽은 버전
+     * @param response db에서 조회한 상세 정보
+     */
+    @Override
+    public void saveRecruitmentDetail(long recruitmentId, long version,
+        FindRecruitmentDetailResponse response) {
+        String body;
+        try {
+            body = objectMapper.writeValueAsString(response);
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 봉사 모집글 상세 캐시를 저장하지 못했습니다. recruitmentId={}", recruitmentId);
+            return;
+        }
+        redisTemplate.execute(SAVE_IF_VERSION_SCRIPT,
+            List.of(getKey(recruitmentId), getVersionKey(recruitmentId)),
+            String.valueOf(version), DEFAULT_VERSION, String.valueOf(DETAIL_TTL.toMillis()),
+            BODY_FIELD, body,
+            APPLICANT_COUNT_FIELD, String.valueOf(response.recruitmentApplicantCount()));
+    }
+
+    /**
+     * 캐싱된 봉사 모집글의 신청자 수를 증가시킵니다.
+     *
+     * @param recruitmentId 봉사 모집글 id
+     */
+    @Override
+    public void increaseApplicantCount(long recruitmentId) {
+        redisTemplate.execute(INCREMENT_IF_CACHED_SCRIPT,
+            List.of(getKey(recruitmentId), getVersionKey(recruitmentId)),
+            APPLICANT_COUNT_FIELD, String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    /**
+     * 캐싱된 봉사 모집글 상세 정보를 제거합니다.
+     *
+     * @param recruitmentIds 제거할 봉사 모집글 id 목록
+     */
+    @Override
+    public void deleteRecruitmentDetails(Collection<Long> recruitmentIds) {
+        if (recruitmentIds.isEmpty()) {
+            return;
+        }
+        List<String> keys = new ArrayList<>();
+        recruitmentIds.forEach(recruitmentId -> {
+            keys.add(getKey(recruitmentId));
+            keys.add(getVersionKey(recruitmentId));
+        });
+        redisTemplate.execute(EVICT_SCRIPT, keys, String.valueOf(VERSION_TTL.toMillis()));
+    }
+
+    private FindRecruitmentDetailResponse overlayState(FindRecruitmentDetailResponse response,
+        int applicantCount) {
+        LocalDateTime deadline = response.recruitmentDeadline();
+        boolean passedDeadline = !deadline.isAfter(LocalDateTime.now());
+        return new FindRecruitmentDetailResponse(
+            response.recruitmentTitle(),
+            applicantCount,
+            response.recruitmentCapacity(),
+            response.recruitmentContent(),
+            response.recruitmentStartTime(),
+            response.recruitmentEndTime(),
+            response.recruitmentIsClosed() || passedDeadline,
+            response.recruitmentDeadline(),
+            response.recruitmentCreatedAt(),
+            response.recruitmentUpdatedAt(),
+            response.recruitmentImageUrls(),
+            response.shelterId()
+        );
+    }
+
+    private String getKey(long recruitmentId) {
+        return DETAIL_KEY_PREFIX + recruitmentId;
+    }
+
+    private String getVersionKey(long recruitmentId) {
+        return DETAIL_KEY_PREFIX + recruitmentId + VERSION_KEY_SUFFIX;
+    }
+}
@@ -4,18 +4,27 @@ import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse.FindRecruitmentResponse;
+import java.time.Duration;
 import java.time.LocalDateTime;
 import java.time.ZoneOffset;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.Set;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
+import org.springframework.data.redis.core.RedisOperations;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
 import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.data.redis.core.ZSetOperations;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
 import org.springframework.stereotype.Repository;
 
 @Repository
@@ -23,20 +32,43 @@ public class RecruitmentRedisRepository implements RecruitmentCacheRepository {
 
     private static final String RECRUITMENT_KEY = "recruitment";
     private static final String RECRUITMENT_COUNT_KEY = "recruitment:count";
+    private static final String SHELTER_CARDS_KEY_FORMAT = "recruitment:shelter:%d:cards";
     private static final int UNTIL_LAST_ELEMENT = -1;
     private static final int MAX_CACHED_SIZE = 30;
     private static final int ZERO = 0;
+    private static final int MAX_SWAP_ATTEMPTS = 5;
     public static final ZoneOffset CREATED_AT_SCORE_TIME_ZONE = ZoneOffset.UTC;
 
+    /**
+     * 캐시된 봉사 모집글 카드와 보호소별 역색인의 TTL입니다. 생성된 지 TTL이 지난 카드는 보호소 프로필 갱신 시 정리되므로
+     * 역색인이 만료된 뒤에도 갱신되지 않은 카드가 남지 않습니다.
+     */
+    private static final Duration SHELTER_CARDS_TTL = Duration.ofDays(7);
+
+    /**
+     * 보호소별 역색인에 모집글 id를 추가하고 TTL을 함께 갱신합니다.
+     */
+    private static final RedisScript<Long> ADD_SHELTER_CARD_SCRIPT = new DefaultRedisScript<>(
+        "redis.call('SADD', KEYS[1], ARGV[1]) "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+        Long.class);
+
+    private final RedisTemplate<String, FindRecruitmentResponse> findRecruitmentTemplate;
     private final ZSetOperations<String, FindRecruitmentResponse> cachedRecruitments;
     private final ValueOperations<String, Long> cachedRecruitmentsCount;
+    private final StringRedisTemplate stringRedisTemplate;
+    private final SetOperations<String, String> shelterCardIndex;
     private final RecruitmentRepository recruitmentRepository;
 
     public RecruitmentRedisRepository(
         RedisTemplate<String, FindRecruitmentResponse> findRecruitmentTemplate,
-        RedisTemplate<String, Long> countTemplate, RecruitmentRepository recruitmentRepository) {
+        RedisTemplate<String, Long> countTemplate, StringRedisTemplate stringRedisTemplate,
+        RecruitmentRepository recruitmentRepository) {
+        this.findRecruitmentTemplate = findRecruitmentTemplate;
         this.cachedRecruitments = findRecruitmentTemplate.opsForZSet();
         this.cachedRecruitmentsCount = countTemplate.opsForValue();
+        this.stringRedisTemplate = stringRedisTemplate;
+        this.shelterCardIndex = stringRedisTemplate.opsForSet();
         this.recruitmentRepository = recruitmentRepository;
     }
 
@@ -50,10 +82,21 @@ public class RecruitmentRedisRepository implements RecruitmentCacheRepository {
         FindRecruitmentResponse recruitmentResponse = FindRecruitmentResponse.from(recruitment);
         long createdAtScore = getCreatedAtScore(recruitment);
         cachedRecruitments.add(RECRUITMENT_KEY, recruitmentResponse, createdAtScore);
+        addShelterCard(recruitment.getShelter().getShelterId(), recruitment.getRecruitmentId());
         cachedRecruitmentsCount.increment(RECRUITMENT_COUNT_KEY);
         trimCache();
     }
 
+    private void addShelterCard(Long shelterId, Long recruitmentId) {
+        stringRedisTemplate.execute(ADD_SHELTER_CARD_SCRIPT,
+            List.of(getShelterCardsKey(shelterId)),
+            String.valueOf(recruitmentId), String.valueOf(SHELTER_CARDS_TTL.toMillis()));
+    }
+
+    private String getShelterCardsKey(Long shelterId) {
+        return SHELTER_CARDS_KEY_FORMAT.formatted(shelterId);
+    }
+
     private long getCreatedAtScore(Recruitment recruitment) {
         return recruitment.getCreatedAt().toEpochSecond(CREATED_AT_SCORE_TIME_ZONE);
     }
@@ -103,6 +146,8 @@ public class RecruitmentRedisRepository implements RecruitmentCacheRepository {
     public long deleteRecruitment(final Recruitment recruitment) {
         FindRecruitmentResponse recruitmentResponse = FindRecruitmentResponse.from(recruitment);
         Long number = cachedRecruitments.remove(RECRUITMENT_KEY, recruitmentResponse);
+        shelterCardIndex.remove(getShelterCardsKey(recruitment.getShelter().getShelterId()),
+            String.valueOf(recruitment.getRecruitmentId()));
         cachedRecruitmentsCount.decrement(RECRUITMENT_COUNT_KEY);
         return Objects.isNull(number) ? 0 : number;
     }
@@ -158,6 +203,112 @@ public class RecruitmentRedisRepository implements RecruitmentCacheRepository {
         );
     }
 
+    /**
+     * 보호소의 이름, 이미지가 변경된 경우 해당 보호소의 캐시된 봉사 모집글만 찾아 갱신합니다. 캐시를 WATCH 한 상태에서 카드를 읽고
+     * MULTI로 교체하므로, 그 사이 다른 요청이 캐시를 바꾸면 교체를 버리고 다시 시도합니다. 생성된 지 TTL이 지난 카드는 함께
+     * 제거하고, 보호소별 역색인에 남아 있지만 캐시에서 이미 밀려난 모집글 id는 정리합니다.
+     *
+     * @param shelterId 보호소 id
+     * @param shelterName 변경된 보호소 이름
+     * @param shelterImageUrl 변경된 보호소 이미지 url
+     */
+    @Override
+    public void updateShelterProfile(long shelterId, String shelterName,
+        String shelterImageUrl) {
+        String shelterCardsKey = getShelterCardsKey(shelterId);
+        for (int attempt = 0; attempt < MAX_SWAP_ATTEMPTS; attempt++) {
+            if (swapShelterProfile(shelterCardsKey, shelterName, shelterImageUrl)) {
+                return;
+            }
+        }
+    }
+
+    private boolean swapShelterProfile(String shelterCardsKey, String shelterName,
+        String shelterImageUrl) {
+        Boolean swapped = findRecruitmentTemplate.execute(new SessionCallback<>() {
+            @Override
+            @SuppressWarnings("unchecked")
+            public <K, V> Boolean execute(RedisOperations<K, V> operations) {
+                RedisOperations<String, FindRecruitmentResponse> recruitmentOperations
+                    = (RedisOperations<String, FindRecruitmentResponse>) operations;
+                recruitmentOperations.watch(RECRUITMENT_KEY);
+                Set<String> cardIds = Objects.requireNonNullElse(
+                    shelterCardIndex.members(shelterCardsKey), Set.of());
+                double expiredScore = getExpiredCardScore();
+                Set<TypedTuple<FindRecruitmentResponse>> cachedRecruitmentsWithScores
+                    = Objects.requireNonNull(recruitmentOperations.opsForZSet()
+                    .rangeWithScores(RECRUITMENT_KEY, ZERO, UNTIL_LAST_ELEMENT));
+                List<TypedTuple<FindRecruitmentResponse>> targets
+                    = cachedRecruitmentsWithScores.stream()
+                    .filter(cached -> Objects.nonNull(cached.getValue()))
+                    .filter(cached -> Objects.requireNonNull(cached.getScore()) > expiredScore)
+                    .filter(cached -> cardIds.contains(getCardId(cached.getValue())))
+                    .toList();
+                boolean hasExpiredCards = cachedRecruitmentsWithScores.stream()
+                    .anyMatch(cached -> Objects.requireNonNull(cached.getScore()) <= expiredScore);
+                if (targets.isEmpty() && !hasExpiredCards) {
+                    recruitmentOperations.unwatch();
+                    removeEvictedCardIds(shelterCardsKey, cardIds, targets);
+                    return true;
+                }
+
+                recruitmentOperations.multi();
+                ZSetOperations<String, FindRecruitmentResponse> queuedRecruitments
+                    = recruitmentOperations.opsForZSet();
+                queuedRecruitments.removeRangeByScore(RECRUITMENT_KEY, ZERO, expiredScore);
+                targets.forEach(target -> {
+                    FindRecruitmentResponse updatedRecruitment = updateCachedShelterProfile(
+                        target.getValue(), shelterName, shelterImageUrl);
+                    queuedRecruitments.remove(RECRUITMENT_KEY, target.getValue());
+                    queuedRecruitments.add(RECRUITMENT_KEY, updatedRecruitment,
+                        Objects.requireNonNull(target.getScore()));
+                });
+                List<Object> results = recruitmentOperations.exec();
+                if (Objects.isNull(results) || results.isEmpty()) {
+                    return false;
+                }
+                removeEvictedCardIds(shelterCardsKey, cardIds, targets);
+                return true;
+            }
+        });
+        return Boolean.TRUE.equals(swapped);
+    }
+
+    private double getExpiredCardScore() {
+        return LocalDateTime.now().minus(SHELTER_CARDS_TTL)
+            .toEpochSecond(CREATED_AT_SCORE_TIME_ZONE);
+    }
+
+    private String getCardId(FindRecruitmentResponse recruitment) {
+        return String.valueOf(recruitment.recruitmentId());
+    }
+
+    private void removeEvictedCardIds(String shelterCardsKey, Set<String> cardIds,
+        List<TypedTuple<FindRecruitmentResponse>> cachedCards) {
+        Set<String> evictedCardIds = new HashSet<>(cardIds);
+        cachedCards.forEach(cached -> evictedCardIds.remove(getCardId(cached.getValue())));
+        if (!evictedCardIds.isEmpty()) {
+            shelterCardIndex.remove(shelterCardsKey, evictedCardIds.toArray());
+        }
+    }
+
+    private FindRecruitmentResponse updateCachedShelterProfile(
+        FindRecruitmentResponse recruitment, String shelterName, String shelterImageUrl) {
+        return new FindRecruitmentResponse(
+            recruitment.recruitmentId(),
+            recruitment.recruitmentTitle(),
+            recruitment.recruitmentStartTime(),
+            recruitment.recruitmentEndTime(),
+            recruitment.recruitmentDeadline(),
+            recruitment.recruitmentIsClosed(),
+            recruitment.recruitmentApplicantCount(),
+            recruitment.recruitmentCapacity(),
+            shelterName,
+            shelterImageUrl,
+            recruitment.recruitmentCreatedAt()
+        );
+    }
+
     @Override
     public long getTotalNumberOfRecruitments() {
         Object cachedCount = cachedRecruitmentsCount.get(RECRUITMENT_COUNT_KEY);
@@ -1,14 +1,14 @@
 package com.clova.anifriends.domain.recruitment.repository;
 
 import com.clova.anifriends.domain.recruitment.Recruitment;
-import jakarta.persistence.LockModeType;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentCapacityResult;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentToCloseResult;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
-import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -41,23 +41,52 @@ public interface RecruitmentRepository
     @Query("select r from Recruitment r left join fetch r.images where r.recruitmentId = :recruitmentId")
     Optional<Recruitment> findRecruitmentDetail(@Param("recruitmentId") Long recruitmentId);
 
-    @Lock(LockModeType.PESSIMISTIC_WRITE)
-    @Query("select r from Recruitment r where r.recruitmentId = :recruitmentId")
-    Optional<Recruitment> findByIdPessimistic(@Param("recruitmentId") Long recruitmentId);
+    @Modifying
+    @Query("update Recruitment r"
+        + " set r.applicantCount.applicantCount = r.applicantCount.applicantCount + 1,"
+        + " r.capacityVersion = r.capacityVersion + 1"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and r.info.isClosed = false"
+        + " and r.info.deadline >= :now"
+        + " and r.applicantCount.applicantCount < r.info.capacity")
+    int increaseApplicantCountIfAvailable(@Param("recruitmentId") Long recruitmentId,
+        @Param("now") LocalDateTime now);
 
-    @Query("select r from Recruitment r inner join fetch r.applicants "
-        + "where r.info.startTime >= :time1 and r.info.startTime <= :time2")
-    List<Recruitment> findRecruitmentsByStartTime(@Param("time1") LocalDateTime time1,
-        @Param("time2") LocalDateTime time2);
+    @Query("select r from Recruitment r left join fetch r.applicants "
+        + "where r.recruitmentId = :recruitmentId")
+    Optional<Recruitment> findByIdWithApplicants(@Param("recruitmentId") Long recruitmentId);
 
-    @Query("select r from Recruitment r inner join fetch r.applicants "
-        + "where r.info.endTime >= :time1 and r.info.endTime <= :time2")
-    List<Recruitment> findRecruitmentsByEndTime(@Param("time1") LocalDateTime time1,
-        @Param("time2") LocalDateTime time2);
+    @Query("select r.info.startTime from Recruitment r"
+        + " where r.info.isClosed = false"
+        + " and r.info.startTime >= :from and r.info.startTime < :to")
+    List<LocalDateTime> findOpenedStartTimesBetween(@Param("from") LocalDateTime from,
+        @Param("to") LocalDateTime to);
+
+    @Query("select r.recruitmentId as recruitmentId, r.shelter.shelterId as shelterId,"
+        + " r.info.startTime as startTime, r.applicantCount.applicantCount as applicantCount,"
+        + " r.info.capacity as capacity"
+        + " from Recruitment r"
+        + " where r.info.isClosed = false"
+        + " and r.info.deadline <= now()")
+    List<FindRecruitmentToCloseResult> findRecruitmentsToClose();
 
     @Modifying(flushAutomatically = true, clearAutomatically = true)
-    @Query("update Recruitment r set r.info.isClosed = true"
+    @Query("update Recruitment r set r.info.isClosed = true,"
+        + " r.capacityVersion = r.capacityVersion + 1"
         + " where r.info.isClosed = false"
         + " and r.info.deadline <= now()")
     void closeRecruitmentsIfNeedToBe();
+
+    @Modifying
+    @Query("update Recruitment r set r.capacityVersion = r.capacityVersion + 1"
+        + " where r.recruitmentId = :recruitmentId")
+    void increaseCapacityVersion(@Param("recruitmentId") Long recruitmentId);
+
+    @Query("select r.recruitmentId as recruitmentId,"
+        + " r.applicantCount.applicantCount as applicantCount, r.info.capacity as capacity,"
+        + " r.info.isClosed as closed, r.capacityVersion as capacityVersion"
+        + " from Recruitment r"
+        + " where r.recruitmentId in :recruitmentIds")
+    List<FindRecruitmentCapacityResult> findCapacitiesByRecruitmentIds(
+        @Param("recruitmentIds") List<Long> recruitmentIds);
 }
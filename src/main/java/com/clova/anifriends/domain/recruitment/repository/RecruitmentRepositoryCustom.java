@@ -1,6 +1,7 @@
 package com.clova.anifriends.domain.recruitment.repository;
 
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import com.clova.anifriends.domain.recruitment.service.KeywordCondition;
 import com.clova.anifriends.domain.recruitment.service.KeywordConditionByShelter;
 import java.time.LocalDate;
@@ -26,4 +27,17 @@ public interface RecruitmentRepositoryCustom {
         KeywordConditionByShelter keywordConditionByShelter, Pageable pageable);
 
     Page<Recruitment> findShelterRecruitments(long shelterId, Pageable pageable);
+
+    Slice<FindShelterRecruitmentResult> findRecruitmentsByShelterV2(long shelterId,
+        String keyword, LocalDate startDate, LocalDate endDate, Boolean isClosed,
+        KeywordConditionByShelter keywordConditionByShelter, LocalDateTime createdAt,
+        Long recruitmentId, Pageable pageable);
+
+    long countFindRecruitmentsByShelterV2(long shelterId, String keyword, LocalDate startDate,
+        LocalDate endDate, Boolean isClosed, KeywordConditionByShelter keywordConditionByShelter);
+
+    Slice<FindShelterRecruitmentResult> findShelterRecruitmentsV2(long shelterId,
+        LocalDateTime createdAt, Long recruitmentId, Pageable pageable);
+
+    long countFindShelterRecruitmentsV2(long shelterId);
 }
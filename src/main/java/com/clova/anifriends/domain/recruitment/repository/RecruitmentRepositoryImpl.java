@@ -4,11 +4,14 @@ import static com.clova.anifriends.domain.recruitment.QRecruitment.recruitment;
 import static com.clova.anifriends.domain.shelter.QShelter.shelter;
 
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
+import com.clova.anifriends.domain.recruitment.repository.response.QFindShelterRecruitmentResult;
 import com.clova.anifriends.domain.recruitment.service.KeywordCondition;
 import com.clova.anifriends.domain.recruitment.service.KeywordConditionByShelter;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.types.Predicate;
 import com.querydsl.core.types.dsl.BooleanExpression;
+import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -88,7 +91,7 @@ public class RecruitmentRepositoryImpl implements
         return new SliceImpl<>(content, pageable, hasNext);
     }
 
-    private boolean hasNext(int pageSize, List<Recruitment> recruitments) {
+    private <T> boolean hasNext(int pageSize, List<T> recruitments) {
         if (recruitments.size() <= pageSize) {
             return false;
         }
@@ -235,6 +238,82 @@ public class RecruitmentRepositoryImpl implements
         return new PageImpl<>(recruitments, pageable, count == null ? 0 : count);
     }
 
+    @Override
+    public Slice<FindShelterRecruitmentResult> findRecruitmentsByShelterV2(long shelterId,
+        String keyword, LocalDate startDate, LocalDate endDate, Boolean isClosed,
+        KeywordConditionByShelter keywordConditionByShelter, LocalDateTime createdAt,
+        Long recruitmentId, Pageable pageable) {
+        Predicate predicate = recruitment.shelter.shelterId.eq(shelterId)
+            .and(getDateCondition(startDate, endDate))
+            .and(getKeywordCondition(keyword, keywordConditionByShelter))
+            .and(recruitmentIsClosed(isClosed))
+            .and(cursorId(recruitmentId, createdAt));
+
+        List<FindShelterRecruitmentResult> content = selectShelterRecruitmentResult()
+            .where(predicate)
+            .orderBy(recruitment.createdAt.desc(), recruitment.recruitmentId.desc())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        boolean hasNext = hasNext(pageable.getPageSize(), content);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countFindRecruitmentsByShelterV2(long shelterId, String keyword,
+        LocalDate startDate, LocalDate endDate, Boolean isClosed,
+        KeywordConditionByShelter keywordConditionByShelter) {
+        Predicate predicate = recruitment.shelter.shelterId.eq(shelterId)
+            .and(getDateCondition(startDate, endDate))
+            .and(getKeywordCondition(keyword, keywordConditionByShelter))
+            .and(recruitmentIsClosed(isClosed));
+
+        Long count = query.select(recruitment.count())
+            .from(recruitment)
+            .where(predicate)
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    @Override
+    public Slice<FindShelterRecruitmentResult> findShelterRecruitmentsV2(long shelterId,
+        LocalDateTime createdAt, Long recruitmentId, Pageable pageable) {
+        List<FindShelterRecruitmentResult> content = selectShelterRecruitmentResult()
+            .where(recruitment.shelter.shelterId.eq(shelterId),
+                recruitment.info.isClosed.eq(false),
+                cursorId(recruitmentId, createdAt))
+            .orderBy(recruitment.createdAt.desc(), recruitment.recruitmentId.desc())
+            .limit(pageable.getPageSize() + 1L)
+            .fetch();
+
+        boolean hasNext = hasNext(pageable.getPageSize(), content);
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    @Override
+    public long countFindShelterRecruitmentsV2(long shelterId) {
+        Long count = query.select(recruitment.count())
+            .from(recruitment)
+            .where(recruitment.shelter.shelterId.eq(shelterId)
+                .and(recruitment.info.isClosed.eq(false)))
+            .fetchOne();
+        return count == null ? 0 : count;
+    }
+
+    private JPAQuery<FindShelterRecruitmentResult> selectShelterRecruitmentResult() {
+        return query.select(new QFindShelterRecruitmentResult(
+                recruitment.recruitmentId,
+                recruitment.title.title,
+                recruitment.info.startTime,
+                recruitment.info.endTime,
+                recruitment.info.deadline,
+                recruitment.info.isClosed,
+                recruitment.applicantCount.applicantCount,
+                recruitment.info.capacity,
+                recruitment.createdAt))
+            .from(recruitment);
+    }
+
     private BooleanExpression getDateCondition(LocalDate startDate, LocalDate endDate) {
         BooleanExpression predicate = recruitment.isNotNull();
         if (startDate != null) {
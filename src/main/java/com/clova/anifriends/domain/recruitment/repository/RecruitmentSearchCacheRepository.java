@@ -0,0 +1,17 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
+import java.util.Optional;
+
+public interface RecruitmentSearchCacheRepository {
+
+    boolean admitKeyword(String keyword);
+
+    long getSearchVersion();
+
+    Optional<FindRecruitmentsResponse> findSearchResult(long version, String condition);
+
+    void saveSearchResult(long version, String condition, FindRecruitmentsResponse response);
+
+    void evictSearchResults();
+}
@@ -0,0 +1,132 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Slf4j
+@Repository
+public class RecruitmentSearchRedisRepository implements RecruitmentSearchCacheRepository {
+
+    private static final String FREQUENCY_KEY = "recruitment:search:frequency";
+    private static final String VERSION_KEY = "recruitment:search:version";
+    private static final String RESULT_KEY_PREFIX = "recruitment:search:result:";
+    private static final long ADMISSION_THRESHOLD = 3;
+    private static final long MAX_CACHED_KEYWORDS = 100;
+    private static final Duration FREQUENCY_WINDOW = Duration.ofDays(1);
+    private static final Duration RESULT_TTL = Duration.ofMinutes(5);
+
+    /**
+     * 검색어의 빈도를 1 증가시키고, 빈도가 기준 이상이면서 상위 검색어에 속하는 경우에만 1을 반환합니다. 빈도 집계는 첫 집계 시점부터 하루 동안
+     * 유지됩니다.
+     */
+    private static final RedisScript<Long> ADMIT_KEYWORD_SCRIPT = new DefaultRedisScript<>(
+        "local frequency = tonumber(redis.call('ZINCRBY', KEYS[1], 1, ARGV[1])) "
+            + "if redis.call('TTL', KEYS[1]) < 0 then "
+            + "redis.call('EXPIRE', KEYS[1], ARGV[2]) end "
+            + "if frequency < tonumber(ARGV[3]) then return 0 end "
+            + "if redis.call('ZREVRANK', KEYS[1], ARGV[1]) < tonumber(ARGV[4]) then return 1 end "
+            + "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ValueOperations<String, String> cachedResults;
+    private final ObjectMapper objectMapper;
+
+    public RecruitmentSearchRedisRepository(
+        StringRedisTemplate redisTemplate,
+        ObjectMapper objectMapper) {
+        this.redisTemplate = redisTemplate;
+        this.cachedResults = redisTemplate.opsForValue();
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * 검색어의 빈도를 집계하고 검색 결과를 캐싱할 인기 검색어인지 판단합니다.
+     *
+     * @param keyword 정규화된 검색어
+     * @return 인기 검색어인 경우 true
+     */
+    @Override
+    public boolean admitKeyword(String keyword) {
+        Long admitted = redisTemplate.execute(ADMIT_KEYWORD_SCRIPT, List.of(FREQUENCY_KEY),
+            keyword, String.valueOf(FREQUENCY_WINDOW.toSeconds()),
+            String.valueOf(ADMISSION_THRESHOLD), String.valueOf(MAX_CACHED_KEYWORDS));
+        return Objects.nonNull(admitted) && admitted == 1;
+    }
+
+    /**
+     * 봉사 모집글 검색 결과의 현재 버전을 조회합니다. 검색 결과는 조회 시점의 버전으로 저장되므로 저장 전에 버전이 올라간 결과는 다시 조회되지
+     * 않습니다.
+     *
+     * @return 현재 버전
+     */
+    @Override
+    public long getSearchVersion() {
+        String version = cachedResults.get(VERSION_KEY);
+        return Objects.isNull(version) ? 0 : Long.parseLong(version);
+    }
+
+    /**
+     * 해당 버전에 캐싱된 검색 결과를 조회합니다.
+     *
+     * @param version 검색 결과 버전
+     * @param condition 검색 조건을 직렬화한 문자열
+     * @return 캐싱된 검색 결과. 캐싱되지 않았거나 역직렬화에 실패한 경우 빈 값
+     */
+    @Override
+    public Optional<FindRecruitmentsResponse> findSearchResult(long version, String condition) {
+        String key = getResultKey(version, condition);
+        String body = cachedResults.get(key);
+        if (Objects.isNull(body)) {
+            return Optional.empty();
+        }
+        try {
+            return Optional.of(objectMapper.readValue(body, FindRecruitmentsResponse.class));
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 봉사 모집글 검색 캐시를 읽지 못했습니다. condition={}", condition);
+            redisTemplate.delete(key);
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * 검색 결과를 조회 시점의 버전으로 캐싱합니다.
+     *
+     * @param version 조회 시점의 검색 결과 버전
+     * @param condition 검색 조건을 직렬화한 문자열
+     * @param response db에서 조회한 검색 결과
+     */
+    @Override
+    public void saveSearchResult(long version, String condition,
+        FindRecruitmentsResponse response) {
+        try {
+            cachedResults.set(getResultKey(version, condition),
+                objectMapper.writeValueAsString(response), RESULT_TTL);
+        } catch (JacksonException exception) {
+            log.warn("[Cache] 봉사 모집글 검색 캐시를 저장하지 못했습니다. condition={}", condition);
+        }
+    }
+
+    /**
+     * 버전을 올려 캐싱된 모든 검색 결과를 무효화합니다. 이전 버전의 검색 결과는 만료 시간이 지나면 제거됩니다.
+     */
+    @Override
+    public void evictSearchResults() {
+        cachedResults.increment(VERSION_KEY);
+    }
+
+    private String getResultKey(long version, String condition) {
+        return RESULT_KEY_PREFIX + version + ":" + condition;
+    }
+}
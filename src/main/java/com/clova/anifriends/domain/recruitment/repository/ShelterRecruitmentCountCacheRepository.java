@@ -0,0 +1,14 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import java.util.Optional;
+
+public interface ShelterRecruitmentCountCacheRepository {
+
+    long getVersion(long shelterId);
+
+    Optional<Long> findCount(long shelterId, long version, String condition);
+
+    void saveCount(long shelterId, long version, String condition, long count);
+
+    void evictCounts(long shelterId);
+}
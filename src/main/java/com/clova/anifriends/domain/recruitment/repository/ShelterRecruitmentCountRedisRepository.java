@@ -0,0 +1,88 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class ShelterRecruitmentCountRedisRepository implements
+    ShelterRecruitmentCountCacheRepository {
+
+    private static final String COUNT_KEY_PREFIX = "recruitment:shelter:";
+    private static final String VERSION_KEY_SUFFIX = ":count-version";
+    private static final String DEFAULT_VERSION = "0";
+    private static final Duration COUNT_TTL = Duration.ofMinutes(10);
+    private static final Duration VERSION_TTL = Duration.ofDays(1);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ValueOperations<String, String> cachedCounts;
+
+    public ShelterRecruitmentCountRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+        this.cachedCounts = redisTemplate.opsForValue();
+    }
+
+    /**
+     * 보호소의 봉사 모집글 수 캐시의 현재 버전을 조회합니다. 개수는 조회 시점의 버전으로 저장되므로, db에서 개수를 세기 전에 읽어야 세는 도중에
+     * 무효화된 개수가 새 버전으로 저장되지 않습니다.
+     *
+     * @param shelterId 보호소 id
+     * @return 현재 버전
+     */
+    @Override
+    public long getVersion(long shelterId) {
+        String version = cachedCounts.get(getVersionKey(shelterId));
+        return Long.parseLong(Objects.requireNonNullElse(version, DEFAULT_VERSION));
+    }
+
+    /**
+     * 보호소의 봉사 모집글 수를 조회 조건별로 조회합니다.
+     *
+     * @param shelterId 보호소 id
+     * @param version 조회 시점의 버전
+     * @param condition 조회 조건을 직렬화한 문자열
+     * @return 캐싱된 봉사 모집글 수. 캐싱되지 않은 경우 빈 값
+     */
+    @Override
+    public Optional<Long> findCount(long shelterId, long version, String condition) {
+        String count = cachedCounts.get(getCountKey(shelterId, version, condition));
+        return Optional.ofNullable(count).map(Long::parseLong);
+    }
+
+    /**
+     * 보호소의 봉사 모집글 수를 db에서 세기 전에 읽은 버전으로 캐싱합니다.
+     *
+     * @param shelterId 보호소 id
+     * @param version db에서 개수를 세기 전에 읽은 버전
+     * @param condition 조회 조건을 직렬화한 문자열
+     * @param count db에서 조회한 봉사 모집글 수
+     */
+    @Override
+    public void saveCount(long shelterId, long version, String condition, long count) {
+        cachedCounts.set(getCountKey(shelterId, version, condition), String.valueOf(count),
+            COUNT_TTL);
+    }
+
+    /**
+     * 보호소의 버전을 올려 기존에 캐싱된 모든 조건의 봉사 모집글 수를 무효화합니다.
+     *
+     * @param shelterId 보호소 id
+     */
+    @Override
+    public void evictCounts(long shelterId) {
+        String versionKey = getVersionKey(shelterId);
+        cachedCounts.increment(versionKey);
+        redisTemplate.expire(versionKey, VERSION_TTL);
+    }
+
+    private String getCountKey(long shelterId, long version, String condition) {
+        return COUNT_KEY_PREFIX + shelterId + ":count:" + version + ":" + condition;
+    }
+
+    private String getVersionKey(long shelterId) {
+        return COUNT_KEY_PREFIX + shelterId + VERSION_KEY_SUFFIX;
+    }
+}
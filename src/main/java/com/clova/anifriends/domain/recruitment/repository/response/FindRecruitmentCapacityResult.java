@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.recruitment.repository.response;
+
+public interface FindRecruitmentCapacityResult {
+
+    Long getRecruitmentId();
+    int getApplicantCount();
+    int getCapacity();
+    boolean isClosed();
+    long getCapacityVersion();
+}
@@ -0,0 +1,12 @@
+package com.clova.anifriends.domain.recruitment.repository.response;
+
+import java.time.LocalDateTime;
+
+public interface FindRecruitmentToCloseResult {
+
+    Long getRecruitmentId();
+    Long getShelterId();
+    LocalDateTime getStartTime();
+    int getApplicantCount();
+    int getCapacity();
+}
@@ -0,0 +1,42 @@
+package com.clova.anifriends.domain.recruitment.repository.response;
+
+import com.querydsl.core.annotations.QueryProjection;
+import java.time.LocalDateTime;
+import lombok.Getter;
+
+@Getter
+public class FindShelterRecruitmentResult {
+
+    private final Long recruitmentId;
+    private final String recruitmentTitle;
+    private final LocalDateTime recruitmentStartTime;
+    private final LocalDateTime recruitmentEndTime;
+    private final LocalDateTime recruitmentDeadline;
+    private final boolean recruitmentIsClosed;
+    private final int recruitmentApplicantCount;
+    private final int recruitmentCapacity;
+    private final LocalDateTime recruitmentCreatedAt;
+
+    @QueryProjection
+    public FindShelterRecruitmentResult(
+        Long recruitmentId,
+        String recruitmentTitle,
+        LocalDateTime recruitmentStartTime,
+        LocalDateTime recruitmentEndTime,
+        LocalDateTime recruitmentDeadline,
+        boolean recruitmentIsClosed,
+        int recruitmentApplicantCount,
+        int recruitmentCapacity,
+        LocalDateTime recruitmentCreatedAt
+    ) {
+        this.recruitmentId = recruitmentId;
+        this.recruitmentTitle = recruitmentTitle;
+        this.recruitmentStartTime = recruitmentStartTime;
+        this.recruitmentEndTime = recruitmentEndTime;
+        this.recruitmentDeadline = recruitmentDeadline;
+        this.recruitmentIsClosed = recruitmentIsClosed;
+        this.recruitmentApplicantCount = recruitmentApplicantCount;
+        this.recruitmentCapacity = recruitmentCapacity;
+        this.recruitmentCreatedAt = recruitmentCreatedAt;
+    }
+}
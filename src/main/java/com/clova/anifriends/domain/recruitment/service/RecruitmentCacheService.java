@@ -2,8 +2,11 @@ package com.clova.anifriends.domain.recruitment.service;
 
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCalendarCacheRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.stream.LongStream;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Slice;
@@ -15,11 +18,14 @@ import org.springframework.transaction.annotation.Transactional;
 public class RecruitmentCacheService {
 
     private static final int MAX_CACHED_SIZE = 30;
+    private static final long CALENDAR_SYNC_MONTHS_BEFORE = 1;
+    private static final long CALENDAR_SYNC_MONTHS_AFTER = 6;
     private static final KeywordCondition ALL_CONTAINS_CONDITION
         = new KeywordCondition(true, true, true);
 
     private final RecruitmentRepository recruitmentRepository;
     private final RecruitmentCacheRepository recruitmentCacheRepository;
+    private final RecruitmentCalendarCacheRepository recruitmentCalendarCacheRepository;
 
     @Transactional(readOnly = true)
     public void synchronizeRecruitmentsCache() {
@@ -29,4 +35,12 @@ public class RecruitmentCacheService {
         List<Recruitment> findRecruitments = recruitmentSlice.getContent();
         findRecruitments.forEach(recruitmentCacheRepository::saveRecruitment);
     }
+
+    @Transactional(readOnly = true)
+    public void synchronizeRecruitmentCalendar() {
+        YearMonth now = YearMonth.now();
+        LongStream.rangeClosed(-CALENDAR_SYNC_MONTHS_BEFORE, CALENDAR_SYNC_MONTHS_AFTER)
+            .mapToObj(now::plusMonths)
+            .forEach(recruitmentCalendarCacheRepository::synchronizeMonth);
+    }
 }
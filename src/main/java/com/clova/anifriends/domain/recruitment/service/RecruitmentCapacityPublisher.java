@@ -0,0 +1,77 @@
+package com.clova.anifriends.domain.recruitment.service;
+
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import jakarta.annotation.PreDestroy;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.stereotype.Service;
+
+/**
+ * 봉사 모집글의 정원 변경을 /sub/recruitments/{recruitmentId} 채널로 발행합니다. 짧은 시간 안에 같은 모집글의 변경이 여러 번
+ * 발생하면 버전이 가장 높은 상태만 한 번 발행합니다.
+ */
+@Slf4j
+@Service
+public class RecruitmentCapacityPublisher {
+
+    public static final String CHANNEL_PREFIX = "/sub/recruitments/";
+    private static final long COALESCING_WINDOW_MILLIS = 300;
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final Map<Long, RecruitmentCapacityResponse> pendingCapacities
+        = new ConcurrentHashMap<>();
+    private final ScheduledExecutorService publishExecutor
+        = Executors.newSingleThreadScheduledExecutor();
+
+    public RecruitmentCapacityPublisher(RedisTemplate<String, Object> redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 봉사 모집글의 정원 변경을 발행 대기열에 등록합니다. 대기 중인 변경이 없던 모집글만 발행을 예약하고, 이미 대기 중이면 버전이 더
+     * 높은 상태로 덮어씁니다. 커밋 후 리스너가 늦게 실행되어 이전 버전이 나중에 도착해도 최신 상태를 되돌리지 않습니다.
+     *
+     * @param capacity 변경된 봉사 모집글의 정원 상태
+     */
+    public void publish(RecruitmentCapacityResponse capacity) {
+        Long recruitmentId = capacity.recruitmentId();
+        AtomicBoolean firstPending = new AtomicBoolean();
+        pendingCapacities.compute(recruitmentId, (id, pendingCapacity) -> {
+            if (Objects.isNull(pendingCapacity)) {
+                firstPending.set(true);
+                return capacity;
+            }
+            return capacity.capacityVersion() >= pendingCapacity.capacityVersion()
+                ? capacity : pendingCapacity;
+        });
+        if (firstPending.get()) {
+            publishExecutor.schedule(() -> flush(recruitmentId), COALESCING_WINDOW_MILLIS,
+                TimeUnit.MILLISECONDS);
+        }
+    }
+
+    private void flush(Long recruitmentId) {
+        RecruitmentCapacityResponse capacity = pendingCapacities.remove(recruitmentId);
+        if (Objects.isNull(capacity)) {
+            return;
+        }
+        try {
+            redisTemplate.convertAndSend(CHANNEL_PREFIX + recruitmentId, capacity);
+        } catch (RuntimeException exception) {
+            log.warn("[Recruitment] 봉사 모집글 정원 변경 발행에 실패했습니다. recruitmentId={}",
+                recruitmentId, exception);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        publishExecutor.shutdown();
+    }
+}
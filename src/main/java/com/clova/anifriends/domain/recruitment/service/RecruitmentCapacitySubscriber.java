@@ -0,0 +1,39 @@
+package com.clova.anifriends.domain.recruitment.service;
+
+import static java.util.Objects.requireNonNull;
+
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import com.fasterxml.jackson.core.JacksonException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.stereotype.Service;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RecruitmentCapacitySubscriber implements MessageListener {
+
+    private final ObjectMapper objectMapper;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final SimpMessageSendingOperations messagingTemplate;
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String publishMessage = redisTemplate.getStringSerializer()
+            .deserialize(message.getBody());
+        String channel = redisTemplate.getStringSerializer().deserialize(message.getChannel());
+
+        try {
+            RecruitmentCapacityResponse response = objectMapper.readValue(publishMessage,
+                RecruitmentCapacityResponse.class);
+            messagingTemplate.convertAndSend(requireNonNull(channel), response);
+        } catch (JacksonException exception) {
+            log.warn("[Recruitment] 봉사 모집글 정원 변경 메시지를 읽지 못했습니다. channel={}", channel);
+        }
+    }
+}
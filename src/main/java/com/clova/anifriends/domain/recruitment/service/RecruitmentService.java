@@ -1,23 +1,44 @@
 package com.clova.anifriends.domain.recruitment.service;
 
 import com.clova.anifriends.domain.common.event.ImageDeletionEvent;
+import com.clova.anifriends.domain.notification.ReminderJob;
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.dto.response.FindCompletedRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentCalendarResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsByShelterResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindShelterRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.RegisterRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCalendarChangedEvent;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCapacityChangedEvent;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentDetailEvictionEvent;
+import com.clova.anifriends.domain.recruitment.event.ShelterRecruitmentsChangedEvent;
+import com.clova.anifriends.domain.recruitment.exception.RecruitmentBadRequestException;
 import com.clova.anifriends.domain.recruitment.exception.RecruitmentNotFoundException;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCalendarCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentDetailCacheRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentSearchCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.ShelterRecruitmentCountCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentToCloseResult;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.domain.volunteer.repository.response.FindCompletedRecruitmentResult;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Locale;
 import java.util.Objects;
+import java.util.function.LongSupplier;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
@@ -30,10 +51,23 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class RecruitmentService {
 
+    private static final String OPENED_RECRUITMENTS_CONDITION = "opened";
+    private static final long CALENDAR_MAX_MONTHS_FROM_NOW = 12;
+    private static final LocalDateTime MAX_CURSOR_START_TIME
+        = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+    private static final long UNCOUNTED = -1;
+
     private final ShelterRepository shelterRepository;
     private final RecruitmentRepository recruitmentRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final RecruitmentCacheRepository recruitmentCacheRepository;
+    private final RecruitmentCalendarCacheRepository recruitmentCalendarCacheRepository;
+    private final RecruitmentDetailCacheRepository recruitmentDetailCacheRepository;
+    private final VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+    private final VolunteerRepository volunteerRepository;
+    private final ShelterRecruitmentCountCacheRepository shelterRecruitmentCountCacheRepository;
+    private final RecruitmentSearchCacheRepository recruitmentSearchCacheRepository;
+    private final ReminderJobRepository reminderJobRepository;
 
     @Transactional
     public RegisterRecruitmentResponse registerRecruitment(
@@ -57,7 +91,11 @@ public class RecruitmentService {
             imageUrls);
 
         recruitmentRepository.save(recruitment);
+        reminderJobRepository.saveAll(ReminderJob.from(recruitment, LocalDateTime.now()));
         recruitmentCacheRepository.saveRecruitment(recruitment);
+        applicationEventPublisher.publishEvent(
+            RecruitmentCalendarChangedEvent.opened(recruitment.getStartTime()));
+        applicationEventPublisher.publishEvent(ShelterRecruitmentsChangedEvent.of(shelterId));
 
         return RegisterRecruitmentResponse.from(recruitment);
     }
@@ -96,10 +134,86 @@ public class RecruitmentService {
     }
 
     @Transactional(readOnly = true)
+    public FindRecruitmentsByShelterResponse findRecruitmentsByShelterV2(
+        Long shelterId,
+        String keyword,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isClosed,
+        KeywordConditionByShelter keywordConditionByShelter,
+        LocalDateTime createdAt,
+        Long recruitmentId,
+        Pageable pageable
+    ) {
+        Slice<FindShelterRecruitmentResult> recruitments
+            = recruitmentRepository.findRecruitmentsByShelterV2(
+            shelterId,
+            keyword,
+            startDate,
+            endDate,
+            isClosed,
+            keywordConditionByShelter,
+            createdAt,
+            recruitmentId,
+            pageable
+        );
+        String countCondition = String.join("|", String.valueOf(keyword),
+            String.valueOf(startDate), String.valueOf(endDate), String.valueOf(isClosed),
+            String.valueOf(keywordConditionByShelter));
+        long count = getShelterRecruitmentsCount(shelterId, countCondition,
+            () -> recruitmentRepository.countFindRecruitmentsByShelterV2(
+                shelterId,
+                keyword,
+                startDate,
+                endDate,
+                isClosed,
+                keywordConditionByShelter));
+        return FindRecruitmentsByShelterResponse.fromV2(recruitments, count);
+    }
+
+    @Transactional(readOnly = true)
+    public FindShelterRecruitmentsResponse findShelterRecruitmentsV2(
+        long shelterId,
+        LocalDateTime createdAt,
+        Long recruitmentId,
+        Pageable pageable
+    ) {
+        Slice<FindShelterRecruitmentResult> recruitments
+            = recruitmentRepository.findShelterRecruitmentsV2(
+            shelterId, createdAt, recruitmentId, pageable);
+        long count = getShelterRecruitmentsCount(shelterId, OPENED_RECRUITMENTS_CONDITION,
+            () -> recruitmentRepository.countFindShelterRecruitmentsV2(shelterId));
+        return FindShelterRecruitmentsResponse.fromV2(recruitments, count);
+    }
+
+    private long getShelterRecruitmentsCount(long shelterId, String condition,
+        LongSupplier countLoader) {
+        long version = shelterRecruitmentCountCacheRepository.getVersion(shelterId);
+        return shelterRecruitmentCountCacheRepository.findCount(shelterId, version, condition)
+            .orElseGet(() -> {
+                long count = countLoader.getAsLong();
+                shelterRecruitmentCountCacheRepository.saveCount(shelterId, version, condition,
+                    count);
+                return count;
+            });
+    }
+
+    /**
+     * 봉사 모집글 상세 정보를 조회합니다. 캐시에 있으면 db 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 캐시에 없을 때만 이미지까지 한 번에 조회하는
+     * 리포지토리 조회의 읽기 전용 트랜잭션을 사용합니다.
+     */
     public FindRecruitmentDetailResponse findRecruitmentDetail(long recruitmentId) {
+        return recruitmentDetailCacheRepository.findRecruitmentDetail(recruitmentId)
+            .orElseGet(() -> loadRecruitmentDetail(recruitmentId));
+    }
+
+    private FindRecruitmentDetailResponse loadRecruitmentDetail(long recruitmentId) {
+        long version = recruitmentDetailCacheRepository.getVersion(recruitmentId);
         Recruitment recruitment = recruitmentRepository.findRecruitmentDetail(recruitmentId)
             .orElseThrow(() -> new RecruitmentNotFoundException("존재하지 않는 모집글입니다."));
-        return FindRecruitmentDetailResponse.from(recruitment);
+        FindRecruitmentDetailResponse response = FindRecruitmentDetailResponse.from(recruitment);
+        recruitmentDetailCacheRepository.saveRecruitmentDetail(recruitmentId, version, response);
+        return response;
     }
 
     @Transactional(readOnly = true)
@@ -111,6 +225,27 @@ public class RecruitmentService {
         return FindCompletedRecruitmentsResponse.from(recruitmentPage);
     }
 
+    /**
+     * v1과 같이 참여 확정된 모든 봉사를 시작 시간 내림차순으로 조회합니다. 아직 시작하지 않은 봉사도 포함됩니다. 전체 개수는 커서가 없는 첫
+     * 페이지에서만 조회하며, 다음 페이지에서는 -1을 반환합니다.
+     */
+    @Transactional(readOnly = true)
+    public FindCompletedRecruitmentsResponse findCompletedRecruitmentsV2(
+        Long volunteerId,
+        LocalDateTime recruitmentStartTime,
+        Long recruitmentId,
+        Pageable pageable) {
+        boolean isFirstPage = Objects.isNull(recruitmentStartTime);
+        LocalDateTime cursorStartTime = isFirstPage ? MAX_CURSOR_START_TIME : recruitmentStartTime;
+        Long cursorRecruitmentId = Objects.isNull(recruitmentId) ? Long.MAX_VALUE : recruitmentId;
+        Slice<FindCompletedRecruitmentResult> recruitments = volunteerCompletedRecruitmentRepository
+            .findCompletedRecruitments(volunteerId, cursorStartTime, cursorRecruitmentId,
+                pageable);
+        long count = isFirstPage
+            ? volunteerCompletedRecruitmentRepository.countByVolunteerId(volunteerId) : UNCOUNTED;
+        return FindCompletedRecruitmentsResponse.fromV2(recruitments, count);
+    }
+
     @Transactional(readOnly = true)
     public FindRecruitmentsResponse findRecruitments(
         String keyword,
@@ -143,7 +278,55 @@ public class RecruitmentService {
         if (isFirstPage(keyword, startDate, endDate, isClosed, keywordCondition, recruitmentId)) {
             return recruitmentCacheRepository.findRecruitments(pageable.getPageSize());
         }
+        if (isFirstKeywordSearchPage(keyword, recruitmentId)) {
+            return findKeywordSearchFirstPage(keyword.strip(), startDate, endDate, isClosed,
+                keywordCondition, pageable);
+        }
+        return searchRecruitments(keyword, startDate, endDate, isClosed, keywordCondition,
+            createdAt, recruitmentId, pageable);
+    }
+
+    private boolean isFirstKeywordSearchPage(String keyword, Long recruitmentId) {
+        return Objects.nonNull(keyword) && !keyword.isBlank() && Objects.isNull(recruitmentId);
+    }
 
+    private FindRecruitmentsResponse findKeywordSearchFirstPage(
+        String keyword,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isClosed,
+        KeywordCondition keywordCondition,
+        Pageable pageable
+    ) {
+        String normalizedKeyword = keyword.toLowerCase(Locale.ROOT);
+        if (!recruitmentSearchCacheRepository.admitKeyword(normalizedKeyword)) {
+            return searchRecruitments(keyword, startDate, endDate, isClosed, keywordCondition,
+                null, null, pageable);
+        }
+        long version = recruitmentSearchCacheRepository.getSearchVersion();
+        String searchCondition = String.join("|", normalizedKeyword,
+            String.valueOf(startDate), String.valueOf(endDate), String.valueOf(isClosed),
+            String.valueOf(keywordCondition), String.valueOf(pageable.getPageSize()));
+        return recruitmentSearchCacheRepository.findSearchResult(version, searchCondition)
+            .orElseGet(() -> {
+                FindRecruitmentsResponse response = searchRecruitments(keyword, startDate,
+                    endDate, isClosed, keywordCondition, null, null, pageable);
+                recruitmentSearchCacheRepository.saveSearchResult(version, searchCondition,
+                    response);
+                return response;
+            });
+    }
+
+    private FindRecruitmentsResponse searchRecruitments(
+        String keyword,
+        LocalDate startDate,
+        LocalDate endDate,
+        Boolean isClosed,
+        KeywordCondition keywordCondition,
+        LocalDateTime createdAt,
+        Long recruitmentId,
+        Pageable pageable
+    ) {
         long count = recruitmentRepository.countFindRecruitmentsV2(
             keyword,
             startDate,
@@ -163,6 +346,25 @@ public class RecruitmentService {
         return FindRecruitmentsResponse.fromV2(recruitments, count);
     }
 
+    /**
+     * 달의 일자별 모집 중인 봉사 모집글 수를 조회합니다. 캐시에 있으면 db 커넥션을 잡지 않도록 트랜잭션을 열지 않고, 캐시에 없는 달을 다시 적재할
+     * 때만 리포지토리 조회의 읽기 전용 트랜잭션을 사용합니다.
+     */
+    public FindRecruitmentCalendarResponse findRecruitmentCalendar(int year, int month) {
+        YearMonth yearMonth = YearMonth.of(year, month);
+        checkCalendarRange(yearMonth);
+        return FindRecruitmentCalendarResponse.of(yearMonth,
+            recruitmentCalendarCacheRepository.findDailyCounts(yearMonth));
+    }
+
+    private void checkCalendarRange(YearMonth yearMonth) {
+        YearMonth now = YearMonth.now();
+        if (yearMonth.isBefore(now.minusMonths(CALENDAR_MAX_MONTHS_FROM_NOW))
+            || yearMonth.isAfter(now.plusMonths(CALENDAR_MAX_MONTHS_FROM_NOW))) {
+            throw new RecruitmentBadRequestException("현재로부터 12개월 이내의 달력만 조회할 수 있습니다.");
+        }
+    }
+
     private boolean isFirstPage(String keyword, LocalDate startDate,
         LocalDate endDate, Boolean isClosed, KeywordCondition keywordCondition, Long recruitmentId) {
         return Objects.isNull(keyword) && Objects.isNull(keywordCondition)
@@ -174,10 +376,17 @@ public class RecruitmentService {
     public void closeRecruitment(Long shelterId, Long recruitmentId) {
         Recruitment recruitment = getRecruitmentByShelter(shelterId, recruitmentId);
         long deleted = recruitmentCacheRepository.deleteRecruitment(recruitment);
+        if (!recruitment.isClosed()) {
+            applicationEventPublisher.publishEvent(
+                RecruitmentCalendarChangedEvent.closed(recruitment.getStartTime()));
+        }
         recruitment.closeRecruitment();
         if(deleted > 0) {
             recruitmentCacheRepository.saveRecruitment(recruitment);
         }
+        applicationEventPublisher.publishEvent(RecruitmentDetailEvictionEvent.of(recruitmentId));
+        applicationEventPublisher.publishEvent(ShelterRecruitmentsChangedEvent.of(shelterId));
+        publishCapacityChangedEvent(recruitmentId);
     }
 
     @Transactional
@@ -194,6 +403,8 @@ public class RecruitmentService {
     ) {
         Recruitment recruitment = getRecruitmentByShelterWithImages(shelterId, recruitmentId);
         long deleted = recruitmentCacheRepository.deleteRecruitment(recruitment);
+        LocalDateTime previousStartTime = recruitment.getStartTime();
+        LocalDateTime previousEndTime = recruitment.getEndTime();
 
         List<String> imagesToDelete = recruitment.findImagesToDelete(imageUrls);
         applicationEventPublisher.publishEvent(new ImageDeletionEvent(imagesToDelete));
@@ -210,6 +421,33 @@ public class RecruitmentService {
         if(deleted > 0) {
             recruitmentCacheRepository.saveRecruitment(recruitment);
         }
+        moveCalendarDailyCount(recruitment, previousStartTime);
+        if (!previousStartTime.isEqual(recruitment.getStartTime())) {
+            volunteerCompletedRecruitmentRepository.updateRecruitmentStartTime(recruitmentId,
+                recruitment.getStartTime());
+        }
+        if (!previousStartTime.isEqual(recruitment.getStartTime())
+            || !previousEndTime.isEqual(recruitment.getEndTime())) {
+            rescheduleReminderJobs(recruitment);
+        }
+        applicationEventPublisher.publishEvent(RecruitmentDetailEvictionEvent.of(recruitmentId));
+        applicationEventPublisher.publishEvent(ShelterRecruitmentsChangedEvent.of(shelterId));
+        publishCapacityChangedEvent(recruitmentId);
+    }
+
+    private void rescheduleReminderJobs(Recruitment recruitment) {
+        reminderJobRepository.deleteByRecruitmentId(recruitment.getRecruitmentId());
+        reminderJobRepository.saveAll(ReminderJob.from(recruitment, LocalDateTime.now()));
+    }
+
+    private void moveCalendarDailyCount(Recruitment recruitment, LocalDateTime previousStartTime) {
+        LocalDateTime startTime = recruitment.getStartTime();
+        boolean isSameDay = previousStartTime.toLocalDate().isEqual(startTime.toLocalDate());
+        if (recruitment.isClosed() || isSameDay) {
+            return;
+        }
+        applicationEventPublisher.publishEvent(
+            RecruitmentCalendarChangedEvent.moved(previousStartTime, startTime));
     }
 
     @Transactional
@@ -221,7 +459,16 @@ public class RecruitmentService {
         applicationEventPublisher.publishEvent(new ImageDeletionEvent(imagesToDelete));
 
         recruitmentRepository.delete(recruitment);
+        volunteerRepository.decreaseCompletedCountByRecruitmentId(recruitmentId);
+        volunteerCompletedRecruitmentRepository.deleteByRecruitmentId(recruitmentId);
+        reminderJobRepository.deleteByRecruitmentId(recruitmentId);
         recruitmentCacheRepository.deleteRecruitment(recruitment);
+        if (!recruitment.isClosed()) {
+            applicationEventPublisher.publishEvent(
+                RecruitmentCalendarChangedEvent.closed(recruitment.getStartTime()));
+        }
+        applicationEventPublisher.publishEvent(RecruitmentDetailEvictionEvent.of(recruitmentId));
+        applicationEventPublisher.publishEvent(ShelterRecruitmentsChangedEvent.of(shelterId));
     }
 
     private Recruitment getRecruitmentByShelterWithImages(Long shelterId, Long recruitmentId) {
@@ -244,7 +491,46 @@ public class RecruitmentService {
 
     @Transactional
     public void autoCloseRecruitment() {
+        List<FindRecruitmentToCloseResult> recruitmentsToClose
+            = recruitmentRepository.findRecruitmentsToClose();
         recruitmentRepository.closeRecruitmentsIfNeedToBe();
         recruitmentCacheRepository.closeRecruitmentsIfNeedToBe();
+        List<LocalDateTime> closedStartTimes = recruitmentsToClose.stream()
+            .map(FindRecruitmentToCloseResult::getStartTime)
+            .toList();
+        applicationEventPublisher.publishEvent(
+            new RecruitmentCalendarChangedEvent(List.of(), closedStartTimes));
+        List<Long> closedRecruitmentIds = recruitmentsToClose.stream()
+            .map(FindRecruitmentToCloseResult::getRecruitmentId)
+            .toList();
+        applicationEventPublisher.publishEvent(
+            new RecruitmentDetailEvictionEvent(closedRecruitmentIds));
+        List<Long> changedShelterIds = recruitmentsToClose.stream()
+            .map(FindRecruitmentToCloseResult::getShelterId)
+            .distinct()
+            .toList();
+        applicationEventPublisher.publishEvent(
+            new ShelterRecruitmentsChangedEvent(changedShelterIds));
+        if (!closedRecruitmentIds.isEmpty()) {
+            applicationEventPublisher.publishEvent(
+                makeCapacityChangedEvent(closedRecruitmentIds));
+        }
+    }
+
+    /**
+     * 정원 상태 버전을 올린 뒤 커밋될 정원 상태를 다시 읽어 이벤트로 발행합니다. 버전을 올린 행은 커밋까지 잠겨 있으므로 발행되는
+     * 버전의 순서가 커밋 순서와 같습니다.
+     */
+    private void publishCapacityChangedEvent(Long recruitmentId) {
+        recruitmentRepository.increaseCapacityVersion(recruitmentId);
+        applicationEventPublisher.publishEvent(makeCapacityChangedEvent(List.of(recruitmentId)));
+    }
+
+    private RecruitmentCapacityChangedEvent makeCapacityChangedEvent(List<Long> recruitmentIds) {
+        List<RecruitmentCapacityResponse> capacities = recruitmentRepository
+            .findCapacitiesByRecruitmentIds(recruitmentIds).stream()
+            .map(RecruitmentCapacityResponse::from)
+            .toList();
+        return new RecruitmentCapacityChangedEvent(capacities);
     }
 }
@@ -3,8 +3,9 @@ package com.clova.anifriends.domain.review.service;
 import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
 import com.clova.anifriends.domain.common.event.ImageDeletionEvent;
-import com.clova.anifriends.domain.notification.ShelterNotification;
-import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.event.NotificationOutboxSavedEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
 import com.clova.anifriends.domain.notification.vo.NotificationType;
 import com.clova.anifriends.domain.review.Review;
 import com.clova.anifriends.domain.review.dto.response.FindReviewResponse;
@@ -20,9 +21,8 @@ import com.clova.anifriends.domain.review.repository.response.FindShelterReviewB
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
-import com.clova.anifriends.domain.volunteer.Volunteer;
-import com.clova.anifriends.domain.volunteer.exception.VolunteerNotFoundException;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerTemperature;
 import com.clova.anifriends.global.aspect.DataIntegrityHandler;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +41,7 @@ public class ReviewService {
     private final ReviewRepository reviewRepository;
     private final ApplicantRepository applicantRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
-    private final ShelterNotificationRepository shelterNotificationRepository;
+    private final NotificationOutboxRepository notificationOutboxRepository;
     private final ShelterRepository shelterRepository;
     private final VolunteerRepository volunteerRepository;
 
@@ -70,9 +70,13 @@ public class ReviewService {
         List<String> imageUrls) {
         Applicant applicant = getApplicant(volunteerId, applicationId);
         Review review = new Review(applicant, content, imageUrls);
-        applicant.increaseTemperature(REVIEW_BONUS_TEMPERATURE);
         reviewRepository.save(review);
-        shelterNotificationRepository.save(makeNewReviewNotification(applicant));
+        volunteerRepository.increaseReviewCountAndTemperature(volunteerId,
+            REVIEW_BONUS_TEMPERATURE, VolunteerTemperature.MAX_VOLUNTEER_TEMPERATURE);
+        NotificationOutbox notificationOutbox = makeNewReviewNotificationOutbox(applicant);
+        notificationOutboxRepository.save(notificationOutbox);
+        applicationEventPublisher.publishEvent(
+            NotificationOutboxSavedEvent.from(List.of(notificationOutbox)));
         return RegisterReviewResponse.from(review);
     }
 
@@ -111,19 +115,13 @@ public class ReviewService {
 
     @Transactional
     public void deleteReview(Long volunteerId, Long reviewId) {
-        Volunteer volunteer = getVolunteer(volunteerId);
         Review review = getReview(volunteerId, reviewId);
-        volunteer.decreaseReviewCount();
+        volunteerRepository.decreaseReviewCount(volunteerId);
         List<String> imagesToDelete = review.getImages();
         applicationEventPublisher.publishEvent(new ImageDeletionEvent(imagesToDelete));
         reviewRepository.delete(review);
     }
 
-    private Volunteer getVolunteer(Long volunteerId) {
-        return volunteerRepository.findById(volunteerId)
-            .orElseThrow(() -> new VolunteerNotFoundException("존재하지 않는 봉사자입니다."));
-    }
-
     private Review getReview(Long userId, Long reviewId) {
         return reviewRepository.findByReviewIdAndVolunteerId(reviewId, userId)
             .orElseThrow(() -> new ReviewNotFoundException("존재하지 않는 리뷰입니다."));
@@ -135,12 +133,13 @@ public class ReviewService {
             .orElseThrow(() -> new ApplicantNotFoundException("봉사 신청 내역이 존재하지 않습니다."));
     }
 
-    private ShelterNotification makeNewReviewNotification(Applicant applicant) {
-        return new ShelterNotification(
-            applicant.getRecruitment().getShelter(),
+    private NotificationOutbox makeNewReviewNotificationOutbox(Applicant applicant) {
+        return NotificationOutbox.toShelter(
+            applicant.getRecruitment().getShelter().getShelterId(),
+            applicant.getRecruitment().getRecruitmentId(),
             applicant.getRecruitment().getTitle(),
             NotificationType.NEW_SHELTER_REVIEW.getMessage(),
-            NotificationType.NEW_SHELTER_REVIEW.getName()
+            NotificationType.NEW_SHELTER_REVIEW
         );
     }
 }
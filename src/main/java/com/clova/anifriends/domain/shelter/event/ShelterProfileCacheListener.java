@@ -0,0 +1,24 @@
+package com.clova.anifriends.domain.shelter.event;
+
+import com.clova.anifriends.domain.animal.repository.AnimalCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCacheRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+@Component
+@RequiredArgsConstructor
+public class ShelterProfileCacheListener {
+
+    private final RecruitmentCacheRepository recruitmentCacheRepository;
+    private final AnimalCacheRepository animalCacheRepository;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleShelterProfileUpdatedEvent(ShelterProfileUpdatedEvent event) {
+        recruitmentCacheRepository.updateShelterProfile(
+            event.shelterId(), event.shelterName(), event.shelterImageUrl());
+        animalCacheRepository.updateShelterProfile(
+            event.shelterId(), event.shelterName(), event.shelterAddress());
+    }
+}
@@ -0,0 +1,10 @@
+package com.clova.anifriends.domain.shelter.event;
+
+public record ShelterProfileUpdatedEvent(
+    Long shelterId,
+    String shelterName,
+    String shelterAddress,
+    String shelterImageUrl
+) {
+
+}
@@ -2,12 +2,21 @@ package com.clova.anifriends.domain.shelter.repository;
 
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.vo.ShelterEmail;
+import java.util.Collection;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface ShelterRepository extends JpaRepository<Shelter, Long> {
 
     Optional<Shelter> findByEmail(ShelterEmail email);
 
     boolean existsByEmail(ShelterEmail email);
+
+    @Modifying
+    @Query("update Shelter s set s.deviceToken.deviceToken = null"
+        + " where s.deviceToken.deviceToken in :deviceTokens")
+    int clearDeviceTokens(@Param("deviceTokens") Collection<String> deviceTokens);
 }
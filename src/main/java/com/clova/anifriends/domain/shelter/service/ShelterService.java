@@ -8,6 +8,7 @@ import com.clova.anifriends.domain.shelter.dto.response.FindShelterDetailRespons
 import com.clova.anifriends.domain.shelter.dto.response.FindShelterMyPageResponse;
 import com.clova.anifriends.domain.shelter.dto.response.FindShelterSimpleResponse;
 import com.clova.anifriends.domain.shelter.dto.response.RegisterShelterResponse;
+import com.clova.anifriends.domain.shelter.event.ShelterProfileUpdatedEvent;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.shelter.vo.ShelterEmail;
@@ -114,10 +115,20 @@ public class ShelterService {
         Boolean isOpenedAddress
     ) {
         Shelter shelter = getShelter(shelterId);
+        ShelterProfileUpdatedEvent profileBeforeUpdate = profileOf(shelter);
         deleteImageFromS3(shelter, imageUrl);
         shelter.updateShelter(
             name, imageUrl, address, addressDetail, phoneNumber, sparePhoneNumber, isOpenedAddress
         );
+        ShelterProfileUpdatedEvent profileAfterUpdate = profileOf(shelter);
+        if (!profileBeforeUpdate.equals(profileAfterUpdate)) {
+            applicationEventPublisher.publishEvent(profileAfterUpdate);
+        }
+    }
+
+    private ShelterProfileUpdatedEvent profileOf(Shelter shelter) {
+        return new ShelterProfileUpdatedEvent(
+            shelter.getShelterId(), shelter.getName(), shelter.getAddress(), shelter.getImage());
     }
 
     private void deleteImageFromS3(Shelter shelter, String newImageUrl) {
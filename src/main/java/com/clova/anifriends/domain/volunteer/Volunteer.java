@@ -6,6 +6,7 @@ import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.common.BaseTimeEntity;
 import com.clova.anifriends.domain.common.CustomPasswordEncoder;
 import com.clova.anifriends.domain.volunteer.exception.VolunteerBadRequestException;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerCompletedCount;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerDeviceToken;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerEmail;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerGender;
@@ -79,6 +80,9 @@ public class Volunteer extends BaseTimeEntity {
     @Embedded
     private VolunteerReviewCount volunteerReviewCount = new VolunteerReviewCount(ZERO);
 
+    @Embedded
+    private VolunteerCompletedCount volunteerCompletedCount = new VolunteerCompletedCount(ZERO);
+
     @OneToMany(mappedBy = "volunteer", fetch = FetchType.LAZY)
     private List<Applicant> applicants = new ArrayList<>();
 
@@ -191,6 +195,10 @@ public class Volunteer extends BaseTimeEntity {
         return volunteerReviewCount.getReviewCount();
     }
 
+    public int getCompletedCount() {
+        return volunteerCompletedCount.getCompletedCount();
+    }
+
     public Long getVolunteerId() {
         return volunteerId;
     }
@@ -0,0 +1,99 @@
+package com.clova.anifriends.domain.volunteer;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.NoArgsConstructor;
+
+/**
+ * 봉사자가 참여 확정된 봉사 모집글의 조회 전용 프로젝션입니다. 봉사 이력 조회와 완료한 봉사 수 집계에 사용합니다. 완료한 봉사 수에는 시작
+ * 시각이 지난 봉사만 포함되므로, 이미 봉사자의 완료한 봉사 수에 반영된 행은 counted로 표시합니다.
+ */
+@Entity
+@Table(
+    name = "volunteer_completed_recruitment",
+    uniqueConstraints = {
+        @UniqueConstraint(columnNames = {"volunteer_id", "recruitment_id"})
+    },
+    indexes = {
+        @Index(name = "idx_volunteer_completed_recruitment_cursor",
+            columnList = "volunteer_id, recruitment_start_time, recruitment_id")
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VolunteerCompletedRecruitment {
+
+    @Id
+    @Column(name = "volunteer_completed_recruitment_id")
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long volunteerCompletedRecruitmentId;
+
+    @Column(name = "volunteer_id", nullable = false)
+    private Long volunteerId;
+
+    @Column(name = "recruitment_id", nullable = false)
+    private Long recruitmentId;
+
+    @Column(name = "shelter_id", nullable = false)
+    private Long shelterId;
+
+    @Column(name = "recruitment_start_time", nullable = false)
+    private LocalDateTime recruitmentStartTime;
+
+    @Column(name = "is_counted", nullable = false)
+    private boolean counted;
+
+    public VolunteerCompletedRecruitment(
+        Long volunteerId,
+        Long recruitmentId,
+        Long shelterId,
+        LocalDateTime recruitmentStartTime
+    ) {
+        this(volunteerId, recruitmentId, shelterId, recruitmentStartTime, false);
+    }
+
+    public VolunteerCompletedRecruitment(
+        Long volunteerId,
+        Long recruitmentId,
+        Long shelterId,
+        LocalDateTime recruitmentStartTime,
+        boolean counted
+    ) {
+        this.volunteerId = volunteerId;
+        this.recruitmentId = recruitmentId;
+        this.shelterId = shelterId;
+        this.recruitmentStartTime = recruitmentStartTime;
+        this.counted = counted;
+    }
+
+    public Long getVolunteerCompletedRecruitmentId() {
+        return volunteerCompletedRecruitmentId;
+    }
+
+    public Long getVolunteerId() {
+        return volunteerId;
+    }
+
+    public Long getRecruitmentId() {
+        return recruitmentId;
+    }
+
+    public Long getShelterId() {
+        return shelterId;
+    }
+
+    public LocalDateTime getRecruitmentStartTime() {
+        return recruitmentStartTime;
+    }
+
+    public boolean isCounted() {
+        return counted;
+    }
+}
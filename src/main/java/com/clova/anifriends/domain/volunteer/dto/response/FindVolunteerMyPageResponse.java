@@ -1,10 +1,8 @@
 package com.clova.anifriends.domain.volunteer.dto.response;
 
-import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerGender;
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 
 public record FindVolunteerMyPageResponse(
     long volunteerId,
@@ -26,11 +24,7 @@ public record FindVolunteerMyPageResponse(
             volunteer.getBirthDate(),
             volunteer.getPhoneNumber(),
             volunteer.getTemperature(),
-            volunteer.getApplicants().stream()
-                .filter(applicant -> applicant.getStatus().equals(ApplicantStatus.ATTENDANCE)
-                    && applicant.getRecruitment().getStartTime().isBefore(
-                    LocalDateTime.now()))
-                .count(),
+            volunteer.getCompletedCount(),
             volunteer.getVolunteerImageUrl(),
             volunteer.getGender()
         );
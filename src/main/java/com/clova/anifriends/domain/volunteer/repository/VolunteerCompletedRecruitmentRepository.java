@@ -0,0 +1,116 @@
+package com.clova.anifriends.domain.volunteer.repository;
+
+import com.clova.anifriends.domain.volunteer.VolunteerCompletedRecruitment;
+import com.clova.anifriends.domain.volunteer.repository.response.FindCompletedRecruitmentResult;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface VolunteerCompletedRecruitmentRepository extends
+    JpaRepository<VolunteerCompletedRecruitment, Long> {
+
+    @Query("select c.recruitmentId as recruitmentId,"
+        + " r.title.title as recruitmentTitle,"
+        + " c.recruitmentStartTime as recruitmentStartTime,"
+        + " s.name.name as shelterName"
+        + " from VolunteerCompletedRecruitment c"
+        + " join Recruitment r on r.recruitmentId = c.recruitmentId"
+        + " join Shelter s on s.shelterId = c.shelterId"
+        + " where c.volunteerId = :volunteerId"
+        + " and (c.recruitmentStartTime < :startTime"
+        + " or (c.recruitmentStartTime = :startTime and c.recruitmentId < :recruitmentId))"
+        + " order by c.recruitmentStartTime desc, c.recruitmentId desc")
+    Slice<FindCompletedRecruitmentResult> findCompletedRecruitments(
+        @Param("volunteerId") Long volunteerId,
+        @Param("startTime") LocalDateTime startTime,
+        @Param("recruitmentId") Long recruitmentId,
+        Pageable pageable);
+
+    long countByVolunteerId(Long volunteerId);
+
+    @Query("select c.volunteerId from VolunteerCompletedRecruitment c"
+        + " where c.recruitmentId = :recruitmentId"
+        + " and c.volunteerId in :volunteerIds")
+    List<Long> findVolunteerIds(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @Query("delete from VolunteerCompletedRecruitment c"
+        + " where c.recruitmentId = :recruitmentId"
+        + " and c.volunteerId in :volunteerIds")
+    void deleteByRecruitmentIdAndVolunteerIds(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("volunteerIds") Collection<Long> volunteerIds);
+
+    @Modifying
+    @Query("delete from VolunteerCompletedRecruitment c"
+        + " where c.recruitmentId = :recruitmentId")
+    void deleteByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
+
+    @Modifying
+    @Query("update VolunteerCompletedRecruitment c"
+        + " set c.recruitmentStartTime = :startTime"
+        + " where c.recruitmentId = :recruitmentId")
+    void updateRecruitmentStartTime(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("startTime") LocalDateTime startTime);
+
+    /**
+     * 참여 확정된 봉사자를 프로젝션에 추가합니다. 기준 시각 전에 시작한 봉사는 추가하면서 완료한 봉사 수에 반영된 것으로 표시하므로,
+     * 같은 기준 시각으로 완료한 봉사 수를 함께 증가시켜야 합니다.
+     */
+    @Modifying
+    @Query("insert into VolunteerCompletedRecruitment"
+        + " (volunteerId, recruitmentId, shelterId, recruitmentStartTime, counted)"
+        + " select a.volunteer.volunteerId, r.recruitmentId, r.shelter.shelterId, r.info.startTime,"
+        + " case when r.info.startTime < :now then true else false end"
+        + " from Applicant a"
+        + " join a.recruitment r"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and a.volunteer.volunteerId in :volunteerIds"
+        + " and a.status = com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE"
+        + " and not exists (select c from VolunteerCompletedRecruitment c"
+        + " where c.volunteerId = a.volunteer.volunteerId"
+        + " and c.recruitmentId = r.recruitmentId)")
+    int insertCompletedRecruitments(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("volunteerIds") Collection<Long> volunteerIds,
+        @Param("now") LocalDateTime now);
+
+    @Query("select c.volunteerCompletedRecruitmentId from VolunteerCompletedRecruitment c"
+        + " where c.counted = false"
+        + " and c.recruitmentStartTime < :now"
+        + " order by c.volunteerCompletedRecruitmentId")
+    List<Long> findUncountedStartedIds(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Modifying
+    @Query("update VolunteerCompletedRecruitment c set c.counted = true"
+        + " where c.volunteerCompletedRecruitmentId in :ids")
+    void markCounted(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("update VolunteerCompletedRecruitment c set c.counted = true"
+        + " where c.counted = false"
+        + " and c.recruitmentStartTime < :now")
+    int markStartedCounted(@Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("insert into VolunteerCompletedRecruitment"
+        + " (volunteerId, recruitmentId, shelterId, recruitmentStartTime, counted)"
+        + " select a.volunteer.volunteerId, r.recruitmentId, r.shelter.shelterId, r.info.startTime,"
+        + " false"
+        + " from Applicant a"
+        + " join a.recruitment r"
+        + " where a.status = com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE"
+        + " and not exists (select c from VolunteerCompletedRecruitment c"
+        + " where c.volunteerId = a.volunteer.volunteerId"
+        + " and c.recruitmentId = r.recruitmentId)")
+    int insertMissingCompletedRecruitments();
+}
@@ -1,10 +1,14 @@
 package com.clova.anifriends.domain.volunteer.repository;
 
+import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerEmail;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -14,27 +18,146 @@ public interface VolunteerRepository extends JpaRepository<Volunteer, Long> {
 
     boolean existsByEmail(VolunteerEmail email);
 
-    @Query("select v from Volunteer v "
-        + "join fetch v.applicants a "
-        + "join fetch a.recruitment r "
-        + "where r.shelter.shelterId = :shelterId "
-        + "and r.recruitmentId = :recruitmentId "
-        + "and a.status = com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE "
-        + "and a.applicantId in :noShowIds")
-    List<Volunteer> findAttendedByNoShowIds(
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerReviewCount.reviewCount = v.volunteerReviewCount.reviewCount + 1,"
+        + " v.temperature.temperature = case"
+        + " when v.temperature.temperature + :temperature > :maxTemperature then :maxTemperature"
+        + " else v.temperature.temperature + :temperature end"
+        + " where v.volunteerId = :volunteerId")
+    int increaseReviewCountAndTemperature(
+        @Param("volunteerId") Long volunteerId,
+        @Param("temperature") int temperature,
+        @Param("maxTemperature") int maxTemperature);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerReviewCount.reviewCount = v.volunteerReviewCount.reviewCount - 1"
+        + " where v.volunteerId = :volunteerId"
+        + " and v.volunteerReviewCount.reviewCount > 0")
+    int decreaseReviewCount(@Param("volunteerId") Long volunteerId);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.temperature.temperature = case"
+        + " when v.temperature.temperature + :temperature > :maxTemperature then :maxTemperature"
+        + " else v.temperature.temperature + :temperature end"
+        + " where v.volunteerId in (select a.volunteer.volunteerId from Applicant a"
+        + " where a.recruitment.recruitmentId = :recruitmentId"
+        + " and a.recruitment.shelter.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status = :status)")
+    int increaseTemperatureByApplicantStatus(
         @Param("shelterId") Long shelterId,
         @Param("recruitmentId") Long recruitmentId,
-        @Param("noShowIds") List<Long> noShowIds);
-
-    @Query("select v from Volunteer v "
-        + "join fetch v.applicants a "
-        + "join fetch a.recruitment r "
-        + "where r.shelter.shelterId = :shelterId "
-        + "and r.recruitmentId = :recruitmentId "
-        + "and a.status = com.clova.anifriends.domain.applicant.vo.ApplicantStatus.NOSHOW "
-        + "and a.applicantId in :attendedIds")
-    List<Volunteer> findNoShowByAttendedIds(
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("temperature") int temperature,
+        @Param("maxTemperature") int maxTemperature);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.temperature.temperature = case"
+        + " when v.temperature.temperature - :temperature < :minTemperature then :minTemperature"
+        + " else v.temperature.temperature - :temperature end"
+        + " where v.volunteerId in (select a.volunteer.volunteerId from Applicant a"
+        + " where a.recruitment.recruitmentId = :recruitmentId"
+        + " and a.recruitment.shelter.shelterId = :shelterId"
+        + " and a.applicantId in :applicantIds"
+        + " and a.status = :status)")
+    int decreaseTemperatureByApplicantStatus(
         @Param("shelterId") Long shelterId,
         @Param("recruitmentId") Long recruitmentId,
-        @Param("attendedIds") List<Long> attendedIds);
+        @Param("applicantIds") List<Long> applicantIds,
+        @Param("status") ApplicantStatus status,
+        @Param("temperature") int temperature,
+        @Param("minTemperature") int minTemperature);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = v.volunteerCompletedCount.completedCount + 1"
+        + " where v.volunteerId in :volunteerIds")
+    void increaseCompletedCount(@Param("volunteerIds") List<Long> volunteerIds);
+
+    /**
+     * 아직 프로젝션에 없는 봉사자 중 기준 시각 전에 시작한 봉사에 참여 확정된 봉사자의 완료한 봉사 수를 증가시킵니다. 프로젝션 추가와 같은
+     * 기준 시각을 넘겨야 합니다.
+     */
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = v.volunteerCompletedCount.completedCount + 1"
+        + " where v.volunteerId in :volunteerIds"
+        + " and exists (select r from Recruitment r"
+        + " where r.recruitmentId = :recruitmentId"
+        + " and r.info.startTime < :now)"
+        + " and not exists (select c from VolunteerCompletedRecruitment c"
+        + " where c.volunteerId = v.volunteerId"
+        + " and c.recruitmentId = :recruitmentId)")
+    void increaseCompletedCountWithoutCompletedRecruitment(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("volunteerIds") List<Long> volunteerIds,
+        @Param("now") LocalDateTime now);
+
+    /**
+     * 완료한 봉사 수에 반영된 프로젝션 행의 봉사자만 완료한 봉사 수를 감소시킵니다. 프로젝션 행을 지우기 전에 호출해야 합니다.
+     */
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = v.volunteerCompletedCount.completedCount - 1"
+        + " where v.volunteerCompletedCount.completedCount > 0"
+        + " and v.volunteerId in (select c.volunteerId from VolunteerCompletedRecruitment c"
+        + " where c.recruitmentId = :recruitmentId"
+        + " and c.volunteerId in :volunteerIds"
+        + " and c.counted = true)")
+    void decreaseCompletedCount(
+        @Param("recruitmentId") Long recruitmentId,
+        @Param("volunteerIds") List<Long> volunteerIds);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = v.volunteerCompletedCount.completedCount - 1"
+        + " where v.volunteerCompletedCount.completedCount > 0"
+        + " and v.volunteerId in (select c.volunteerId from VolunteerCompletedRecruitment c"
+        + " where c.recruitmentId = :recruitmentId"
+        + " and c.counted = true)")
+    void decreaseCompletedCountByRecruitmentId(@Param("recruitmentId") Long recruitmentId);
+
+    /**
+     * 아직 완료한 봉사 수에 반영되지 않은 프로젝션 행만큼 봉사자의 완료한 봉사 수를 증가시킵니다. 같은 행을 반영된 것으로 표시하기 전에
+     * 호출해야 합니다.
+     */
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = v.volunteerCompletedCount.completedCount"
+        + " + (select count(c) from VolunteerCompletedRecruitment c"
+        + " where c.volunteerId = v.volunteerId"
+        + " and c.volunteerCompletedRecruitmentId in :completedRecruitmentIds"
+        + " and c.counted = false)"
+        + " where v.volunteerId in (select c2.volunteerId from VolunteerCompletedRecruitment c2"
+        + " where c2.volunteerCompletedRecruitmentId in :completedRecruitmentIds"
+        + " and c2.counted = false)")
+    void increaseCompletedCountByCompletedRecruitmentIds(
+        @Param("completedRecruitmentIds") List<Long> completedRecruitmentIds);
+
+    @Modifying
+    @Query("update Volunteer v"
+        + " set v.volunteerCompletedCount.completedCount"
+        + " = (select count(c) from VolunteerCompletedRecruitment c"
+        + " where c.volunteerId = v.volunteerId"
+        + " and c.counted = true)"
+        + " where v.volunteerCompletedCount.completedCount"
+        + " <> (select count(c2) from VolunteerCompletedRecruitment c2"
+        + " where c2.volunteerId = v.volunteerId"
+        + " and c2.counted = true)")
+    int synchronizeCompletedCounts();
+
+    @Modifying
+    @Query("update Volunteer v set v.deviceToken.deviceToken = null"
+        + " where v.deviceToken.deviceToken in :deviceTokens")
+    int clearDeviceTokens(@Param("deviceTokens") Collection<String> deviceTokens);
 }
@@ -0,0 +1,11 @@
+package com.clova.anifriends.domain.volunteer.repository.response;
+
+import java.time.LocalDateTime;
+
+public interface FindCompletedRecruitmentResult {
+
+    Long getRecruitmentId();
+    String getRecruitmentTitle();
+    LocalDateTime getRecruitmentStartTime();
+    String getShelterName();
+}
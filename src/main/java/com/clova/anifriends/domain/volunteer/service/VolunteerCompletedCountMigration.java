@@ -0,0 +1,38 @@
+package com.clova.anifriends.domain.volunteer.service;
+
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.global.migration.DataMigration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 완료한 봉사 수에 시작한 봉사만 포함되도록, 이미 시작한 봉사의 프로젝션 행을 반영된 것으로 표시하고 봉사자의 완료한 봉사 수를 반영된 행
+ * 수에 맞춰 한 번 초기화합니다. 완료 봉사 프로젝션을 채우는 보정 작업 뒤에 실행되어야 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VolunteerCompletedCountMigration implements DataMigration {
+
+    private final VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+    private final VolunteerRepository volunteerRepository;
+
+    @Override
+    public String name() {
+        return "volunteer-completed-count-backfill";
+    }
+
+    @Override
+    public int order() {
+        return 2;
+    }
+
+    @Override
+    @Transactional
+    public void migrate() {
+        volunteerCompletedRecruitmentRepository.markStartedCounted(LocalDateTime.now());
+        volunteerRepository.synchronizeCompletedCounts();
+    }
+}
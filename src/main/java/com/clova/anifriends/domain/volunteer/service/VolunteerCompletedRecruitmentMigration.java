@@ -0,0 +1,34 @@
+package com.clova.anifriends.domain.volunteer.service;
+
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
+import com.clova.anifriends.global.migration.DataMigration;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 완료 봉사 프로젝션이 생기기 전에 참여 확정된 신청을 프로젝션에 추가합니다. 추가한 행은 완료한 봉사 수에 반영되지 않은 상태로 들어가며,
+ * 시작한 봉사는 완료한 봉사 수 집계 작업이 반영합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class VolunteerCompletedRecruitmentMigration implements DataMigration {
+
+    private final VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+
+    @Override
+    public String name() {
+        return "volunteer-completed-recruitment-backfill";
+    }
+
+    @Override
+    public int order() {
+        return 1;
+    }
+
+    @Override
+    @Transactional
+    public void migrate() {
+        volunteerCompletedRecruitmentRepository.insertMissingCompletedRecruitments();
+    }
+}
@@ -8,13 +8,16 @@ import com.clova.anifriends.domain.volunteer.dto.response.FindVolunteerMyPageRes
 import com.clova.anifriends.domain.volunteer.dto.response.FindVolunteerProfileResponse;
 import com.clova.anifriends.domain.volunteer.dto.response.RegisterVolunteerResponse;
 import com.clova.anifriends.domain.volunteer.exception.VolunteerNotFoundException;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerEmail;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerGender;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -22,9 +25,12 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class VolunteerService {
 
+    public static final int COMPLETED_COUNT_BATCH_SIZE = 1000;
+
     private final VolunteerRepository volunteerRepository;
     private final CustomPasswordEncoder passwordEncoder;
     private final ApplicationEventPublisher applicationEventPublisher;
+    private final VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
 
     @Transactional(readOnly = true)
     public CheckDuplicateVolunteerEmailResponse checkDuplicateVolunteerEmail(String email) {
@@ -87,6 +93,24 @@ public class VolunteerService {
         foundVolunteer.updatePassword(passwordEncoder, rawOldPassword, rawNewPassword);
     }
 
+    /**
+     * 시작 시각이 지났지만 아직 완료한 봉사 수에 반영되지 않은 프로젝션 행을 한 묶음 반영합니다. 반영한 행 수를 반환하며, 묶음 크기만큼
+     * 반영했다면 남은 행이 있을 수 있습니다.
+     */
+    @Transactional
+    public int countStartedCompletedRecruitments() {
+        List<Long> completedRecruitmentIds = volunteerCompletedRecruitmentRepository
+            .findUncountedStartedIds(LocalDateTime.now(),
+                PageRequest.of(0, COMPLETED_COUNT_BATCH_SIZE));
+        if (completedRecruitmentIds.isEmpty()) {
+            return 0;
+        }
+        volunteerRepository.increaseCompletedCountByCompletedRecruitmentIds(
+            completedRecruitmentIds);
+        volunteerCompletedRecruitmentRepository.markCounted(completedRecruitmentIds);
+        return completedRecruitmentIds.size();
+    }
+
     private void deleteImageFromS3(Volunteer volunteer, String newImageUrl) {
         volunteer.findImageToDelete(newImageUrl)
             .ifPresent(imageUrl -> applicationEventPublisher
@@ -0,0 +1,33 @@
+package com.clova.anifriends.domain.volunteer.vo;
+
+import com.clova.anifriends.domain.volunteer.exception.VolunteerBadRequestException;
+import com.clova.anifriends.global.exception.ErrorCode;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import java.text.MessageFormat;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Embeddable
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class VolunteerCompletedCount {
+
+    private static final int ZERO = 0;
+
+    @Column(name = "completed_count", nullable = false)
+    private int completedCount;
+
+    public VolunteerCompletedCount(int completedCount) {
+        validateCompletedCount(completedCount);
+        this.completedCount = completedCount;
+    }
+
+    private void validateCompletedCount(int completedCount) {
+        if (completedCount < ZERO) {
+            throw new VolunteerBadRequestException(ErrorCode.BAD_REQUEST,
+                MessageFormat.format("봉사자의 완료한 봉사 수는 {0} 이상이어야 합니다.", ZERO));
+        }
+    }
+}
@@ -13,8 +13,8 @@ import lombok.NoArgsConstructor;
 @NoArgsConstructor(access = lombok.AccessLevel.PROTECTED)
 public class VolunteerTemperature {
 
-    private static final int MAX_VOLUNTEER_TEMPERATURE = 99;
-    private static final int MIN_VOLUNTEER_TEMPERATURE = -99;
+    public static final int MAX_VOLUNTEER_TEMPERATURE = 99;
+    public static final int MIN_VOLUNTEER_TEMPERATURE = -99;
 
     @Column(name = "temperature")
     private Integer temperature;
@@ -0,0 +1,128 @@
+package com.clova.anifriends.global.aspect;
+
+import com.clova.anifriends.global.lock.LeaseLock;
+import com.clova.anifriends.global.lock.LeaseLockRepository;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+/**
+ * LeaseLocked 메서드를 임대 락을 얻은 경우에만 실행하고, 실행 시간과 결과, 건너뛴 횟수를 기록합니다. 락 저장소에 접근할 수 없으면 중복 실행을
+ * 막기 위해 실행을 건너뜁니다. 실행 중에는 임대 기간의 1/3마다 락을 연장하여, 임대 기간을 짧게 잡아도 긴 실행이 락을 잃지 않도록 합니다.
+ */
+@Slf4j
+@Aspect
+@Order(0)
+@Component
+public class LeaseLockAspect {
+
+    private static final String RUN_METRIC = "lease.lock.run";
+    private static final String SKIPPED_METRIC = "lease.lock.skipped";
+    private static final String EXPIRED_METRIC = "lease.lock.expired";
+    private static final long EXTEND_DIVISOR = 3;
+
+    private final LeaseLockRepository leaseLockRepository;
+    private final MeterRegistry meterRegistry;
+    private final ScheduledExecutorService extendExecutor
+        = Executors.newSingleThreadScheduledExecutor();
+
+    public LeaseLockAspect(LeaseLockRepository leaseLockRepository, MeterRegistry meterRegistry) {
+        this.leaseLockRepository = leaseLockRepository;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Around("@annotation(leaseLocked)")
+    public Object runWithLeaseLock(ProceedingJoinPoint joinPoint, LeaseLocked leaseLocked)
+        throws Throwable {
+        String name = leaseLocked.name();
+        Duration leaseTime = Duration.parse(leaseLocked.leaseTime());
+        Optional<LeaseLock> leaseLock = tryAcquire(name, leaseTime);
+        if (leaseLock.isEmpty()) {
+            return null;
+        }
+        ScheduledFuture<?> extension = scheduleExtension(leaseLock.get(), leaseTime);
+        long startedAt = System.nanoTime();
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable exception) {
+            outcome = "failure";
+            throw exception;
+        } finally {
+            extension.cancel(false);
+            sample.stop(meterRegistry.timer(RUN_METRIC, "name", name, "outcome", outcome));
+            Duration elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+            release(leaseLock.get(), Duration.parse(leaseLocked.minHoldTime()).minus(elapsed));
+        }
+    }
+
+    private Optional<LeaseLock> tryAcquire(String name, Duration leaseTime) {
+        try {
+            Optional<LeaseLock> leaseLock = leaseLockRepository.tryAcquire(name, leaseTime);
+            if (leaseLock.isEmpty()) {
+                meterRegistry.counter(SKIPPED_METRIC, "name", name, "reason", "locked")
+                    .increment();
+            }
+            return leaseLock;
+        } catch (RuntimeException exception) {
+            log.warn("[LeaseLock] 락 획득 실패로 실행을 건너뜁니다. name: {}", name, exception);
+            meterRegistry.counter(SKIPPED_METRIC, "name", name, "reason", "error").increment();
+            return Optional.empty();
+        }
+    }
+
+    private ScheduledFuture<?> scheduleExtension(LeaseLock leaseLock, Duration leaseTime) {
+        long period = Math.max(leaseTime.toMillis() / EXTEND_DIVISOR, 1);
+        AtomicBoolean isLost = new AtomicBoolean(false);
+        return extendExecutor.scheduleAtFixedRate(() -> extend(leaseLock, leaseTime, isLost),
+            period, period, TimeUnit.MILLISECONDS);
+    }
+
+    private void extend(LeaseLock leaseLock, Duration leaseTime, AtomicBoolean isLost) {
+        if (isLost.get()) {
+            return;
+        }
+        try {
+            if (!leaseLockRepository.extend(leaseLock, leaseTime)) {
+                isLost.set(true);
+                log.warn("[LeaseLock] 실행 중 락을 잃어 더 연장하지 않습니다. name: {}, token: {}",
+                    leaseLock.name(), leaseLock.token());
+            }
+        } catch (RuntimeException exception) {
+            log.warn("[LeaseLock] 락 연장 실패. 다음 주기에 다시 연장합니다. name: {}",
+                leaseLock.name(), exception);
+        }
+    }
+
+    private void release(LeaseLock leaseLock, Duration holdTime) {
+        try {
+            if (!leaseLockRepository.release(leaseLock, holdTime)) {
+                log.warn("[LeaseLock] 실행 중 임대 기간이 끝났습니다. name: {}, token: {}",
+                    leaseLock.name(), leaseLock.token());
+                meterRegistry.counter(EXPIRED_METRIC, "name", leaseLock.name()).increment();
+            }
+        } catch (RuntimeException exception) {
+            log.warn("[LeaseLock] 락 해제 실패. 임대 기간이 지나면 풀립니다. name: {}",
+                leaseLock.name(), exception);
+        }
+    }
+
+    @PreDestroy
+    void shutdown() {
+        extendExecutor.shutdown();
+    }
+}
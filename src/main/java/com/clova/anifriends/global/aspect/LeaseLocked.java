@@ -0,0 +1,28 @@
+package com.clova.anifriends.global.aspect;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * 여러 서버 중 임대 락을 얻은 한 서버에서만 메서드를 실행합니다. 락을 얻지 못한 서버는 실행을 건너뜁니다.
+ */
+@Target({ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface LeaseLocked {
+
+    String name();
+
+    /**
+     * 락의 임대 기간입니다. ISO-8601 형식입니다. 실행 중에는 임대 기간의 1/3마다 연장하므로, 실행 중인 서버가 죽었을 때 다른 서버가 이어받기까지
+     * 기다리는 시간만 정합니다. 한 번의 최대 실행 시간보다 조금 길게 잡습니다.
+     */
+    String leaseTime() default "PT10M";
+
+    /**
+     * 실행이 끝난 뒤에도 락을 유지할 최소 시간입니다. 서버 간 시계 차이로 같은 cron 주기가 다른 서버에서 늦게 시작되어도 다시 실행되지 않도록 합니다.
+     */
+    String minHoldTime() default "PT0S";
+
+}
@@ -1,6 +1,8 @@
 package com.clova.anifriends.global.config;
 
 import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadPoolExecutor.CallerRunsPolicy;
+import java.util.concurrent.ThreadPoolExecutor.DiscardPolicy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
@@ -20,4 +22,35 @@ public class AsyncConfig {
         return taskExecutor;
     }
 
+    @Bean(name = "pushDispatchExecutor")
+    public Executor pushDispatchExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(4);
+        taskExecutor.setQueueCapacity(100);
+        taskExecutor.setRejectedExecutionHandler(new CallerRunsPolicy());
+        taskExecutor.setThreadNamePrefix("Push-");
+        return taskExecutor;
+    }
+
+    @Bean(name = "notificationStreamExecutor")
+    public Executor notificationStreamExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(8);
+        taskExecutor.setMaxPoolSize(8);
+        taskExecutor.setQueueCapacity(10000);
+        taskExecutor.setThreadNamePrefix("Sse-");
+        return taskExecutor;
+    }
+
+    @Bean(name = "notificationOutboxExecutor")
+    public Executor notificationOutboxExecutor() {
+        ThreadPoolTaskExecutor taskExecutor = new ThreadPoolTaskExecutor();
+        taskExecutor.setCorePoolSize(4);
+        taskExecutor.setMaxPoolSize(4);
+        taskExecutor.setQueueCapacity(1000);
+        taskExecutor.setRejectedExecutionHandler(new DiscardPolicy());
+        taskExecutor.setThreadNamePrefix("Notification-");
+        return taskExecutor;
+    }
 }
@@ -2,6 +2,8 @@ package com.clova.anifriends.global.config;
 
 import com.clova.anifriends.domain.chat.service.MessageSubscriber;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse.FindRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.service.RecruitmentCapacityPublisher;
+import com.clova.anifriends.domain.recruitment.service.RecruitmentCapacitySubscriber;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.cache.annotation.EnableCaching;
@@ -36,11 +38,14 @@ public class RedisConfig {
     @Bean
     public RedisMessageListenerContainer redisContainer(
         MessageListenerAdapter messageListener,
-        PatternTopic chatTopic
+        PatternTopic chatTopic,
+        RecruitmentCapacitySubscriber recruitmentCapacitySubscriber,
+        PatternTopic recruitmentCapacityTopic
     ) {
         RedisMessageListenerContainer container = new RedisMessageListenerContainer();
         container.setConnectionFactory(redisConnectionFactory());
         container.addMessageListener(messageListener, chatTopic);
+        container.addMessageListener(recruitmentCapacitySubscriber, recruitmentCapacityTopic);
 
         return container;
     }
@@ -60,6 +65,11 @@ public class RedisConfig {
         return new PatternTopic("/sub/chat/*");
     }
 
+    @Bean
+    public PatternTopic recruitmentCapacityTopic() {
+        return new PatternTopic(RecruitmentCapacityPublisher.CHANNEL_PREFIX + "*");
+    }
+
     @Bean
     public RedisTemplate<String, FindRecruitmentResponse> recruitmentRedisTemplate(
         RedisConnectionFactory connectionFactory,
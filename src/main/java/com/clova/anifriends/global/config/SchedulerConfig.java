@@ -1,8 +1,15 @@
 package com.clova.anifriends.global.config;
 
-import com.clova.anifriends.domain.notification.service.ShelterNotificationService;
-import com.clova.anifriends.domain.notification.service.VolunteerNotificationService;
+import com.clova.anifriends.domain.applicant.service.ApplicantAdmissionService;
+import com.clova.anifriends.domain.notification.service.NotificationArchiveService;
+import com.clova.anifriends.domain.notification.service.NotificationOutboxService;
+import com.clova.anifriends.domain.notification.service.PushDispatcher;
+import com.clova.anifriends.domain.notification.service.PushOutboxService;
+import com.clova.anifriends.domain.notification.service.ReminderJobService;
+import com.clova.anifriends.domain.recruitment.service.RecruitmentCacheService;
 import com.clova.anifriends.domain.recruitment.service.RecruitmentService;
+import com.clova.anifriends.domain.volunteer.service.VolunteerService;
+import com.clova.anifriends.global.migration.DataMigrationRunner;
 import com.clova.anifriends.global.scheduler.NotifyScheduler;
 import com.clova.anifriends.global.scheduler.ServiceScheduler;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
@@ -19,14 +26,25 @@ public class SchedulerConfig {
 
     @Bean
     public NotifyScheduler notifyScheduler(
-        VolunteerNotificationService volunteerNotificationService,
-        ShelterNotificationService shelterNotificationService
+        ReminderJobService reminderJobService,
+        PushDispatcher pushDispatcher,
+        PushOutboxService pushOutboxService,
+        NotificationArchiveService notificationArchiveService,
+        NotificationOutboxService notificationOutboxService
     ) {
-        return new NotifyScheduler(volunteerNotificationService, shelterNotificationService);
+        return new NotifyScheduler(reminderJobService, pushDispatcher, pushOutboxService,
+            notificationArchiveService, notificationOutboxService);
     }
 
     @Bean
-    public ServiceScheduler serviceScheduler(RecruitmentService recruitmentService) {
-        return new ServiceScheduler(recruitmentService);
+    public ServiceScheduler serviceScheduler(
+        RecruitmentService recruitmentService,
+        RecruitmentCacheService recruitmentCacheService,
+        ApplicantAdmissionService applicantAdmissionService,
+        VolunteerService volunteerService,
+        DataMigrationRunner dataMigrationRunner
+    ) {
+        return new ServiceScheduler(recruitmentService, recruitmentCacheService,
+            applicantAdmissionService, volunteerService, dataMigrationRunner);
     }
 }
@@ -24,6 +24,8 @@ public enum ErrorCode implements EnumType {
     // 409
     ALREADY_EXISTS("AF901"), // 이미 존재하는 리소스
     CONCURRENCY("AF902"), // 선착순 마감
+    RECRUITMENT_CLOSED("AF903"), // 모집 마감된 봉사
+    RECRUITMENT_FULL("AF904"), // 모집 인원 초과
     // 500
     SERVICE_UNAVAILABLE("AF998"), // 서비스 이용 불가
     INTERNAL_SERVER_ERROR("AF999"); // 서버 내부 에러
@@ -0,0 +1,73 @@
+package com.clova.anifriends.global.infrastructure.push;
+
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+/**
+ * 실제로 발송하지 않고 로그만 남기는 로컬, 테스트용 푸시 발송 서비스입니다. 최근 발송한 푸시를 MAX_SENT_MESSAGES개까지 보관하며, 무효
+ * 처리한 토큰은 INVALID_TOKEN으로 응답합니다.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(value = "push.provider", havingValue = "local", matchIfMissing = true)
+public class LocalPushProvider implements PushProvider {
+
+    private static final int MAX_BATCH_SIZE = 500;
+    private static final int PERMITS_PER_SECOND = 10_000;
+    private static final int MAX_SENT_MESSAGES = 1000;
+
+    private final ConcurrentLinkedDeque<PushMessage> sentMessages = new ConcurrentLinkedDeque<>();
+    private final Set<String> invalidTokens = ConcurrentHashMap.newKeySet();
+
+    @Override
+    public String getName() {
+        return "local";
+    }
+
+    @Override
+    public int getMaxBatchSize() {
+        return MAX_BATCH_SIZE;
+    }
+
+    @Override
+    public int getPermitsPerSecond() {
+        return PERMITS_PER_SECOND;
+    }
+
+    @Override
+    public List<PushSendResult> send(List<PushMessage> messages) {
+        return messages.stream()
+            .map(this::send)
+            .toList();
+    }
+
+    private PushSendResult send(PushMessage message) {
+        if (invalidTokens.contains(message.deviceToken())) {
+            return PushSendResult.INVALID_TOKEN;
+        }
+        log.debug("[Push] {} {}", message.title(), message.body());
+        sentMessages.addLast(message);
+        if (sentMessages.size() > MAX_SENT_MESSAGES) {
+            sentMessages.pollFirst();
+        }
+        return PushSendResult.SUCCESS;
+    }
+
+    public void invalidateToken(String deviceToken) {
+        invalidTokens.add(deviceToken);
+    }
+
+    public List<PushMessage> getSentMessages() {
+        return List.copyOf(sentMessages);
+    }
+
+    public void clear() {
+        sentMessages.clear();
+        invalidTokens.clear();
+    }
+}
@@ -0,0 +1,9 @@
+package com.clova.anifriends.global.infrastructure.push;
+
+public record PushMessage(
+    String deviceToken,
+    String title,
+    String body
+) {
+
+}
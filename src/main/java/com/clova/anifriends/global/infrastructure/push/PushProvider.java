@@ -0,0 +1,28 @@
+package com.clova.anifriends.global.infrastructure.push;
+
+import java.util.List;
+
+/**
+ * 기기 토큰으로 푸시를 보내는 외부 발송 서비스입니다.
+ */
+public interface PushProvider {
+
+    String getName();
+
+    /**
+     * @return 한 번의 요청으로 보낼 수 있는 최대 푸시 수
+     */
+    int getMaxBatchSize();
+
+    /**
+     * @return 초당 보낼 수 있는 최대 푸시 수
+     */
+    int getPermitsPerSecond();
+
+    /**
+     * 푸시를 한 번의 요청으로 발송합니다. 요청 자체가 실패하면 예외를 던집니다.
+     *
+     * @return messages와 같은 순서의 발송 결과
+     */
+    List<PushSendResult> send(List<PushMessage> messages);
+}
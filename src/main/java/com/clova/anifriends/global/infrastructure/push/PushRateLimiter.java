@@ -0,0 +1,30 @@
+package com.clova.anifriends.global.infrastructure.push;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 발송 서비스별 초당 발송 수를 제한합니다. 허용량을 미리 예약하고, 예약한 시각까지 호출한 스레드를 대기시킵니다.
+ */
+public class PushRateLimiter {
+
+    private final long nanosPerPermit;
+    private long nextAvailableNanos = System.nanoTime();
+
+    public PushRateLimiter(int permitsPerSecond) {
+        this.nanosPerPermit = TimeUnit.SECONDS.toNanos(1) / Math.max(permitsPerSecond, 1);
+    }
+
+    public void acquire(int permits) throws InterruptedException {
+        long waitNanos = reserve(permits);
+        if (waitNanos > 0) {
+            TimeUnit.NANOSECONDS.sleep(waitNanos);
+        }
+    }
+
+    private synchronized long reserve(int permits) {
+        long now = System.nanoTime();
+        long availableAt = Math.max(nextAvailableNanos, now);
+        nextAvailableNanos = availableAt + nanosPerPermit * permits;
+        return availableAt - now;
+    }
+}
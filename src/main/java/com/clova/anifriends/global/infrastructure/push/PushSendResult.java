@@ -0,0 +1,16 @@
+package com.clova.anifriends.global.infrastructure.push;
+
+public enum PushSendResult {
+    SUCCESS,
+    RETRYABLE_FAILURE,
+    INVALID_TOKEN,
+    ;
+
+    public boolean isSuccess() {
+        return this == SUCCESS;
+    }
+
+    public boolean isInvalidToken() {
+        return this == INVALID_TOKEN;
+    }
+}
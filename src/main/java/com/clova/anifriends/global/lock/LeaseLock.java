@@ -0,0 +1,12 @@
+package com.clova.anifriends.global.lock;
+
+/**
+ * 획득한 임대 락입니다. 토큰은 같은 이름의 락을 획득할 때마다 새로 발급되며, 다른 서버가 다시 잡은 락을 해제하거나 연장하지 않도록 확인하는 데에만
+ * 쓰입니다.
+ */
+public record LeaseLock(
+    String name,
+    long token
+) {
+
+}
@@ -0,0 +1,101 @@
+package com.clova.anifriends.global.lock;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public class LeaseLockRedisRepository implements LeaseLockRepository {
+
+    private static final String LOCK_KEY = "lock:%s";
+    private static final String TOKEN_KEY = "lock:%s:token";
+    private static final long NOT_ACQUIRED = -1;
+
+    /**
+     * 락이 비어 있으면 토큰을 증가시키고, 토큰을 값으로 하여 임대 기간 동안 락을 잡습니다. 토큰 발급과 락 획득을 한 스크립트에서 처리하므로 락을
+     * 얻지 못한 노드가 토큰을 소모하지 않습니다.
+     */
+    private static final RedisScript<Long> ACQUIRE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('EXISTS', KEYS[1]) == 1 then return -1 end "
+            + "local token = redis.call('INCR', KEYS[2]) "
+            + "redis.call('SET', KEYS[1], token, 'PX', ARGV[1]) "
+            + "return token",
+        Long.class);
+
+    /**
+     * 락의 값이 자신의 토큰과 같을 때만 임대 기간을 다시 설정합니다.
+     */
+    private static final RedisScript<Long> EXTEND_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+            + "return redis.call('PEXPIRE', KEYS[1], ARGV[2])",
+        Long.class);
+
+    /**
+     * 락의 값이 자신의 토큰과 같을 때만 락을 지우거나, 남은 유지 시간만큼으로 만료 시간을 줄입니다. 임대 기간이 지나 다른 노드가 잡은 락을 건드리지
+     * 않기 위함입니다.
+     */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) ~= ARGV[1] then return 0 end "
+            + "if tonumber(ARGV[2]) > 0 then return redis.call('PEXPIRE', KEYS[1], ARGV[2]) end "
+            + "return redis.call('DEL', KEYS[1])",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public LeaseLockRedisRepository(StringRedisTemplate redisTemplate) {
+        this.redisTemplate = redisTemplate;
+    }
+
+    /**
+     * 임대 락 획득을 시도합니다.
+     *
+     * @param name 락 이름
+     * @param leaseTime 락을 해제하지 못해도 자동으로 풀리는 임대 기간
+     * @return 획득한 락. 다른 노드가 락을 잡고 있는 경우 빈 값
+     */
+    @Override
+    public Optional<LeaseLock> tryAcquire(String name, Duration leaseTime) {
+        Long token = redisTemplate.execute(ACQUIRE_SCRIPT,
+            List.of(LOCK_KEY.formatted(name), TOKEN_KEY.formatted(name)),
+            String.valueOf(leaseTime.toMillis()));
+        if (Objects.isNull(token) || token == NOT_ACQUIRED) {
+            return Optional.empty();
+        }
+        return Optional.of(new LeaseLock(name, token));
+    }
+
+    /**
+     * 잡고 있는 임대 락의 임대 기간을 지금부터 다시 시작합니다.
+     *
+     * @param leaseLock 획득했던 락
+     * @param leaseTime 지금부터 새로 적용할 임대 기간
+     * @return 연장 여부. 임대 기간이 지나 이미 풀렸거나 다른 노드가 다시 잡은 경우 false
+     */
+    @Override
+    public boolean extend(LeaseLock leaseLock, Duration leaseTime) {
+        Long extended = redisTemplate.execute(EXTEND_SCRIPT,
+            List.of(LOCK_KEY.formatted(leaseLock.name())),
+            String.valueOf(leaseLock.token()), String.valueOf(leaseTime.toMillis()));
+        return Objects.equals(extended, 1L);
+    }
+
+    /**
+     * 임대 락을 해제합니다.
+     *
+     * @param leaseLock 획득했던 락
+     * @param holdTime 해제한 뒤에도 락을 유지할 시간. 0 이하면 바로 해제합니다
+     * @return 해제 여부. 임대 기간이 지나 이미 풀렸거나 다른 노드가 다시 잡은 경우 false
+     */
+    @Override
+    public boolean release(LeaseLock leaseLock, Duration holdTime) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT,
+            List.of(LOCK_KEY.formatted(leaseLock.name())),
+            String.valueOf(leaseLock.token()), String.valueOf(holdTime.toMillis()));
+        return Objects.equals(released, 1L);
+    }
+}
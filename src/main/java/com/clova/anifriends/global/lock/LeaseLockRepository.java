@@ -0,0 +1,13 @@
+package com.clova.anifriends.global.lock;
+
+import java.time.Duration;
+import java.util.Optional;
+
+public interface LeaseLockRepository {
+
+    Optional<LeaseLock> tryAcquire(String name, Duration leaseTime);
+
+    boolean extend(LeaseLock leaseLock, Duration leaseTime);
+
+    boolean release(LeaseLock leaseLock, Duration holdTime);
+}
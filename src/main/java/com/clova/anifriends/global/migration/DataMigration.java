@@ -0,0 +1,20 @@
+package com.clova.anifriends.global.migration;
+
+/**
+ * 배포 후 한 번만 실행하면 되는 데이터 보정 작업입니다. 임대 락을 잡은 한 서버에서만 실행되고, 완료되면 이력을 남겨 다시 실행하지 않습니다. 실패하면
+ * 다음 주기에 처음부터 다시 실행되므로 멱등하게 작성해야 합니다.
+ */
+public interface DataMigration {
+
+    /**
+     * 완료 이력에 남길 고유한 이름입니다. 이미 배포된 보정 작업의 이름을 바꾸면 다시 실행됩니다.
+     */
+    String name();
+
+    /**
+     * 실행 순서입니다. 작은 값부터 실행하므로, 다른 보정 작업의 결과에 의존하는 작업은 그 작업보다 큰 값을 가져야 합니다.
+     */
+    int order();
+
+    void migrate();
+}
@@ -0,0 +1,28 @@
+package com.clova.anifriends.global.migration;
+
+import com.clova.anifriends.domain.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 완료된 데이터 보정 작업의 이력입니다.
+ */
+@Getter
+@Entity
+@Table(name = "data_migration_history")
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DataMigrationHistory extends BaseTimeEntity {
+
+    @Id
+    @Column(name = "name")
+    private String name;
+
+    public DataMigrationHistory(String name) {
+        this.name = name;
+    }
+}
@@ -0,0 +1,8 @@
+package com.clova.anifriends.global.migration;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DataMigrationHistoryRepository extends
+    JpaRepository<DataMigrationHistory, String> {
+
+}
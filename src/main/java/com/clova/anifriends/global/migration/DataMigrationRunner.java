@@ -0,0 +1,37 @@
+package com.clova.anifriends.global.migration;
+
+import java.time.Duration;
+import java.util.Comparator;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+/**
+ * 아직 완료 이력이 없는 데이터 보정 작업을 실행 순서대로 실행합니다. 보정 작업이 실패하면 이후 작업은 실행하지 않고 다음 주기에 다시 시도합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DataMigrationRunner {
+
+    private final List<DataMigration> dataMigrations;
+    private final DataMigrationHistoryRepository dataMigrationHistoryRepository;
+
+    public void runPendingMigrations() {
+        List<DataMigration> orderedMigrations = dataMigrations.stream()
+            .sorted(Comparator.comparingInt(DataMigration::order))
+            .toList();
+        for (DataMigration dataMigration : orderedMigrations) {
+            String name = dataMigration.name();
+            if (dataMigrationHistoryRepository.existsById(name)) {
+                continue;
+            }
+            long startedAt = System.nanoTime();
+            dataMigration.migrate();
+            dataMigrationHistoryRepository.save(new DataMigrationHistory(name));
+            log.info("[Migration] 데이터 보정 완료. name: {}, elapsed: {}ms", name,
+                Duration.ofNanos(System.nanoTime() - startedAt).toMillis());
+        }
+    }
+}
@@ -1,33 +1,57 @@
 package com.clova.anifriends.global.scheduler;
 
-import com.clova.anifriends.domain.notification.service.ShelterNotificationService;
-import com.clova.anifriends.domain.notification.service.VolunteerNotificationService;
+import com.clova.anifriends.domain.notification.service.NotificationArchiveService;
+import com.clova.anifriends.domain.notification.service.NotificationOutboxService;
+import com.clova.anifriends.domain.notification.service.PushDispatcher;
+import com.clova.anifriends.domain.notification.service.PushOutboxService;
+import com.clova.anifriends.domain.notification.service.ReminderJobService;
+import com.clova.anifriends.global.aspect.LeaseLocked;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @RequiredArgsConstructor
 public class NotifyScheduler {
 
-    private final VolunteerNotificationService volunteerNotificationService;
-    private final ShelterNotificationService shelterNotificationService;
+    private final ReminderJobService reminderJobService;
+    private final PushDispatcher pushDispatcher;
+    private final PushOutboxService pushOutboxService;
+    private final NotificationArchiveService notificationArchiveService;
+    private final NotificationOutboxService notificationOutboxService;
 
-    @Scheduled(cron = "${schedules.cron.notification.a-day-before-volunteer}")
-    public void notifyADayBeforeVolunteer() {
-        volunteerNotificationService.notifyADayBeforeVolunteer();
+    /**
+     * 리마인더 작업은 SKIP LOCKED로 나눠 가져가므로, 리스 락 없이 모든 노드에서 실행합니다.
+     */
+    @Scheduled(fixedDelayString = "${schedules.fixed-delay.notification.reminder-job:10000}")
+    public void runDueReminderJobs() {
+        reminderJobService.runDueReminderJobs();
     }
 
-    @Scheduled(cron = "${schedules.cron.notification.three-day-before-volunteer}")
-    public void notifyThreeDayBeforeVolunteer() {
-        volunteerNotificationService.notifyThreeDayBeforeVolunteer();
+    /**
+     * 한 번의 발송은 최대 5분에 끝나므로 임대 기간을 그보다 조금 길게 잡아, 발송 중인 서버가 죽어도 오래 멈추지 않도록 합니다.
+     */
+    @Scheduled(fixedDelayString = "${schedules.fixed-delay.notification.push-dispatch:1000}")
+    @LeaseLocked(name = "notification:push-dispatch", leaseTime = "PT6M")
+    public void dispatchPushes() {
+        pushDispatcher.dispatch();
     }
 
-    @Scheduled(cron = "${schedules.cron.notification.encourage-write-review}")
-    public void notifyEncourageWriteReview() {
-        volunteerNotificationService.notifyEncourageWriteReview();
+    @Scheduled(cron = "${schedules.cron.notification.push-outbox-purge:0 0 4 * * ?}")
+    @LeaseLocked(name = "notification:push-outbox-purge", leaseTime = "PT30M",
+        minHoldTime = "PT30S")
+    public void purgeFinishedPushes() {
+        pushOutboxService.purgeFinishedPushes();
     }
 
-    @Scheduled(cron = "${schedules.cron.notification.encourage-check-attendance}")
-    public void notifyEncourageCheckAttendance() {
-        shelterNotificationService.notifyEncourageCheckAttendance();
+    @Scheduled(cron = "${schedules.cron.notification.archive:0 30 3 * * ?}")
+    @LeaseLocked(name = "notification:archive", leaseTime = "PT1H",
+        minHoldTime = "PT30S")
+    public void archiveExpiredNotifications() {
+        notificationArchiveService.archiveExpiredNotifications();
+    }
+
+    @Scheduled(fixedDelayString = "${schedules.fixed-delay.notification.outbox-relay:10000}")
+    @LeaseLocked(name = "notification:outbox-relay", leaseTime = "PT6M")
+    public void relayPendingNotifications() {
+        notificationOutboxService.relayPendingNotifications();
     }
 }
@@ -1,16 +1,70 @@
 package com.clova.anifriends.global.scheduler;
 
+import com.clova.anifriends.domain.applicant.service.ApplicantAdmissionService;
+import com.clova.anifriends.domain.recruitment.service.RecruitmentCacheService;
 import com.clova.anifriends.domain.recruitment.service.RecruitmentService;
+import com.clova.anifriends.domain.volunteer.service.VolunteerService;
+import com.clova.anifriends.global.aspect.LeaseLocked;
+import com.clova.anifriends.global.migration.DataMigrationRunner;
+import java.time.Duration;
 import lombok.RequiredArgsConstructor;
 import org.springframework.scheduling.annotation.Scheduled;
 
 @RequiredArgsConstructor
 public class ServiceScheduler {
 
+    private static final Duration COMPLETED_COUNT_MAX_DURATION = Duration.ofMinutes(5);
+
     private final RecruitmentService recruitmentService;
+    private final RecruitmentCacheService recruitmentCacheService;
+    private final ApplicantAdmissionService applicantAdmissionService;
+    private final VolunteerService volunteerService;
+    private final DataMigrationRunner dataMigrationRunner;
 
     @Scheduled(cron = "${schedules.cron.recruitment.auto-close}")
+    @LeaseLocked(name = "recruitment:auto-close", leaseTime = "PT10M",
+        minHoldTime = "PT30S")
     public void autoCloseRecruitment() {
         recruitmentService.autoCloseRecruitment();
     }
+
+    @Scheduled(cron = "${schedules.cron.recruitment.calendar-sync:0 0 4 * * ?}")
+    @LeaseLocked(name = "recruitment:calendar-sync", leaseTime = "PT30M",
+        minHoldTime = "PT30S")
+    public void synchronizeRecruitmentCalendar() {
+        recruitmentCacheService.synchronizeRecruitmentCalendar();
+    }
+
+    @Scheduled(cron = "${schedules.cron.applicant.reservation-reconcile:0 */5 * * * ?}")
+    @LeaseLocked(name = "applicant:reservation-reconcile", leaseTime = "PT6M",
+        minHoldTime = "PT30S")
+    public void reconcileApplicantReservations() {
+        applicantAdmissionService.reconcileReservations();
+    }
+
+    /**
+     * 시작한 봉사를 봉사자의 완료한 봉사 수에 반영합니다. 묶음 크기만큼 반영했다면 남은 행이 없을 때까지 이어서 반영하되, 임대 기간 안에 끝나도록
+     * 최대 실행 시간이 지나면 다음 실행으로 넘깁니다.
+     */
+    @Scheduled(cron = "${schedules.cron.volunteer.completed-count:0 * * * * ?}")
+    @LeaseLocked(name = "volunteer:completed-count", leaseTime = "PT6M",
+        minHoldTime = "PT30S")
+    public void countStartedCompletedRecruitments() {
+        long startedAt = System.nanoTime();
+        int counted;
+        do {
+            counted = volunteerService.countStartedCompletedRecruitments();
+        } while (counted == VolunteerService.COMPLETED_COUNT_BATCH_SIZE
+            && System.nanoTime() - startedAt < COMPLETED_COUNT_MAX_DURATION.toNanos());
+    }
+
+    /**
+     * 완료되지 않은 데이터 보정 작업을 한 서버에서만 실행합니다. 먼저 락을 잡은 서버가 보정을 마치면 다른 서버는 완료 이력을 보고 건너뜁니다.
+     */
+    @Scheduled(initialDelayString = "${schedules.initial-delay.data-migration:60000}",
+        fixedDelayString = "${schedules.fixed-delay.data-migration:600000}")
+    @LeaseLocked(name = "data-migration", leaseTime = "PT2H")
+    public void runDataMigrations() {
+        dataMigrationRunner.runPendingMigrations();
+    }
 }
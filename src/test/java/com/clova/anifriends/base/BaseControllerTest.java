@@ -11,6 +11,7 @@ import com.clova.anifriends.base.BaseControllerTest.WebMvcTestConfig;
 import com.clova.anifriends.base.config.RestDocsConfig;
 import com.clova.anifriends.domain.animal.repository.AnimalRedisRepository;
 import com.clova.anifriends.domain.animal.service.AnimalService;
+import com.clova.anifriends.domain.applicant.service.ApplicantAdmissionService;
 import com.clova.anifriends.domain.applicant.service.ApplicantService;
 import com.clova.anifriends.domain.auth.authentication.JwtAuthenticationProvider;
 import com.clova.anifriends.domain.auth.jwt.JwtProvider;
@@ -101,6 +102,9 @@ public abstract class BaseControllerTest extends TestContainerStarter {
     @MockBean
     protected ApplicantService applicantService;
 
+    @MockBean
+    protected ApplicantAdmissionService applicantAdmissionService;
+
     @MockBean
     protected ReviewService reviewService;
 
@@ -12,6 +12,7 @@ import com.clova.anifriends.domain.payment.repository.PaymentRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
 import com.clova.anifriends.domain.review.repository.ReviewRepository;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
 import com.clova.anifriends.global.config.JpaAuditingConfig;
 import jakarta.persistence.EntityManager;
@@ -61,4 +62,7 @@ public abstract class BaseRepositoryTest {
 
     @Autowired
     protected DonationRepository donationRepository;
+
+    @Autowired
+    protected VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
 }
@@ -460,4 +460,71 @@ class AnimalRedisRepositoryTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateShelterProfile 메서드 실행 시")
+    class UpdateShelterProfileTest {
+
+        @Test
+        @DisplayName("성공: 해당 보호소의 캐시된 보호 동물만 갱신된다.")
+        void updateShelterProfile() {
+            // given
+            Shelter shelter = shelter();
+            Shelter otherShelter = shelter();
+            shelterRepository.saveAll(List.of(shelter, otherShelter));
+            List<Animal> animals = animals(shelter, 2);
+            List<Animal> otherAnimals = animals(otherShelter, 1);
+            animalRepository.saveAll(animals);
+            animalRepository.saveAll(otherAnimals);
+            animals.forEach(animalRedisRepository::saveAnimal);
+            otherAnimals.forEach(animalRedisRepository::saveAnimal);
+            String newShelterName = "새로운 보호소 이름";
+            String newShelterAddress = "새로운 보호소 주소";
+
+            // when
+            animalRedisRepository.updateShelterProfile(shelter.getShelterId(), newShelterName,
+                newShelterAddress);
+
+            // then
+            List<FindAnimalResponse> cachedAnimals = zSetOperations.range(ANIMAL_ZSET_KEY, 0, -1)
+                .stream()
+                .map(FindAnimalResponse.class::cast)
+                .toList();
+            assertThat(cachedAnimals).hasSize(3);
+            assertThat(cachedAnimals)
+                .filteredOn(animal -> animal.shelterName().equals(newShelterName))
+                .hasSize(2)
+                .allMatch(animal -> animal.shelterAddress().equals(newShelterAddress));
+            assertThat(cachedAnimals)
+                .filteredOn(animal -> animal.shelterName().equals(otherShelter.getName()))
+                .hasSize(1);
+        }
+
+        @Test
+        @DisplayName("성공: 생성된 지 TTL이 지난 보호 동물 카드는 함께 제거된다.")
+        void updateShelterProfileWhenExpiredCardCached() {
+            // given
+            Shelter shelter = shelter();
+            shelterRepository.save(shelter);
+            List<Animal> animals = animals(shelter, 2);
+            animalRepository.saveAll(animals);
+            ReflectionTestUtils.setField(animals.get(0), "createdAt",
+                LocalDateTime.now().minusDays(8));
+            animals.forEach(animalRedisRepository::saveAnimal);
+
+            // when
+            animalRedisRepository.updateShelterProfile(shelter.getShelterId(), "새로운 보호소 이름",
+                "새로운 보호소 주소");
+
+            // then
+            List<FindAnimalResponse> cachedAnimals = zSetOperations.range(ANIMAL_ZSET_KEY, 0, -1)
+                .stream()
+                .map(FindAnimalResponse.class::cast)
+                .toList();
+            assertThat(cachedAnimals).singleElement()
+                .satisfies(animal -> {
+                    assertThat(animal.animalId()).isEqualTo(animals.get(1).getAnimalId());
+                    assertThat(animal.shelterName()).isEqualTo("새로운 보호소 이름");
+                });
+        }
+    }
 }
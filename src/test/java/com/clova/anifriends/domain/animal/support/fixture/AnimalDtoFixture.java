@@ -31,6 +31,7 @@ public class AnimalDtoFixture {
             animal.getAnimalId(),
             animal.getName(),
             animal.getCreatedAt(),
+            animal.getShelter().getShelterId(),
             animal.getShelter().getName(),
             animal.getShelter().getAddress(),
             animal.getImages().get(0));
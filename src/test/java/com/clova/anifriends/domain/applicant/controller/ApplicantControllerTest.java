@@ -3,6 +3,7 @@ package com.clova.anifriends.domain.applicant.controller;
 import static com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE;
 import static com.clova.anifriends.domain.applicant.vo.ApplicantStatus.PENDING;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doNothing;
@@ -32,10 +33,16 @@ import com.clova.anifriends.domain.applicant.dto.FindApplicantsResponse.FindAppl
 import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantStatusRequest;
 import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsAttendanceRequest;
 import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsAttendanceRequest.UpdateApplicantAttendanceRequest;
+import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsStatusRequest;
+import com.clova.anifriends.domain.applicant.dto.request.UpdateApplicantsStatusRequest.UpdateApplicantStatusItemRequest;
+import com.clova.anifriends.domain.applicant.dto.response.FindAppliedRecruitmentsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse.FindApplyingVolunteerResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse.FindApprovedApplicantResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResult;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.recruitment.Recruitment;
@@ -62,7 +69,7 @@ class ApplicantControllerTest extends BaseControllerTest {
     @DisplayName("봉사 신청 API 호출 시")
     void registerApplicant() throws Exception {
         // given
-        doNothing().when(applicantService).registerApplicant(anyLong(), anyLong());
+        doNothing().when(applicantAdmissionService).registerApplicant(anyLong(), anyLong());
 
         // when
         ResultActions resultActions = mockMvc.perform(
@@ -146,6 +153,76 @@ class ApplicantControllerTest extends BaseControllerTest {
             ));
     }
 
+    @Test
+    @DisplayName("봉사 신청 목록 조회 V2 API 실행 시")
+    void findApplyingVolunteersV2() throws Exception {
+        // given
+        FindApplyingVolunteerResponse response = new FindApplyingVolunteerResponse(
+            1L,
+            1L,
+            1L,
+            "모집글 제목",
+            "보호소 이름",
+            ATTENDANCE,
+            true,
+            LocalDateTime.now());
+        FindApplyingVolunteersResponse findApplyingVolunteersResponse
+            = new FindApplyingVolunteersResponse(PageInfo.of(20, true), List.of(response));
+
+        given(applicantService.findApplyingVolunteersV2(anyLong(), any(), any(), anyBoolean(),
+            any())).willReturn(findApplyingVolunteersResponse);
+
+        // when
+        ResultActions resultActions = mockMvc.perform(
+            get("/api/v2/volunteers/applicants")
+                .param("recruitmentStartTime", String.valueOf(LocalDateTime.now()))
+                .param("applicantId", "1")
+                .param("withCount", "true")
+                .param("pageSize", "10")
+                .header(AUTHORIZATION, volunteerAccessToken));
+
+        // then
+        resultActions.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("봉사자 액세스 토큰")
+                ),
+                queryParameters(
+                    parameterWithName("recruitmentStartTime")
+                        .description("마지막으로 조회한 봉사 신청의 봉사 날짜").optional(),
+                    parameterWithName("applicantId")
+                        .description("마지막으로 조회한 봉사 신청 ID").optional(),
+                    parameterWithName("withCount")
+                        .description("총 요소 개수 조회 여부(기본값 false)").optional(),
+                    parameterWithName("pageSize").description("페이지 사이즈")
+                ),
+                responseFields(
+                    fieldWithPath("pageInfo").type(OBJECT).description("페이지 정보"),
+                    fieldWithPath("pageInfo.totalElements").type(NUMBER)
+                        .description("총 요소 개수. withCount가 false면 -1"),
+                    fieldWithPath("pageInfo.hasNext").type(BOOLEAN).description("다음 페이지 여부"),
+                    fieldWithPath("applicants")
+                        .type(JsonFieldType.ARRAY).description("신청한 봉사 리스트"),
+                    fieldWithPath("applicants[].shelterId")
+                        .type(JsonFieldType.NUMBER).description("보호소 ID"),
+                    fieldWithPath("applicants[].recruitmentId")
+                        .type(JsonFieldType.NUMBER).description("봉사 모집글 ID"),
+                    fieldWithPath("applicants[].applicantId")
+                        .type(JsonFieldType.NUMBER).description("봉사 신청자 ID"),
+                    fieldWithPath("applicants[].recruitmentTitle")
+                        .type(JsonFieldType.STRING).description("모집글 제목"),
+                    fieldWithPath("applicants[].shelterName")
+                        .type(JsonFieldType.STRING).description("보호소 이름"),
+                    fieldWithPath("applicants[].applicantStatus")
+                        .type(JsonFieldType.STRING).description("승인 상태"),
+                    fieldWithPath("applicants[].applicantIsWritedReview")
+                        .type(JsonFieldType.BOOLEAN).description("후기 작성 가능 여부"),
+                    fieldWithPath("applicants[].recruitmentStartTime")
+                        .type(JsonFieldType.STRING).description("봉사 날짜")
+                )
+            ));
+    }
+
     @Test
     @DisplayName("봉사 신청 승인자 조회 API 호출 시")
     void findApprovedApplicants() throws Exception {
@@ -181,7 +258,8 @@ class ApplicantControllerTest extends BaseControllerTest {
                     ),
                     responseFields(
                         fieldWithPath("applicants[]").type(ARRAY).description("봉사 신청자 리스트").optional(),
-                        fieldWithPath("applicants[].applicantId").type(NUMBER).description("봉사 신청 ID"),
+                        fieldWithPath("applicants[].applicantId").type(NUMBER)
+                        .description("봉사 신청 ID"),
                         fieldWithPath("applicants[].volunteerId").type(NUMBER).description("봉사자 ID"),
                         fieldWithPath("applicants[].volunteerName").type(STRING).description("봉사자 이름"),
                         fieldWithPath("applicants[].volunteerBirthDate").type(STRING)
@@ -237,7 +315,8 @@ class ApplicantControllerTest extends BaseControllerTest {
                         fieldWithPath("recruitmentCapacity").type(NUMBER).description("모집 정원"),
                         fieldWithPath("applicants[]").type(ARRAY).description("봉사 신청자 리스트").optional(),
                         fieldWithPath("applicants[].volunteerId").type(NUMBER).description("봉사자 ID"),
-                        fieldWithPath("applicants[].applicantId").type(NUMBER).description("봉사 신청 ID"),
+                        fieldWithPath("applicants[].applicantId").type(NUMBER)
+                        .description("봉사 신청 ID"),
                         fieldWithPath("applicants[].volunteerName").type(STRING).description("봉사자 이름"),
                         fieldWithPath("applicants[].volunteerBirthDate").type(STRING)
                             .description("봉사자 생일"),
@@ -293,7 +372,8 @@ class ApplicantControllerTest extends BaseControllerTest {
                 ),
                 requestFields(
                     fieldWithPath("applicants[]").type(ARRAY).description("봉사 승인자 출석 리스트"),
-                    fieldWithPath("applicants[].applicantId").type(NUMBER).description("봉사 신청 ID"),
+                    fieldWithPath("applicants[].applicantId").type(NUMBER)
+                        .description("봉사 신청 ID"),
                     fieldWithPath("applicants[].isAttended").type(BOOLEAN).description("출석 상태")
                 )
             ));
@@ -339,6 +419,58 @@ class ApplicantControllerTest extends BaseControllerTest {
             ));
     }
 
+    @Test
+    @DisplayName("봉사 신청 승인 여부 일괄 수정 API 호출 시")
+    void updateApplicantsStatus() throws Exception {
+        // given
+        UpdateApplicantsStatusRequest request = new UpdateApplicantsStatusRequest(List.of(
+            new UpdateApplicantStatusItemRequest(1L, true),
+            new UpdateApplicantStatusItemRequest(2L, false),
+            new UpdateApplicantStatusItemRequest(3L, true)));
+        UpdateApplicantsStatusResponse response = new UpdateApplicantsStatusResponse(List.of(
+            new UpdateApplicantStatusResponse(1L, UpdateApplicantStatusResult.UPDATED),
+            new UpdateApplicantStatusResponse(2L, UpdateApplicantStatusResult.UNCHANGED),
+            new UpdateApplicantStatusResponse(3L, UpdateApplicantStatusResult.NOT_FOUND)));
+
+        given(applicantService.updateApplicantsStatus(anyLong(), anyLong(), any()))
+            .willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(
+            patch("/api/shelters/recruitments/{recruitmentId}/applicants", 1L)
+                .header(AUTHORIZATION, shelterAccessToken)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(request))
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName("Authorization").description("액세스 토큰")
+                ),
+                pathParameters(
+                    parameterWithName("recruitmentId").description("모집글 ID")
+                ),
+                requestFields(
+                    fieldWithPath("applicants").type(ARRAY)
+                        .description("변경할 봉사 신청 리스트(최대 100개)"),
+                    fieldWithPath("applicants[].applicantId").type(NUMBER)
+                        .description("봉사 신청 ID"),
+                    fieldWithPath("applicants[].isApproved").type(BOOLEAN)
+                        .description("승인 상태")
+                ),
+                responseFields(
+                    fieldWithPath("applicants").type(ARRAY)
+                        .description("봉사 신청별 변경 결과"),
+                    fieldWithPath("applicants[].applicantId").type(NUMBER)
+                        .description("봉사 신청 ID"),
+                    fieldWithPath("applicants[].result").type(STRING)
+                        .description("변경 결과(UPDATED, UNCHANGED, NOT_FOUND)")
+                )
+            ));
+    }
+
     @Test
     @DisplayName("봉사 신청 여부 조회 API 호출 시")
     void isAppliedRecruitment() throws Exception {
@@ -368,4 +500,36 @@ class ApplicantControllerTest extends BaseControllerTest {
                 )
             ));
     }
+
+    @Test
+    @DisplayName("성공: 봉사 신청 여부 일괄 조회 API 호출 시")
+    void findAppliedRecruitments() throws Exception {
+        //given
+        FindAppliedRecruitmentsResponse response
+            = new FindAppliedRecruitmentsResponse(List.of(1L, 3L));
+
+        given(applicantService.findAppliedRecruitments(anyLong(), any()))
+            .willReturn(response);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(
+            get("/api/volunteers/recruitments/apply")
+                .header(AUTHORIZATION, volunteerAccessToken)
+                .param("recruitmentIds", "1", "2", "3"));
+
+        //then
+        resultActions.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("봉사자 액세스 토큰")
+                ),
+                queryParameters(
+                    parameterWithName("recruitmentIds").description("확인할 봉사 모집글 ID 목록(최대 100개)")
+                ),
+                responseFields(
+                    fieldWithPath("appliedRecruitmentIds").type(ARRAY)
+                        .description("신청한 봉사 모집글 ID 목록")
+                )
+            ));
+    }
 }
@@ -0,0 +1,122 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicantAppliedRedisRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    ApplicantAppliedRedisRepository applicantAppliedRedisRepository;
+
+    @Nested
+    @DisplayName("findAppliedRecruitmentIds 메서드 호출 시")
+    class FindAppliedRecruitmentIdsTest {
+
+        @Test
+        @DisplayName("성공: 신청 목록이 캐싱되지 않았으면 빈 값을 반환한다")
+        void findAppliedRecruitmentIdsWhenNotCached() {
+            // when
+            Optional<List<Long>> appliedRecruitmentIds = applicantAppliedRedisRepository
+                .findAppliedRecruitmentIds(1L, List.of(1L, 2L));
+
+            // then
+            assertThat(appliedRecruitmentIds).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 신청 내역이 없는 봉사자도 캐싱된 빈 목록을 반환한다")
+        void findAppliedRecruitmentIdsWhenCachedEmpty() {
+            // given
+            applicantAppliedRedisRepository.saveAppliedRecruitmentIds(1L, 0L, List.of());
+
+            // when
+            Optional<List<Long>> appliedRecruitmentIds = applicantAppliedRedisRepository
+                .findAppliedRecruitmentIds(1L, List.of(1L, 2L));
+
+            // then
+            assertThat(appliedRecruitmentIds).hasValue(List.of());
+        }
+
+        @Test
+        @DisplayName("성공: 요청한 봉사 모집글 중 신청한 봉사 모집글 id만 반환한다")
+        void findAppliedRecruitmentIds() {
+            // given
+            applicantAppliedRedisRepository.saveAppliedRecruitmentIds(1L, 0L, List.of(1L, 3L));
+
+            // when
+            Optional<List<Long>> appliedRecruitmentIds = applicantAppliedRedisRepository
+                .findAppliedRecruitmentIds(1L, List.of(1L, 2L, 3L));
+
+            // then
+            assertThat(appliedRecruitmentIds).hasValue(List.of(1L, 3L));
+        }
+    }
+
+    @Nested
+    @DisplayName("addAppliedRecruitmentId 메서드 호출 시")
+    class AddAppliedRecruitmentIdTest {
+
+        @Test
+        @DisplayName("성공: 신청 목록이 캐싱되어 있으면 신청한 봉사 모집글 id를 추가한다")
+        void addAppliedRecruitmentId() {
+            // given
+            applicantAppliedRedisRepository.saveAppliedRecruitmentIds(1L, 0L, List.of());
+
+            // when
+            applicantAppliedRedisRepository.addAppliedRecruitmentId(1L, 2L);
+
+            // then
+            assertThat(applicantAppliedRedisRepository.findAppliedRecruitmentIds(1L, List.of(2L)))
+                .hasValue(List.of(2L));
+        }
+
+        @Test
+        @DisplayName("성공: 신청 목록이 캐싱되지 않았으면 추가하지 않는다")
+        void addAppliedRecruitmentIdWhenNotCached() {
+            // when
+            applicantAppliedRedisRepository.addAppliedRecruitmentId(1L, 2L);
+
+            // then
+            assertThat(applicantAppliedRedisRepository.findAppliedRecruitmentIds(1L, List.of(2L)))
+                .isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("saveAppliedRecruitmentIds 메서드 호출 시")
+    class SaveAppliedRecruitmentIdsTest {
+
+        @Test
+        @DisplayName("성공: db 조회 이후 신청이 반영되어 버전이 바뀌었으면 저장하지 않는다")
+        void saveAppliedRecruitmentIdsWhenVersionChanged() {
+            // given
+            long version = applicantAppliedRedisRepository.getVersion(1L);
+            applicantAppliedRedisRepository.addAppliedRecruitmentId(1L, 2L);
+
+            // when
+            applicantAppliedRedisRepository.saveAppliedRecruitmentIds(1L, version, List.of(1L));
+
+            // then
+            assertThat(applicantAppliedRedisRepository.findAppliedRecruitmentIds(1L,
+                List.of(1L, 2L))).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 신청 목록을 만료 시간과 함께 저장한다")
+        void saveAppliedRecruitmentIdsWithTtl() {
+            // when
+            applicantAppliedRedisRepository.saveAppliedRecruitmentIds(1L,
+                applicantAppliedRedisRepository.getVersion(1L), List.of(1L));
+
+            // then
+            assertThat(redisTemplate.getExpire("volunteer:1:applied")).isPositive();
+        }
+    }
+}
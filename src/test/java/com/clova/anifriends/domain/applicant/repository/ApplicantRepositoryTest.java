@@ -26,6 +26,7 @@ import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerCompletedCount;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
@@ -36,6 +37,7 @@ import org.junit.jupiter.api.Test;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class ApplicantRepositoryTest extends BaseRepositoryTest {
@@ -203,6 +205,49 @@ class ApplicantRepositoryTest extends BaseRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findApplyingVolunteersV2 실행 시")
+    class FindApplyingVolunteersV2CursorTest {
+
+        @Test
+        @DisplayName("성공: 봉사 날짜, 봉사 신청 id 내림차순으로 커서 이후의 신청만 조회한다")
+        void findApplyingVolunteersV2() {
+            // given
+            Volunteer volunteer = VolunteerFixture.volunteer();
+            Shelter shelter = ShelterFixture.shelter();
+            List<Recruitment> recruitments = RecruitmentFixture.recruitments(shelter, 3);
+            shelterRepository.save(shelter);
+            volunteerRepository.save(volunteer);
+            recruitmentRepository.saveAll(recruitments);
+            List<Applicant> applicants = recruitments.stream()
+                .map(recruitment -> ApplicantFixture.applicant(recruitment, volunteer, ATTENDANCE))
+                .toList();
+            applicantRepository.saveAll(applicants);
+            reviewRepository.save(ReviewFixture.review(applicants.get(0)));
+            PageRequest pageRequest = PageRequest.of(0, 2);
+
+            // when
+            Slice<FindApplyingVolunteerResult> firstPage = applicantRepository
+                .findApplyingVolunteersV2(volunteer.getVolunteerId(),
+                    LocalDateTime.of(9999, 12, 31, 23, 59), Long.MAX_VALUE, pageRequest);
+            FindApplyingVolunteerResult last = firstPage.getContent().get(1);
+            Slice<FindApplyingVolunteerResult> secondPage = applicantRepository
+                .findApplyingVolunteersV2(volunteer.getVolunteerId(),
+                    last.getRecruitmentStartTime(), last.getApplicantId(), pageRequest);
+
+            // then
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(firstPage.map(FindApplyingVolunteerResult::getApplicantId))
+                .containsExactly(applicants.get(2).getApplicantId(),
+                    applicants.get(1).getApplicantId());
+            assertThat(secondPage.hasNext()).isFalse();
+            assertThat(secondPage.getContent()).hasSize(1);
+            FindApplyingVolunteerResult result = secondPage.getContent().get(0);
+            assertThat(result.getApplicantId()).isEqualTo(applicants.get(0).getApplicantId());
+            assertThat(result.getApplicantIsWritedReview()).isTrue();
+        }
+    }
+
     @Nested
     @DisplayName("findApplicants 메서드 실행 시")
     class FindApplicantsTest {
@@ -233,6 +278,9 @@ class ApplicantRepositoryTest extends BaseRepositoryTest {
             ReflectionTestUtils.setField(pastRecruitmentInfo, "startTime", pastStartTime);
             ReflectionTestUtils.setField(pastRecruitment, "info", pastRecruitmentInfo);
 
+            ReflectionTestUtils.setField(volunteerA, "volunteerCompletedCount",
+                new VolunteerCompletedCount(1));
+
             recruitmentRepository.saveAll(List.of(targetRecruitment, pastRecruitment));
             volunteerRepository.save(volunteerA);
             applicantRepository.saveAll(List.of(applicantA, applicantAttend));
@@ -282,6 +330,9 @@ class ApplicantRepositoryTest extends BaseRepositoryTest {
             ReflectionTestUtils.setField(pastRecruitmentInfo, "startTime", pastStartTime);
             ReflectionTestUtils.setField(pastRecruitment, "info", pastRecruitmentInfo);
 
+            ReflectionTestUtils.setField(volunteerA, "volunteerCompletedCount",
+                new VolunteerCompletedCount(1));
+
             recruitmentRepository.saveAll(
                 List.of(targetRecruitment, pastRecruitment, recruitmentNotStart));
             volunteerRepository.saveAll(
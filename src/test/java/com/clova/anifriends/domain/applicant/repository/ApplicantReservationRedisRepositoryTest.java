@@ -0,0 +1,188 @@
+package com.clova.anifriends.domain.applicant.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservation;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservationStatus;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ApplicantReservationRedisRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    ApplicantReservationRedisRepository applicantReservationRedisRepository;
+
+    @Nested
+    @DisplayName("initializeSlots 메서드 호출 시")
+    class InitializeSlotsTest {
+
+        @Test
+        @DisplayName("성공: 남은 자리를 지운 뒤 다시 초기화하면 열린 예약 수를 뺀다")
+        void initializeSlotsAfterEvict() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 2);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+            applicantReservationRedisRepository.evictSlots(List.of(1L));
+
+            // when
+            applicantReservationRedisRepository.initializeSlots(1L, 2);
+
+            // then
+            assertThat(applicantReservationRedisRepository.reserve(1L, 2L))
+                .isEqualTo(ApplicantReservationStatus.RESERVED);
+            assertThat(applicantReservationRedisRepository.reserve(1L, 3L))
+                .isEqualTo(ApplicantReservationStatus.FULL);
+        }
+
+        @Test
+        @DisplayName("성공: 확정되거나 반환된 예약은 다시 초기화할 때 빼지 않는다")
+        void initializeSlotsAfterConfirmAndRelease() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 2);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+            applicantReservationRedisRepository.reserve(1L, 2L);
+            applicantReservationRedisRepository.confirm(1L, 1L);
+            applicantReservationRedisRepository.release(1L, 2L);
+            applicantReservationRedisRepository.evictSlots(List.of(1L));
+
+            // when
+            applicantReservationRedisRepository.initializeSlots(1L, 1);
+
+            // then
+            assertThat(applicantReservationRedisRepository.reserve(1L, 3L))
+                .isEqualTo(ApplicantReservationStatus.RESERVED);
+        }
+    }
+
+    @Nested
+    @DisplayName("reserve 메서드 호출 시")
+    class ReserveTest {
+
+        @Test
+        @DisplayName("성공: 남은 자리가 초기화되지 않았으면 NOT_INITIALIZED를 반환한다")
+        void reserveWhenNotInitialized() {
+            // when
+            ApplicantReservationStatus status = applicantReservationRedisRepository.reserve(1L, 1L);
+
+            // then
+            assertThat(status).isEqualTo(ApplicantReservationStatus.NOT_INITIALIZED);
+        }
+
+        @Test
+        @DisplayName("성공: 이미 예약한 봉사자면 DUPLICATED를 반환한다")
+        void reserveWhenDuplicated() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 10);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+
+            // when
+            ApplicantReservationStatus status = applicantReservationRedisRepository.reserve(1L, 1L);
+
+            // then
+            assertThat(status).isEqualTo(ApplicantReservationStatus.DUPLICATED);
+        }
+
+        @Test
+        @DisplayName("성공: 동시에 예약해도 남은 자리만큼만 예약된다")
+        void reserveConcurrently() throws InterruptedException {
+            // given
+            int slots = 10;
+            int volunteerCount = 100;
+            applicantReservationRedisRepository.initializeSlots(1L, slots);
+            ExecutorService executorService = Executors.newFixedThreadPool(16);
+            CountDownLatch latch = new CountDownLatch(volunteerCount);
+            Queue<ApplicantReservationStatus> results = new ConcurrentLinkedQueue<>();
+
+            // when
+            for (long volunteerId = 1; volunteerId <= volunteerCount; volunteerId++) {
+                long finalVolunteerId = volunteerId;
+                executorService.submit(() -> {
+                    try {
+                        results.add(
+                            applicantReservationRedisRepository.reserve(1L, finalVolunteerId));
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            executorService.shutdown();
+
+            // then
+            assertThat(results)
+                .filteredOn(status -> status == ApplicantReservationStatus.RESERVED)
+                .hasSize(slots);
+            assertThat(results)
+                .filteredOn(status -> status == ApplicantReservationStatus.FULL)
+                .hasSize(volunteerCount - slots);
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메서드 호출 시")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("성공: 반환된 자리는 다시 예약할 수 있다")
+        void release() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 1);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+
+            // when
+            applicantReservationRedisRepository.release(1L, 1L);
+
+            // then
+            assertThat(applicantReservationRedisRepository.reserve(1L, 2L))
+                .isEqualTo(ApplicantReservationStatus.RESERVED);
+        }
+
+        @Test
+        @DisplayName("성공: 확정된 예약은 자리를 반환하지 않는다")
+        void releaseWhenConfirmed() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 1);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+            applicantReservationRedisRepository.confirm(1L, 1L);
+
+            // when
+            applicantReservationRedisRepository.release(1L, 1L);
+
+            // then
+            assertThat(applicantReservationRedisRepository.reserve(1L, 2L))
+                .isEqualTo(ApplicantReservationStatus.FULL);
+        }
+    }
+
+    @Nested
+    @DisplayName("findReservationsBefore 메서드 호출 시")
+    class FindReservationsBeforeTest {
+
+        @Test
+        @DisplayName("성공: 확정되지 않은 예약만 조회된다")
+        void findReservationsBefore() {
+            // given
+            applicantReservationRedisRepository.initializeSlots(1L, 10);
+            applicantReservationRedisRepository.reserve(1L, 1L);
+            applicantReservationRedisRepository.reserve(1L, 2L);
+            applicantReservationRedisRepository.confirm(1L, 1L);
+
+            // when
+            List<ApplicantReservation> reservations = applicantReservationRedisRepository
+                .findReservationsBefore(LocalDateTime.now().plusMinutes(1), 10);
+
+            // then
+            assertThat(reservations).containsExactly(new ApplicantReservation(1L, 2L));
+        }
+    }
+}
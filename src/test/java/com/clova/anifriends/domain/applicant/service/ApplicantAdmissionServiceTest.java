@@ -0,0 +1,185 @@
+package com.clova.anifriends.domain.applicant.service;
+
+import static com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture.recruitment;
+import static com.clova.anifriends.domain.shelter.support.ShelterFixture.shelter;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
+import com.clova.anifriends.domain.applicant.repository.ApplicantReservationRepository;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservation;
+import com.clova.anifriends.domain.applicant.repository.response.ApplicantReservationStatus;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantAdmissionServiceTest {
+
+    ApplicantAdmissionService applicantAdmissionService;
+
+    @Mock
+    ApplicantService applicantService;
+
+    @Mock
+    ApplicantReservationConfirmer applicantReservationConfirmer;
+
+    @Mock
+    ApplicantReservationRepository applicantReservationRepository;
+
+    @Mock
+    ApplicantRepository applicantRepository;
+
+    @Mock
+    RecruitmentRepository recruitmentRepository;
+
+    @BeforeEach
+    void setUp() {
+        applicantAdmissionService = createService(true);
+    }
+
+    private ApplicantAdmissionService createService(boolean waitingRoomEnabled) {
+        return new ApplicantAdmissionService(waitingRoomEnabled, applicantService,
+            applicantReservationConfirmer, applicantReservationRepository, applicantRepository,
+            recruitmentRepository);
+    }
+
+    @Nested
+    @DisplayName("registerApplicant 메서드 실행 시")
+    class RegisterApplicantTest {
+
+        @Test
+        @DisplayName("성공: 대기실 모드가 꺼져 있으면 바로 db에 신청한다")
+        void registerApplicantWhenWaitingRoomDisabled() {
+            // given
+            ApplicantAdmissionService disabledService = createService(false);
+
+            // when
+            disabledService.registerApplicant(1L, 1L);
+
+            // then
+            then(applicantService).should().registerApplicant(1L, 1L);
+            then(applicantReservationRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 자리를 예약하면 신청을 확정한다")
+        void registerApplicantWhenReserved() {
+            // given
+            given(applicantReservationRepository.reserve(anyLong(), anyLong()))
+                .willReturn(ApplicantReservationStatus.RESERVED);
+
+            // when
+            applicantAdmissionService.registerApplicant(1L, 1L);
+
+            // then
+            then(applicantReservationConfirmer).should().confirm(1L, 1L);
+            then(applicantService).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 남은 자리가 초기화되지 않았으면 db의 모집 인원으로 초기화한다")
+        void registerApplicantWhenNotInitialized() {
+            // given
+            Recruitment recruitment = recruitment(shelter(), 10);
+            given(applicantReservationRepository.reserve(anyLong(), anyLong()))
+                .willReturn(ApplicantReservationStatus.NOT_INITIALIZED,
+                    ApplicantReservationStatus.RESERVED);
+            given(recruitmentRepository.findById(anyLong())).willReturn(Optional.of(recruitment));
+
+            // when
+            applicantAdmissionService.registerApplicant(1L, 1L);
+
+            // then
+            then(applicantReservationRepository).should().initializeSlots(1L, 10);
+            then(applicantReservationConfirmer).should().confirm(1L, 1L);
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 남은 자리가 없는 경우")
+        void exceptionWhenFull() {
+            // given
+            given(applicantReservationRepository.reserve(anyLong(), anyLong()))
+                .willReturn(ApplicantReservationStatus.FULL);
+
+            // when
+            Exception exception = catchException(
+                () -> applicantAdmissionService.registerApplicant(1L, 1L));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            then(applicantReservationConfirmer).should(never()).confirm(anyLong(), anyLong());
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 이미 신청이 저장된 경우 자리를 예약하지 않는다")
+        void exceptionWhenAlreadyApplied() {
+            // given
+            given(applicantRepository.existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(
+                1L, 1L)).willReturn(true);
+
+            // when
+            Exception exception = catchException(
+                () -> applicantAdmissionService.registerApplicant(1L, 1L));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            then(applicantReservationRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 이미 예약한 경우")
+        void exceptionWhenDuplicated() {
+            // given
+            given(applicantReservationRepository.reserve(anyLong(), anyLong()))
+                .willReturn(ApplicantReservationStatus.DUPLICATED);
+
+            // when
+            Exception exception = catchException(
+                () -> applicantAdmissionService.registerApplicant(1L, 1L));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("reconcileReservations 메서드 실행 시")
+    class ReconcileReservationsTest {
+
+        @Test
+        @DisplayName("성공: 신청이 저장된 예약은 확정하고, 저장되지 않은 예약은 자리를 반환한다")
+        void reconcileReservations() {
+            // given
+            given(applicantReservationRepository.findReservationsBefore(any(), anyInt()))
+                .willReturn(List.of(new ApplicantReservation(1L, 1L),
+                    new ApplicantReservation(1L, 2L)));
+            given(applicantRepository.existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(
+                1L, 1L)).willReturn(true);
+            given(applicantRepository.existsByRecruitment_RecruitmentIdAndVolunteer_VolunteerId(
+                1L, 2L)).willReturn(false);
+
+            // when
+            applicantAdmissionService.reconcileReservations();
+
+            // then
+            then(applicantReservationRepository).should().confirm(1L, 1L);
+            then(applicantReservationRepository).should().release(1L, 2L);
+        }
+    }
+}
@@ -9,6 +9,7 @@ import com.clova.anifriends.domain.applicant.dto.FindApplicantsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse;
 import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantAttendanceCommand;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
 import com.clova.anifriends.domain.recruitment.Recruitment;
@@ -21,15 +22,22 @@ import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.PageRequest;
 
 public class ApplicantIntegrationTest extends BaseIntegrationTest {
 
+    private static final Logger log = LoggerFactory.getLogger(ApplicantIntegrationTest.class);
+
     @Autowired
     private ApplicantService applicantService;
 
@@ -138,6 +146,48 @@ public class ApplicantIntegrationTest extends BaseIntegrationTest {
             assertThat(findApplicants).hasSize(capacity);
         }
 
+        @Test
+        @Tag("benchmark")
+        @DisplayName("성공: 100명 정원, 1000명 동시 신청 시 정원만큼만 신청된다")
+        void registerApplicantWhenRegisterWith1000In100Capacity() throws InterruptedException {
+            //given
+            int capacity = 100;
+            int applicantCount = 1000;
+            List<Volunteer> volunteers = VolunteerFixture.volunteers(applicantCount);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter, capacity);
+            volunteerRepository.saveAll(volunteers);
+            recruitmentRepository.save(recruitment);
+
+            ExecutorService executorService = Executors.newFixedThreadPool(32);
+            CountDownLatch latch = new CountDownLatch(applicantCount);
+
+            //when
+            long startTime = System.nanoTime();
+            for (int i = 0; i < applicantCount; i++) {
+                int finalI = i;
+                executorService.submit(() -> {
+                    try {
+                        applicantService.registerApplicant(recruitment.getRecruitmentId(),
+                            volunteers.get(finalI).getVolunteerId());
+                    } finally {
+                        latch.countDown();
+                    }
+                });
+            }
+            latch.await();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            executorService.shutdown();
+            log.info("봉사 신청 {}건 처리: {}ms, {} req/s", applicantCount, elapsedMillis,
+                applicantCount * 1000L / Math.max(elapsedMillis, 1));
+
+            //then
+            Recruitment findRecruitment = entityManager.find(Recruitment.class,
+                recruitment.getRecruitmentId());
+            List<Applicant> findApplicants = getApplicants(recruitment);
+            assertThat(findRecruitment.getApplicantCount()).isEqualTo(capacity);
+            assertThat(findApplicants).hasSize(capacity);
+        }
+
         private List<Applicant> getApplicants(Recruitment recruitment) {
             return entityManager.createQuery(
                     "select a from Applicant a where a.recruitment.recruitmentId = :recruitmentId",
@@ -147,6 +197,60 @@ public class ApplicantIntegrationTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateApplicantAttendance 메서드 호출 시")
+    class UpdateApplicantAttendanceTest {
+
+        @Test
+        @Tag("benchmark")
+        @DisplayName("성공: 5000명의 출석 여부를 일괄 반영한다")
+        void updateApplicantAttendanceWith5000Applicants() {
+            //given
+            int applicantCount = 5000;
+            Shelter shelter = ShelterFixture.shelter();
+            shelterRepository.save(shelter);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter, applicantCount);
+            recruitmentRepository.save(recruitment);
+            List<Volunteer> volunteers = VolunteerFixture.volunteers(applicantCount);
+            volunteerRepository.saveAll(volunteers);
+            List<Applicant> applicants = IntStream.range(0, applicantCount)
+                .mapToObj(i -> ApplicantFixture.applicant(recruitment, volunteers.get(i),
+                    i % 2 == 0 ? ApplicantStatus.ATTENDANCE : ApplicantStatus.NOSHOW))
+                .toList();
+            applicantRepository.saveAll(applicants);
+            List<UpdateApplicantAttendanceCommand> commands = applicants.stream()
+                .map(applicant -> new UpdateApplicantAttendanceCommand(
+                    applicant.getApplicantId(), !applicant.isAttendance()))
+                .toList();
+
+            //when
+            long startTime = System.nanoTime();
+            applicantService.updateApplicantAttendance(shelter.getShelterId(),
+                recruitment.getRecruitmentId(), commands);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+            log.info("봉사 출석 {}건 일괄 처리: {}ms", applicantCount, elapsedMillis);
+
+            //then
+            Volunteer attendedVolunteer = entityManager.find(Volunteer.class,
+                volunteers.get(1).getVolunteerId());
+            Volunteer noShowVolunteer = entityManager.find(Volunteer.class,
+                volunteers.get(0).getVolunteerId());
+            Long notificationCount = entityManager.createQuery(
+                    "select count(n) from VolunteerNotification n", Long.class)
+                .getSingleResult();
+            Long attendanceCount = entityManager.createQuery(
+                    "select count(a) from Applicant a where a.status = :status", Long.class)
+                .setParameter("status", ApplicantStatus.ATTENDANCE)
+                .getSingleResult();
+            assertThat(attendedVolunteer.getTemperature())
+                .isEqualTo(36 + ApplicantService.NO_SHOW_TEMP_REDUCTION);
+            assertThat(noShowVolunteer.getTemperature())
+                .isEqualTo(36 - ApplicantService.NO_SHOW_TEMP_REDUCTION);
+            assertThat(notificationCount).isEqualTo(applicantCount / 2);
+            assertThat(attendanceCount).isEqualTo(applicantCount / 2);
+        }
+    }
+
     @Nested
     @DisplayName("applicant 서비스 n+1 검증 시")
     class ApplicantNPlusOneTest {
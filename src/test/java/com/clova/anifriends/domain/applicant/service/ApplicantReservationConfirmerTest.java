@@ -0,0 +1,74 @@
+package com.clova.anifriends.domain.applicant.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
+
+import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.repository.ApplicantReservationRepository;
+import com.clova.anifriends.global.exception.ErrorCode;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+@ExtendWith(MockitoExtension.class)
+class ApplicantReservationConfirmerTest {
+
+    ApplicantReservationConfirmer applicantReservationConfirmer;
+
+    @Mock
+    ApplicantService applicantService;
+
+    @Mock
+    ApplicantReservationRepository applicantReservationRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        applicantReservationConfirmer = new ApplicantReservationConfirmer(applicantService,
+            applicantReservationRepository, transactionManager);
+    }
+
+    @Nested
+    @DisplayName("confirm 메서드 실행 시")
+    class ConfirmTest {
+
+        @Test
+        @DisplayName("성공: 신청을 저장한 뒤 예약을 확정한다")
+        void confirm() {
+            // when
+            applicantReservationConfirmer.confirm(1L, 1L);
+
+            // then
+            then(applicantService).should().registerApplicant(1L, 1L);
+            then(applicantReservationRepository).should().confirm(1L, 1L);
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 신청 저장에 실패하면 자리를 반환하고 예외를 던진다")
+        void exceptionWhenRegisterFailed() {
+            // given
+            willThrow(new ApplicantCanNotApplyException(ErrorCode.RECRUITMENT_FULL,
+                "모집 인원이 초과되었습니다."))
+                .given(applicantService).registerApplicant(1L, 1L);
+
+            // when
+            Exception exception = catchException(
+                () -> applicantReservationConfirmer.confirm(1L, 1L));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            then(applicantReservationRepository).should().release(1L, 1L);
+            then(applicantReservationRepository).should(never()).confirm(1L, 1L);
+        }
+    }
+}
@@ -7,12 +7,16 @@ import static com.clova.anifriends.domain.applicant.vo.ApplicantStatus.REFUSED;
 import static com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture.recruitment;
 import static com.clova.anifriends.domain.shelter.support.ShelterFixture.shelter;
 import static com.clova.anifriends.domain.volunteer.support.VolunteerFixture.volunteer;
-import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.assertj.core.api.BDDAssertions.catchException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,23 +24,44 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.dto.FindApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.response.FindAppliedRecruitmentsResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApplyingVolunteersResponse.FindApplyingVolunteerResponse;
 import com.clova.anifriends.domain.applicant.dto.response.FindApprovedApplicantsResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResponse;
+import com.clova.anifriends.domain.applicant.dto.response.UpdateApplicantsStatusResponse.UpdateApplicantStatusResult;
+import com.clova.anifriends.domain.applicant.event.ApplicantRegisteredEvent;
+import com.clova.anifriends.domain.applicant.exception.ApplicantBadRequestException;
+import com.clova.anifriends.domain.applicant.exception.ApplicantCanNotApplyException;
+import com.clova.anifriends.domain.applicant.repository.ApplicantAppliedCacheRepository;
 import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplicantResult;
+import com.clova.anifriends.domain.applicant.repository.response.FindApplicantStatusResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApplyingVolunteerResult;
 import com.clova.anifriends.domain.applicant.repository.response.FindApprovedApplicantsResult;
 import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantAttendanceCommand;
+import com.clova.anifriends.domain.applicant.service.dto.UpdateApplicantStatusCommand;
 import com.clova.anifriends.domain.applicant.support.ApplicantDtoFixture;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.applicant.vo.ApplicantStatus;
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationOutboxSavedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
 import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
 import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.dto.response.IsAppliedRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCapacityChangedEvent;
 import com.clova.anifriends.domain.recruitment.exception.RecruitmentNotFoundException;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentCapacityResult;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
 import com.clova.anifriends.domain.recruitment.vo.RecruitmentApplicantCount;
 import com.clova.anifriends.domain.recruitment.vo.RecruitmentInfo;
@@ -45,24 +70,35 @@ import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
 import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.VolunteerCompletedRecruitment;
 import com.clova.anifriends.domain.volunteer.exception.VolunteerNotFoundException;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerTemperature;
+import com.clova.anifriends.global.exception.ErrorCode;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.stream.LongStream;
 import org.assertj.core.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -86,9 +122,27 @@ class ApplicantServiceTest {
     @Mock
     VolunteerNotificationRepository volunteerNotificationRepository;
 
+    @Mock
+    PushOutboxRepository pushOutboxRepository;
+
+    @Mock
+    NotificationOutboxRepository notificationOutboxRepository;
+
     @Mock
     ShelterRepository shelterRepository;
 
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
+    @Mock
+    VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+
+    @Mock
+    ApplicantAppliedCacheRepository applicantAppliedCacheRepository;
+
+    @Captor
+    ArgumentCaptor<List<NotificationOutbox>> notificationOutboxCaptor;
+
     @Nested
     @DisplayName("registerApplicant 메서드 실행 시")
     class RegisterApplicantTest {
@@ -111,18 +165,38 @@ class ApplicantServiceTest {
             setField(volunteer, "volunteerId", 1L);
             setField(recruitment, "recruitmentId", 1L);
             setField(recruitment, "info", recruitmentInfo);
-            given(recruitmentRepository.findByIdPessimistic(anyLong())).willReturn(
+            given(recruitmentRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(recruitment));
             given(volunteerRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(volunteer));
+            given(recruitmentRepository.increaseApplicantCountIfAvailable(anyLong(), any()))
+                .willReturn(1);
+            given(recruitmentRepository.findCapacitiesByRecruitmentIds(List.of(1L)))
+                .willReturn(List.of(capacity(1L, 1, 30)));
 
             // when
             applicantService.registerApplicant(recruitment.getRecruitmentId(),
                 volunteer.getVolunteerId());
 
             // then
-            then(applicantRepository).should().save(any());
-            then(shelterNotificationRepository).should().save(any());
+            InOrder inOrder = inOrder(applicantRepository, notificationOutboxRepository,
+                recruitmentRepository);
+            inOrder.verify(applicantRepository).save(any());
+            inOrder.verify(notificationOutboxRepository).saveAll(notificationOutboxCaptor.capture());
+            inOrder.verify(recruitmentRepository)
+                .increaseApplicantCountIfAvailable(anyLong(), any());
+            assertThat(notificationOutboxCaptor.getValue())
+                .extracting(NotificationOutbox::getType)
+                .containsExactly(NotificationType.NEW_APPLICANT);
+            then(applicationEventPublisher).should()
+                .publishEvent(any(NotificationOutboxSavedEvent.class));
+            then(applicationEventPublisher).should().publishEvent(
+                new ApplicantRegisteredEvent(recruitment.getRecruitmentId(),
+                    volunteer.getVolunteerId(), shelter.getShelterId(), recruitment.getTitle(),
+                    volunteer.getName(), false));
+            then(applicationEventPublisher).should().publishEvent(
+                new RecruitmentCapacityChangedEvent(List.of(
+                    new RecruitmentCapacityResponse(1L, 1, 30, false, 1L))));
         }
 
         @Test
@@ -134,10 +208,14 @@ class ApplicantServiceTest {
             setField(recruitment, "info", recruitmentInfo);
             RecruitmentApplicantCount recruitmentApplicantCount = new RecruitmentApplicantCount(29);
             setField(recruitment, "applicantCount", recruitmentApplicantCount);
-            given(recruitmentRepository.findByIdPessimistic(anyLong())).willReturn(
+            given(recruitmentRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(recruitment));
             given(volunteerRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(volunteer));
+            given(recruitmentRepository.increaseApplicantCountIfAvailable(anyLong(), any()))
+                .willReturn(1);
+            given(recruitmentRepository.findCapacitiesByRecruitmentIds(List.of(1L)))
+                .willReturn(List.of(capacity(1L, 30, 30)));
 
             // when
             applicantService.registerApplicant(recruitment.getRecruitmentId(),
@@ -145,7 +223,126 @@ class ApplicantServiceTest {
 
             // then
             then(applicantRepository).should().save(any());
-            verify(shelterNotificationRepository, times(2)).save(any());
+            then(notificationOutboxRepository).should(times(2))
+                .saveAll(notificationOutboxCaptor.capture());
+            assertThat(notificationOutboxCaptor.getAllValues())
+                .flatExtracting(outboxes -> outboxes)
+                .extracting(NotificationOutbox::getType)
+                .containsExactly(NotificationType.NEW_APPLICANT, NotificationType.APPLICANT_FULL);
+            then(applicationEventPublisher).should().publishEvent(
+                new ApplicantRegisteredEvent(recruitment.getRecruitmentId(),
+                    volunteer.getVolunteerId(), shelter.getShelterId(), recruitment.getTitle(),
+                    volunteer.getName(), true));
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 모집 인원이 가득 찬 경우")
+        void throwExceptionWhenFullApplicants() {
+            // given
+            setField(volunteer, "volunteerId", 1L);
+            setField(recruitment, "recruitmentId", 1L);
+            setField(recruitment, "info", recruitmentInfo);
+            RecruitmentApplicantCount recruitmentApplicantCount = new RecruitmentApplicantCount(30);
+            setField(recruitment, "applicantCount", recruitmentApplicantCount);
+            given(recruitmentRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(recruitment));
+            given(volunteerRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(volunteer));
+            given(recruitmentRepository.increaseApplicantCountIfAvailable(anyLong(), any()))
+                .willReturn(0);
+
+            // when
+            Exception exception = catchException(() -> applicantService.registerApplicant(
+                recruitment.getRecruitmentId(), volunteer.getVolunteerId()));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            assertThat(((ApplicantCanNotApplyException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.RECRUITMENT_FULL.getValue());
+            then(applicationEventPublisher).should(times(0))
+                .publishEvent(any(ApplicantRegisteredEvent.class));
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 신청 저장 중 모집이 마감된 경우")
+        void throwExceptionWhenClosedWhileRegistering() {
+            // given
+            RecruitmentInfo openInfo = new RecruitmentInfo(
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(10),
+                LocalDateTime.now().plusDays(3),
+                false,
+                30
+            );
+            setField(volunteer, "volunteerId", 1L);
+            setField(recruitment, "recruitmentId", 1L);
+            setField(recruitment, "info", openInfo);
+            given(recruitmentRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(recruitment));
+            given(volunteerRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(volunteer));
+            given(recruitmentRepository.increaseApplicantCountIfAvailable(anyLong(), any()))
+                .willAnswer(invocation -> {
+                    setField(openInfo, "isClosed", true);
+                    return 0;
+                });
+
+            // when
+            Exception exception = catchException(() -> applicantService.registerApplicant(
+                recruitment.getRecruitmentId(), volunteer.getVolunteerId()));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            assertThat(((ApplicantCanNotApplyException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.RECRUITMENT_CLOSED.getValue());
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantCanNotApplyException): 마감된 모집글인 경우")
+        void throwExceptionWhenClosed() {
+            // given
+            RecruitmentInfo closedInfo = new RecruitmentInfo(
+                LocalDateTime.now().plusDays(5),
+                LocalDateTime.now().plusDays(10),
+                LocalDateTime.now().plusDays(3),
+                true,
+                30
+            );
+            setField(volunteer, "volunteerId", 1L);
+            setField(recruitment, "recruitmentId", 1L);
+            setField(recruitment, "info", closedInfo);
+            given(recruitmentRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(recruitment));
+            given(volunteerRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(volunteer));
+
+            // when
+            Exception exception = catchException(() -> applicantService.registerApplicant(
+                recruitment.getRecruitmentId(), volunteer.getVolunteerId()));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantCanNotApplyException.class);
+            assertThat(((ApplicantCanNotApplyException) exception).getErrorCode())
+                .isEqualTo(ErrorCode.RECRUITMENT_CLOSED.getValue());
+            then(recruitmentRepository).should(times(0))
+                .increaseApplicantCountIfAvailable(anyLong(), any());
+        }
+
+        @Test
+        @DisplayName("예외(RecruitmentNotFoundException): 존재하지 않는 모집글인 경우")
+        void throwExceptionWhenRecruitmentNotFound() {
+            // given
+            setField(volunteer, "volunteerId", 1L);
+            given(recruitmentRepository.findById(anyLong())).willReturn(Optional.empty());
+            given(volunteerRepository.findById(anyLong())).willReturn(
+                Optional.ofNullable(volunteer));
+
+            // when
+            Exception exception = catchException(() -> applicantService.registerApplicant(
+                1L, volunteer.getVolunteerId()));
+
+            // then
+            assertThat(exception).isInstanceOf(RecruitmentNotFoundException.class);
         }
 
         @Test
@@ -155,7 +352,7 @@ class ApplicantServiceTest {
             setField(volunteer, "volunteerId", 1L);
             setField(recruitment, "recruitmentId", 1L);
             setField(recruitment, "info", recruitmentInfo);
-            given(recruitmentRepository.findByIdPessimistic(anyLong())).willReturn(
+            given(recruitmentRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(recruitment));
             given(volunteerRepository.findById(anyLong())).willReturn(
                 Optional.ofNullable(volunteer));
@@ -168,6 +365,38 @@ class ApplicantServiceTest {
 
             // then
             assertThat(exception).isInstanceOf(DataIntegrityViolationException.class);
+            then(recruitmentRepository).should(times(0))
+                .increaseApplicantCountIfAvailable(anyLong(), any());
+        }
+
+        private FindRecruitmentCapacityResult capacity(Long recruitmentId, int applicantCount,
+            int capacity) {
+            return new FindRecruitmentCapacityResult() {
+                @Override
+                public Long getRecruitmentId() {
+                    return recruitmentId;
+                }
+
+                @Override
+                public int getApplicantCount() {
+                    return applicantCount;
+                }
+
+                @Override
+                public int getCapacity() {
+                    return capacity;
+                }
+
+                @Override
+                public boolean isClosed() {
+                    return false;
+                }
+
+                @Override
+                public long getCapacityVersion() {
+                    return 1L;
+                }
+            };
         }
     }
 
@@ -258,6 +487,56 @@ class ApplicantServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findApplyingVolunteersV2 메서드 실행 시")
+    class FindApplyingVolunteersV2Test {
+
+        @Test
+        @DisplayName("성공: 커서가 없으면 가장 최근 봉사부터 조회한다")
+        void findApplyingVolunteersV2WhenCursorIsNull() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 10);
+            SliceImpl<FindApplyingVolunteerResult> results = new SliceImpl<>(
+                ApplicantDtoFixture.findApplyingVolunteerResults(3), pageRequest, false);
+
+            given(applicantRepository.findApplyingVolunteersV2(anyLong(), any(), anyLong(),
+                any())).willReturn(results);
+
+            // when
+            FindApplyingVolunteersResponse response = applicantService
+                .findApplyingVolunteersV2(1L, null, null, false, pageRequest);
+
+            // then
+            assertThat(response.applicants().size()).isEqualTo(3);
+            assertThat(response.pageInfo().totalElements()).isEqualTo(-1);
+            then(applicantRepository).should().findApplyingVolunteersV2(1L,
+                LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, pageRequest);
+            then(applicantRepository).should(times(0)).countByVolunteer_VolunteerId(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 전체 개수를 요청하면 함께 조회한다")
+        void findApplyingVolunteersV2WithCount() {
+            // given
+            PageRequest pageRequest = PageRequest.of(0, 10);
+            LocalDateTime startTime = LocalDateTime.now();
+            SliceImpl<FindApplyingVolunteerResult> results = new SliceImpl<>(
+                ApplicantDtoFixture.findApplyingVolunteerResults(1), pageRequest, false);
+
+            given(applicantRepository.findApplyingVolunteersV2(1L, startTime, 5L, pageRequest))
+                .willReturn(results);
+            given(applicantRepository.countByVolunteer_VolunteerId(1L)).willReturn(11L);
+
+            // when
+            FindApplyingVolunteersResponse response = applicantService
+                .findApplyingVolunteersV2(1L, startTime, 5L, true, pageRequest);
+
+            // then
+            assertThat(response.pageInfo().totalElements()).isEqualTo(11);
+            assertThat(response.pageInfo().hasNext()).isFalse();
+        }
+    }
+
     @Nested
     @DisplayName("findApplicants 메서드 실행 시")
     class FindApplicantsTest {
@@ -339,9 +618,70 @@ class ApplicantServiceTest {
                         applicantNoShow.getApplicantId()), NOSHOW);
 
             verify(volunteerNotificationRepository, times(1))
-                .saveAll(any(List.class));
+                .saveAllByApplicantStatus(eq(shelter.getShelterId()),
+                    eq(recruitment.getRecruitmentId()),
+                    eq(List.of(applicantAttendance.getApplicantId(),
+                        applicantNoShowToAttendance.getApplicantId())), eq(NOSHOW), anyString(),
+                    eq(NotificationType.INCREASE_VOLUNTEER_TEMPERATURE), any());
+            verify(pushOutboxRepository, times(1))
+                .saveAllByApplicantStatus(eq(shelter.getShelterId()),
+                    eq(recruitment.getRecruitmentId()),
+                    eq(List.of(applicantAttendance.getApplicantId(),
+                        applicantNoShowToAttendance.getApplicantId())), eq(NOSHOW), anyString(),
+                    any());
+
+            verify(volunteerRepository, times(1))
+                .increaseTemperatureByApplicantStatus(shelter.getShelterId(),
+                    recruitment.getRecruitmentId(),
+                    List.of(applicantAttendance.getApplicantId(),
+                        applicantNoShowToAttendance.getApplicantId()), NOSHOW,
+                    ApplicantService.NO_SHOW_TEMP_REDUCTION,
+                    VolunteerTemperature.MAX_VOLUNTEER_TEMPERATURE);
+
+            verify(volunteerRepository, times(1))
+                .decreaseTemperatureByApplicantStatus(shelter.getShelterId(),
+                    recruitment.getRecruitmentId(),
+                    List.of(applicantAttendanceToNoShow.getApplicantId(),
+                        applicantNoShow.getApplicantId()), ATTENDANCE,
+                    ApplicantService.NO_SHOW_TEMP_REDUCTION,
+                    VolunteerTemperature.MIN_VOLUNTEER_TEMPERATURE);
 
         }
+
+        @Test
+        @DisplayName("성공: 참여 확정된 봉사자 중 완료 봉사 프로젝션에 없는 봉사자만 추가하고 완료한 봉사 수를 갱신한다.")
+        void saveCompletedRecruitments() {
+            // given
+            List<UpdateApplicantAttendanceCommand> commands = List.of(
+                new UpdateApplicantAttendanceCommand(1L, true),
+                new UpdateApplicantAttendanceCommand(2L, true),
+                new UpdateApplicantAttendanceCommand(3L, false));
+
+            given(applicantRepository.findVolunteerIdsByStatus(1L, 1L, List.of(1L, 2L), NOSHOW))
+                .willReturn(List.of(20L));
+            given(applicantRepository.findVolunteerIdsByStatus(1L, 1L, List.of(3L), NOSHOW))
+                .willReturn(List.of(30L));
+            given(applicantRepository.findVolunteerIdsByStatus(1L, 1L, List.of(1L, 2L),
+                ATTENDANCE)).willReturn(List.of(10L, 20L));
+            given(volunteerCompletedRecruitmentRepository.findVolunteerIds(1L, List.of(30L)))
+                .willReturn(List.of(30L));
+
+            // when
+            applicantService.updateApplicantAttendance(1L, 1L, commands);
+
+            // then
+            then(volunteerRepository).should().decreaseCompletedCount(1L, List.of(30L));
+            then(volunteerCompletedRecruitmentRepository).should()
+                .deleteByRecruitmentIdAndVolunteerIds(1L, List.of(30L));
+            then(volunteerRepository).should()
+                .increaseCompletedCountWithoutCompletedRecruitment(eq(1L), eq(List.of(10L, 20L)),
+                    any(LocalDateTime.class));
+            then(volunteerCompletedRecruitmentRepository).should()
+                .insertCompletedRecruitments(eq(1L), eq(List.of(10L, 20L)),
+                    any(LocalDateTime.class));
+            then(applicationEventPublisher).should().publishEvent(
+                new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, List.of(20L)));
+        }
     }
 
     @Nested
@@ -370,7 +710,40 @@ class ApplicantServiceTest {
 
             // then
             assertThat(applicant.getStatus()).isEqualTo(REFUSED);
-            then(volunteerNotificationRepository).should().save(any());
+            then(notificationOutboxRepository).should().saveAll(notificationOutboxCaptor.capture());
+            assertThat(notificationOutboxCaptor.getValue())
+                .extracting(NotificationOutbox::getReceiverType, NotificationOutbox::getReceiverId,
+                    NotificationOutbox::getType)
+                .containsExactly(
+                    tuple(PushReceiverType.VOLUNTEER, 1L, NotificationType.VOLUNTEER_REFUSED));
+            then(volunteerNotificationRepository).shouldHaveNoInteractions();
+            then(applicationEventPublisher).should()
+                .publishEvent(any(NotificationOutboxSavedEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공: 승인된 경우 완료 봉사 프로젝션에 추가한다.")
+        void saveCompletedRecruitmentWhenApproved() {
+            // given
+            Volunteer volunteer = VolunteerFixture.volunteer();
+            ReflectionTestUtils.setField(volunteer, "volunteerId", 1L);
+            Shelter shelter = ShelterFixture.shelter();
+            ReflectionTestUtils.setField(shelter, "shelterId", 1L);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            ReflectionTestUtils.setField(recruitment, "recruitmentId", 1L);
+            Applicant applicant = ApplicantFixture.applicant(recruitment, volunteer, PENDING);
+            ReflectionTestUtils.setField(applicant, "applicantId", 1L);
+            when(
+                applicantRepository.findByApplicantIdAndRecruitment_RecruitmentIdAndRecruitment_Shelter_ShelterId(
+                    anyLong(), anyLong(), anyLong())).thenReturn(Optional.of(applicant));
+
+            // when
+            applicantService.updateApplicantStatus(applicant.getApplicantId(),
+                recruitment.getRecruitmentId(), shelter.getShelterId(), true);
+
+            // then
+            then(volunteerCompletedRecruitmentRepository).should()
+                .save(any(VolunteerCompletedRecruitment.class));
         }
 
         @Test
@@ -460,4 +833,168 @@ class ApplicantServiceTest {
             Assertions.assertThat(exception).isInstanceOf(RecruitmentNotFoundException.class);
         }
     }
+
+    @Nested
+    @DisplayName("updateApplicantsStatus 메서드 실행 시")
+    class UpdateApplicantsStatusTest {
+
+        private FindApplicantStatusResult applicantStatus(Long applicantId, Long volunteerId,
+            ApplicantStatus status) {
+            return new FindApplicantStatusResult() {
+                @Override
+                public Long getApplicantId() {
+                    return applicantId;
+                }
+
+                @Override
+                public Long getVolunteerId() {
+                    return volunteerId;
+                }
+
+                @Override
+                public ApplicantStatus getApplicantStatus() {
+                    return status;
+                }
+            };
+        }
+
+        @Test
+        @DisplayName("성공: 상태가 바뀌는 신청만 일괄 변경하고 신청별 결과를 반환한다")
+        void updateApplicantsStatus() {
+            // given
+            Long shelterId = 1L;
+            Long recruitmentId = 1L;
+            List<UpdateApplicantStatusCommand> commands = List.of(
+                new UpdateApplicantStatusCommand(1L, true),
+                new UpdateApplicantStatusCommand(2L, false),
+                new UpdateApplicantStatusCommand(3L, true),
+                new UpdateApplicantStatusCommand(4L, false));
+
+            given(applicantRepository.findApplicantStatuses(shelterId, recruitmentId,
+                List.of(1L, 2L, 3L, 4L))).willReturn(List.of(
+                applicantStatus(1L, 11L, PENDING),
+                applicantStatus(2L, 12L, REFUSED),
+                applicantStatus(4L, 14L, ATTENDANCE)));
+            given(volunteerCompletedRecruitmentRepository.findVolunteerIds(recruitmentId,
+                List.of(14L))).willReturn(List.of(14L));
+            Shelter shelter = ShelterFixture.shelter();
+            given(shelterRepository.findById(shelterId)).willReturn(Optional.of(shelter));
+
+            // when
+            UpdateApplicantsStatusResponse response = applicantService.updateApplicantsStatus(
+                shelterId, recruitmentId, commands);
+
+            // then
+            assertThat(response).isEqualTo(new UpdateApplicantsStatusResponse(List.of(
+                new UpdateApplicantStatusResponse(1L, UpdateApplicantStatusResult.UPDATED),
+                new UpdateApplicantStatusResponse(2L, UpdateApplicantStatusResult.UNCHANGED),
+                new UpdateApplicantStatusResponse(3L, UpdateApplicantStatusResult.NOT_FOUND),
+                new UpdateApplicantStatusResponse(4L, UpdateApplicantStatusResult.UPDATED))));
+            then(volunteerNotificationRepository).should().saveAllByApplicantStatusChange(
+                eq(shelterId), eq(recruitmentId), eq(List.of(1L)), eq(ATTENDANCE), anyString(),
+                eq(NotificationType.VOLUNTEER_APPROVED), any());
+            then(volunteerNotificationRepository).should().saveAllByApplicantStatusChange(
+                eq(shelterId), eq(recruitmentId), eq(List.of(4L)), eq(REFUSED), anyString(),
+                eq(NotificationType.VOLUNTEER_REFUSED), any());
+            then(pushOutboxRepository).should().saveAllByApplicantStatusChange(
+                eq(shelterId), eq(recruitmentId), eq(List.of(1L)), eq(ATTENDANCE), anyString(),
+                any());
+            then(pushOutboxRepository).should().saveAllByApplicantStatusChange(
+                eq(shelterId), eq(recruitmentId), eq(List.of(4L)), eq(REFUSED), anyString(),
+                any());
+            then(applicantRepository).should()
+                .updateBulkStatus(shelterId, recruitmentId, List.of(1L), ATTENDANCE);
+            then(applicantRepository).should()
+                .updateBulkStatus(shelterId, recruitmentId, List.of(4L), REFUSED);
+            then(volunteerRepository).should().decreaseCompletedCount(recruitmentId, List.of(14L));
+            then(volunteerCompletedRecruitmentRepository).should()
+                .deleteByRecruitmentIdAndVolunteerIds(recruitmentId, List.of(14L));
+            then(volunteerCompletedRecruitmentRepository).should()
+                .insertCompletedRecruitments(eq(recruitmentId), eq(List.of(11L)),
+                    any(LocalDateTime.class));
+            then(applicationEventPublisher).should().publishEvent(
+                new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, List.of(11L, 14L)));
+            then(applicationEventPublisher).should().publishEvent(NotificationStreamEvent.of(
+                PushReceiverType.VOLUNTEER, List.of(11L), shelter.getName(),
+                NotificationType.VOLUNTEER_APPROVED.getMessage()));
+            then(applicationEventPublisher).should().publishEvent(NotificationStreamEvent.of(
+                PushReceiverType.VOLUNTEER, List.of(14L), shelter.getName(),
+                NotificationType.VOLUNTEER_REFUSED.getMessage()));
+        }
+
+        @Test
+        @DisplayName("성공: 바뀌는 상태가 없으면 변경 쿼리를 실행하지 않는다")
+        void updateApplicantsStatusWhenUnchanged() {
+            // given
+            given(applicantRepository.findApplicantStatuses(1L, 1L, List.of(1L)))
+                .willReturn(List.of(applicantStatus(1L, 11L, ATTENDANCE)));
+
+            // when
+            UpdateApplicantsStatusResponse response = applicantService.updateApplicantsStatus(
+                1L, 1L, List.of(new UpdateApplicantStatusCommand(1L, true)));
+
+            // then
+            assertThat(response.applicants().get(0).result())
+                .isEqualTo(UpdateApplicantStatusResult.UNCHANGED);
+            then(applicantRepository).should(times(0))
+                .updateBulkStatus(anyLong(), anyLong(), any(), any());
+            then(volunteerNotificationRepository).shouldHaveNoInteractions();
+            then(pushOutboxRepository).shouldHaveNoInteractions();
+        }
+    }
+
+    @Nested
+    @DisplayName("findAppliedRecruitments 메서드 실행 시")
+    class FindAppliedRecruitmentsTest {
+
+        @Test
+        @DisplayName("성공: 캐싱된 신청 목록에서 신청한 봉사 모집글을 조회한다")
+        void findAppliedRecruitmentsWhenCached() {
+            // given
+            given(applicantAppliedCacheRepository.findAppliedRecruitmentIds(1L, List.of(1L, 2L)))
+                .willReturn(Optional.of(List.of(2L)));
+
+            // when
+            FindAppliedRecruitmentsResponse response = applicantService
+                .findAppliedRecruitments(1L, List.of(1L, 2L, 2L));
+
+            // then
+            Assertions.assertThat(response.appliedRecruitmentIds()).containsExactly(2L);
+            then(applicantRepository).should(times(0)).findRecruitmentIdsByVolunteerId(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 신청 목록이 캐싱되지 않았으면 db에서 조회해 캐싱한다")
+        void findAppliedRecruitmentsWhenNotCached() {
+            // given
+            given(applicantAppliedCacheRepository.findAppliedRecruitmentIds(1L, List.of(1L, 2L)))
+                .willReturn(Optional.empty());
+            given(applicantAppliedCacheRepository.getVersion(1L)).willReturn(3L);
+            given(applicantRepository.findRecruitmentIdsByVolunteerId(1L))
+                .willReturn(List.of(1L, 5L));
+
+            // when
+            FindAppliedRecruitmentsResponse response = applicantService
+                .findAppliedRecruitments(1L, List.of(1L, 2L));
+
+            // then
+            Assertions.assertThat(response.appliedRecruitmentIds()).containsExactly(1L);
+            then(applicantAppliedCacheRepository).should()
+                .saveAppliedRecruitmentIds(1L, 3L, Set.of(1L, 5L));
+        }
+
+        @Test
+        @DisplayName("예외(ApplicantBadRequestException): 100개를 초과해 조회하는 경우")
+        void exceptionWhenTooManyRecruitmentIds() {
+            // given
+            List<Long> recruitmentIds = LongStream.rangeClosed(1, 101).boxed().toList();
+
+            // when
+            Exception exception = catchException(
+                () -> applicantService.findAppliedRecruitments(1L, recruitmentIds));
+
+            // then
+            assertThat(exception).isInstanceOf(ApplicantBadRequestException.class);
+        }
+    }
 }
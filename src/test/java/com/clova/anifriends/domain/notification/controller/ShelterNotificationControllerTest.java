@@ -1,5 +1,6 @@
 package com.clova.anifriends.domain.notification.controller;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
@@ -7,26 +8,36 @@ import static org.springframework.restdocs.headers.HeaderDocumentation.requestHe
 import static org.springframework.restdocs.payload.JsonFieldType.ARRAY;
 import static org.springframework.restdocs.payload.JsonFieldType.BOOLEAN;
 import static org.springframework.restdocs.payload.JsonFieldType.NUMBER;
+import static org.springframework.restdocs.payload.JsonFieldType.OBJECT;
 import static org.springframework.restdocs.payload.JsonFieldType.STRING;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.clova.anifriends.base.BaseControllerTest;
+import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.notification.ShelterNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2.FindShelterNotificationResponse;
 import com.clova.anifriends.domain.notification.support.fixture.ShelterNotificationFixture;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.http.MediaType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 class ShelterNotificationControllerTest extends BaseControllerTest {
 
@@ -66,7 +77,89 @@ class ShelterNotificationControllerTest extends BaseControllerTest {
                     fieldWithPath("notifications[].notificationIsRead").type(BOOLEAN)
                         .description("알림 읽음 여부"),
                     fieldWithPath("notifications[].notificationType").type(STRING)
-                        .description("알림 타입")
+                        .description("알림 타입"),
+                    fieldWithPath("notifications[].notificationCount").type(NUMBER)
+                        .description("하나로 묶인 알림 수")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("성공: 보호소 알림 커서 기반 조회 api 호출 시")
+    void findShelterNotificationsV2() throws Exception {
+        // given
+        FindShelterNotificationResponse notificationResponse = new FindShelterNotificationResponse(
+            1L, "알림 제목", "알림 내용", false, NotificationType.NEW_APPLICANT, 3,
+            LocalDateTime.now());
+        FindShelterNotificationsResponseV2 response = new FindShelterNotificationsResponseV2(
+            PageInfo.of(-1, true), List.of(notificationResponse));
+        given(shelterNotificationService.findShelterNotificationsV2(anyLong(), any(), any(),
+            any())).willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v2/shelters/notifications")
+            .param("notificationCreatedAt", String.valueOf(LocalDateTime.now()))
+            .param("notificationId", "2")
+            .param("pageSize", "10")
+            .header(AUTHORIZATION, shelterAccessToken)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("보호소 액세스 토큰")
+                ),
+                queryParameters(
+                    parameterWithName("notificationCreatedAt")
+                        .description("마지막으로 조회한 알림의 생성 시각").optional(),
+                    parameterWithName("notificationId")
+                        .description("마지막으로 조회한 알림 ID").optional(),
+                    parameterWithName("pageSize").description("페이지 사이즈")
+                ),
+                responseFields(
+                    fieldWithPath("pageInfo").type(OBJECT).description("페이지 정보"),
+                    fieldWithPath("pageInfo.totalElements").type(NUMBER)
+                        .description("총 요소 개수. 조회하지 않으므로 항상 -1"),
+                    fieldWithPath("pageInfo.hasNext").type(BOOLEAN).description("다음 페이지 여부"),
+                    fieldWithPath("notifications").type(ARRAY).description("보호소 알림 목록"),
+                    fieldWithPath("notifications[].notificationId").type(NUMBER)
+                        .description("알림 ID"),
+                    fieldWithPath("notifications[].notificationTitle").type(STRING)
+                        .description("알림 제목"),
+                    fieldWithPath("notifications[].notificationContent").type(STRING)
+                        .description("알림 내용"),
+                    fieldWithPath("notifications[].notificationIsRead").type(BOOLEAN)
+                        .description("알림 읽음 여부"),
+                    fieldWithPath("notifications[].notificationType").type(STRING)
+                        .description("알림 타입"),
+                    fieldWithPath("notifications[].notificationCount").type(NUMBER)
+                        .description("하나로 묶인 알림 수"),
+                    fieldWithPath("notifications[].notificationCreatedAt").type(STRING)
+                        .description("알림 생성 시각")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("성공: 보호소 알림 스트림 연결 api 호출 시")
+    void subscribeNotifications() throws Exception {
+        // given
+        given(shelterNotificationService.subscribeNotifications(anyLong()))
+            .willReturn(new SseEmitter());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/shelters/notifications/stream")
+            .header(AUTHORIZATION, shelterAccessToken)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(request().asyncStarted())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("보호소 액세스 토큰")
                 )
             ));
     }
@@ -76,7 +169,7 @@ class ShelterNotificationControllerTest extends BaseControllerTest {
     void findShelterHasNewNotification() throws Exception {
         // given
         FindShelterHasNewNotificationResponse findShelterHasNewNotificationResponse = FindShelterHasNewNotificationResponse.from(
-            true);
+            3L);
         given(shelterNotificationService.findShelterHasNewNotification(anyLong()))
             .willReturn(findShelterHasNewNotificationResponse);
 
@@ -93,7 +186,8 @@ class ShelterNotificationControllerTest extends BaseControllerTest {
                     headerWithName(AUTHORIZATION).description("보호소 액세스 토큰")
                 ),
                 responseFields(
-                    fieldWithPath("hasNewNotification").type(BOOLEAN).description("새로운 알림 존재 여부")
+                    fieldWithPath("hasNewNotification").type(BOOLEAN).description("새로운 알림 존재 여부"),
+                    fieldWithPath("unreadCount").type(NUMBER).description("읽지 않은 알림 수")
                 )
             ));
     }
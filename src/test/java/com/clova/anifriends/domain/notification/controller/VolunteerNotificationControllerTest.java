@@ -4,23 +4,32 @@ import static java.sql.JDBCType.ARRAY;
 import static java.sql.JDBCType.BOOLEAN;
 import static javax.management.openmbean.SimpleType.STRING;
 import static javax.swing.text.html.parser.DTDConstants.NUMBER;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.restdocs.headers.HeaderDocumentation.headerWithName;
 import static org.springframework.restdocs.headers.HeaderDocumentation.requestHeaders;
 import static org.springframework.restdocs.payload.PayloadDocumentation.fieldWithPath;
 import static org.springframework.restdocs.payload.PayloadDocumentation.responseFields;
+import static org.springframework.restdocs.request.RequestDocumentation.parameterWithName;
+import static org.springframework.restdocs.request.RequestDocumentation.queryParameters;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.clova.anifriends.base.BaseControllerTest;
+import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.notification.VolunteerNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2.FindVolunteerNotificationResponse;
 import com.clova.anifriends.domain.notification.support.fixture.VolunteerNotificationFixture;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -28,6 +37,7 @@ import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 class VolunteerNotificationControllerTest extends BaseControllerTest {
 
@@ -72,12 +82,92 @@ class VolunteerNotificationControllerTest extends BaseControllerTest {
             ));
     }
 
+    @Test
+    @DisplayName("성공: 봉사자 알림 커서 기반 조회 api 호출 시")
+    void findVolunteerNotificationsV2() throws Exception {
+        // given
+        FindVolunteerNotificationResponse notificationResponse
+            = new FindVolunteerNotificationResponse(1L, "알림 제목", "알림 내용", false,
+            NotificationType.VOLUNTEER_APPROVED, LocalDateTime.now());
+        FindVolunteerNotificationsResponseV2 response = new FindVolunteerNotificationsResponseV2(
+            PageInfo.of(-1, true), List.of(notificationResponse));
+        given(volunteerNotificationService.findVolunteerNotificationsV2(anyLong(), any(), any(),
+            any())).willReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/v2/volunteers/notifications")
+            .param("notificationCreatedAt", String.valueOf(LocalDateTime.now()))
+            .param("notificationId", "2")
+            .param("pageSize", "10")
+            .header(AUTHORIZATION, volunteerAccessToken)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("봉사자 액세스 토큰")
+                ),
+                queryParameters(
+                    parameterWithName("notificationCreatedAt")
+                        .description("마지막으로 조회한 알림의 생성 시각").optional(),
+                    parameterWithName("notificationId")
+                        .description("마지막으로 조회한 알림 ID").optional(),
+                    parameterWithName("pageSize").description("페이지 사이즈")
+                ),
+                responseFields(
+                    fieldWithPath("pageInfo").type(JsonFieldType.OBJECT).description("페이지 정보"),
+                    fieldWithPath("pageInfo.totalElements").type(JsonFieldType.NUMBER)
+                        .description("총 요소 개수. 조회하지 않으므로 항상 -1"),
+                    fieldWithPath("pageInfo.hasNext").type(JsonFieldType.BOOLEAN)
+                        .description("다음 페이지 여부"),
+                    fieldWithPath("notifications").type(JsonFieldType.ARRAY)
+                        .description("봉사자 알림 목록"),
+                    fieldWithPath("notifications[].notificationId").type(JsonFieldType.NUMBER)
+                        .description("알림 ID"),
+                    fieldWithPath("notifications[].notificationTitle").type(JsonFieldType.STRING)
+                        .description("알림 제목"),
+                    fieldWithPath("notifications[].notificationContent").type(JsonFieldType.STRING)
+                        .description("알림 내용"),
+                    fieldWithPath("notifications[].notificationIsRead").type(JsonFieldType.BOOLEAN)
+                        .description("알림 읽음 여부"),
+                    fieldWithPath("notifications[].notificationType").type(JsonFieldType.STRING)
+                        .description("알림 타입"),
+                    fieldWithPath("notifications[].notificationCreatedAt").type(JsonFieldType.STRING)
+                        .description("알림 생성 시각")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("성공: 봉사자 알림 스트림 연결 api 호출 시")
+    void subscribeNotifications() throws Exception {
+        // given
+        given(volunteerNotificationService.subscribeNotifications(anyLong()))
+            .willReturn(new SseEmitter());
+
+        // when
+        ResultActions result = mockMvc.perform(get("/api/volunteers/notifications/stream")
+            .header(AUTHORIZATION, volunteerAccessToken)
+            .accept(MediaType.TEXT_EVENT_STREAM)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andExpect(request().asyncStarted())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("봉사자 액세스 토큰")
+                )
+            ));
+    }
+
     @Test
     @DisplayName("성공: 봉사자 새로운 알림 여부 조회 api 호출 시")
     void findVolunteerHasNewNotification() throws Exception {
         // given
         FindVolunteerHasNewNotificationResponse findVolunteerHasNewNotificationResponse = FindVolunteerHasNewNotificationResponse.from(
-            true);
+            3L);
         given(volunteerNotificationService.findVolunteerHasNewNotification(anyLong()))
             .willReturn(findVolunteerHasNewNotificationResponse);
 
@@ -94,7 +184,8 @@ class VolunteerNotificationControllerTest extends BaseControllerTest {
                     headerWithName(AUTHORIZATION).description("봉사자 액세스 토큰")
                 ),
                 responseFields(
-                    fieldWithPath("hasNewNotification").type(JsonFieldType.BOOLEAN).description("새로운 알림 존재 여부")
+                    fieldWithPath("hasNewNotification").type(JsonFieldType.BOOLEAN).description("새로운 알림 존재 여부"),
+                    fieldWithPath("unreadCount").type(JsonFieldType.NUMBER).description("읽지 않은 알림 수")
                 )
             ));
     }
@@ -0,0 +1,199 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2.FindVolunteerNotificationResponse;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class NotificationInboxRedisRepositoryTest extends BaseIntegrationTest {
+
+    private static final int INBOX_CAPACITY = NotificationInboxRepository.MAX_PAGE_SIZE + 1;
+
+    @Autowired
+    NotificationInboxRedisRepository notificationInboxRedisRepository;
+
+    @Nested
+    @DisplayName("findLatestNotifications 메서드 호출 시")
+    class FindLatestNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 최근 알림이 캐싱되지 않았으면 빈 값을 반환한다")
+        void findLatestNotificationsWhenNotCached() {
+            // when
+            Optional<List<FindVolunteerNotificationResponse>> notifications = findLatest(1L,
+                INBOX_CAPACITY);
+
+            // then
+            assertThat(notifications).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 캐싱된 최근 알림을 최신순으로 요청한 개수만큼 반환한다")
+        void findLatestNotifications() {
+            // given
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, 0L, List.of(notification(3L, false), notification(2L, false),
+                    notification(1L, true)));
+
+            // when
+            Optional<List<FindVolunteerNotificationResponse>> notifications = findLatest(1L, 2);
+
+            // then
+            assertThat(notifications).hasValue(
+                List.of(notification(3L, false), notification(2L, false)));
+        }
+    }
+
+    @Nested
+    @DisplayName("saveLatestNotifications 메서드 호출 시")
+    class SaveLatestNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 버전을 읽은 뒤 새 알림이 추가되었으면 조회한 목록을 저장하지 않는다")
+        void saveLatestNotificationsWhenPushedAfterVersionRead() {
+            // given
+            long version = notificationInboxRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+            notificationInboxRedisRepository.pushNotification(PushReceiverType.VOLUNTEER, 1L,
+                notification(2L, false));
+
+            // when
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, version, List.of(notification(1L, false)));
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 버전을 읽은 뒤 모두 읽음 처리되었으면 조회한 목록을 저장하지 않는다")
+        void saveLatestNotificationsWhenMarkedReadAfterVersionRead() {
+            // given
+            long version = notificationInboxRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+            notificationInboxRedisRepository.markAllRead(PushReceiverType.VOLUNTEER, 1L);
+
+            // when
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, version, List.of(notification(1L, false)));
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 버전을 읽은 뒤 목록이 지워졌으면 조회한 목록을 저장하지 않는다")
+        void saveLatestNotificationsWhenDeletedAfterVersionRead() {
+            // given
+            long version = notificationInboxRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+            notificationInboxRedisRepository.deleteLatestNotifications(PushReceiverType.VOLUNTEER,
+                List.of(1L));
+
+            // when
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, version, List.of(notification(1L, false)));
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 버전이 그대로이면 조회한 목록을 저장한다")
+        void saveLatestNotificationsWhenVersionUnchanged() {
+            // given
+            notificationInboxRedisRepository.pushNotification(PushReceiverType.VOLUNTEER, 1L,
+                notification(1L, false));
+            long version = notificationInboxRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+
+            // when
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, version, List.of(notification(1L, false)));
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).hasValue(List.of(notification(1L, false)));
+        }
+    }
+
+    @Nested
+    @DisplayName("pushNotification 메서드 호출 시")
+    class PushNotificationTest {
+
+        @Test
+        @DisplayName("성공: 캐싱된 목록 앞에 새 알림을 추가하고 최대 개수로 자른다")
+        void pushNotification() {
+            // given
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, 0L, LongStream.rangeClosed(1, INBOX_CAPACITY)
+                    .map(id -> INBOX_CAPACITY + 1 - id)
+                    .mapToObj(id -> notification(id, false))
+                    .toList());
+            long newNotificationId = INBOX_CAPACITY + 1;
+
+            // when
+            notificationInboxRedisRepository.pushNotification(PushReceiverType.VOLUNTEER, 1L,
+                notification(newNotificationId, false));
+
+            // then
+            List<FindVolunteerNotificationResponse> notifications = findLatest(1L,
+                INBOX_CAPACITY).orElseThrow();
+            assertThat(notifications).hasSize(INBOX_CAPACITY);
+            assertThat(notifications.get(0).notificationId()).isEqualTo(newNotificationId);
+            assertThat(notifications.get(INBOX_CAPACITY - 1).notificationId()).isEqualTo(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 최근 알림이 캐싱되지 않았으면 추가하지 않는다")
+        void pushNotificationWhenNotCached() {
+            // when
+            notificationInboxRedisRepository.pushNotification(PushReceiverType.VOLUNTEER, 1L,
+                notification(1L, false));
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("markAllRead 메서드 호출 시")
+    class MarkAllReadTest {
+
+        @Test
+        @DisplayName("성공: 캐싱된 알림의 읽음 여부만 바꾼다")
+        void markAllRead() {
+            // given
+            notificationInboxRedisRepository.saveLatestNotifications(PushReceiverType.VOLUNTEER,
+                1L, 0L, List.of(notification(2L, false), notification(1L, true)));
+
+            // when
+            notificationInboxRedisRepository.markAllRead(PushReceiverType.VOLUNTEER, 1L);
+
+            // then
+            assertThat(findLatest(1L, INBOX_CAPACITY)).hasValue(
+                List.of(notification(2L, true), notification(1L, true)));
+        }
+    }
+
+    private Optional<List<FindVolunteerNotificationResponse>> findLatest(Long volunteerId,
+        int count) {
+        return notificationInboxRedisRepository.findLatestNotifications(
+            PushReceiverType.VOLUNTEER, volunteerId, count,
+            FindVolunteerNotificationResponse.class);
+    }
+
+    private FindVolunteerNotificationResponse notification(Long notificationId, boolean isRead) {
+        return new FindVolunteerNotificationResponse(notificationId, "title", "content", isRead,
+            NotificationType.VOLUNTEER_APPROVED, LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
@@ -0,0 +1,150 @@
+package com.clova.anifriends.domain.notification.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class NotificationUnreadCountRedisRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    NotificationUnreadCountRedisRepository notificationUnreadCountRedisRepository;
+
+    @Nested
+    @DisplayName("findUnreadCount 메서드 호출 시")
+    class FindUnreadCountTest {
+
+        @Test
+        @DisplayName("성공: 미확인 알림 수가 캐싱되지 않았으면 빈 값을 반환한다")
+        void findUnreadCountWhenNotCached() {
+            // when
+            Optional<Long> unreadCount = notificationUnreadCountRedisRepository
+                .findUnreadCount(PushReceiverType.VOLUNTEER, 1L);
+
+            // then
+            assertThat(unreadCount).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 수신자 유형별로 캐싱된 미확인 알림 수를 반환한다")
+        void findUnreadCount() {
+            // given
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.VOLUNTEER, 1L,
+                0L, 0L);
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.SHELTER, 1L,
+                0L, 3L);
+
+            // when
+            Optional<Long> unreadCount = notificationUnreadCountRedisRepository
+                .findUnreadCount(PushReceiverType.SHELTER, 1L);
+
+            // then
+            assertThat(unreadCount).hasValue(3L);
+        }
+    }
+
+    @Nested
+    @DisplayName("saveUnreadCount 메서드 호출 시")
+    class SaveUnreadCountTest {
+
+        @Test
+        @DisplayName("성공: 세기 전 버전이 그대로면 미확인 알림 수를 캐싱한다")
+        void saveUnreadCount() {
+            // given
+            long version = notificationUnreadCountRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+
+            // when
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.VOLUNTEER, 1L,
+                version, 2L);
+
+            // then
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.VOLUNTEER, 1L)).hasValue(2L);
+        }
+
+        @Test
+        @DisplayName("성공: 세는 중에 새 알림이 커밋되었으면 캐싱하지 않는다")
+        void saveUnreadCountWhenIncreased() {
+            // given
+            long version = notificationUnreadCountRedisRepository.getVersion(
+                PushReceiverType.VOLUNTEER, 1L);
+            notificationUnreadCountRedisRepository.increaseUnreadCounts(
+                PushReceiverType.VOLUNTEER, List.of(1L));
+
+            // when
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.VOLUNTEER, 1L,
+                version, 2L);
+
+            // then
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.VOLUNTEER, 1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 세는 중에 읽음 처리가 커밋되었으면 캐싱하지 않는다")
+        void saveUnreadCountWhenDeleted() {
+            // given
+            long version = notificationUnreadCountRedisRepository.getVersion(
+                PushReceiverType.SHELTER, 1L);
+            notificationUnreadCountRedisRepository.deleteUnreadCount(PushReceiverType.SHELTER, 1L);
+
+            // when
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.SHELTER, 1L,
+                version, 2L);
+
+            // then
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.SHELTER, 1L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("increaseUnreadCounts 메서드 호출 시")
+    class IncreaseUnreadCountsTest {
+
+        @Test
+        @DisplayName("성공: 캐싱된 수신자만 알림 건수만큼 증가시킨다")
+        void increaseUnreadCounts() {
+            // given
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.VOLUNTEER, 1L,
+                0L, 1L);
+
+            // when
+            notificationUnreadCountRedisRepository.increaseUnreadCounts(
+                PushReceiverType.VOLUNTEER, List.of(1L, 2L, 1L));
+
+            // then
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.VOLUNTEER, 1L)).hasValue(3L);
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.VOLUNTEER, 2L)).isEmpty();
+        }
+    }
+
+    @Nested
+    @DisplayName("deleteUnreadCount 메서드 호출 시")
+    class DeleteUnreadCountTest {
+
+        @Test
+        @DisplayName("성공: 캐싱된 미확인 알림 수를 지운다")
+        void deleteUnreadCount() {
+            // given
+            notificationUnreadCountRedisRepository.saveUnreadCount(PushReceiverType.SHELTER, 1L,
+                0L, 5L);
+
+            // when
+            notificationUnreadCountRedisRepository.deleteUnreadCount(PushReceiverType.SHELTER, 1L);
+
+            // then
+            assertThat(notificationUnreadCountRedisRepository.findUnreadCount(
+                PushReceiverType.SHELTER, 1L)).isEmpty();
+        }
+    }
+}
@@ -14,6 +14,8 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class ShelterNotificationRepositoryTest extends BaseRepositoryTest {
@@ -50,6 +52,60 @@ class ShelterNotificationRepositoryTest extends BaseRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findShelterNotificationsV2 실행 시")
+    class FindShelterNotificationsV2Test {
+
+        @Test
+        @DisplayName("성공: (생성 시각, 알림 id) 커서보다 이전 알림을 최신순으로 조회한다")
+        void findShelterNotificationsV2() {
+            // given
+            Shelter shelter = ShelterFixture.shelter();
+            ShelterNotification notification1 = ShelterNotificationFixture.shelterNotification(
+                shelter);
+            ShelterNotification notification2 = ShelterNotificationFixture.shelterNotification(
+                shelter);
+            ShelterNotification notification3 = ShelterNotificationFixture.shelterNotification(
+                shelter);
+            shelterRepository.save(shelter);
+            shelterNotificationRepository.saveAll(
+                List.of(notification1, notification2, notification3));
+            LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+            updateCreatedAt(notification1, createdAt);
+            updateCreatedAt(notification2, createdAt);
+            updateCreatedAt(notification3, createdAt.minusDays(1));
+            entityManager.clear();
+
+            // when
+            Slice<ShelterNotification> firstPage = shelterNotificationRepository
+                .findShelterNotificationsV2(shelter.getShelterId(), createdAt.plusDays(1),
+                    Long.MAX_VALUE, PageRequest.of(0, 2));
+            Slice<ShelterNotification> secondPage = shelterNotificationRepository
+                .findShelterNotificationsV2(shelter.getShelterId(), createdAt,
+                    notification1.getShelterNotificationId(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(firstPage.getContent())
+                .extracting(ShelterNotification::getShelterNotificationId)
+                .containsExactly(notification2.getShelterNotificationId(),
+                    notification1.getShelterNotificationId());
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(secondPage.getContent())
+                .extracting(ShelterNotification::getShelterNotificationId)
+                .containsExactly(notification3.getShelterNotificationId());
+            assertThat(secondPage.hasNext()).isFalse();
+        }
+
+        private void updateCreatedAt(ShelterNotification notification, LocalDateTime createdAt) {
+            entityManager.createNativeQuery(
+                    "update shelter_notification set created_at = :createdAt"
+                        + " where shelter_notification_id = :notificationId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("notificationId", notification.getShelterNotificationId())
+                .executeUpdate();
+        }
+    }
+
     @Nested
     @DisplayName("hasNewNotification 실행 시")
     class HasNewNotificationTest {
@@ -6,6 +6,7 @@ import com.clova.anifriends.base.BaseRepositoryTest;
 import com.clova.anifriends.domain.notification.VolunteerNotification;
 import com.clova.anifriends.domain.notification.support.fixture.VolunteerNotificationFixture;
 import com.clova.anifriends.domain.notification.vo.NotificationRead;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
 import java.time.LocalDateTime;
@@ -14,6 +15,8 @@ import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
 import org.springframework.test.util.ReflectionTestUtils;
 
 class VolunteerNotificationRepositoryTest extends BaseRepositoryTest {
@@ -50,6 +53,60 @@ class VolunteerNotificationRepositoryTest extends BaseRepositoryTest {
         }
     }
 
+    @Nested
+    @DisplayName("findVolunteerNotificationsV2 실행 시")
+    class FindVolunteerNotificationsV2Test {
+
+        @Test
+        @DisplayName("성공: (생성 시각, 알림 id) 커서보다 이전 알림을 최신순으로 조회한다")
+        void findVolunteerNotificationsV2() {
+            // given
+            Volunteer volunteer = VolunteerFixture.volunteer();
+            VolunteerNotification notification1 = VolunteerNotificationFixture.volunteerNotification(
+                volunteer);
+            VolunteerNotification notification2 = VolunteerNotificationFixture.volunteerNotification(
+                volunteer);
+            VolunteerNotification notification3 = VolunteerNotificationFixture.volunteerNotification(
+                volunteer);
+            volunteerRepository.save(volunteer);
+            volunteerNotificationRepository.saveAll(
+                List.of(notification1, notification2, notification3));
+            LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+            updateCreatedAt(notification1, createdAt);
+            updateCreatedAt(notification2, createdAt);
+            updateCreatedAt(notification3, createdAt.minusDays(1));
+            entityManager.clear();
+
+            // when
+            Slice<VolunteerNotification> firstPage = volunteerNotificationRepository
+                .findVolunteerNotificationsV2(volunteer.getVolunteerId(), createdAt.plusDays(1),
+                    Long.MAX_VALUE, PageRequest.of(0, 2));
+            Slice<VolunteerNotification> secondPage = volunteerNotificationRepository
+                .findVolunteerNotificationsV2(volunteer.getVolunteerId(), createdAt,
+                    notification1.getVolunteerNotificationId(), PageRequest.of(0, 2));
+
+            // then
+            assertThat(firstPage.getContent())
+                .extracting(VolunteerNotification::getVolunteerNotificationId)
+                .containsExactly(notification2.getVolunteerNotificationId(),
+                    notification1.getVolunteerNotificationId());
+            assertThat(firstPage.hasNext()).isTrue();
+            assertThat(secondPage.getContent())
+                .extracting(VolunteerNotification::getVolunteerNotificationId)
+                .containsExactly(notification3.getVolunteerNotificationId());
+            assertThat(secondPage.hasNext()).isFalse();
+        }
+
+        private void updateCreatedAt(VolunteerNotification notification, LocalDateTime createdAt) {
+            entityManager.createNativeQuery(
+                    "update volunteer_notification set created_at = :createdAt"
+                        + " where volunteer_notification_id = :notificationId")
+                .setParameter("createdAt", createdAt)
+                .setParameter("notificationId", notification.getVolunteerNotificationId())
+                .executeUpdate();
+        }
+    }
+
     @Nested
     @DisplayName("hasNewNotification 실행 시")
     class HasNewNotificationTest {
@@ -128,4 +185,33 @@ class VolunteerNotificationRepositoryTest extends BaseRepositoryTest {
             assertThat(found2.get().getIsRead()).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("findNotifiedVolunteerIds 실행 시")
+    class FindNotifiedVolunteerIdsTest {
+
+        @Test
+        @DisplayName("성공: 같은 모집글의 같은 종류 알림을 받은 봉사자 id만 조회한다")
+        void findNotifiedVolunteerIds() {
+            // given
+            Volunteer notified = VolunteerFixture.volunteer();
+            Volunteer other = VolunteerFixture.volunteer();
+            volunteerRepository.saveAll(List.of(notified, other));
+            VolunteerNotification reminder = new VolunteerNotification(notified, "title",
+                "content", NotificationType.A_DAY_BEFORE_VOLUNTEER.name());
+            VolunteerNotification otherType = new VolunteerNotification(other, "title",
+                "content", NotificationType.THREE_DAY_BEFORE_VOLUNTEER.name());
+            ReflectionTestUtils.setField(reminder, "recruitmentId", 1L);
+            ReflectionTestUtils.setField(otherType, "recruitmentId", 1L);
+            volunteerNotificationRepository.saveAll(List.of(reminder, otherType));
+
+            // when
+            List<Long> notifiedVolunteerIds = volunteerNotificationRepository
+                .findNotifiedVolunteerIds(1L, NotificationType.A_DAY_BEFORE_VOLUNTEER,
+                    List.of(notified.getVolunteerId(), other.getVolunteerId()));
+
+            // then
+            assertThat(notifiedVolunteerIds).containsExactly(notified.getVolunteerId());
+        }
+    }
 }
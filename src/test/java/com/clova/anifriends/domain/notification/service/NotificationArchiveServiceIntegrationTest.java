@@ -0,0 +1,91 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.NotificationArchive;
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.repository.NotificationArchiveRepository;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.support.fixture.ShelterNotificationFixture;
+import com.clova.anifriends.domain.notification.support.fixture.VolunteerNotificationFixture;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class NotificationArchiveServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    NotificationArchiveService notificationArchiveService;
+
+    @Autowired
+    ShelterNotificationRepository shelterNotificationRepository;
+
+    @Autowired
+    VolunteerNotificationRepository volunteerNotificationRepository;
+
+    @Autowired
+    NotificationArchiveRepository notificationArchiveRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("archiveExpiredNotifications 메서드 호출 시")
+    class ArchiveExpiredNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 보관 기간이 지난 알림만 보관 테이블로 옮긴다")
+        void archiveExpiredNotifications() {
+            // given
+            Shelter shelter = ShelterFixture.shelter();
+            shelterRepository.save(shelter);
+            Volunteer volunteer = VolunteerFixture.volunteer();
+            volunteerRepository.save(volunteer);
+            ShelterNotification expiredShelterNotification = shelterNotificationRepository.save(
+                ShelterNotificationFixture.shelterNotification(shelter));
+            ShelterNotification shelterNotification = shelterNotificationRepository.save(
+                ShelterNotificationFixture.shelterNotification(shelter));
+            VolunteerNotification expiredVolunteerNotification = volunteerNotificationRepository
+                .save(VolunteerNotificationFixture.volunteerNotification(volunteer));
+            LocalDateTime expiredAt = LocalDateTime.now().minusDays(91);
+            jdbcTemplate.update(
+                "update shelter_notification set created_at = ? where shelter_notification_id = ?",
+                expiredAt, expiredShelterNotification.getShelterNotificationId());
+            jdbcTemplate.update(
+                "update volunteer_notification set created_at = ?"
+                    + " where volunteer_notification_id = ?",
+                expiredAt, expiredVolunteerNotification.getVolunteerNotificationId());
+
+            // when
+            notificationArchiveService.archiveExpiredNotifications();
+
+            // then
+            assertThat(shelterNotificationRepository.findAll())
+                .extracting(ShelterNotification::getShelterNotificationId)
+                .containsExactly(shelterNotification.getShelterNotificationId());
+            assertThat(volunteerNotificationRepository.findAll()).isEmpty();
+            List<NotificationArchive> archives = notificationArchiveRepository.findAll();
+            assertThat(archives)
+                .extracting(NotificationArchive::getReceiverType,
+                    NotificationArchive::getNotificationId)
+                .containsExactlyInAnyOrder(
+                    tuple(PushReceiverType.SHELTER,
+                        expiredShelterNotification.getShelterNotificationId()),
+                    tuple(PushReceiverType.VOLUNTEER,
+                        expiredVolunteerNotification.getVolunteerNotificationId()));
+        }
+    }
+}
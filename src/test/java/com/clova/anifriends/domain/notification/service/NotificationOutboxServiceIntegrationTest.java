@@ -0,0 +1,153 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.PushOutbox;
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class NotificationOutboxServiceIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    NotificationOutboxService notificationOutboxService;
+
+    @Autowired
+    NotificationOutboxRepository notificationOutboxRepository;
+
+    @Autowired
+    ShelterNotificationRepository shelterNotificationRepository;
+
+    @Autowired
+    VolunteerNotificationRepository volunteerNotificationRepository;
+
+    @Autowired
+    PushOutboxRepository pushOutboxRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    Shelter shelter;
+    Volunteer volunteer;
+
+    @BeforeEach
+    void setUp() {
+        shelter = ShelterFixture.shelter();
+        shelterRepository.save(shelter);
+        volunteer = VolunteerFixture.volunteer();
+        volunteerRepository.save(volunteer);
+    }
+
+    @Nested
+    @DisplayName("publishNotifications 메서드 호출 시")
+    class PublishNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 아웃박스의 알림을 보호소, 봉사자 알림과 푸시 아웃박스로 옮긴다")
+        void publishNotifications() {
+            // given
+            List<NotificationOutbox> outboxes = notificationOutboxRepository.saveAll(List.of(
+                NotificationOutbox.toShelter(shelter.getShelterId(), 1L, "recruitmentTitle",
+                    NotificationType.NEW_SHELTER_REVIEW.getMessage(),
+                    NotificationType.NEW_SHELTER_REVIEW),
+                NotificationOutbox.toVolunteer(volunteer.getVolunteerId(), "shelterName",
+                    NotificationType.VOLUNTEER_APPROVED.getMessage(),
+                    NotificationType.VOLUNTEER_APPROVED)));
+
+            // when
+            notificationOutboxService.publishNotifications(getNotificationOutboxIds(outboxes));
+
+            // then
+            assertThat(shelterNotificationRepository.findAll())
+                .extracting(ShelterNotification::getTitle, ShelterNotification::getType)
+                .containsExactly(tuple("recruitmentTitle", NotificationType.NEW_SHELTER_REVIEW));
+            assertThat(volunteerNotificationRepository.findAll())
+                .extracting(VolunteerNotification::getTitle, VolunteerNotification::getType)
+                .containsExactly(tuple("shelterName", NotificationType.VOLUNTEER_APPROVED));
+            assertThat(pushOutboxRepository.findAll())
+                .extracting(PushOutbox::getReceiverType, PushOutbox::getReceiverId)
+                .containsExactlyInAnyOrder(
+                    tuple(PushReceiverType.SHELTER, shelter.getShelterId()),
+                    tuple(PushReceiverType.VOLUNTEER, volunteer.getVolunteerId()));
+            assertThat(notificationOutboxRepository.findAll()).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 이미 처리한 알림은 다시 저장하지 않는다")
+        void publishNotificationsTwice() {
+            // given
+            List<NotificationOutbox> outboxes = notificationOutboxRepository.saveAll(List.of(
+                NotificationOutbox.toShelter(shelter.getShelterId(), 1L, "recruitmentTitle",
+                    NotificationType.NEW_SHELTER_REVIEW.getMessage(),
+                    NotificationType.NEW_SHELTER_REVIEW)));
+            List<Long> notificationOutboxIds = getNotificationOutboxIds(outboxes);
+
+            // when
+            notificationOutboxService.publishNotifications(notificationOutboxIds);
+            notificationOutboxService.publishNotifications(notificationOutboxIds);
+
+            // then
+            assertThat(shelterNotificationRepository.findAll()).hasSize(1);
+            assertThat(pushOutboxRepository.findAll()).hasSize(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("relayPendingNotifications 메서드 호출 시")
+    class RelayPendingNotificationsTest {
+
+        @Test
+        @DisplayName("성공: 처리되지 않은 채 남아 있는 오래된 알림만 다시 처리한다")
+        void relayPendingNotifications() {
+            // given
+            NotificationOutbox pendingOutbox = notificationOutboxRepository.save(
+                NotificationOutbox.toVolunteer(volunteer.getVolunteerId(), "shelterName",
+                    NotificationType.VOLUNTEER_REFUSED.getMessage(),
+                    NotificationType.VOLUNTEER_REFUSED));
+            NotificationOutbox recentOutbox = notificationOutboxRepository.save(
+                NotificationOutbox.toVolunteer(volunteer.getVolunteerId(), "shelterName",
+                    NotificationType.VOLUNTEER_APPROVED.getMessage(),
+                    NotificationType.VOLUNTEER_APPROVED));
+            jdbcTemplate.update(
+                "update notification_outbox set created_at = ? where notification_outbox_id = ?",
+                LocalDateTime.now().minusMinutes(5), pendingOutbox.getNotificationOutboxId());
+
+            // when
+            notificationOutboxService.relayPendingNotifications();
+
+            // then
+            assertThat(volunteerNotificationRepository.findAll())
+                .extracting(VolunteerNotification::getType)
+                .containsExactly(NotificationType.VOLUNTEER_REFUSED);
+            assertThat(notificationOutboxRepository.findAll())
+                .extracting(NotificationOutbox::getNotificationOutboxId)
+                .containsExactly(recentOutbox.getNotificationOutboxId());
+        }
+    }
+
+    private List<Long> getNotificationOutboxIds(List<NotificationOutbox> outboxes) {
+        return outboxes.stream()
+            .map(NotificationOutbox::getNotificationOutboxId)
+            .toList();
+    }
+}
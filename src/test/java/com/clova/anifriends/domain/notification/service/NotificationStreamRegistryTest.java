@@ -0,0 +1,103 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.then;
+
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.exception.NotificationStreamUnavailableException;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationStreamRegistryTest {
+
+    private static final int MAX_CONNECTIONS = 10;
+
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @Mock
+    RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @Mock
+    RedisTemplate<String, Object> redisTemplate;
+
+    @BeforeEach
+    void setUp() {
+        notificationStreamRegistry = createRegistry(MAX_CONNECTIONS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        notificationStreamRegistry.shutdown();
+    }
+
+    private NotificationStreamRegistry createRegistry(int maxConnections) {
+        return new NotificationStreamRegistry(maxConnections, redisMessageListenerContainer,
+            redisTemplate, new ObjectMapper(), Runnable::run);
+    }
+
+    @Nested
+    @DisplayName("register 메서드 실행 시")
+    class RegisterTest {
+
+        NotificationStreamResponse initialResponse = NotificationStreamResponse.unreadState(false);
+
+        @Test
+        @DisplayName("성공: 수신자의 첫 연결에서만 redis 채널을 구독한다")
+        void register() {
+            // when
+            notificationStreamRegistry.register(PushReceiverType.VOLUNTEER, 1L, initialResponse);
+            notificationStreamRegistry.register(PushReceiverType.VOLUNTEER, 1L, initialResponse);
+
+            // then
+            assertThat(notificationStreamRegistry.getConnectionCount()).isEqualTo(2);
+            then(redisMessageListenerContainer).should()
+                .addMessageListener(eq(notificationStreamRegistry), any(ChannelTopic.class));
+        }
+
+        @Test
+        @DisplayName("성공: 수신자의 연결 수가 최대치를 넘으면 가장 오래된 연결을 끊는다")
+        void registerWhenExceedReceiverLimit() {
+            // when
+            IntStream.rangeClosed(0, NotificationStreamRegistry.MAX_CONNECTIONS_PER_RECEIVER)
+                .forEach(i -> notificationStreamRegistry.register(PushReceiverType.SHELTER, 1L,
+                    initialResponse));
+
+            // then
+            assertThat(notificationStreamRegistry.getConnectionCount())
+                .isEqualTo(NotificationStreamRegistry.MAX_CONNECTIONS_PER_RECEIVER);
+        }
+
+        @Test
+        @DisplayName("예외(NotificationStreamUnavailableException): 서버의 연결 수가 최대치에 도달한 경우")
+        void exceptionWhenExceedMaxConnections() {
+            // given
+            NotificationStreamRegistry limitedRegistry = createRegistry(1);
+            limitedRegistry.register(PushReceiverType.VOLUNTEER, 1L, initialResponse);
+
+            // when
+            Exception exception = catchException(
+                () -> limitedRegistry.register(PushReceiverType.VOLUNTEER, 2L, initialResponse));
+
+            // then
+            assertThat(exception).isInstanceOf(NotificationStreamUnavailableException.class);
+            assertThat(limitedRegistry.getConnectionCount()).isEqualTo(1);
+            limitedRegistry.shutdown();
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.PushOutbox;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import com.clova.anifriends.global.infrastructure.push.LocalPushProvider;
+import com.clova.anifriends.global.infrastructure.push.PushMessage;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class PushDispatcherIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    PushDispatcher pushDispatcher;
+
+    @Autowired
+    PushOutboxRepository pushOutboxRepository;
+
+    @Autowired
+    LocalPushProvider localPushProvider;
+
+    @BeforeEach
+    void setUpPushProvider() {
+        localPushProvider.clear();
+    }
+
+    @Nested
+    @DisplayName("dispatch 메서드 호출 시")
+    class DispatchTest {
+
+        @Test
+        @DisplayName("성공: 기기 토큰으로 푸시를 보내고, 토큰이 없거나 무효한 푸시는 건너뛰어 삭제한다")
+        void dispatch() {
+            // given
+            List<Volunteer> volunteers = VolunteerFixture.volunteers(2);
+            volunteers.get(0).updateDeviceToken("validToken");
+            volunteers.get(1).updateDeviceToken("invalidToken");
+            volunteerRepository.saveAll(volunteers);
+            Shelter shelter = ShelterFixture.shelter();
+            shelterRepository.save(shelter);
+            localPushProvider.invalidateToken("invalidToken");
+
+            PushOutbox validPush = new PushOutbox(PushReceiverType.VOLUNTEER,
+                volunteers.get(0).getVolunteerId(), "title", "content");
+            PushOutbox invalidTokenPush = new PushOutbox(PushReceiverType.VOLUNTEER,
+                volunteers.get(1).getVolunteerId(), "title", "content");
+            PushOutbox noTokenPush = new PushOutbox(PushReceiverType.SHELTER,
+                shelter.getShelterId(), "title", "content");
+            pushOutboxRepository.saveAll(List.of(validPush, invalidTokenPush, noTokenPush));
+
+            // when
+            pushDispatcher.dispatch();
+
+            // then
+            assertThat(localPushProvider.getSentMessages())
+                .containsExactly(new PushMessage("validToken", "title", "content"));
+            assertThat(pushOutboxRepository.findAll()).isEmpty();
+            Volunteer invalidTokenVolunteer = volunteerRepository
+                .findById(volunteers.get(1).getVolunteerId())
+                .orElseThrow();
+            assertThat(invalidTokenVolunteer.getDeviceToken()).isNull();
+        }
+    }
+}
@@ -0,0 +1,189 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
+
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
+import com.clova.anifriends.domain.notification.repository.response.FindPushTargetResult;
+import com.clova.anifriends.domain.notification.vo.PushOutboxStatus;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
+import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.global.infrastructure.push.PushSendResult;
+import java.util.List;
+import java.util.stream.LongStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class PushOutboxServiceTest {
+
+    @InjectMocks
+    PushOutboxService pushOutboxService;
+
+    @Mock
+    PushOutboxRepository pushOutboxRepository;
+
+    @Mock
+    VolunteerRepository volunteerRepository;
+
+    @Mock
+    ShelterRepository shelterRepository;
+
+    @Mock
+    TransactionTemplate transactionTemplate;
+
+    @Nested
+    @DisplayName("claimPushTargets 메서드 실행 시")
+    class ClaimPushTargetsTest {
+
+        @Test
+        @DisplayName("성공: 발송할 푸시를 선점하고 선점한 푸시를 반환한다")
+        void claimPushTargets() {
+            // given
+            FindPushTargetResult target = pushTarget(1L, PushReceiverType.VOLUNTEER, 0, "token");
+            given(pushOutboxRepository.findDispatchableIds(any(), any()))
+                .willReturn(List.of(1L));
+            given(pushOutboxRepository.findPushTargets(anyString())).willReturn(List.of(target));
+
+            // when
+            List<FindPushTargetResult> targets = pushOutboxService.claimPushTargets(100);
+
+            // then
+            assertThat(targets).containsExactly(target);
+            then(pushOutboxRepository).should()
+                .claim(eq(List.of(1L)), anyString(), any(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 발송할 푸시가 없으면 선점하지 않는다")
+        void claimPushTargetsWhenEmpty() {
+            // given
+            given(pushOutboxRepository.findDispatchableIds(any(), any())).willReturn(List.of());
+
+            // when
+            List<FindPushTargetResult> targets = pushOutboxService.claimPushTargets(100);
+
+            // then
+            assertThat(targets).isEmpty();
+            then(pushOutboxRepository).should(never()).claim(any(), any(), any(), any());
+        }
+    }
+
+    @Nested
+    @DisplayName("completePushes 메서드 실행 시")
+    class CompletePushesTest {
+
+        @Test
+        @DisplayName("성공: 성공하거나 건너뛴 푸시는 삭제하고, 무효한 토큰은 지우고, 실패한 푸시는 재시도 횟수에 따라 재시도하거나 실패 처리한다")
+        void completePushes() {
+            // given
+            List<FindPushTargetResult> targets = List.of(
+                pushTarget(1L, PushReceiverType.VOLUNTEER, 0, "sentToken"),
+                pushTarget(2L, PushReceiverType.VOLUNTEER, 0, "invalidToken"),
+                pushTarget(3L, PushReceiverType.SHELTER, 0, null),
+                pushTarget(4L, PushReceiverType.SHELTER, 1, "retryToken"),
+                pushTarget(5L, PushReceiverType.SHELTER, PushOutboxService.MAX_ATTEMPTS - 1,
+                    "failedToken"));
+            List<PushSendResult> results = List.of(
+                PushSendResult.SUCCESS,
+                PushSendResult.INVALID_TOKEN,
+                PushSendResult.INVALID_TOKEN,
+                PushSendResult.RETRYABLE_FAILURE,
+                PushSendResult.RETRYABLE_FAILURE);
+
+            // when
+            pushOutboxService.completePushes(targets, results);
+
+            // then
+            then(pushOutboxRepository).should().deleteAllByIdInBatch(List.of(1L));
+            then(volunteerRepository).should().clearDeviceTokens(List.of("invalidToken"));
+            then(shelterRepository).should(never()).clearDeviceTokens(any());
+            then(pushOutboxRepository).should().deleteAllByIdInBatch(List.of(2L, 3L));
+            then(pushOutboxRepository).should().reschedule(eq(List.of(4L)), any());
+            then(pushOutboxRepository).should()
+                .updateBulkStatus(List.of(5L), PushOutboxStatus.FAILED);
+        }
+    }
+
+    @Nested
+    @DisplayName("purgeFinishedPushes 메서드 실행 시")
+    class PurgeFinishedPushesTest {
+
+        @Test
+        @DisplayName("성공: 보관 기간이 지난 실패, 건너뜀 처리된 푸시를 청크 단위로 지운다")
+        void purgeFinishedPushes() {
+            // given
+            List<Long> firstChunk = LongStream.rangeClosed(1, PushOutboxService.PURGE_CHUNK_SIZE)
+                .boxed()
+                .toList();
+            given(transactionTemplate.execute(any())).willAnswer(invocation -> {
+                TransactionCallback<?> callback = invocation.getArgument(0);
+                return callback.doInTransaction(null);
+            });
+            given(pushOutboxRepository.findIdsByStatusCreatedBefore(
+                eq(List.of(PushOutboxStatus.SKIPPED, PushOutboxStatus.FAILED)), any(), any()))
+                .willReturn(firstChunk, List.of(1001L));
+
+            // when
+            int purged = pushOutboxService.purgeFinishedPushes();
+
+            // then
+            assertThat(purged).isEqualTo(PushOutboxService.PURGE_CHUNK_SIZE + 1);
+            then(pushOutboxRepository).should().deleteAllByIdInBatch(firstChunk);
+            then(pushOutboxRepository).should().deleteAllByIdInBatch(List.of(1001L));
+        }
+    }
+
+    private FindPushTargetResult pushTarget(Long pushOutboxId, PushReceiverType receiverType,
+        int attemptCount, String deviceToken) {
+        return new FindPushTargetResult() {
+            @Override
+            public Long getPushOutboxId() {
+                return pushOutboxId;
+            }
+
+            @Override
+            public PushReceiverType getReceiverType() {
+                return receiverType;
+            }
+
+            @Override
+            public Long getReceiverId() {
+                return 1L;
+            }
+
+            @Override
+            public String getTitle() {
+                return "title";
+            }
+
+            @Override
+            public String getContent() {
+                return "content";
+            }
+
+            @Override
+            public int getAttemptCount() {
+                return attemptCount;
+            }
+
+            @Override
+            public String getDeviceToken() {
+                return deviceToken;
+            }
+        };
+    }
+}
@@ -0,0 +1,85 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.ReminderJob;
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class ReminderJobMigrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    ReminderJobMigration reminderJobMigration;
+
+    @Autowired
+    ReminderJobRepository reminderJobRepository;
+
+    @Nested
+    @DisplayName("migrate 메서드 호출 시")
+    class MigrateTest {
+
+        @Test
+        @DisplayName("성공: 실행 시각이 지나지 않은 리마인더 작업만 추가한다")
+        void migrate() {
+            // given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(2).withNano(0);
+            Recruitment recruitment = saveRecruitment(startTime);
+
+            // when
+            reminderJobMigration.migrate();
+
+            // then
+            assertThat(reminderJobRepository.findAll())
+                .extracting(ReminderJob::getRecruitmentId, ReminderJob::getType,
+                    ReminderJob::getDueAt)
+                .containsExactlyInAnyOrder(
+                    tuple(recruitment.getRecruitmentId(),
+                        NotificationType.A_DAY_BEFORE_VOLUNTEER, startTime.minusDays(1)),
+                    tuple(recruitment.getRecruitmentId(),
+                        NotificationType.ENCOURAGE_CHECK_ATTENDANCE, startTime),
+                    tuple(recruitment.getRecruitmentId(),
+                        NotificationType.ENCOURAGE_WRITE_REVIEW, recruitment.getEndTime()));
+        }
+
+        @Test
+        @DisplayName("성공: 다시 실행해도 이미 있는 작업을 중복 추가하지 않는다")
+        void migrateTwice() {
+            // given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(5).withNano(0);
+            Recruitment recruitment = saveRecruitment(startTime);
+            reminderJobRepository.saveAll(ReminderJob.from(recruitment, LocalDateTime.now()));
+
+            // when
+            reminderJobMigration.migrate();
+            reminderJobMigration.migrate();
+
+            // then
+            assertThat(reminderJobRepository.findAll())
+                .extracting(ReminderJob::getType)
+                .containsExactlyInAnyOrder(
+                    NotificationType.THREE_DAY_BEFORE_VOLUNTEER,
+                    NotificationType.A_DAY_BEFORE_VOLUNTEER,
+                    NotificationType.ENCOURAGE_CHECK_ATTENDANCE,
+                    NotificationType.ENCOURAGE_WRITE_REVIEW);
+        }
+    }
+
+    private Recruitment saveRecruitment(LocalDateTime startTime) {
+        Shelter shelter = ShelterFixture.shelter();
+        shelterRepository.save(shelter);
+        return recruitmentRepository.save(new Recruitment(shelter, "recruitmentTitle", 10,
+            "recruitmentContent", startTime, startTime.plusHours(2), startTime.minusHours(1),
+            List.of()));
+    }
+}
@@ -0,0 +1,127 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.ReminderJob;
+import com.clova.anifriends.domain.notification.VolunteerNotification;
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+class ReminderJobServiceIntegrationTest extends BaseIntegrationTest {
+
+    private static final Logger log = LoggerFactory.getLogger(
+        ReminderJobServiceIntegrationTest.class);
+
+    @Autowired
+    ReminderJobService reminderJobService;
+
+    @Autowired
+    ReminderJobRepository reminderJobRepository;
+
+    @Autowired
+    VolunteerNotificationRepository volunteerNotificationRepository;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Nested
+    @DisplayName("runDueReminderJobs 메서드 호출 시")
+    class RunDueReminderJobsTest {
+
+        @Test
+        @DisplayName("성공: 실행 시각이 지난 작업만 실행하고 삭제한다")
+        void runDueReminderJobs() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            Recruitment recruitment = saveRecruitments(1, startTime).get(0);
+            volunteerRepository.save(VolunteerFixture.volunteer());
+            insertApplicants();
+            ReminderJob futureJob = new ReminderJob(recruitment.getRecruitmentId(),
+                NotificationType.ENCOURAGE_WRITE_REVIEW, recruitment.getEndTime());
+            reminderJobRepository.saveAll(List.of(
+                new ReminderJob(recruitment.getRecruitmentId(),
+                    NotificationType.A_DAY_BEFORE_VOLUNTEER, LocalDateTime.now().minusMinutes(1)),
+                futureJob));
+
+            //when
+            reminderJobService.runDueReminderJobs();
+
+            //then
+            assertThat(volunteerNotificationRepository.findAll())
+                .extracting(VolunteerNotification::getType)
+                .containsExactly(NotificationType.A_DAY_BEFORE_VOLUNTEER);
+            assertThat(reminderJobRepository.findAll())
+                .extracting(ReminderJob::getReminderJobId)
+                .containsExactly(futureJob.getReminderJobId());
+        }
+
+        @Test
+        @Tag("benchmark")
+        @DisplayName("성공: 100,000건의 봉사 하루 전 알림을 봉사 모집글별 작업으로 저장한다")
+        void runDueReminderJobsWith100000Reminders() {
+            //given
+            int recruitmentCount = 100;
+            int volunteerCount = 1000;
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1).with(LocalTime.NOON);
+            List<Recruitment> recruitments = saveRecruitments(recruitmentCount, startTime);
+            volunteerRepository.saveAll(VolunteerFixture.volunteers(volunteerCount));
+            insertApplicants();
+            LocalDateTime dueAt = LocalDateTime.now().minusMinutes(1);
+            reminderJobRepository.saveAll(recruitments.stream()
+                .map(recruitment -> new ReminderJob(recruitment.getRecruitmentId(),
+                    NotificationType.A_DAY_BEFORE_VOLUNTEER, dueAt))
+                .toList());
+
+            //when
+            long start = System.nanoTime();
+            reminderJobService.runDueReminderJobs();
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            log.info("봉사 하루 전 알림 {}건 저장: {}ms", recruitmentCount * volunteerCount,
+                elapsedMillis);
+
+            //then
+            Long notificationCount = jdbcTemplate.queryForObject(
+                "select count(*) from volunteer_notification where type = ?", Long.class,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER.name());
+            assertThat(notificationCount).isEqualTo((long) recruitmentCount * volunteerCount);
+            assertThat(reminderJobRepository.findAll()).isEmpty();
+        }
+    }
+
+    private List<Recruitment> saveRecruitments(int recruitmentCount, LocalDateTime startTime) {
+        Shelter shelter = ShelterFixture.shelter();
+        shelterRepository.save(shelter);
+        List<Recruitment> recruitments = IntStream.range(0, recruitmentCount)
+            .mapToObj(i -> new Recruitment(shelter, "recruitmentTitle" + i, 10,
+                "recruitmentContent", startTime, startTime.plusHours(2),
+                startTime.minusHours(1), List.of()))
+            .toList();
+        return recruitmentRepository.saveAll(recruitments);
+    }
+
+    private void insertApplicants() {
+        jdbcTemplate.update("insert into applicant"
+            + " (recruitment_id, volunteer_id, status, created_at)"
+            + " select r.recruitment_id, v.volunteer_id, 'ATTENDANCE', now()"
+            + " from recruitment r cross join volunteer v");
+    }
+}
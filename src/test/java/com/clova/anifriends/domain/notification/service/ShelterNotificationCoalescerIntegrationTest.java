@@ -0,0 +1,227 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.assertj.core.api.Assertions.tuple;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.ShelterNotification;
+import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class ShelterNotificationCoalescerIntegrationTest extends BaseIntegrationTest {
+
+    private static final Duration COMMIT_DELAY = Duration.ofMillis(300);
+    private static final Duration LATCH_TIMEOUT = Duration.ofSeconds(5);
+
+    @Autowired
+    ShelterNotificationCoalescer shelterNotificationCoalescer;
+
+    @Autowired
+    ShelterNotificationRepository shelterNotificationRepository;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    Shelter shelter;
+
+    @BeforeEach
+    void setUp() {
+        shelter = ShelterFixture.shelter();
+        shelterRepository.save(shelter);
+    }
+
+    @Nested
+    @DisplayName("coalesce 메서드 호출 시")
+    class CoalesceTest {
+
+        @Test
+        @DisplayName("성공: 함께 들어온 같은 봉사 모집글의 알림을 가장 최근 알림 하나로 합친다")
+        void coalesceInBatch() {
+            // given
+            List<ShelterNotification> notifications = List.of(
+                newApplicantNotification(1L, "봉사자1"),
+                newApplicantNotification(1L, "봉사자2"),
+                newApplicantNotification(2L, "봉사자3"));
+
+            // when
+            List<ShelterNotification> newNotifications = coalesce(notifications);
+
+            // then
+            assertThat(newNotifications)
+                .extracting(ShelterNotification::getRecruitmentId, ShelterNotification::getContent,
+                    ShelterNotification::getCount)
+                .containsExactly(
+                    tuple(1L, "봉사자2" + NotificationType.NEW_APPLICANT.getMessage(), 2),
+                    tuple(2L, "봉사자3" + NotificationType.NEW_APPLICANT.getMessage(), 1));
+        }
+
+        @Test
+        @DisplayName("성공: 묶음 기간 안의 읽지 않은 알림이 있으면 그 알림에 합친다")
+        void coalesceIntoUnreadNotification() {
+            // given
+            ShelterNotification unreadNotification = shelterNotificationRepository.save(
+                newApplicantNotification(1L, "봉사자1"));
+
+            // when
+            List<ShelterNotification> newNotifications = coalesce(
+                List.of(newApplicantNotification(1L, "봉사자2")));
+
+            // then
+            assertThat(newNotifications).isEmpty();
+            ShelterNotification coalescedNotification = shelterNotificationRepository
+                .findById(unreadNotification.getShelterNotificationId())
+                .orElseThrow();
+            assertThat(coalescedNotification.getCount()).isEqualTo(2);
+            assertThat(coalescedNotification.getContent())
+                .isEqualTo("봉사자2" + NotificationType.NEW_APPLICANT.getMessage());
+        }
+
+        @Test
+        @DisplayName("성공: 같은 봉사 모집글의 알림을 동시에 합치면 먼저 커밋된 알림에 합친다")
+        void coalesceConcurrently() throws Exception {
+            // given
+            Long recruitmentId = recruitmentRepository.save(
+                RecruitmentFixture.recruitment(shelter)).getRecruitmentId();
+            CountDownLatch firstCoalesced = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newFixedThreadPool(2);
+
+            // when
+            Future<?> first = executorService.submit(() -> transactionTemplate
+                .executeWithoutResult(status -> {
+                    saveCoalesced(newApplicantNotification(recruitmentId, "봉사자1"));
+                    firstCoalesced.countDown();
+                    sleep(COMMIT_DELAY);
+                }));
+            firstCoalesced.await();
+            Future<?> second = executorService.submit(() -> transactionTemplate
+                .executeWithoutResult(status ->
+                    saveCoalesced(newApplicantNotification(recruitmentId, "봉사자2"))));
+            first.get();
+            second.get();
+            executorService.shutdown();
+
+            // then
+            assertThat(shelterNotificationRepository.findAll())
+                .extracting(ShelterNotification::getCount)
+                .containsExactly(2);
+        }
+
+        @Test
+        @DisplayName("성공: 봉사 신청이 봉사 모집글 행을 잠그고 있어도 기다리지 않고 합친다")
+        void coalesceWhileRecruitmentLocked() throws Exception {
+            // given
+            Long recruitmentId = recruitmentRepository.save(
+                RecruitmentFixture.recruitment(shelter)).getRecruitmentId();
+            CountDownLatch recruitmentLocked = new CountDownLatch(1);
+            CountDownLatch coalesced = new CountDownLatch(1);
+            ExecutorService executorService = Executors.newSingleThreadExecutor();
+            Future<?> applicant = executorService.submit(() -> transactionTemplate
+                .executeWithoutResult(status -> {
+                    recruitmentRepository.increaseApplicantCountIfAvailable(recruitmentId,
+                        LocalDateTime.now());
+                    recruitmentLocked.countDown();
+                    await(coalesced);
+                }));
+            recruitmentLocked.await();
+
+            // when
+            Exception exception = catchException(() -> coalesce(
+                List.of(newApplicantNotification(recruitmentId, "봉사자1"))));
+            coalesced.countDown();
+            applicant.get();
+            executorService.shutdown();
+
+            // then
+            assertThat(exception).isNull();
+        }
+
+        @Test
+        @DisplayName("성공: 읽은 알림에는 합치지 않는다")
+        void coalesceWhenRead() {
+            // given
+            shelterNotificationRepository.save(newApplicantNotification(1L, "봉사자1"));
+            transactionTemplate.executeWithoutResult(
+                status -> shelterNotificationRepository.updateBulkRead(shelter.getShelterId()));
+
+            // when
+            List<ShelterNotification> newNotifications = coalesce(
+                List.of(newApplicantNotification(1L, "봉사자2")));
+
+            // then
+            assertThat(newNotifications)
+                .extracting(ShelterNotification::getCount)
+                .containsExactly(1);
+        }
+
+        @Test
+        @DisplayName("성공: 묶음 기간이 없는 유형은 합치지 않는다")
+        void coalesceWhenNoWindow() {
+            // given
+            List<ShelterNotification> notifications = List.of(
+                applicantFullNotification(1L),
+                applicantFullNotification(1L));
+
+            // when
+            List<ShelterNotification> newNotifications = coalesce(notifications);
+
+            // then
+            assertThat(newNotifications).hasSize(2);
+        }
+    }
+
+    private void saveCoalesced(ShelterNotification notification) {
+        shelterNotificationRepository.saveAll(
+            shelterNotificationCoalescer.coalesce(List.of(notification)));
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(LATCH_TIMEOUT.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void sleep(Duration duration) {
+        try {
+            Thread.sleep(duration.toMillis());
+        } catch (InterruptedException exception) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private List<ShelterNotification> coalesce(List<ShelterNotification> notifications) {
+        return transactionTemplate.execute(
+            status -> shelterNotificationCoalescer.coalesce(notifications));
+    }
+
+    private ShelterNotification newApplicantNotification(Long recruitmentId,
+        String volunteerName) {
+        return new ShelterNotification(shelter, recruitmentId, "recruitmentTitle",
+            volunteerName + NotificationType.NEW_APPLICANT.getMessage(),
+            NotificationType.NEW_APPLICANT, 1);
+    }
+
+    private ShelterNotification applicantFullNotification(Long recruitmentId) {
+        return new ShelterNotification(shelter, recruitmentId, "recruitmentTitle",
+            NotificationType.APPLICANT_FULL.getMessage(), NotificationType.APPLICANT_FULL, 1);
+    }
+}
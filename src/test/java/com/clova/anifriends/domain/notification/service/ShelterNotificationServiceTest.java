@@ -1,19 +1,31 @@
 package com.clova.anifriends.domain.notification.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.notification.ShelterNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindShelterNotificationsResponseV2.FindShelterNotificationResponse;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationReadEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationInboxRepository;
+import com.clova.anifriends.domain.notification.repository.NotificationUnreadCountRepository;
+import com.clova.anifriends.domain.notification.repository.PushOutboxRepository;
 import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
 import com.clova.anifriends.domain.notification.support.fixture.ShelterNotificationFixture;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
@@ -22,13 +34,19 @@ import com.clova.anifriends.domain.shelter.support.ShelterFixture;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
 import java.util.List;
+import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -40,6 +58,24 @@ class ShelterNotificationServiceTest {
     @Mock
     ShelterNotificationRepository shelterNotificationRepository;
 
+    @Mock
+    ShelterNotificationCoalescer shelterNotificationCoalescer;
+
+    @Mock
+    PushOutboxRepository pushOutboxRepository;
+
+    @Mock
+    NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    NotificationInboxRepository notificationInboxRepository;
+
+    @Mock
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
+
     @Mock
     RecruitmentRepository recruitmentRepository;
 
@@ -70,24 +106,97 @@ class ShelterNotificationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findShelterNotificationsV2 메서드 실행 시")
+    class FindShelterNotificationsV2Test {
+
+        Shelter shelter = ShelterFixture.shelter();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        @Test
+        @DisplayName("성공: 첫 페이지는 캐싱된 최근 알림으로 응답한다")
+        void findShelterNotificationsV2WhenCached() {
+            // given
+            ReflectionTestUtils.setField(shelter, "shelterId", 1L);
+            FindShelterNotificationResponse notification = FindShelterNotificationResponse.from(
+                ShelterNotificationFixture.shelterNotification(shelter));
+            given(notificationInboxRepository.findLatestNotifications(PushReceiverType.SHELTER, 1L,
+                2, FindShelterNotificationResponse.class))
+                .willReturn(Optional.of(List.of(notification, notification)));
+
+            // when
+            FindShelterNotificationsResponseV2 result = shelterNotificationService
+                .findShelterNotificationsV2(1L, null, null, pageable);
+
+            // then
+            assertThat(result.notifications()).hasSize(1);
+            assertThat(result.pageInfo().hasNext()).isTrue();
+            then(shelterNotificationRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 최근 알림이 캐싱되지 않았으면 db에서 조회하여 캐싱한다")
+        void findShelterNotificationsV2WhenNotCached() {
+            // given
+            ReflectionTestUtils.setField(shelter, "shelterId", 1L);
+            ShelterNotification shelterNotification = ShelterNotificationFixture.shelterNotification(
+                shelter);
+            given(notificationInboxRepository.findLatestNotifications(PushReceiverType.SHELTER, 1L,
+                2, FindShelterNotificationResponse.class)).willReturn(Optional.empty());
+            given(shelterNotificationRepository.findShelterNotificationsV2(anyLong(), any(), anyLong(),
+                any())).willReturn(new SliceImpl<>(List.of(shelterNotification)));
+
+            // when
+            FindShelterNotificationsResponseV2 result = shelterNotificationService
+                .findShelterNotificationsV2(1L, null, null, pageable);
+
+            // then
+            assertThat(result.notifications()).hasSize(1);
+            assertThat(result.pageInfo().hasNext()).isFalse();
+            then(notificationInboxRepository).should().saveLatestNotifications(
+                PushReceiverType.SHELTER, 1L, 0L,
+                List.of(FindShelterNotificationResponse.from(shelterNotification)));
+        }
+    }
+
     @Nested
     @DisplayName("findShelterHasNewNotification 메서드 실행 시")
     class FindShelterHasNewNotificationTest {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공: 캐싱된 미확인 알림 수를 반환한다")
         void findShelterHasNewNotification() {
             // given
-            FindShelterHasNewNotificationResponse expected = FindShelterHasNewNotificationResponse.from(
-                true);
-            given(shelterNotificationRepository.hasNewNotification(anyLong())).willReturn(true);
+            given(notificationUnreadCountRepository.findUnreadCount(PushReceiverType.SHELTER, 1L))
+                .willReturn(Optional.of(3L));
 
             // when
             FindShelterHasNewNotificationResponse result = shelterNotificationService.findShelterHasNewNotification(
                 1L);
 
             // then
-            assertThat(result).isEqualTo(expected);
+            assertThat(result).isEqualTo(new FindShelterHasNewNotificationResponse(true, 3L));
+            then(shelterNotificationRepository).should(never()).countUnreadNotifications(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 캐싱되지 않았으면 db에서 센 미확인 알림 수를 캐싱한다")
+        void findShelterHasNewNotificationWhenNotCached() {
+            // given
+            given(notificationUnreadCountRepository.getVersion(PushReceiverType.SHELTER, 1L))
+                .willReturn(2L);
+            given(notificationUnreadCountRepository.findUnreadCount(PushReceiverType.SHELTER, 1L))
+                .willReturn(Optional.empty());
+            given(shelterNotificationRepository.countUnreadNotifications(1L)).willReturn(0L);
+
+            // when
+            FindShelterHasNewNotificationResponse result = shelterNotificationService.findShelterHasNewNotification(
+                1L);
+
+            // then
+            assertThat(result).isEqualTo(new FindShelterHasNewNotificationResponse(false, 0L));
+            then(notificationUnreadCountRepository).should()
+                .saveUnreadCount(PushReceiverType.SHELTER, 1L, 2L, 0L);
         }
     }
 
@@ -108,6 +217,8 @@ class ShelterNotificationServiceTest {
             // then
             verify(shelterNotificationRepository, times(1))
                 .updateBulkRead(shelter.getShelterId());
+            verify(applicationEventPublisher, times(1)).publishEvent(
+                new NotificationReadEvent(PushReceiverType.SHELTER, shelter.getShelterId()));
         }
     }
 
@@ -116,24 +227,55 @@ class ShelterNotificationServiceTest {
     class NotifyEncourageCheckAttendanceTest {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공: 신청자 수를 담은 출석 확인 알림을 저장한다")
         void notifyEncourageCheckAttendance() {
             // given
             Shelter shelter = ShelterFixture.shelter();
             Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
             Volunteer volunteer = VolunteerFixture.volunteer();
-            Applicant applicant = ApplicantFixture.applicant(recruitment, volunteer);
-            given(recruitmentRepository.findRecruitmentsByStartTime(any(), any()))
-                .willReturn(List.of(recruitment));
+            ApplicantFixture.applicant(recruitment, volunteer);
+            ApplicantFixture.applicant(recruitment, VolunteerFixture.volunteer());
+            given(recruitmentRepository.findByIdWithApplicants(anyLong()))
+                .willReturn(Optional.of(recruitment));
+            given(shelterNotificationCoalescer.coalesce(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
 
             // when
-            shelterNotificationService.notifyEncourageCheckAttendance();
+            shelterNotificationService.notifyEncourageCheckAttendance(1L);
 
             // then
-            verify(recruitmentRepository, times(1))
-                .findRecruitmentsByStartTime(any(), any());
+            ArgumentCaptor<List<ShelterNotification>> notificationsCaptor = ArgumentCaptor
+                .forClass(List.class);
             verify(shelterNotificationRepository, times(1))
+                .saveAll(notificationsCaptor.capture());
+            assertThat(notificationsCaptor.getValue())
+                .extracting(ShelterNotification::getType, ShelterNotification::getCount)
+                .containsExactly(tuple(NotificationType.ENCOURAGE_CHECK_ATTENDANCE, 2));
+            verify(pushOutboxRepository, times(1))
                 .saveAll(any());
+            verify(applicationEventPublisher, times(1))
+                .publishEvent(any(NotificationCreatedEvent.class));
+            verify(applicationEventPublisher, times(1))
+                .publishEvent(any(NotificationStreamEvent.class));
+        }
+
+        @Test
+        @DisplayName("성공: 신청자가 없으면 알림을 저장하지 않는다")
+        void notifyEncourageCheckAttendanceWhenNoApplicant() {
+            // given
+            Shelter shelter = ShelterFixture.shelter();
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            given(recruitmentRepository.findByIdWithApplicants(anyLong()))
+                .willReturn(Optional.of(recruitment));
+            given(shelterNotificationCoalescer.coalesce(any()))
+                .willAnswer(invocation -> invocation.getArgument(0));
+
+            // when
+            shelterNotificationService.notifyEncourageCheckAttendance(1L);
+
+            // then
+            then(shelterNotificationRepository).should(never()).saveAll(any());
+            then(applicationEventPublisher).shouldHaveNoInteractions();
         }
     }
 }
@@ -0,0 +1,110 @@
+package com.clova.anifriends.domain.notification.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+class VolunteerNotificationIntegrationTest extends BaseIntegrationTest {
+
+    @Autowired
+    VolunteerNotificationService volunteerNotificationService;
+
+    @Autowired
+    JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    TransactionTemplate transactionTemplate;
+
+    @Nested
+    @DisplayName("notifyBeforeVolunteer 메서드 호출 시")
+    class NotifyBeforeVolunteerTest {
+
+        @Test
+        @DisplayName("성공: 청크 크기보다 많은 신청자 모두에게 봉사 하루 전 알림을 저장한다")
+        void notifyBeforeVolunteerInChunks() {
+            //given
+            int volunteerCount = 2500;
+            Recruitment recruitment = saveRecruitmentWithApplicants(volunteerCount);
+
+            //when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitment.getRecruitmentId(),
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            //then
+            assertThat(countNotifications(NotificationType.A_DAY_BEFORE_VOLUNTEER))
+                .isEqualTo(volunteerCount);
+        }
+
+        @Test
+        @DisplayName("성공: 같은 리마인더를 다시 실행해도 알림을 중복 저장하지 않는다")
+        void notifyBeforeVolunteerTwice() {
+            //given
+            int volunteerCount = 1500;
+            Recruitment recruitment = saveRecruitmentWithApplicants(volunteerCount);
+            volunteerNotificationService.notifyBeforeVolunteer(recruitment.getRecruitmentId(),
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            //when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitment.getRecruitmentId(),
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            //then
+            assertThat(countNotifications(NotificationType.A_DAY_BEFORE_VOLUNTEER))
+                .isEqualTo(volunteerCount);
+        }
+
+        @Test
+        @DisplayName("성공: 호출한 트랜잭션이 롤백되어도 커밋된 청크의 알림은 남는다")
+        void notifyBeforeVolunteerInRolledBackTransaction() {
+            //given
+            int volunteerCount = 1500;
+            Recruitment recruitment = saveRecruitmentWithApplicants(volunteerCount);
+
+            //when
+            transactionTemplate.executeWithoutResult(status -> {
+                volunteerNotificationService.notifyBeforeVolunteer(
+                    recruitment.getRecruitmentId(), NotificationType.A_DAY_BEFORE_VOLUNTEER);
+                status.setRollbackOnly();
+            });
+
+            //then
+            assertThat(countNotifications(NotificationType.A_DAY_BEFORE_VOLUNTEER))
+                .isEqualTo(volunteerCount);
+        }
+    }
+
+    private Recruitment saveRecruitmentWithApplicants(int volunteerCount) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(1).with(LocalTime.NOON);
+        Shelter shelter = ShelterFixture.shelter();
+        shelterRepository.save(shelter);
+        Recruitment recruitment = recruitmentRepository.save(new Recruitment(shelter,
+            "recruitmentTitle", 10, "recruitmentContent", startTime, startTime.plusHours(2),
+            startTime.minusHours(1), List.of()));
+        volunteerRepository.saveAll(VolunteerFixture.volunteers(volunteerCount));
+        jdbcTemplate.update("insert into applicant"
+            + " (recruitment_id, volunteer_id, status, created_at)"
+            + " select r.recruitment_id, v.volunteer_id, 'ATTENDANCE', now()"
+            + " from recruitment r cross join volunteer v");
+        return recruitment;
+    }
+
+    private long countNotifications(NotificationType type) {
+        return jdbcTemplate.queryForObject(
+            "select count(*) from volunteer_notification where type = ?", Long.class,
+            type.name());
+    }
+}
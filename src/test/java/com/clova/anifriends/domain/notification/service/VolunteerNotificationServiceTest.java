@@ -3,25 +3,37 @@ package com.clova.anifriends.domain.notification.service;
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
-import com.clova.anifriends.domain.applicant.Applicant;
-import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
+import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
+import com.clova.anifriends.domain.applicant.repository.response.FindReminderTargetResult;
 import com.clova.anifriends.domain.notification.VolunteerNotification;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerHasNewNotificationResponse;
 import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponse;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2;
+import com.clova.anifriends.domain.notification.dto.response.FindVolunteerNotificationsResponseV2.FindVolunteerNotificationResponse;
+import com.clova.anifriends.domain.notification.dto.response.NotificationStreamResponse;
+import com.clova.anifriends.domain.notification.event.NotificationCreatedEvent;
+import com.clova.anifriends.domain.notification.event.NotificationReadEvent;
+import com.clova.anifriends.domain.notification.event.NotificationStreamEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationInboxRepository;
+import com.clova.anifriends.domain.notification.repository.NotificationUnreadCountRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationJdbcRepository;
+import com.clova.anifriends.domain.notification.repository.VolunteerNotificationJdbcRepository.NewVolunteerNotification;
 import com.clova.anifriends.domain.notification.repository.VolunteerNotificationRepository;
 import com.clova.anifriends.domain.notification.support.fixture.VolunteerNotificationFixture;
-import com.clova.anifriends.domain.recruitment.Recruitment;
-import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
-import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
-import com.clova.anifriends.domain.shelter.Shelter;
-import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.LongStream;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -29,11 +41,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 @ExtendWith(MockitoExtension.class)
 class VolunteerNotificationServiceTest {
 
+    private static final String RECRUITMENT_TITLE = "봉사 모집글 제목";
+    private static final String SHELTER_NAME = "보호소 이름";
+
     @InjectMocks
     VolunteerNotificationService volunteerNotificationService;
 
@@ -41,7 +62,25 @@ class VolunteerNotificationServiceTest {
     VolunteerNotificationRepository volunteerNotificationRepository;
 
     @Mock
-    RecruitmentRepository recruitmentRepository;
+    VolunteerNotificationJdbcRepository volunteerNotificationJdbcRepository;
+
+    @Mock
+    NotificationUnreadCountRepository notificationUnreadCountRepository;
+
+    @Mock
+    NotificationInboxRepository notificationInboxRepository;
+
+    @Mock
+    ApplicantRepository applicantRepository;
+
+    @Mock
+    PlatformTransactionManager transactionManager;
+
+    @Mock
+    NotificationStreamRegistry notificationStreamRegistry;
+
+    @Mock
+    ApplicationEventPublisher applicationEventPublisher;
 
     @Nested
     @DisplayName("findVolunteerNotifications 메서드 실행 시")
@@ -70,24 +109,98 @@ class VolunteerNotificationServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findVolunteerNotificationsV2 메서드 실행 시")
+    class FindVolunteerNotificationsV2Test {
+
+        Volunteer volunteer = VolunteerFixture.volunteer();
+        Pageable pageable = PageRequest.of(0, 1);
+
+        @Test
+        @DisplayName("성공: 첫 페이지는 캐싱된 최근 알림으로 응답한다")
+        void findVolunteerNotificationsV2WhenCached() {
+            // given
+            ReflectionTestUtils.setField(volunteer, "volunteerId", 1L);
+            FindVolunteerNotificationResponse notification = FindVolunteerNotificationResponse.from(
+                VolunteerNotificationFixture.volunteerNotification(volunteer));
+            given(notificationInboxRepository.findLatestNotifications(PushReceiverType.VOLUNTEER, 1L,
+                2, FindVolunteerNotificationResponse.class))
+                .willReturn(Optional.of(List.of(notification, notification)));
+
+            // when
+            FindVolunteerNotificationsResponseV2 result = volunteerNotificationService
+                .findVolunteerNotificationsV2(1L, null, null, pageable);
+
+            // then
+            assertThat(result.notifications()).hasSize(1);
+            assertThat(result.pageInfo().hasNext()).isTrue();
+            then(volunteerNotificationRepository).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 최근 알림이 캐싱되지 않았으면 db에서 조회하여 캐싱한다")
+        void findVolunteerNotificationsV2WhenNotCached() {
+            // given
+            ReflectionTestUtils.setField(volunteer, "volunteerId", 1L);
+            VolunteerNotification volunteerNotification = VolunteerNotificationFixture.volunteerNotification(
+                volunteer);
+            given(notificationInboxRepository.findLatestNotifications(PushReceiverType.VOLUNTEER, 1L,
+                2, FindVolunteerNotificationResponse.class)).willReturn(Optional.empty());
+            given(volunteerNotificationRepository.findVolunteerNotificationsV2(anyLong(), any(), anyLong(),
+                any())).willReturn(new SliceImpl<>(List.of(volunteerNotification)));
+
+            // when
+            FindVolunteerNotificationsResponseV2 result = volunteerNotificationService
+                .findVolunteerNotificationsV2(1L, null, null, pageable);
+
+            // then
+            assertThat(result.notifications()).hasSize(1);
+            assertThat(result.pageInfo().hasNext()).isFalse();
+            then(notificationInboxRepository).should().saveLatestNotifications(
+                PushReceiverType.VOLUNTEER, 1L, 0L,
+                List.of(FindVolunteerNotificationResponse.from(volunteerNotification)));
+        }
+    }
+
     @Nested
     @DisplayName("findVolunteerHasNewNotification 메서드 실행 시")
     class FindVolunteerHasNewNotificationTest {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공: 캐싱된 미확인 알림 수를 반환한다")
         void findVolunteerHasNewNotification() {
             // given
-            FindVolunteerHasNewNotificationResponse expected = FindVolunteerHasNewNotificationResponse.from(
-                true);
-            given(volunteerNotificationRepository.hasNewNotification(anyLong())).willReturn(true);
+            given(notificationUnreadCountRepository.findUnreadCount(PushReceiverType.VOLUNTEER,
+                1L)).willReturn(Optional.of(2L));
+
+            // when
+            FindVolunteerHasNewNotificationResponse result = volunteerNotificationService.findVolunteerHasNewNotification(
+                1L);
+
+            // then
+            assertThat(result).isEqualTo(new FindVolunteerHasNewNotificationResponse(true, 2L));
+            then(volunteerNotificationRepository).should(never())
+                .countUnreadNotifications(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 캐싱되지 않았으면 db에서 센 미확인 알림 수를 캐싱한다")
+        void findVolunteerHasNewNotificationWhenNotCached() {
+            // given
+            given(notificationUnreadCountRepository.getVersion(PushReceiverType.VOLUNTEER, 1L))
+                .willReturn(2L);
+            given(notificationUnreadCountRepository.findUnreadCount(PushReceiverType.VOLUNTEER,
+                1L)).willReturn(Optional.empty());
+            given(volunteerNotificationRepository.countUnreadNotifications(1L)).willReturn(4L);
 
             // when
             FindVolunteerHasNewNotificationResponse result = volunteerNotificationService.findVolunteerHasNewNotification(
                 1L);
 
             // then
-            assertThat(result).isEqualTo(expected);
+            assertThat(result).isEqualTo(new FindVolunteerHasNewNotificationResponse(true, 4L));
+            then(notificationUnreadCountRepository).should()
+                .saveUnreadCount(PushReceiverType.VOLUNTEER, 1L, 2L, 4L);
         }
     }
 
@@ -108,58 +221,143 @@ class VolunteerNotificationServiceTest {
             // then
             verify(volunteerNotificationRepository, times(1))
                 .updateBulkRead(volunteer.getVolunteerId());
+            then(applicationEventPublisher).should().publishEvent(
+                new NotificationReadEvent(PushReceiverType.VOLUNTEER, volunteer.getVolunteerId()));
         }
     }
 
     @Nested
-    @DisplayName("notifyADayBeforeVolunteer 메서드 실행 시")
-    class NotifyADayBeforeVolunteerTest {
+    @DisplayName("subscribeNotifications 메서드 실행 시")
+    class SubscribeNotificationsTest {
 
         @Test
-        @DisplayName("성공")
-        void notifyADayBeforeVolunteer() {
+        @DisplayName("성공: 새로운 알림 여부를 첫 이벤트로 알림 스트림을 연결한다")
+        void subscribeNotifications() {
             // given
-            Shelter shelter = ShelterFixture.shelter();
-            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
-            Volunteer volunteer = VolunteerFixture.volunteer();
-            Applicant applicant = ApplicantFixture.applicant(recruitment, volunteer);
-            given(recruitmentRepository.findRecruitmentsByStartTime(any(), any()))
-                .willReturn(List.of(recruitment));
+            SseEmitter emitter = new SseEmitter();
+            given(notificationUnreadCountRepository.findUnreadCount(PushReceiverType.VOLUNTEER,
+                1L)).willReturn(Optional.of(1L));
+            given(notificationStreamRegistry.register(PushReceiverType.VOLUNTEER, 1L,
+                NotificationStreamResponse.unreadState(true))).willReturn(emitter);
 
             // when
-            volunteerNotificationService.notifyADayBeforeVolunteer();
+            SseEmitter result = volunteerNotificationService.subscribeNotifications(1L);
 
             // then
-            verify(recruitmentRepository, times(1))
-                .findRecruitmentsByStartTime(any(), any());
-            verify(volunteerNotificationRepository, times(1))
-                .saveAll(any());
+            assertThat(result).isEqualTo(emitter);
         }
     }
 
     @Nested
-    @DisplayName("notifyThreeDayBeforeVolunteer 메서드 실행 시")
-    class NotifyThreeDayBeforeVolunteerTest {
+    @DisplayName("notifyBeforeVolunteer 메서드 실행 시")
+    class NotifyBeforeVolunteerTest {
+
+        Long recruitmentId = 1L;
 
         @Test
-        @DisplayName("성공")
-        void notifyThreeDayBeforeVolunteer() {
+        @DisplayName("성공: 알림 대상을 청크 단위로 읽어 모집글 제목으로 알림을 저장한다")
+        void notifyBeforeVolunteer() {
             // given
-            Shelter shelter = ShelterFixture.shelter();
-            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
-            Volunteer volunteer = VolunteerFixture.volunteer();
-            Applicant applicant = ApplicantFixture.applicant(recruitment, volunteer);
-            given(recruitmentRepository.findRecruitmentsByStartTime(any(), any()))
-                .willReturn(List.of(recruitment));
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                eq(0L), any()))
+                .willReturn(List.of(reminderTarget(1L, 10L), reminderTarget(2L, 20L)));
 
             // when
-            volunteerNotificationService.notifyThreeDayBeforeVolunteer();
+            volunteerNotificationService.notifyBeforeVolunteer(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
 
             // then
-            verify(recruitmentRepository, times(1))
-                .findRecruitmentsByStartTime(any(), any());
-            verify(volunteerNotificationRepository, times(1))
-                .saveAll(any());
+            then(volunteerNotificationJdbcRepository).should().saveAll(eq(recruitmentId),
+                eq(List.of(new NewVolunteerNotification(10L, RECRUITMENT_TITLE),
+                    new NewVolunteerNotification(20L, RECRUITMENT_TITLE))),
+                eq(NotificationType.A_DAY_BEFORE_VOLUNTEER), any());
+            then(applicationEventPublisher).should().publishEvent(
+                new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, List.of(10L, 20L)));
+        }
+
+        @Test
+        @DisplayName("성공: 같은 리마인더를 이미 받은 봉사자에게는 다시 저장하지 않는다")
+        void notifyBeforeVolunteerWhenAlreadyNotified() {
+            // given
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                eq(0L), any()))
+                .willReturn(List.of(reminderTarget(1L, 10L), reminderTarget(2L, 20L)));
+            given(volunteerNotificationRepository.findNotifiedVolunteerIds(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER, List.of(10L, 20L)))
+                .willReturn(List.of(10L));
+
+            // when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            // then
+            then(volunteerNotificationJdbcRepository).should().saveAll(eq(recruitmentId),
+                eq(List.of(new NewVolunteerNotification(20L, RECRUITMENT_TITLE))),
+                eq(NotificationType.A_DAY_BEFORE_VOLUNTEER), any());
+            then(applicationEventPublisher).should().publishEvent(
+                new NotificationCreatedEvent(PushReceiverType.VOLUNTEER, List.of(20L)));
+            then(applicationEventPublisher).should().publishEvent(
+                NotificationStreamEvent.of(PushReceiverType.VOLUNTEER, List.of(20L),
+                    RECRUITMENT_TITLE, NotificationType.A_DAY_BEFORE_VOLUNTEER.getMessage()));
+        }
+
+        @Test
+        @DisplayName("성공: 모든 봉사자가 이미 리마인더를 받았으면 저장하지 않는다")
+        void notifyBeforeVolunteerWhenAllNotified() {
+            // given
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                eq(0L), any())).willReturn(List.of(reminderTarget(1L, 10L)));
+            given(volunteerNotificationRepository.findNotifiedVolunteerIds(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER, List.of(10L)))
+                .willReturn(List.of(10L));
+
+            // when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            // then
+            then(volunteerNotificationJdbcRepository).shouldHaveNoInteractions();
+            then(applicationEventPublisher).shouldHaveNoInteractions();
+        }
+
+        @Test
+        @DisplayName("성공: 청크가 가득 차면 마지막 봉사 신청 id 다음부터 이어서 읽는다")
+        void notifyBeforeVolunteerWhenChunkIsFull() {
+            // given
+            List<FindReminderTargetResult> firstChunk = LongStream.rangeClosed(1, 1000)
+                .mapToObj(id -> reminderTarget(id, id))
+                .toList();
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                eq(0L), any())).willReturn(firstChunk);
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                eq(1000L), any())).willReturn(List.of());
+
+            // when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitmentId,
+                NotificationType.THREE_DAY_BEFORE_VOLUNTEER);
+
+            // then
+            then(volunteerNotificationJdbcRepository).should(times(1))
+                .saveAll(eq(recruitmentId), any(),
+                    eq(NotificationType.THREE_DAY_BEFORE_VOLUNTEER), any());
+            then(applicantRepository).should()
+                .findReminderTargetsByRecruitmentId(eq(recruitmentId), eq(1000L), any());
+        }
+
+        @Test
+        @DisplayName("성공: 알림 대상이 없으면 저장하지 않는다")
+        void notifyBeforeVolunteerWhenNoTarget() {
+            // given
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(recruitmentId),
+                anyLong(), any())).willReturn(List.of());
+
+            // when
+            volunteerNotificationService.notifyBeforeVolunteer(recruitmentId,
+                NotificationType.A_DAY_BEFORE_VOLUNTEER);
+
+            // then
+            then(volunteerNotificationJdbcRepository).shouldHaveNoInteractions();
+            then(applicationEventPublisher).shouldHaveNoInteractions();
         }
     }
 
@@ -168,24 +366,43 @@ class VolunteerNotificationServiceTest {
     class NotifyEncourageWriteReviewTest {
 
         @Test
-        @DisplayName("성공")
+        @DisplayName("성공: 보호소 이름으로 알림을 저장한다")
         void notifyEncourageWriteReview() {
             // given
-            Shelter shelter = ShelterFixture.shelter();
-            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
-            Volunteer volunteer = VolunteerFixture.volunteer();
-            Applicant applicant = ApplicantFixture.applicant(recruitment, volunteer);
-            given(recruitmentRepository.findRecruitmentsByEndTime(any(), any()))
-                .willReturn(List.of(recruitment));
+            given(applicantRepository.findReminderTargetsByRecruitmentId(eq(1L), eq(0L), any()))
+                .willReturn(List.of(reminderTarget(1L, 10L)));
 
             // when
-            volunteerNotificationService.notifyEncourageWriteReview();
+            volunteerNotificationService.notifyEncourageWriteReview(1L);
 
             // then
-            verify(recruitmentRepository, times(1))
-                .findRecruitmentsByEndTime(any(), any());
-            verify(volunteerNotificationRepository, times(1))
-                .saveAll(any());
+            then(volunteerNotificationJdbcRepository).should().saveAll(eq(1L),
+                eq(List.of(new NewVolunteerNotification(10L, SHELTER_NAME))),
+                eq(NotificationType.ENCOURAGE_WRITE_REVIEW), any());
         }
     }
+
+    private FindReminderTargetResult reminderTarget(Long applicantId, Long volunteerId) {
+        return new FindReminderTargetResult() {
+            @Override
+            public Long getApplicantId() {
+                return applicantId;
+            }
+
+            @Override
+            public Long getVolunteerId() {
+                return volunteerId;
+            }
+
+            @Override
+            public String getRecruitmentTitle() {
+                return RECRUITMENT_TITLE;
+            }
+
+            @Override
+            public String getShelterName() {
+                return SHELTER_NAME;
+            }
+        };
+    }
 }
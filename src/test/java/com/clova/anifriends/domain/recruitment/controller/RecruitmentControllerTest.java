@@ -40,12 +40,16 @@ import com.clova.anifriends.domain.recruitment.dto.request.KeywordFilter;
 import com.clova.anifriends.domain.recruitment.dto.request.RegisterRecruitmentRequest;
 import com.clova.anifriends.domain.recruitment.dto.request.UpdateRecruitmentRequest;
 import com.clova.anifriends.domain.recruitment.dto.response.FindCompletedRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindCompletedRecruitmentsResponse.FindCompletedRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentCalendarResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentCalendarResponse.FindRecruitmentCalendarDayResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindShelterRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsByShelterResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse.FindRecruitmentResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.RegisterRecruitmentResponse;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentDtoFixture;
 import com.clova.anifriends.domain.shelter.Shelter;
 import java.time.LocalDate;
@@ -57,6 +61,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.http.MediaType;
 import org.springframework.restdocs.payload.JsonFieldType;
 import org.springframework.test.util.ReflectionTestUtils;
@@ -176,6 +181,62 @@ class RecruitmentControllerTest extends BaseControllerTest {
             ));
     }
 
+    @Test
+    @DisplayName("성공: 봉사자가 완료한 봉사 리스트 조회 v2 API 호출 시")
+    void findCompletedRecruitmentsV2() throws Exception {
+        //given
+        Long volunteerId = 1L;
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("recruitmentStartTime", String.valueOf(LocalDateTime.now()));
+        params.add("recruitmentId", "1");
+        params.add("pageSize", "10");
+        FindCompletedRecruitmentResponse findCompletedRecruitmentResponse
+            = new FindCompletedRecruitmentResponse(1L, "봉사 모집글 제목",
+            LocalDateTime.now().minusDays(1), "보호소 이름");
+        FindCompletedRecruitmentsResponse response = new FindCompletedRecruitmentsResponse(
+            List.of(findCompletedRecruitmentResponse), PageInfo.of(1, false));
+
+        given(recruitmentService.findCompletedRecruitmentsV2(anyLong(), any(), anyLong(), any()))
+            .willReturn(response);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(
+            get("/api/v2/shelters/volunteers/{volunteerId}/recruitments/completed", volunteerId)
+                .header(AUTHORIZATION, shelterAccessToken)
+                .params(params));
+
+        //then
+        resultActions.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(
+                    headerWithName(AUTHORIZATION).description("보호소 액세스 토큰")
+                ),
+                pathParameters(
+                    parameterWithName("volunteerId").description("봉사자 ID")
+                ),
+                queryParameters(
+                    parameterWithName("recruitmentStartTime")
+                        .description("마지막으로 조회한 봉사 모집글의 봉사 날짜").optional(),
+                    parameterWithName("recruitmentId")
+                        .description("마지막으로 조회한 봉사 모집글 ID").optional(),
+                    parameterWithName("pageSize").description("페이지 사이즈")
+                ),
+                responseFields(
+                    fieldWithPath("recruitments").type(ARRAY).description("봉사 모집글 리스트"),
+                    fieldWithPath("recruitments[].recruitmentId").type(NUMBER)
+                        .description("봉사 모집글 ID"),
+                    fieldWithPath("recruitments[].recruitmentTitle").type(STRING)
+                        .description("봉사 모집글 제목"),
+                    fieldWithPath("recruitments[].recruitmentStartTime").type(STRING)
+                        .description("봉사 날짜"),
+                    fieldWithPath("recruitments[].shelterName").type(STRING).description("보호소 이름"),
+                    fieldWithPath("pageInfo").type(OBJECT).description("페이지 정보"),
+                    fieldWithPath("pageInfo.totalElements").type(NUMBER).description("총 요소 개수"),
+                    fieldWithPath("pageInfo.hasNext").type(BOOLEAN).description("다음 페이지 여부")
+                )
+            ));
+    }
+
     @Test
     @DisplayName("성공: 봉사 모집글 조회, 검색 API 호출")
     void findRecruitments() throws Exception {
@@ -353,6 +414,7 @@ class RecruitmentControllerTest extends BaseControllerTest {
         Shelter shelter = shelter();
         Recruitment recruitment = recruitment(shelter);
         setField(recruitment, "recruitmentId", 1L);
+        setField(recruitment, "createdAt", LocalDateTime.now());
         Page<Recruitment> pageResult = new PageImpl<>(List.of(recruitment));
         FindRecruitmentsByShelterResponse response = RecruitmentDtoFixture.findRecruitmentsByShelterResponse(
             pageResult);
@@ -405,7 +467,83 @@ class RecruitmentControllerTest extends BaseControllerTest {
                     fieldWithPath("recruitments[].recruitmentApplicantCount").type(NUMBER)
                         .description("현재 지원자 수"),
                     fieldWithPath("recruitments[].recruitmentCapacity").type(NUMBER)
-                        .description("모집 정원")
+                        .description("모집 정원"),
+                    fieldWithPath("recruitments[].recruitmentCreatedAt").type(STRING)
+                        .description("모집글 생성 시간")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("성공: 봉사 모집글 조회(보호소) v2 api 실행 시")
+    void findRecruitmentsByShelterV2() throws Exception {
+        // given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("keyword", "겅색어");
+        params.add("startDate", LocalDate.now().toString());
+        params.add("endDate", LocalDate.now().toString());
+        params.add("closedFilter", "IS_OPENED");
+        params.add("keywordFilter", KeywordFilter.IS_TITLE.getName());
+        params.add("recruitmentId", "2");
+        params.add("createdAt", String.valueOf(LocalDateTime.now()));
+        params.add("pageSize", "10");
+        FindRecruitmentsByShelterResponse response = FindRecruitmentsByShelterResponse.fromV2(
+            new SliceImpl<>(List.of(findShelterRecruitmentResult())), 1);
+
+        when(recruitmentService.findRecruitmentsByShelterV2(anyLong(), any(), any(), any(),
+            any(), any(), any(), any(), any()))
+            .thenReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(
+            get("/api/v2/shelters/recruitments")
+                .header(AUTHORIZATION, shelterAccessToken)
+                .params(params)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                requestHeaders(headerWithName(AUTHORIZATION).description("액세스 토큰")),
+                queryParameters(
+                    parameterWithName("keyword").description("검색어").optional(),
+                    parameterWithName("startDate").description("검색 시작 날짜").optional()
+                        .attributes(DocumentationFormatGenerator.getDateConstraint()),
+                    parameterWithName("endDate").description("검색 종료 날짜").optional()
+                        .attributes(DocumentationFormatGenerator.getDateConstraint()),
+                    parameterWithName("closedFilter").description("마감 여부").optional()
+                        .attributes(DocumentationFormatGenerator.getConstraint("기본값 null")),
+                    parameterWithName("keywordFilter").description("검색 필터").optional()
+                        .attributes(
+                            DocumentationFormatGenerator.getConstraint("IS_TITLE, IS_CONTENT")),
+                    parameterWithName("recruitmentId")
+                        .description("마지막으로 조회한 모집 ID").optional(),
+                    parameterWithName("createdAt")
+                        .description("마지막으로 조회한 모집글 생성 시간").optional(),
+                    parameterWithName("pageSize").description("페이지 크기").optional()
+                ),
+                responseFields(
+                    fieldWithPath("pageInfo.totalElements").type(NUMBER).description("총 게시글 수"),
+                    fieldWithPath("pageInfo.hasNext").type(BOOLEAN).description("다음 페이지 여부"),
+                    fieldWithPath("recruitments[]").type(ARRAY).description("모집 게시글 리스트"),
+                    fieldWithPath("recruitments[].recruitmentId").type(NUMBER).description("모집 ID"),
+                    fieldWithPath("recruitments[].recruitmentTitle").type(STRING)
+                        .description("모집 제목"),
+                    fieldWithPath("recruitments[].recruitmentStartTime").type(STRING)
+                        .description("봉사 시작 시간"),
+                    fieldWithPath("recruitments[].recruitmentEndTime").type(STRING)
+                        .description("봉사 끝난 시간"),
+                    fieldWithPath("recruitments[].recruitmentDeadline").type(STRING)
+                        .description("모집 마감 시간"),
+                    fieldWithPath("recruitments[].recruitmentIsClosed").type(BOOLEAN)
+                        .description("모집 마감 여부"),
+                    fieldWithPath("recruitments[].recruitmentApplicantCount").type(NUMBER)
+                        .description("현재 지원자 수"),
+                    fieldWithPath("recruitments[].recruitmentCapacity").type(NUMBER)
+                        .description("모집 정원"),
+                    fieldWithPath("recruitments[].recruitmentCreatedAt").type(STRING)
+                        .description("모집글 생성 시간")
                 )
             ));
     }
@@ -418,6 +556,7 @@ class RecruitmentControllerTest extends BaseControllerTest {
         setField(shelter, "shelterId", 1L);
         Recruitment recruitment = recruitment(shelter);
         setField(recruitment, "recruitmentId", 1L);
+        setField(recruitment, "createdAt", LocalDateTime.now());
         Page<Recruitment> pageResult = new PageImpl<>(List.of(recruitment));
         FindShelterRecruitmentsResponse response = FindShelterRecruitmentsResponse(
             pageResult);
@@ -455,11 +594,75 @@ class RecruitmentControllerTest extends BaseControllerTest {
                     fieldWithPath("recruitments[].recruitmentCapacity").type(NUMBER)
                         .description("모집 정원"),
                     fieldWithPath("recruitments[].recruitmentApplicantCount").type(NUMBER)
-                        .description("현재 지원자 수")
+                        .description("현재 지원자 수"),
+                    fieldWithPath("recruitments[].recruitmentCreatedAt").type(STRING)
+                        .description("모집글 생성 시간")
+                )
+            ));
+    }
+
+    @Test
+    @DisplayName("findShelterRecruitmentsV2 메서드 실행 시")
+    void findShelterRecruitmentsV2() throws Exception {
+        // given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("recruitmentId", "2");
+        params.add("createdAt", String.valueOf(LocalDateTime.now()));
+        params.add("pageSize", "10");
+        FindShelterRecruitmentsResponse response = FindShelterRecruitmentsResponse.fromV2(
+            new SliceImpl<>(List.of(findShelterRecruitmentResult())), 1);
+
+        when(recruitmentService.findShelterRecruitmentsV2(anyLong(), any(), any(), any()))
+            .thenReturn(response);
+
+        // when
+        ResultActions result = mockMvc.perform(
+            get("/api/v2/shelters/{shelterId}/recruitments", 1L)
+                .params(params)
+                .contentType(MediaType.APPLICATION_JSON)
+        );
+
+        // then
+        result.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                pathParameters(
+                    parameterWithName("shelterId").description("보호소 ID")
+                ),
+                queryParameters(
+                    parameterWithName("recruitmentId")
+                        .description("마지막으로 조회한 모집 ID").optional(),
+                    parameterWithName("createdAt")
+                        .description("마지막으로 조회한 모집글 생성 시간").optional(),
+                    parameterWithName("pageSize").description("페이지 크기").optional()
+                ),
+                responseFields(
+                    fieldWithPath("pageInfo.totalElements").type(NUMBER).description("총 게시글 수"),
+                    fieldWithPath("pageInfo.hasNext").type(BOOLEAN).description("다음 페이지 여부"),
+                    fieldWithPath("recruitments[]").type(ARRAY).description("모집 게시글 리스트"),
+                    fieldWithPath("recruitments[].recruitmentId").type(NUMBER).description("모집 ID"),
+                    fieldWithPath("recruitments[].recruitmentTitle").type(STRING)
+                        .description("모집 제목"),
+                    fieldWithPath("recruitments[].recruitmentStartTime").type(STRING)
+                        .description("봉사 시작 시간"),
+                    fieldWithPath("recruitments[].recruitmentDeadline").type(STRING)
+                        .description("모집 마감 시간"),
+                    fieldWithPath("recruitments[].recruitmentCapacity").type(NUMBER)
+                        .description("모집 정원"),
+                    fieldWithPath("recruitments[].recruitmentApplicantCount").type(NUMBER)
+                        .description("현재 지원자 수"),
+                    fieldWithPath("recruitments[].recruitmentCreatedAt").type(STRING)
+                        .description("모집글 생성 시간")
                 )
             ));
     }
 
+    private FindShelterRecruitmentResult findShelterRecruitmentResult() {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(3);
+        return new FindShelterRecruitmentResult(1L, "모집 제목", startTime,
+            startTime.plusHours(2), startTime.minusDays(1), false, 3, 10,
+            LocalDateTime.now());
+    }
+
     @Test
     @DisplayName("findRecruitmentDetail 메서드 실행 시")
     void findRecruitmentDetail() throws Exception {
@@ -601,4 +804,41 @@ class RecruitmentControllerTest extends BaseControllerTest {
                 )
             ));
     }
+
+    @Test
+    @DisplayName("성공: 봉사 모집 달력 조회 api 호출 시")
+    void findRecruitmentCalendar() throws Exception {
+        //given
+        MultiValueMap<String, String> params = new LinkedMultiValueMap<>();
+        params.add("year", "2023");
+        params.add("month", "11");
+        FindRecruitmentCalendarResponse response = new FindRecruitmentCalendarResponse(2023, 11,
+            List.of(new FindRecruitmentCalendarDayResponse(1, 3),
+                new FindRecruitmentCalendarDayResponse(2, 0)));
+
+        given(recruitmentService.findRecruitmentCalendar(anyInt(), anyInt()))
+            .willReturn(response);
+
+        //when
+        ResultActions resultActions = mockMvc.perform(get("/api/recruitments/calendar")
+            .params(params));
+
+        //then
+        resultActions.andExpect(status().isOk())
+            .andDo(restDocs.document(
+                queryParameters(
+                    parameterWithName("year").description("조회 연도"),
+                    parameterWithName("month").description("조회 월")
+                        .attributes(DocumentationFormatGenerator.getConstraint("1 이상, 12 이하"))
+                ),
+                responseFields(
+                    fieldWithPath("year").type(NUMBER).description("조회 연도"),
+                    fieldWithPath("month").type(NUMBER).description("조회 월"),
+                    fieldWithPath("days").type(ARRAY).description("일자별 봉사 모집글 수 리스트"),
+                    fieldWithPath("days[].day").type(NUMBER).description("일자"),
+                    fieldWithPath("days[].recruitmentCount").type(NUMBER)
+                        .description("해당 일자에 시작하는 모집 중인 봉사 모집글 수")
+                )
+            ));
+    }
 }
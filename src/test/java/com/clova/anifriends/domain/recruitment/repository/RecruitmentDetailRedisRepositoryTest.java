@@ -0,0 +1,76 @@
+package com.clova.anifriends.domain.recruitment.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class RecruitmentDetailRedisRepositoryTest extends BaseIntegrationTest {
+
+    @Autowired
+    RecruitmentDetailRedisRepository recruitmentDetailRedisRepository;
+
+    @Nested
+    @DisplayName("saveRecruitmentDetail 메서드 호출 시")
+    class SaveRecruitmentDetailTest {
+
+        @Test
+        @DisplayName("성공: 조회 전 버전이 그대로면 상세 정보를 캐싱한다")
+        void saveRecruitmentDetail() {
+            // given
+            long version = recruitmentDetailRedisRepository.getVersion(1L);
+
+            // when
+            recruitmentDetailRedisRepository.saveRecruitmentDetail(1L, version, response(2));
+            recruitmentDetailRedisRepository.increaseApplicantCount(1L);
+
+            // then
+            Optional<FindRecruitmentDetailResponse> cached = recruitmentDetailRedisRepository
+                .findRecruitmentDetail(1L);
+            assertThat(cached).isPresent();
+            assertThat(cached.get().recruitmentApplicantCount()).isEqualTo(3);
+        }
+
+        @Test
+        @DisplayName("성공: 조회 중에 신청자 수가 증가했으면 캐싱하지 않는다")
+        void saveRecruitmentDetailWhenApplicantIncreased() {
+            // given
+            long version = recruitmentDetailRedisRepository.getVersion(1L);
+            recruitmentDetailRedisRepository.increaseApplicantCount(1L);
+
+            // when
+            recruitmentDetailRedisRepository.saveRecruitmentDetail(1L, version, response(2));
+
+            // then
+            assertThat(recruitmentDetailRedisRepository.findRecruitmentDetail(1L)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 조회 중에 상세 캐시가 제거되었으면 캐싱하지 않는다")
+        void saveRecruitmentDetailWhenEvicted() {
+            // given
+            long version = recruitmentDetailRedisRepository.getVersion(1L);
+            recruitmentDetailRedisRepository.deleteRecruitmentDetails(List.of(1L));
+
+            // when
+            recruitmentDetailRedisRepository.saveRecruitmentDetail(1L, version, response(2));
+
+            // then
+            assertThat(recruitmentDetailRedisRepository.findRecruitmentDetail(1L)).isEmpty();
+        }
+    }
+
+    private FindRecruitmentDetailResponse response(int applicantCount) {
+        LocalDateTime startTime = LocalDateTime.now().plusDays(3);
+        return new FindRecruitmentDetailResponse("title", applicantCount, 10, "content",
+            startTime, startTime.plusHours(2), false, startTime.minusDays(1),
+            LocalDateTime.now(), LocalDateTime.now(), List.of(), 1L);
+    }
+}
@@ -406,6 +406,58 @@ class RecruitmentRedisRepositoryTest extends BaseIntegrationTest {
         }
     }
 
+    @Nested
+    @DisplayName("updateShelterProfile 메서드 호출 시")
+    class UpdateShelterProfileTest {
+
+        Shelter shelter;
+        Shelter otherShelter;
+
+        @BeforeEach
+        void setUp() {
+            shelter = ShelterFixture.shelter();
+            otherShelter = ShelterFixture.shelter();
+            shelterRepository.saveAll(List.of(shelter, otherShelter));
+        }
+
+        @Test
+        @DisplayName("성공: 해당 보호소의 캐시된 봉사 모집글만 갱신된다.")
+        void updateShelterProfile() {
+            //given
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            Recruitment otherRecruitment = RecruitmentFixture.recruitment(otherShelter);
+            recruitmentRepository.saveAll(List.of(recruitment, otherRecruitment));
+            recruitmentRedisRepository.saveRecruitment(recruitment);
+            recruitmentRedisRepository.saveRecruitment(otherRecruitment);
+            String newShelterName = "새로운 보호소 이름";
+            String newShelterImageUrl = "www.new-image.com";
+
+            //when
+            recruitmentRedisRepository.updateShelterProfile(shelter.getShelterId(),
+                newShelterName, newShelterImageUrl);
+
+            //then
+            Set<FindRecruitmentResponse> cachedRecruitments = redisTemplate.opsForZSet()
+                .range(RECRUITMENT_KEY, ZERO, ALL_ELEMENT);
+            FindRecruitmentResponse updatedRecruitment = findCached(cachedRecruitments,
+                recruitment.getRecruitmentId());
+            FindRecruitmentResponse otherCachedRecruitment = findCached(cachedRecruitments,
+                otherRecruitment.getRecruitmentId());
+            assertThat(cachedRecruitments).hasSize(2);
+            assertThat(updatedRecruitment.shelterName()).isEqualTo(newShelterName);
+            assertThat(updatedRecruitment.shelterImageUrl()).isEqualTo(newShelterImageUrl);
+            assertThat(otherCachedRecruitment.shelterName()).isEqualTo(otherShelter.getName());
+        }
+
+        private FindRecruitmentResponse findCached(Set<FindRecruitmentResponse> cached,
+            Long recruitmentId) {
+            return cached.stream()
+                .filter(recruitment -> recruitment.recruitmentId().equals(recruitmentId))
+                .findFirst()
+                .orElseThrow();
+        }
+    }
+
     @Nested
     @DisplayName("getTotalNumberOfRecruitments 메서드 호출 시")
     class GetRecruitmentsCountTest {
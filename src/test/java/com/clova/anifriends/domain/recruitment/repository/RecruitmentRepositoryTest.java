@@ -9,6 +9,7 @@ import com.clova.anifriends.base.BaseRepositoryTest;
 import com.clova.anifriends.domain.applicant.Applicant;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import com.clova.anifriends.domain.recruitment.service.KeywordCondition;
 import com.clova.anifriends.domain.recruitment.service.KeywordConditionByShelter;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
@@ -18,7 +19,6 @@ import com.clova.anifriends.domain.volunteer.Volunteer;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
@@ -359,130 +359,109 @@ class RecruitmentRepositoryTest extends BaseRepositoryTest {
     }
 
     @Nested
-    @DisplayName("findRecruitmentDetail 메서드 실행 시")
-    class FindRecruitmentDetailTest {
+    @DisplayName("findShelterRecruitmentsV2 메서드 실행 시")
+    class FindShelterRecruitmentsV2Test {
 
         @Test
-        @DisplayName("성공")
-        void findRecruitmentDetail() {
-            // given
+        @DisplayName("성공: 커서 이전에 생성된 모집글을 생성일 역순으로 조회한다.")
+        void findShelterRecruitmentsV2() {
+            //given
             Shelter shelter = ShelterFixture.shelter();
-            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            shelterRepository.save(shelter);
+            Recruitment recruitment1 = RecruitmentFixture.recruitment(shelter);
+            Recruitment recruitment2 = RecruitmentFixture.recruitment(shelter);
+            Recruitment recruitment3 = RecruitmentFixture.recruitment(shelter);
+            recruitmentRepository.saveAll(List.of(recruitment1, recruitment2, recruitment3));
+            PageRequest pageRequest = PageRequest.of(0, 1);
+
+            //when
+            Slice<FindShelterRecruitmentResult> recruitments
+                = recruitmentRepository.findShelterRecruitmentsV2(shelter.getShelterId(),
+                LocalDateTime.now().plusDays(1), Long.MAX_VALUE, pageRequest);
 
+            //then
+            assertThat(recruitments.getContent()).hasSize(1);
+            assertThat(recruitments.hasNext()).isTrue();
+            assertThat(recruitments.getContent().get(0).getRecruitmentId())
+                .isEqualTo(recruitment3.getRecruitmentId());
+        }
+    }
+
+    @Nested
+    @DisplayName("countFindShelterRecruitmentsV2 메서드 실행 시")
+    class CountFindShelterRecruitmentsV2Test {
+
+        @Test
+        @DisplayName("성공: 마감되지 않은 모집글 수를 반환한다.")
+        void countFindShelterRecruitmentsV2() {
+            //given
+            Shelter shelter = ShelterFixture.shelter();
             shelterRepository.save(shelter);
-            recruitmentRepository.save(recruitment);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            Recruitment closedRecruitment = RecruitmentFixture.recruitment(shelter);
+            closedRecruitment.closeRecruitment();
+            recruitmentRepository.saveAll(List.of(recruitment, closedRecruitment));
 
-            // when
-            Optional<Recruitment> found = recruitmentRepository.findRecruitmentDetail(
-                recruitment.getRecruitmentId());
+            //when
+            long count = recruitmentRepository.countFindShelterRecruitmentsV2(
+                shelter.getShelterId());
 
-            // then
-            assertThat(found.get().getShelter().getShelterId()).isEqualTo(shelter.getShelterId());
+            //then
+            assertThat(count).isEqualTo(1);
         }
     }
 
     @Nested
-    @DisplayName("findRecruitmentByStartTime 메서드 실행 시")
-    class FindRecruitmentByStartTimeTest {
+    @DisplayName("findRecruitmentDetail 메서드 실행 시")
+    class FindRecruitmentDetailTest {
 
         @Test
         @DisplayName("성공")
-        void findRecruitmentByStartTime() {
+        void findRecruitmentDetail() {
             // given
             Shelter shelter = ShelterFixture.shelter();
-            Volunteer volunteer1 = VolunteerFixture.volunteer();
-            Volunteer volunteer2 = VolunteerFixture.volunteer();
-            Recruitment recruitment1 = new Recruitment(
-                shelter,
-                "a",
-                10,
-                "d",
-                LocalDateTime.now().plusDays(2).with(LocalTime.of(8, 0)),
-                LocalDateTime.now().plusDays(2).with(LocalTime.of(12, 0)),
-                LocalDateTime.now().plusDays(1),
-                List.of()
-            );
-            Applicant applicant1 = ApplicantFixture.applicant(recruitment1, volunteer1);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
 
-            Recruitment recruitment2 = new Recruitment(
-                shelter,
-                "ab",
-                10,
-                "de",
-                LocalDateTime.now().plusDays(3),
-                LocalDateTime.now().plusDays(3).plusHours(3),
-                LocalDateTime.now().plusDays(1),
-                List.of()
-            );
-            Applicant applicant2 = ApplicantFixture.applicant(recruitment2, volunteer2);
             shelterRepository.save(shelter);
-            volunteerRepository.saveAll(List.of(volunteer1, volunteer2));
-            recruitmentRepository.saveAll(List.of(recruitment1, recruitment2));
-            applicantRepository.saveAll(List.of(applicant1, applicant2));
-            LocalDateTime time1 = LocalDateTime.now().plusDays(2).with(LocalTime.of(0, 1));
-            LocalDateTime time2 = LocalDateTime.now().plusDays(2).with(LocalTime.of(23, 59));
+            recruitmentRepository.save(recruitment);
 
             // when
-            List<Recruitment> recruitments = recruitmentRepository.findRecruitmentsByStartTime(
-                time1, time2);
+            Optional<Recruitment> found = recruitmentRepository.findRecruitmentDetail(
+                recruitment.getRecruitmentId());
 
             // then
-            assertThat(recruitments).hasSize(1);
-            assertThat(recruitments.get(0)).isEqualTo(recruitment1);
+            assertThat(found.get().getShelter().getShelterId()).isEqualTo(shelter.getShelterId());
         }
     }
 
     @Nested
-    @DisplayName("findRecruitmentsByEndTime 메서드 실행 시")
-    class FindRecruitmentsByEndTimeTest {
+    @DisplayName("findByIdWithApplicants 메서드 실행 시")
+    class FindByIdWithApplicantsTest {
 
         @Test
-        @DisplayName("성공")
-        void findRecruitmentsByEndTime() {
+        @DisplayName("성공: 봉사 모집글을 신청자와 함께 조회한다")
+        void findByIdWithApplicants() {
             // given
             Shelter shelter = ShelterFixture.shelter();
             Volunteer volunteer1 = VolunteerFixture.volunteer();
             Volunteer volunteer2 = VolunteerFixture.volunteer();
-            Recruitment recruitment1 = new Recruitment(
-                shelter,
-                "a",
-                10,
-                "d",
-                LocalDateTime.now().plusDays(2).with(LocalTime.of(8, 0)),
-                LocalDateTime.now().plusDays(2).with(LocalTime.of(12, 0)),
-                LocalDateTime.now().plusDays(1),
-                List.of()
-            );
-            Applicant applicant1 = ApplicantFixture.applicant(recruitment1, volunteer1);
-
-            Recruitment recruitment2 = new Recruitment(
-                shelter,
-                "ab",
-                10,
-                "de",
-                LocalDateTime.now().plusDays(3),
-                LocalDateTime.now().plusDays(3).plusHours(3),
-                LocalDateTime.now().plusDays(1),
-                List.of()
-            );
-            Applicant applicant2 = ApplicantFixture.applicant(recruitment2, volunteer2);
+            Recruitment recruitment = RecruitmentFixture.recruitment(shelter);
+            Applicant applicant1 = ApplicantFixture.applicant(recruitment, volunteer1);
+            Applicant applicant2 = ApplicantFixture.applicant(recruitment, volunteer2);
             shelterRepository.save(shelter);
             volunteerRepository.saveAll(List.of(volunteer1, volunteer2));
-            recruitmentRepository.saveAll(List.of(recruitment1, recruitment2));
+            recruitmentRepository.save(recruitment);
             applicantRepository.saveAll(List.of(applicant1, applicant2));
-            LocalDateTime time1 = LocalDateTime.now().plusDays(2).withHour(12).withMinute(0)
-                .withSecond(0).withNano(0);
-            LocalDateTime time2 = LocalDateTime.now().plusDays(2).withHour(12).withMinute(59)
-                .withSecond(59)
-                .withNano(999_999_999);
+            entityManager.flush();
+            entityManager.clear();
 
             // when
-            List<Recruitment> recruitments = recruitmentRepository.findRecruitmentsByEndTime(time1,
-                time2);
+            Optional<Recruitment> found = recruitmentRepository.findByIdWithApplicants(
+                recruitment.getRecruitmentId());
 
             // then
-            assertThat(recruitments).hasSize(1);
-            assertThat(recruitments.get(0)).isEqualTo(recruitment1);
+            assertThat(found).isPresent();
+            assertThat(found.get().getApplicants()).hasSize(2);
         }
     }
 
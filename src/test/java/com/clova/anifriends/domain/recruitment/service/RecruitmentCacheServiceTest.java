@@ -6,11 +6,13 @@ import static org.mockito.BDDMockito.then;
 import static org.mockito.Mockito.times;
 
 import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCalendarCacheRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRedisRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import java.time.YearMonth;
 import java.util.List;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -34,6 +36,9 @@ class RecruitmentCacheServiceTest {
     @Mock
     RecruitmentRedisRepository recruitmentRedisRepository;
 
+    @Mock
+    RecruitmentCalendarCacheRepository recruitmentCalendarCacheRepository;
+
     @Nested
     @DisplayName("synchronizeCache 메서드 실행 시")
     class SynchronizeCacheTest {
@@ -61,4 +66,21 @@ class RecruitmentCacheServiceTest {
 
         }
     }
-}
\ No newline at end of file
+
+    @Nested
+    @DisplayName("synchronizeRecruitmentCalendar 메서드 실행 시")
+    class SynchronizeRecruitmentCalendarTest {
+
+        @Test
+        @DisplayName("성공: 지난 달부터 6개월 뒤까지 동기화한다.")
+        void synchronizeRecruitmentCalendar() {
+            //given
+            //when
+            recruitmentCacheService.synchronizeRecruitmentCalendar();
+
+            //then
+            then(recruitmentCalendarCacheRepository).should(times(8))
+                .synchronizeMonth(any(YearMonth.class));
+        }
+    }
+}
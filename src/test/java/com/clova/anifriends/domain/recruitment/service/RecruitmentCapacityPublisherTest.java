@@ -0,0 +1,103 @@
+package com.clova.anifriends.domain.recruitment.service;
+
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import java.time.Duration;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.core.RedisTemplate;
+
+class RecruitmentCapacityPublisherTest {
+
+    RedisTemplate<String, Object> redisTemplate;
+    RecruitmentCapacityPublisher recruitmentCapacityPublisher;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        recruitmentCapacityPublisher = new RecruitmentCapacityPublisher(redisTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        recruitmentCapacityPublisher.shutdown();
+    }
+
+    @Nested
+    @DisplayName("publish 메서드 실행 시")
+    class PublishTest {
+
+        @Test
+        @DisplayName("성공: 같은 봉사 모집글의 연속된 변경은 마지막 상태만 발행한다.")
+        void publishLatestCapacity() {
+            //given
+            RecruitmentCapacityResponse first = new RecruitmentCapacityResponse(1L, 1, 10, false,
+                1L);
+            RecruitmentCapacityResponse second = new RecruitmentCapacityResponse(1L, 2, 10, false,
+                2L);
+            RecruitmentCapacityResponse last = new RecruitmentCapacityResponse(1L, 3, 10, false,
+                3L);
+
+            //when
+            recruitmentCapacityPublisher.publish(first);
+            recruitmentCapacityPublisher.publish(second);
+            recruitmentCapacityPublisher.publish(last);
+
+            //then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                then(redisTemplate).should().convertAndSend("/sub/recruitments/1", last));
+            then(redisTemplate).should(times(1)).convertAndSend(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 이전 버전의 변경이 늦게 도착해도 가장 높은 버전을 발행한다.")
+        void publishHighestCapacityVersion() {
+            //given
+            RecruitmentCapacityResponse latest = new RecruitmentCapacityResponse(1L, 2, 10, false,
+                2L);
+            RecruitmentCapacityResponse stale = new RecruitmentCapacityResponse(1L, 1, 10, false,
+                1L);
+
+            //when
+            recruitmentCapacityPublisher.publish(latest);
+            recruitmentCapacityPublisher.publish(stale);
+
+            //then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() ->
+                then(redisTemplate).should().convertAndSend("/sub/recruitments/1", latest));
+            then(redisTemplate).should(times(1)).convertAndSend(anyString(), any());
+        }
+
+        @Test
+        @DisplayName("성공: 서로 다른 봉사 모집글의 변경은 각각 발행한다.")
+        void publishEachRecruitment() {
+            //given
+            RecruitmentCapacityResponse recruitment1 = new RecruitmentCapacityResponse(1L, 1, 10,
+                false, 1L);
+            RecruitmentCapacityResponse recruitment2 = new RecruitmentCapacityResponse(2L, 10, 10,
+                true, 1L);
+
+            //when
+            recruitmentCapacityPublisher.publish(recruitment1);
+            recruitmentCapacityPublisher.publish(recruitment2);
+
+            //then
+            await().atMost(Duration.ofSeconds(2)).untilAsserted(() -> {
+                then(redisTemplate).should()
+                    .convertAndSend("/sub/recruitments/1", recruitment1);
+                then(redisTemplate).should()
+                    .convertAndSend("/sub/recruitments/2", recruitment2);
+            });
+        }
+    }
+}
@@ -11,8 +11,10 @@ import static org.assertj.core.api.Assertions.catchException;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -20,26 +22,46 @@ import static org.springframework.test.util.ReflectionTestUtils.setField;
 
 import com.clova.anifriends.domain.common.PageInfo;
 import com.clova.anifriends.domain.common.event.ImageDeletionEvent;
+import com.clova.anifriends.domain.notification.repository.ReminderJobRepository;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.recruitment.dto.request.RecruitmentStatusFilter;
 import com.clova.anifriends.domain.recruitment.dto.response.FindCompletedRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentCalendarResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentDetailResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsByShelterResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindRecruitmentsResponse.FindRecruitmentResponse;
 import com.clova.anifriends.domain.recruitment.dto.response.FindShelterRecruitmentsResponse;
+import com.clova.anifriends.domain.recruitment.dto.response.RecruitmentCapacityResponse;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCalendarChangedEvent;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentCapacityChangedEvent;
+import com.clova.anifriends.domain.recruitment.event.RecruitmentDetailEvictionEvent;
+import com.clova.anifriends.domain.recruitment.exception.RecruitmentBadRequestException;
 import com.clova.anifriends.domain.recruitment.exception.RecruitmentNotFoundException;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentCalendarCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentDetailCacheRepository;
 import com.clova.anifriends.domain.recruitment.repository.RecruitmentRepository;
+import com.clova.anifriends.domain.recruitment.repository.RecruitmentSearchCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.ShelterRecruitmentCountCacheRepository;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentCapacityResult;
+import com.clova.anifriends.domain.recruitment.repository.response.FindRecruitmentToCloseResult;
+import com.clova.anifriends.domain.recruitment.repository.response.FindShelterRecruitmentResult;
 import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
+import com.clova.anifriends.domain.volunteer.repository.response.FindCompletedRecruitmentResult;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.TreeMap;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -76,6 +98,27 @@ class RecruitmentServiceTest {
     @Mock
     RecruitmentCacheService recruitmentCacheService;
 
+    @Mock
+    RecruitmentCalendarCacheRepository recruitmentCalendarCacheRepository;
+
+    @Mock
+    RecruitmentDetailCacheRepository recruitmentDetailCacheRepository;
+
+    @Mock
+    VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+
+    @Mock
+    VolunteerRepository volunteerRepository;
+
+    @Mock
+    ShelterRecruitmentCountCacheRepository shelterRecruitmentCountCacheRepository;
+
+    @Mock
+    RecruitmentSearchCacheRepository recruitmentSearchCacheRepository;
+
+    @Mock
+    ReminderJobRepository reminderJobRepository;
+
     @Nested
     @DisplayName("registerRecruitment 메서드 실행 시")
     class RegisterRecruitmentTest {
@@ -103,6 +146,7 @@ class RecruitmentServiceTest {
 
             //then
             then(recruitmentRepository).should().save(any());
+            then(reminderJobRepository).should().saveAll(any());
         }
 
         @Test
@@ -149,6 +193,90 @@ class RecruitmentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findCompletedRecruitmentsV2 메서드 실행 시")
+    class FindCompletedRecruitmentsV2Test {
+
+        @Test
+        @DisplayName("성공: 커서가 없으면 시작 시간이 가장 늦은 봉사부터 조회한다.")
+        void findCompletedRecruitmentsV2WhenFirstPage() {
+            //given
+            Long volunteerId = 1L;
+            PageRequest pageRequest = PageRequest.of(0, 1);
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            FindCompletedRecruitmentResult result = completedRecruitment(5L, startTime);
+
+            given(volunteerCompletedRecruitmentRepository.findCompletedRecruitments(
+                volunteerId, LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE,
+                pageRequest))
+                .willReturn(new SliceImpl<>(List.of(result), pageRequest, true));
+            given(volunteerCompletedRecruitmentRepository.countByVolunteerId(volunteerId))
+                .willReturn(2L);
+
+            //when
+            FindCompletedRecruitmentsResponse response
+                = recruitmentService.findCompletedRecruitmentsV2(volunteerId, null, null,
+                pageRequest);
+
+            //then
+            assertThat(response.pageInfo()).isEqualTo(PageInfo.of(2L, true));
+            assertThat(response.recruitments()).hasSize(1);
+            assertThat(response.recruitments().get(0).recruitmentId()).isEqualTo(5L);
+            assertThat(response.recruitments().get(0).shelterName()).isEqualTo("보호소");
+        }
+
+        @Test
+        @DisplayName("성공: 커서가 있으면 전체 개수를 조회하지 않는다.")
+        void findCompletedRecruitmentsV2WhenNextPage() {
+            //given
+            Long volunteerId = 1L;
+            Long recruitmentId = 5L;
+            PageRequest pageRequest = PageRequest.of(0, 1);
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            FindCompletedRecruitmentResult result = completedRecruitment(4L, startTime);
+
+            given(volunteerCompletedRecruitmentRepository.findCompletedRecruitments(
+                volunteerId, startTime, recruitmentId, pageRequest))
+                .willReturn(new SliceImpl<>(List.of(result), pageRequest, false));
+
+            //when
+            FindCompletedRecruitmentsResponse response
+                = recruitmentService.findCompletedRecruitmentsV2(volunteerId, startTime,
+                recruitmentId, pageRequest);
+
+            //then
+            assertThat(response.pageInfo()).isEqualTo(PageInfo.of(-1, false));
+            assertThat(response.recruitments()).hasSize(1);
+            then(volunteerCompletedRecruitmentRepository).should(never())
+                .countByVolunteerId(anyLong());
+        }
+
+        private FindCompletedRecruitmentResult completedRecruitment(Long recruitmentId,
+            LocalDateTime startTime) {
+            return new FindCompletedRecruitmentResult() {
+                @Override
+                public Long getRecruitmentId() {
+                    return recruitmentId;
+                }
+
+                @Override
+                public String getRecruitmentTitle() {
+                    return "봉사 모집글";
+                }
+
+                @Override
+                public LocalDateTime getRecruitmentStartTime() {
+                    return startTime;
+                }
+
+                @Override
+                public String getShelterName() {
+                    return "보호소";
+                }
+            };
+        }
+    }
+
     @Nested
     @DisplayName("findRecruitments 실행 시")
     class FindRecruitmentsTest {
@@ -339,6 +467,87 @@ class RecruitmentServiceTest {
             }
         }
 
+        @Nested
+        @DisplayName("인기 검색어로 첫 페이지를 조회하는 경우")
+        class WithPopularKeyword {
+
+            String keyword = " 산책 ";
+            String normalizedKeyword = "산책";
+            KeywordCondition keywordCondition = new KeywordCondition(true, true, true);
+            PageRequest pageRequest = PageRequest.of(0, 10);
+            long version = 3L;
+
+            @Test
+            @DisplayName("성공: 캐시된 검색 결과가 있으면 db에서 조회하지 않는다.")
+            void findRecruitmentsWhenSearchResultCached() {
+                //given
+                FindRecruitmentsResponse cachedResponse = new FindRecruitmentsResponse(
+                    List.of(FindRecruitmentResponse.from(recruitment(shelter))),
+                    PageInfo.of(1, false));
+
+                given(recruitmentSearchCacheRepository.admitKeyword(normalizedKeyword))
+                    .willReturn(true);
+                given(recruitmentSearchCacheRepository.getSearchVersion()).willReturn(version);
+                given(recruitmentSearchCacheRepository.findSearchResult(eq(version), any()))
+                    .willReturn(Optional.of(cachedResponse));
+
+                //when
+                FindRecruitmentsResponse result = recruitmentService.findRecruitmentsV2(
+                    keyword, null, null, null, keywordCondition, null, null, pageRequest);
+
+                //then
+                assertThat(result).isEqualTo(cachedResponse);
+                then(recruitmentRepository).should(times(0))
+                    .countFindRecruitmentsV2(any(), any(), any(), any(), any());
+            }
+
+            @Test
+            @DisplayName("성공: 캐시된 검색 결과가 없으면 db에서 조회하여 조회 시점의 버전으로 저장한다.")
+            void findRecruitmentsWhenSearchResultNotCached() {
+                //given
+                SliceImpl<Recruitment> recruitments = new SliceImpl<>(
+                    List.of(recruitment(shelter)));
+
+                given(recruitmentSearchCacheRepository.admitKeyword(normalizedKeyword))
+                    .willReturn(true);
+                given(recruitmentSearchCacheRepository.getSearchVersion()).willReturn(version);
+                given(recruitmentSearchCacheRepository.findSearchResult(eq(version), any()))
+                    .willReturn(Optional.empty());
+                given(recruitmentRepository.findRecruitmentsV2(normalizedKeyword, null, null,
+                    null, keywordCondition, null, null, pageRequest))
+                    .willReturn(recruitments);
+                given(recruitmentRepository.countFindRecruitmentsV2(normalizedKeyword, null, null,
+                    null, keywordCondition)).willReturn(1L);
+
+                //when
+                FindRecruitmentsResponse result = recruitmentService.findRecruitmentsV2(
+                    keyword, null, null, null, keywordCondition, null, null, pageRequest);
+
+                //then
+                then(recruitmentSearchCacheRepository).should()
+                    .saveSearchResult(eq(version), any(), eq(result));
+            }
+
+            @Test
+            @DisplayName("성공: 인기 검색어가 아니면 캐시를 조회하지 않는다.")
+            void findRecruitmentsWhenKeywordNotAdmitted() {
+                //given
+                given(recruitmentSearchCacheRepository.admitKeyword(normalizedKeyword))
+                    .willReturn(false);
+                given(recruitmentRepository.findRecruitmentsV2(normalizedKeyword, null, null,
+                    null, keywordCondition, null, null, pageRequest))
+                    .willReturn(new SliceImpl<>(List.of()));
+
+                //when
+                recruitmentService.findRecruitmentsV2(
+                    keyword, null, null, null, keywordCondition, null, null, pageRequest);
+
+                //then
+                then(recruitmentSearchCacheRepository).should(times(0))
+                    .findSearchResult(anyLong(), any());
+            }
+        }
+
         @Nested
         @DisplayName("검색 조건이 주어지지 않은 경우")
         class WithoutCondition {
@@ -437,6 +646,61 @@ class RecruitmentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findShelterRecruitmentsV2 메서드 실행 시")
+    class FindShelterRecruitmentsV2Test {
+
+        LocalDateTime createdAt = LocalDateTime.now();
+        PageRequest pageRequest = PageRequest.of(0, 10);
+        FindShelterRecruitmentResult recruitmentResult = new FindShelterRecruitmentResult(
+            3L, "모집 제목", createdAt.plusDays(3), createdAt.plusDays(3).plusHours(2),
+            createdAt.plusDays(2), false, 1, 10, createdAt.minusDays(1));
+
+        @Test
+        @DisplayName("성공: 캐시된 개수가 있으면 개수 조회 쿼리를 실행하지 않는다.")
+        void findShelterRecruitmentsV2WhenCountCached() {
+            //given
+            long shelterId = 1L;
+            given(recruitmentRepository.findShelterRecruitmentsV2(shelterId, createdAt, 4L,
+                pageRequest)).willReturn(new SliceImpl<>(List.of(recruitmentResult)));
+            given(shelterRecruitmentCountCacheRepository.getVersion(shelterId)).willReturn(2L);
+            given(shelterRecruitmentCountCacheRepository.findCount(eq(shelterId), eq(2L), any()))
+                .willReturn(Optional.of(5L));
+
+            //when
+            FindShelterRecruitmentsResponse result = recruitmentService.findShelterRecruitmentsV2(
+                shelterId, createdAt, 4L, pageRequest);
+
+            //then
+            assertThat(result.pageInfo().totalElements()).isEqualTo(5L);
+            assertThat(result.recruitments()).hasSize(1);
+            then(recruitmentRepository).should(times(0)).countFindShelterRecruitmentsV2(anyLong());
+        }
+
+        @Test
+        @DisplayName("성공: 캐시된 개수가 없으면 개수를 조회해 조회 전의 버전으로 캐시에 저장한다.")
+        void findShelterRecruitmentsV2WhenCountNotCached() {
+            //given
+            long shelterId = 1L;
+            given(recruitmentRepository.findShelterRecruitmentsV2(shelterId, createdAt, 4L,
+                pageRequest)).willReturn(new SliceImpl<>(List.of(recruitmentResult)));
+            given(shelterRecruitmentCountCacheRepository.getVersion(shelterId)).willReturn(2L);
+            given(shelterRecruitmentCountCacheRepository.findCount(eq(shelterId), eq(2L), any()))
+                .willReturn(Optional.empty());
+            given(recruitmentRepository.countFindShelterRecruitmentsV2(shelterId))
+                .willReturn(7L);
+
+            //when
+            FindShelterRecruitmentsResponse result = recruitmentService.findShelterRecruitmentsV2(
+                shelterId, createdAt, 4L, pageRequest);
+
+            //then
+            assertThat(result.pageInfo().totalElements()).isEqualTo(7L);
+            then(shelterRecruitmentCountCacheRepository).should()
+                .saveCount(eq(shelterId), eq(2L), any(), eq(7L));
+        }
+    }
+
     @Nested
     @DisplayName("findRecruitmentDetail 메서드 실행 시")
     class FindRecruitmentDetail {
@@ -460,6 +724,47 @@ class RecruitmentServiceTest {
             assertThat(result).isEqualTo(expected);
         }
 
+        @Test
+        @DisplayName("성공: 캐싱된 상세 정보가 없으면 db 조회 전의 버전으로 조회 결과를 캐싱한다.")
+        void saveRecruitmentDetailWhenNotCached() {
+            // given
+            Shelter shelter = shelter();
+            Recruitment recruitment = recruitment(shelter);
+            FindRecruitmentDetailResponse expected = findRecruitmentDetailResponse(recruitment);
+
+            given(recruitmentDetailCacheRepository.findRecruitmentDetail(1L))
+                .willReturn(Optional.empty());
+            given(recruitmentDetailCacheRepository.getVersion(1L)).willReturn(3L);
+            given(recruitmentRepository.findRecruitmentDetail(1L))
+                .willReturn(Optional.of(recruitment));
+
+            // when
+            recruitmentService.findRecruitmentDetail(1L);
+
+            // then
+            then(recruitmentDetailCacheRepository).should()
+                .saveRecruitmentDetail(1L, 3L, expected);
+        }
+
+        @Test
+        @DisplayName("성공: 캐싱된 상세 정보가 있으면 db를 조회하지 않는다.")
+        void findRecruitmentDetailWhenCached() {
+            // given
+            Shelter shelter = shelter();
+            Recruitment recruitment = recruitment(shelter);
+            FindRecruitmentDetailResponse cached = findRecruitmentDetailResponse(recruitment);
+
+            given(recruitmentDetailCacheRepository.findRecruitmentDetail(1L))
+                .willReturn(Optional.of(cached));
+
+            // when
+            FindRecruitmentDetailResponse result = recruitmentService.findRecruitmentDetail(1L);
+
+            // then
+            assertThat(result).isEqualTo(cached);
+            then(recruitmentRepository).should(times(0)).findRecruitmentDetail(anyLong());
+        }
+
         @Test
         @DisplayName("예외(RecruitmentNotFoundException): 존재하지 않는 모집글")
         void throwExceptionWhenRecruitmentIsNotExist() {
@@ -476,6 +781,48 @@ class RecruitmentServiceTest {
         }
     }
 
+    @Nested
+    @DisplayName("findRecruitmentCalendar 메서드 실행 시")
+    class FindRecruitmentCalendarTest {
+
+        @Test
+        @DisplayName("성공: 일자별 모집글 수를 일자 순으로 반환한다.")
+        void findRecruitmentCalendar() {
+            //given
+            YearMonth yearMonth = YearMonth.now();
+            Map<Integer, Long> dailyCounts = new TreeMap<>(Map.of(1, 2L, 2, 0L, 3, 5L));
+
+            given(recruitmentCalendarCacheRepository.findDailyCounts(yearMonth))
+                .willReturn(dailyCounts);
+
+            //when
+            FindRecruitmentCalendarResponse response = recruitmentService.findRecruitmentCalendar(
+                yearMonth.getYear(), yearMonth.getMonthValue());
+
+            //then
+            assertThat(response.year()).isEqualTo(yearMonth.getYear());
+            assertThat(response.month()).isEqualTo(yearMonth.getMonthValue());
+            assertThat(response.days()).extracting("day").containsExactly(1, 2, 3);
+            assertThat(response.days()).extracting("recruitmentCount")
+                .containsExactly(2L, 0L, 5L);
+        }
+
+        @Test
+        @DisplayName("예외(RecruitmentBadRequestException): 현재로부터 12개월이 넘는 달")
+        void exceptionWhenOutOfCalendarRange() {
+            //given
+            YearMonth yearMonth = YearMonth.now().plusMonths(13);
+
+            //when
+            Exception exception = catchException(() -> recruitmentService.findRecruitmentCalendar(
+                yearMonth.getYear(), yearMonth.getMonthValue()));
+
+            //then
+            assertThat(exception).isInstanceOf(RecruitmentBadRequestException.class);
+            then(recruitmentCalendarCacheRepository).shouldHaveNoInteractions();
+        }
+    }
+
     @Nested
     @DisplayName("closeRecruitment 메서드 호출 시")
     class CloseRecruitmentTest {
@@ -500,6 +847,10 @@ class RecruitmentServiceTest {
 
             //then
             assertThat(recruitment.isClosed()).isTrue();
+            then(applicationEventPublisher).should()
+                .publishEvent(RecruitmentCalendarChangedEvent.closed(recruitment.getStartTime()));
+            then(applicationEventPublisher).should()
+                .publishEvent(RecruitmentDetailEvictionEvent.of(1L));
         }
 
         @Test
@@ -596,6 +947,8 @@ class RecruitmentServiceTest {
             assertThat(recruitment.getCapacity()).isEqualTo(newCapacity);
             assertThat(recruitment.getContent()).isEqualTo(newContent);
             assertThat(recruitment.getImages()).containsExactlyElementsOf(newImageUrls);
+            then(reminderJobRepository).should().deleteByRecruitmentId(any());
+            then(reminderJobRepository).should().saveAll(any());
         }
 
         @Test
@@ -692,6 +1045,7 @@ class RecruitmentServiceTest {
 
             //then
             then(recruitmentRepository).should().delete(any(Recruitment.class));
+            then(reminderJobRepository).should().deleteByRecruitmentId(1L);
         }
 
         @Test
@@ -725,5 +1079,118 @@ class RecruitmentServiceTest {
             then(recruitmentRepository).should().closeRecruitmentsIfNeedToBe();
             then(recruitmentCacheRepository).should().closeRecruitmentsIfNeedToBe();
         }
+
+        @Test
+        @DisplayName("성공: 마감되는 봉사 모집글의 시작일 카운트 감소 이벤트를 발행한다.")
+        void decreaseCalendarDailyCount() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            given(recruitmentRepository.findRecruitmentsToClose())
+                .willReturn(List.of(recruitmentToClose(1L, startTime),
+                    recruitmentToClose(2L, startTime)));
+
+            //when
+            recruitmentService.autoCloseRecruitment();
+
+            //then
+            then(applicationEventPublisher).should().publishEvent(
+                new RecruitmentCalendarChangedEvent(List.of(), List.of(startTime, startTime)));
+        }
+
+        @Test
+        @DisplayName("성공: 마감되는 봉사 모집글의 상세 캐시 제거 이벤트를 발행한다.")
+        void publishRecruitmentDetailEvictionEvent() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            given(recruitmentRepository.findRecruitmentsToClose())
+                .willReturn(List.of(recruitmentToClose(1L, startTime),
+                    recruitmentToClose(2L, startTime)));
+
+            //when
+            recruitmentService.autoCloseRecruitment();
+
+            //then
+            then(applicationEventPublisher).should()
+                .publishEvent(new RecruitmentDetailEvictionEvent(List.of(1L, 2L)));
+        }
+
+        @Test
+        @DisplayName("성공: 마감되는 봉사 모집글의 정원 변경 이벤트를 발행한다.")
+        void publishRecruitmentCapacityChangedEvent() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(1);
+            given(recruitmentRepository.findRecruitmentsToClose())
+                .willReturn(List.of(recruitmentToClose(1L, startTime)));
+            given(recruitmentRepository.findCapacitiesByRecruitmentIds(List.of(1L)))
+                .willReturn(List.of(closedCapacity(1L, 4L)));
+
+            //when
+            recruitmentService.autoCloseRecruitment();
+
+            //then
+            then(applicationEventPublisher).should()
+                .publishEvent(new RecruitmentCapacityChangedEvent(
+                    List.of(new RecruitmentCapacityResponse(1L, 3, 10, true, 4L))));
+        }
+
+        private FindRecruitmentCapacityResult closedCapacity(Long recruitmentId,
+            long capacityVersion) {
+            return new FindRecruitmentCapacityResult() {
+                @Override
+                public Long getRecruitmentId() {
+                    return recruitmentId;
+                }
+
+                @Override
+                public int getApplicantCount() {
+                    return 3;
+                }
+
+                @Override
+                public int getCapacity() {
+                    return 10;
+                }
+
+                @Override
+                public boolean isClosed() {
+                    return true;
+                }
+
+                @Override
+                public long getCapacityVersion() {
+                    return capacityVersion;
+                }
+            };
+        }
+
+        private FindRecruitmentToCloseResult recruitmentToClose(Long recruitmentId,
+            LocalDateTime startTime) {
+            return new FindRecruitmentToCloseResult() {
+                @Override
+                public Long getRecruitmentId() {
+                    return recruitmentId;
+                }
+
+                @Override
+                public Long getShelterId() {
+                    return 1L;
+                }
+
+                @Override
+                public LocalDateTime getStartTime() {
+                    return startTime;
+                }
+
+                @Override
+                public int getApplicantCount() {
+                    return 3;
+                }
+
+                @Override
+                public int getCapacity() {
+                    return 10;
+                }
+            };
+        }
     }
 }
@@ -23,8 +23,11 @@ import com.clova.anifriends.domain.applicant.repository.ApplicantRepository;
 import com.clova.anifriends.domain.applicant.support.ApplicantFixture;
 import com.clova.anifriends.domain.common.event.ImageDeletionEvent;
 import com.clova.anifriends.domain.common.util.EmailMasker;
-import com.clova.anifriends.domain.notification.ShelterNotification;
-import com.clova.anifriends.domain.notification.repository.ShelterNotificationRepository;
+import com.clova.anifriends.domain.notification.NotificationOutbox;
+import com.clova.anifriends.domain.notification.event.NotificationOutboxSavedEvent;
+import com.clova.anifriends.domain.notification.repository.NotificationOutboxRepository;
+import com.clova.anifriends.domain.notification.vo.NotificationType;
+import com.clova.anifriends.domain.notification.vo.PushReceiverType;
 import com.clova.anifriends.domain.recruitment.Recruitment;
 import com.clova.anifriends.domain.review.Review;
 import com.clova.anifriends.domain.review.dto.response.FindReviewResponse;
@@ -41,7 +44,6 @@ import com.clova.anifriends.domain.review.support.ReviewFixture;
 import com.clova.anifriends.domain.shelter.Shelter;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.volunteer.Volunteer;
-import com.clova.anifriends.domain.volunteer.exception.VolunteerNotFoundException;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerTemperature;
 import java.time.LocalDateTime;
@@ -52,6 +54,7 @@ import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -77,7 +80,7 @@ class ReviewServiceTest {
     private ApplicationEventPublisher applicationEventPublisher;
 
     @Mock
-    private ShelterNotificationRepository shelterNotificationRepository;
+    private NotificationOutboxRepository notificationOutboxRepository;
 
     @Mock
     ShelterRepository shelterRepository;
@@ -137,6 +140,7 @@ class ReviewServiceTest {
         @BeforeEach
         void setUp() {
             shelter = shelter();
+            ReflectionTestUtils.setField(shelter, "shelterId", 1L);
             volunteer = volunteer();
         }
 
@@ -154,18 +158,23 @@ class ReviewServiceTest {
 
             // then
             verify(reviewRepository, times(1)).save(any(Review.class));
-            verify(shelterNotificationRepository, times(1)).save(any(ShelterNotification.class));
+            ArgumentCaptor<NotificationOutbox> notificationOutboxCaptor = ArgumentCaptor.forClass(
+                NotificationOutbox.class);
+            verify(notificationOutboxRepository, times(1)).save(notificationOutboxCaptor.capture());
+            NotificationOutbox notificationOutbox = notificationOutboxCaptor.getValue();
+            assertThat(notificationOutbox.getReceiverType()).isEqualTo(PushReceiverType.SHELTER);
+            assertThat(notificationOutbox.getReceiverId()).isEqualTo(1L);
+            assertThat(notificationOutbox.getType()).isEqualTo(NotificationType.NEW_SHELTER_REVIEW);
+            verify(applicationEventPublisher, times(1))
+                .publishEvent(any(NotificationOutboxSavedEvent.class));
         }
 
 
         @Test
-        @DisplayName("성공: 봉사자의 리뷰 개수, 온도가 증가")
+        @DisplayName("성공: 봉사자의 리뷰 개수, 온도를 하나의 쿼리로 증가")
         void registerReviewThenIncreaseVolunteerReviewCount() {
             //given
-            int originTemperature = 36;
             int reviewBonusTemperature = 3;
-            ReflectionTestUtils.setField(volunteer, "temperature",
-                new VolunteerTemperature(originTemperature));
             Recruitment recruitment = recruitment(shelter);
             Applicant applicant = applicant(recruitment, volunteer, ATTENDANCE);
 
@@ -176,9 +185,9 @@ class ReviewServiceTest {
             reviewService.registerReview(1L, 1L, "a".repeat(10), null);
 
             //then
-            assertThat(volunteer.getTemperature())
-                .isEqualTo(originTemperature + reviewBonusTemperature);
-            assertThat(volunteer.getReviewCount()).isEqualTo(1);
+            then(volunteerRepository).should().increaseReviewCountAndTemperature(1L,
+                reviewBonusTemperature, VolunteerTemperature.MAX_VOLUNTEER_TEMPERATURE);
+            assertThat(volunteer.getReviewCount()).isZero();
         }
 
         @Test
@@ -415,7 +424,6 @@ class ReviewServiceTest {
             Applicant applicant = applicant(recruitment, volunteer, ATTENDANCE);
             Review review = review(applicant);
 
-            given(volunteerRepository.findById(anyLong())).willReturn(Optional.of(volunteer));
             given(reviewRepository.findByReviewIdAndVolunteerId(anyLong(), anyLong()))
                 .willReturn(Optional.of(review));
 
@@ -424,13 +432,13 @@ class ReviewServiceTest {
 
             //then
             then(reviewRepository).should().delete(any(Review.class));
+            then(volunteerRepository).should().decreaseReviewCount(1L);
         }
 
         @Test
         @DisplayName("예외(ReviewNotFoundException): 존재하지 않는 봉사 후기")
         void exceptionWhenReviewNotFound() {
             //given
-            given(volunteerRepository.findById(anyLong())).willReturn(Optional.of(volunteer));
             given(reviewRepository.findByReviewIdAndVolunteerId(anyLong(), anyLong()))
                 .willReturn(Optional.empty());
 
@@ -440,18 +448,5 @@ class ReviewServiceTest {
             //then
             assertThat(exception).isInstanceOf(ReviewNotFoundException.class);
         }
-
-        @Test
-        @DisplayName("예외(VolunteerNotFoundException): 존재하지 않는 봉사자")
-        void exceptionWhenVolunteerNotFound() {
-            //given
-            given(volunteerRepository.findById(anyLong())).willReturn(Optional.empty());
-
-            //when
-            Exception exception = catchException(() -> reviewService.deleteReview(1L, 1L));
-
-            //then
-            assertThat(exception).isInstanceOf(VolunteerNotFoundException.class);
-        }
     }
 }
@@ -21,6 +21,7 @@ import com.clova.anifriends.domain.shelter.dto.response.CheckDuplicateShelterRes
 import com.clova.anifriends.domain.shelter.dto.response.FindShelterDetailResponse;
 import com.clova.anifriends.domain.shelter.dto.response.FindShelterMyPageResponse;
 import com.clova.anifriends.domain.shelter.dto.response.FindShelterSimpleResponse;
+import com.clova.anifriends.domain.shelter.event.ShelterProfileUpdatedEvent;
 import com.clova.anifriends.domain.shelter.exception.ShelterNotFoundException;
 import com.clova.anifriends.domain.shelter.repository.ShelterRepository;
 import com.clova.anifriends.domain.shelter.support.ShelterFixture;
@@ -314,7 +315,9 @@ class ShelterServiceTest {
                 newAddressDetail, newPhoneNumber, newSparePhoneNumber, newIsOpenedAddress);
 
             // then
-            verify(applicationEventPublisher, times(0)).publishEvent(any());
+            verify(applicationEventPublisher, times(0)).publishEvent(any(ImageDeletionEvent.class));
+            verify(applicationEventPublisher, times(1)).publishEvent(
+                new ShelterProfileUpdatedEvent(null, newName, newAddress, newImageUrl));
 
             assertSoftly(softAssertions -> {
                 softAssertions.assertThat(shelter.getName()).isEqualTo(newName);
@@ -416,7 +419,7 @@ class ShelterServiceTest {
             ));
 
             // then
-            verify(applicationEventPublisher, times(0)).publishEvent(any());
+            verify(applicationEventPublisher, times(0)).publishEvent(any(ImageDeletionEvent.class));
             assertThat(exception).isNull();
         }
 
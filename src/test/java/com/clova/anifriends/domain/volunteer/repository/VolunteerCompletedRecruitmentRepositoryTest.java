@@ -0,0 +1,149 @@
+package com.clova.anifriends.domain.volunteer.repository;
+
+import static com.clova.anifriends.domain.applicant.vo.ApplicantStatus.ATTENDANCE;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.util.ReflectionTestUtils.setField;
+
+import com.clova.anifriends.base.BaseRepositoryTest;
+import com.clova.anifriends.domain.applicant.Applicant;
+import com.clova.anifriends.domain.recruitment.Recruitment;
+import com.clova.anifriends.domain.recruitment.support.fixture.RecruitmentFixture;
+import com.clova.anifriends.domain.shelter.Shelter;
+import com.clova.anifriends.domain.shelter.support.ShelterFixture;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.VolunteerCompletedRecruitment;
+import com.clova.anifriends.domain.volunteer.repository.response.FindCompletedRecruitmentResult;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+
+class VolunteerCompletedRecruitmentRepositoryTest extends BaseRepositoryTest {
+
+    Shelter shelter;
+    Volunteer volunteer;
+    List<Recruitment> recruitments;
+
+    @BeforeEach
+    void setUp() {
+        shelter = ShelterFixture.shelter();
+        volunteer = VolunteerFixture.volunteer();
+        recruitments = RecruitmentFixture.recruitments(shelter, 3);
+        entityManager.persist(shelter);
+        entityManager.persist(volunteer);
+        recruitments.forEach(entityManager::persist);
+    }
+
+    @Nested
+    @DisplayName("findCompletedRecruitments 메서드 실행 시")
+    class FindCompletedRecruitmentsTest {
+
+        @Test
+        @DisplayName("성공: 커서보다 이전에 시작한 봉사를 시작 시간 내림차순으로 조회한다.")
+        void findCompletedRecruitments() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(10);
+            recruitments.forEach(recruitment -> volunteerCompletedRecruitmentRepository.save(
+                new VolunteerCompletedRecruitment(volunteer.getVolunteerId(),
+                    recruitment.getRecruitmentId(), shelter.getShelterId(), startTime)));
+            Recruitment last = recruitments.get(2);
+            Recruitment middle = recruitments.get(1);
+            PageRequest pageRequest = PageRequest.of(0, 10);
+
+            //when
+            Slice<FindCompletedRecruitmentResult> result = volunteerCompletedRecruitmentRepository
+                .findCompletedRecruitments(volunteer.getVolunteerId(), startTime,
+                    last.getRecruitmentId(), pageRequest);
+
+            //then
+            assertThat(result.getContent()).hasSize(2);
+            FindCompletedRecruitmentResult first = result.getContent().get(0);
+            assertThat(first.getRecruitmentId()).isEqualTo(middle.getRecruitmentId());
+            assertThat(first.getRecruitmentTitle()).isEqualTo(middle.getTitle());
+            assertThat(first.getShelterName()).isEqualTo(shelter.getName());
+        }
+
+        @Test
+        @DisplayName("성공: 최대 커서로 조회하면 아직 시작하지 않은 봉사도 조회한다.")
+        void findCompletedRecruitmentsWithoutCursor() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().plusDays(10);
+            recruitments.forEach(recruitment -> volunteerCompletedRecruitmentRepository.save(
+                new VolunteerCompletedRecruitment(volunteer.getVolunteerId(),
+                    recruitment.getRecruitmentId(), shelter.getShelterId(), startTime)));
+            PageRequest pageRequest = PageRequest.of(0, 10);
+
+            //when
+            Slice<FindCompletedRecruitmentResult> result = volunteerCompletedRecruitmentRepository
+                .findCompletedRecruitments(volunteer.getVolunteerId(),
+                    LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE, pageRequest);
+
+            //then
+            assertThat(result.getContent()).hasSize(3);
+        }
+    }
+
+    @Nested
+    @DisplayName("insertCompletedRecruitments 메서드 실행 시")
+    class InsertCompletedRecruitmentsTest {
+
+        @Test
+        @DisplayName("성공: 기준 시각 전에 시작한 봉사만 완료한 봉사 수에 반영된 것으로 추가한다.")
+        void insertCompletedRecruitments() {
+            //given
+            Recruitment started = recruitments.get(0);
+            Recruitment notStarted = recruitments.get(1);
+            List.of(started, notStarted).forEach(recruitment -> {
+                Applicant applicant = new Applicant(recruitment, volunteer);
+                setField(applicant, "status", ATTENDANCE);
+                entityManager.persist(applicant);
+            });
+            List<Long> volunteerIds = List.of(volunteer.getVolunteerId());
+
+            //when
+            volunteerCompletedRecruitmentRepository.insertCompletedRecruitments(
+                started.getRecruitmentId(), volunteerIds, started.getStartTime().plusMinutes(1));
+            volunteerCompletedRecruitmentRepository.insertCompletedRecruitments(
+                notStarted.getRecruitmentId(), volunteerIds, notStarted.getStartTime());
+            entityManager.clear();
+
+            //then
+            List<VolunteerCompletedRecruitment> completedRecruitments =
+                volunteerCompletedRecruitmentRepository.findAll();
+            assertThat(completedRecruitments).hasSize(2);
+            assertThat(completedRecruitments).allSatisfy(completedRecruitment ->
+                assertThat(completedRecruitment.isCounted()).isEqualTo(
+                    completedRecruitment.getRecruitmentId().equals(started.getRecruitmentId())));
+        }
+    }
+
+    @Nested
+    @DisplayName("insertMissingCompletedRecruitments 메서드 실행 시")
+    class InsertMissingCompletedRecruitmentsTest {
+
+        @Test
+        @DisplayName("성공: 참여 확정된 신청 중 프로젝션에 없는 신청만 추가한다.")
+        void insertMissingCompletedRecruitments() {
+            //given
+            Recruitment recruitment = recruitments.get(0);
+            Applicant applicant = new Applicant(recruitment, volunteer);
+            setField(applicant, "status", ATTENDANCE);
+            entityManager.persist(applicant);
+
+            //when
+            int firstInserted = volunteerCompletedRecruitmentRepository
+                .insertMissingCompletedRecruitments();
+            int secondInserted = volunteerCompletedRecruitmentRepository
+                .insertMissingCompletedRecruitments();
+
+            //then
+            assertThat(firstInserted).isEqualTo(1);
+            assertThat(secondInserted).isZero();
+        }
+    }
+}
@@ -0,0 +1,173 @@
+package com.clova.anifriends.domain.volunteer.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseRepositoryTest;
+import com.clova.anifriends.domain.volunteer.Volunteer;
+import com.clova.anifriends.domain.volunteer.VolunteerCompletedRecruitment;
+import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerTemperature;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+
+class VolunteerRepositoryTest extends BaseRepositoryTest {
+
+    Volunteer volunteer;
+
+    @BeforeEach
+    void setUp() {
+        volunteer = VolunteerFixture.volunteer();
+        volunteerRepository.save(volunteer);
+    }
+
+    @Nested
+    @DisplayName("increaseCompletedCount, decreaseCompletedCount 메서드 실행 시")
+    class UpdateCompletedCountTest {
+
+        @Test
+        @DisplayName("성공: 완료한 봉사 수를 증감하며 0 아래로 내려가지 않는다.")
+        void updateCompletedCount() {
+            //given
+            List<Long> volunteerIds = List.of(volunteer.getVolunteerId());
+            volunteerCompletedRecruitmentRepository.save(new VolunteerCompletedRecruitment(
+                volunteer.getVolunteerId(), 1L, 1L, LocalDateTime.now().minusDays(1), true));
+
+            //when
+            volunteerRepository.increaseCompletedCount(volunteerIds);
+            volunteerRepository.decreaseCompletedCount(1L, volunteerIds);
+            volunteerRepository.decreaseCompletedCount(1L, volunteerIds);
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteer.getVolunteerId())
+                .orElseThrow();
+            assertThat(findVolunteer.getCompletedCount()).isZero();
+        }
+
+        @Test
+        @DisplayName("성공: 완료한 봉사 수에 반영되지 않은 봉사는 감소시키지 않는다.")
+        void decreaseCompletedCountWhenNotCounted() {
+            //given
+            List<Long> volunteerIds = List.of(volunteer.getVolunteerId());
+            volunteerCompletedRecruitmentRepository.save(new VolunteerCompletedRecruitment(
+                volunteer.getVolunteerId(), 1L, 1L, LocalDateTime.now().plusDays(1)));
+            volunteerRepository.increaseCompletedCount(volunteerIds);
+
+            //when
+            volunteerRepository.decreaseCompletedCount(1L, volunteerIds);
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteer.getVolunteerId())
+                .orElseThrow();
+            assertThat(findVolunteer.getCompletedCount()).isEqualTo(1);
+        }
+    }
+
+    @Nested
+    @DisplayName("increaseCompletedCountByCompletedRecruitmentIds 메서드 실행 시")
+    class IncreaseCompletedCountByCompletedRecruitmentIdsTest {
+
+        @Test
+        @DisplayName("성공: 완료한 봉사 수에 반영되지 않은 행만큼 완료한 봉사 수를 증가시킨다.")
+        void increaseCompletedCountByCompletedRecruitmentIds() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().minusDays(1);
+            List<VolunteerCompletedRecruitment> completedRecruitments =
+                volunteerCompletedRecruitmentRepository.saveAll(List.of(
+                    new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 1L, 1L,
+                        startTime),
+                    new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 2L, 1L,
+                        startTime),
+                    new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 3L, 1L,
+                        startTime, true)));
+            List<Long> completedRecruitmentIds = completedRecruitments.stream()
+                .map(VolunteerCompletedRecruitment::getVolunteerCompletedRecruitmentId)
+                .toList();
+
+            //when
+            volunteerRepository.increaseCompletedCountByCompletedRecruitmentIds(
+                completedRecruitmentIds);
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteer.getVolunteerId())
+                .orElseThrow();
+            assertThat(findVolunteer.getCompletedCount()).isEqualTo(2);
+        }
+    }
+
+    @Nested
+    @DisplayName("synchronizeCompletedCounts 메서드 실행 시")
+    class SynchronizeCompletedCountsTest {
+
+        @Test
+        @DisplayName("성공: 완료한 봉사 수에 반영된 프로젝션의 개수로 완료한 봉사 수를 초기화한다.")
+        void synchronizeCompletedCounts() {
+            //given
+            LocalDateTime startTime = LocalDateTime.now().minusDays(1);
+            volunteerCompletedRecruitmentRepository.saveAll(List.of(
+                new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 1L, 1L, startTime,
+                    true),
+                new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 2L, 1L, startTime,
+                    true),
+                new VolunteerCompletedRecruitment(volunteer.getVolunteerId(), 3L, 1L,
+                    LocalDateTime.now().plusDays(1))));
+
+            //when
+            int firstUpdated = volunteerRepository.synchronizeCompletedCounts();
+            int secondUpdated = volunteerRepository.synchronizeCompletedCounts();
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteer.getVolunteerId())
+                .orElseThrow();
+            assertThat(findVolunteer.getCompletedCount()).isEqualTo(2);
+            assertThat(firstUpdated).isEqualTo(1);
+            assertThat(secondUpdated).isZero();
+        }
+    }
+
+    @Nested
+    @DisplayName("increaseReviewCountAndTemperature, decreaseReviewCount 메서드 실행 시")
+    class UpdateReviewCountTest {
+
+        @Test
+        @DisplayName("성공: 후기 수와 체온을 함께 증가시키며 체온은 최대값을 넘지 않는다.")
+        void increaseReviewCountAndTemperature() {
+            //given
+            Long volunteerId = volunteer.getVolunteerId();
+            int maxTemperature = VolunteerTemperature.MAX_VOLUNTEER_TEMPERATURE;
+
+            //when
+            volunteerRepository.increaseReviewCountAndTemperature(volunteerId, 50, maxTemperature);
+            volunteerRepository.increaseReviewCountAndTemperature(volunteerId, 50, maxTemperature);
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteerId).orElseThrow();
+            assertThat(findVolunteer.getReviewCount()).isEqualTo(2);
+            assertThat(findVolunteer.getTemperature()).isEqualTo(maxTemperature);
+        }
+
+        @Test
+        @DisplayName("성공: 후기 수는 0 아래로 내려가지 않는다.")
+        void decreaseReviewCount() {
+            //given
+            Long volunteerId = volunteer.getVolunteerId();
+
+            //when
+            int updated = volunteerRepository.decreaseReviewCount(volunteerId);
+            entityManager.clear();
+
+            //then
+            Volunteer findVolunteer = volunteerRepository.findById(volunteerId).orElseThrow();
+            assertThat(updated).isZero();
+            assertThat(findVolunteer.getReviewCount()).isZero();
+        }
+    }
+}
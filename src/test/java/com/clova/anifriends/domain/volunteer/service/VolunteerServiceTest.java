@@ -7,6 +7,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.BDDMockito.then;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
@@ -21,23 +22,28 @@ import com.clova.anifriends.domain.volunteer.dto.request.RegisterVolunteerReques
 import com.clova.anifriends.domain.volunteer.dto.response.CheckDuplicateVolunteerEmailResponse;
 import com.clova.anifriends.domain.volunteer.dto.response.FindVolunteerMyPageResponse;
 import com.clova.anifriends.domain.volunteer.dto.response.FindVolunteerProfileResponse;
+import com.clova.anifriends.domain.volunteer.repository.VolunteerCompletedRecruitmentRepository;
 import com.clova.anifriends.domain.volunteer.repository.VolunteerRepository;
 import com.clova.anifriends.domain.volunteer.support.VolunteerDtoFixture;
 import com.clova.anifriends.domain.volunteer.support.VolunteerFixture;
 import com.clova.anifriends.domain.volunteer.support.VolunteerImageFixture;
+import com.clova.anifriends.domain.volunteer.vo.VolunteerCompletedCount;
 import com.clova.anifriends.domain.volunteer.vo.VolunteerGender;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
 import org.springframework.test.util.ReflectionTestUtils;
 
 @ExtendWith(MockitoExtension.class)
@@ -52,6 +58,9 @@ class VolunteerServiceTest {
     @Mock
     private ApplicationEventPublisher applicationEventPublisher;
 
+    @Mock
+    VolunteerCompletedRecruitmentRepository volunteerCompletedRecruitmentRepository;
+
     @Spy
     CustomPasswordEncoder passwordEncoder = new MockPasswordEncoder();
 
@@ -119,7 +128,7 @@ class VolunteerServiceTest {
             ReflectionTestUtils.setField(volunteer, "volunteerId", 1L);
             volunteerImage = VolunteerImageFixture.volunteerImage(volunteer);
             setField(volunteer, "image", volunteerImage);
-            FindVolunteerMyPageResponse expected = FindVolunteerMyPageResponse.from(volunteer);
+            setField(volunteer, "volunteerCompletedCount", new VolunteerCompletedCount(3));
 
             given(volunteerRepository.findById(anyLong())).willReturn(ofNullable(volunteer));
 
@@ -127,7 +136,9 @@ class VolunteerServiceTest {
             FindVolunteerMyPageResponse result = volunteerService.findVolunteerMyPage(1L);
 
             // then
-            assertThat(result).usingRecursiveComparison().isEqualTo(expected);
+            assertThat(result).usingRecursiveComparison()
+                .isEqualTo(FindVolunteerMyPageResponse.from(volunteer));
+            assertThat(result.completedVolunteerCount()).isEqualTo(3);
         }
     }
 
@@ -316,4 +327,47 @@ class VolunteerServiceTest {
             assertThat(match).isTrue();
         }
     }
+
+    @Nested
+    @DisplayName("countStartedCompletedRecruitments 메서드 호출 시")
+    class CountStartedCompletedRecruitmentsTest {
+
+        @Test
+        @DisplayName("성공: 시작한 봉사를 완료한 봉사 수에 반영한 뒤 반영된 것으로 표시한다")
+        void countStartedCompletedRecruitments() {
+            // given
+            List<Long> completedRecruitmentIds = List.of(1L, 2L);
+
+            given(volunteerCompletedRecruitmentRepository.findUncountedStartedIds(
+                any(LocalDateTime.class), any(Pageable.class)))
+                .willReturn(completedRecruitmentIds);
+
+            // when
+            int counted = volunteerService.countStartedCompletedRecruitments();
+
+            // then
+            assertThat(counted).isEqualTo(2);
+            InOrder inOrder = inOrder(volunteerRepository,
+                volunteerCompletedRecruitmentRepository);
+            inOrder.verify(volunteerRepository)
+                .increaseCompletedCountByCompletedRecruitmentIds(completedRecruitmentIds);
+            inOrder.verify(volunteerCompletedRecruitmentRepository)
+                .markCounted(completedRecruitmentIds);
+        }
+
+        @Test
+        @DisplayName("성공: 반영할 봉사가 없으면 완료한 봉사 수를 바꾸지 않는다")
+        void countStartedCompletedRecruitmentsWhenEmpty() {
+            // given
+            given(volunteerCompletedRecruitmentRepository.findUncountedStartedIds(
+                any(LocalDateTime.class), any(Pageable.class))).willReturn(List.of());
+
+            // when
+            int counted = volunteerService.countStartedCompletedRecruitments();
+
+            // then
+            assertThat(counted).isZero();
+            then(volunteerRepository).shouldHaveNoInteractions();
+        }
+    }
 }
@@ -0,0 +1,131 @@
+package com.clova.anifriends.global.lock;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.clova.anifriends.base.BaseIntegrationTest;
+import java.time.Duration;
+import java.util.Optional;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+class LeaseLockRedisRepositoryTest extends BaseIntegrationTest {
+
+    private static final Duration LEASE_TIME = Duration.ofMinutes(1);
+
+    @Autowired
+    LeaseLockRedisRepository leaseLockRedisRepository;
+
+    @Nested
+    @DisplayName("tryAcquire 메서드 호출 시")
+    class TryAcquireTest {
+
+        @Test
+        @DisplayName("성공: 다른 노드가 락을 잡고 있으면 빈 값을 반환한다")
+        void tryAcquireWhenLocked() {
+            // given
+            leaseLockRedisRepository.tryAcquire("job", LEASE_TIME);
+
+            // when
+            Optional<LeaseLock> leaseLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME);
+
+            // then
+            assertThat(leaseLock).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 락을 다시 획득할 때마다 더 큰 토큰을 발급한다")
+        void tryAcquireAfterRelease() {
+            // given
+            LeaseLock firstLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)
+                .orElseThrow();
+            leaseLockRedisRepository.release(firstLock, Duration.ZERO);
+
+            // when
+            Optional<LeaseLock> secondLock = leaseLockRedisRepository.tryAcquire("job",
+                LEASE_TIME);
+
+            // then
+            assertThat(secondLock).hasValueSatisfying(leaseLock ->
+                assertThat(leaseLock.token()).isGreaterThan(firstLock.token()));
+        }
+    }
+
+    @Nested
+    @DisplayName("extend 메서드 호출 시")
+    class ExtendTest {
+
+        @Test
+        @DisplayName("성공: 잡고 있는 락의 임대 기간을 다시 설정한다")
+        void extend() {
+            // given
+            LeaseLock leaseLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)
+                .orElseThrow();
+
+            // when
+            boolean extended = leaseLockRedisRepository.extend(leaseLock,
+                Duration.ofMinutes(10));
+
+            // then
+            assertThat(extended).isTrue();
+            assertThat(redisTemplate.getExpire("lock:job")).isGreaterThan(
+                LEASE_TIME.toSeconds());
+        }
+
+        @Test
+        @DisplayName("성공: 다른 토큰을 가진 락은 연장하지 않는다")
+        void extendWithStaleToken() {
+            // given
+            LeaseLock leaseLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)
+                .orElseThrow();
+            LeaseLock staleLock = new LeaseLock("job", leaseLock.token() - 1);
+
+            // when
+            boolean extended = leaseLockRedisRepository.extend(staleLock,
+                Duration.ofMinutes(10));
+
+            // then
+            assertThat(extended).isFalse();
+            assertThat(redisTemplate.getExpire("lock:job")).isLessThanOrEqualTo(
+                LEASE_TIME.toSeconds());
+        }
+    }
+
+    @Nested
+    @DisplayName("release 메서드 호출 시")
+    class ReleaseTest {
+
+        @Test
+        @DisplayName("성공: 다른 토큰을 가진 락은 해제하지 않는다")
+        void releaseWithStaleToken() {
+            // given
+            LeaseLock leaseLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)
+                .orElseThrow();
+            LeaseLock staleLock = new LeaseLock("job", leaseLock.token() - 1);
+
+            // when
+            boolean released = leaseLockRedisRepository.release(staleLock, Duration.ZERO);
+
+            // then
+            assertThat(released).isFalse();
+            assertThat(leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)).isEmpty();
+        }
+
+        @Test
+        @DisplayName("성공: 유지 시간이 남아 있으면 해제한 뒤에도 락을 유지한다")
+        void releaseWithHoldTime() {
+            // given
+            LeaseLock leaseLock = leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)
+                .orElseThrow();
+
+            // when
+            boolean released = leaseLockRedisRepository.release(leaseLock,
+                Duration.ofSeconds(30));
+
+            // then
+            assertThat(released).isTrue();
+            assertThat(leaseLockRedisRepository.tryAcquire("job", LEASE_TIME)).isEmpty();
+        }
+    }
+}
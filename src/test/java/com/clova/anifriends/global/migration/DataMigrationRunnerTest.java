@@ -0,0 +1,107 @@
+package com.clova.anifriends.global.migration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.catchException;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.then;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.never;
+
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DataMigrationRunnerTest {
+
+    @Mock
+    DataMigration completedMigration;
+
+    @Mock
+    DataMigration pendingMigration;
+
+    @Mock
+    DataMigrationHistoryRepository dataMigrationHistoryRepository;
+
+    DataMigrationRunner dataMigrationRunner;
+
+    @BeforeEach
+    void setUp() {
+        dataMigrationRunner = new DataMigrationRunner(
+            List.of(completedMigration, pendingMigration), dataMigrationHistoryRepository);
+    }
+
+    @Nested
+    @DisplayName("runPendingMigrations 메서드 호출 시")
+    class RunPendingMigrationsTest {
+
+        @Test
+        @DisplayName("성공: 완료 이력이 없는 보정 작업만 실행하고 이력을 남긴다")
+        void runPendingMigrations() {
+            // given
+            given(completedMigration.name()).willReturn("completed");
+            given(pendingMigration.name()).willReturn("pending");
+            given(dataMigrationHistoryRepository.existsById("completed")).willReturn(true);
+            given(dataMigrationHistoryRepository.existsById("pending")).willReturn(false);
+
+            // when
+            dataMigrationRunner.runPendingMigrations();
+
+            // then
+            then(completedMigration).should(never()).migrate();
+            then(pendingMigration).should().migrate();
+            ArgumentCaptor<DataMigrationHistory> captor = ArgumentCaptor.forClass(
+                DataMigrationHistory.class);
+            then(dataMigrationHistoryRepository).should().save(captor.capture());
+            assertThat(captor.getValue().getName()).isEqualTo("pending");
+        }
+
+        @Test
+        @DisplayName("성공: 등록된 순서와 관계없이 실행 순서대로 실행한다")
+        void runPendingMigrationsInOrder() {
+            // given
+            given(completedMigration.name()).willReturn("second");
+            given(completedMigration.order()).willReturn(2);
+            given(pendingMigration.name()).willReturn("first");
+            given(pendingMigration.order()).willReturn(1);
+            given(dataMigrationHistoryRepository.existsById(any())).willReturn(false);
+
+            // when
+            dataMigrationRunner.runPendingMigrations();
+
+            // then
+            InOrder inOrder = inOrder(completedMigration, pendingMigration);
+            inOrder.verify(pendingMigration).migrate();
+            inOrder.verify(completedMigration).migrate();
+        }
+
+        @Test
+        @DisplayName("예외: 보정 작업이 실패하면 이력을 남기지 않는다")
+        void runPendingMigrationsWhenFailed() {
+            // given
+            given(completedMigration.name()).willReturn("completed");
+            given(pendingMigration.name()).willReturn("pending");
+            given(dataMigrationHistoryRepository.existsById("completed")).willReturn(true);
+            given(dataMigrationHistoryRepository.existsById("pending")).willReturn(false);
+            willThrow(new IllegalStateException()).given(pendingMigration).migrate();
+
+            // when
+            Exception exception = catchException(
+                () -> dataMigrationRunner.runPendingMigrations());
+
+            // then
+            assertThat(exception).isInstanceOf(IllegalStateException.class);
+            then(dataMigrationHistoryRepository).should(never())
+                .save(any());
+        }
+    }
+}